@@ -2,14 +2,18 @@ plugins {
     java
     id("org.springframework.boot") version "3.4.1"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.app"
 version = "0.0.1-SNAPSHOT"
 
+//가상 스레드 모드 실행 시 -PjavaVersion=21
+val javaVersion = (findProperty("javaVersion") as String?)?.toInt() ?: 17
+
 java {
     toolchain {
-        languageVersion = JavaLanguageVersion.of(17)
+        languageVersion = JavaLanguageVersion.of(javaVersion)
     }
 }
 
@@ -24,6 +28,7 @@ repositories {
 }
 
 dependencies {
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-mail")
     implementation("org.springframework.boot:spring-boot-starter-security")
@@ -31,6 +36,8 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     //Redis
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
+    //Caffeine
+    implementation("com.github.ben-manes.caffeine:caffeine")
     //Jackson Datatype: JSR310
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
     //Querydsl
@@ -45,6 +52,8 @@ dependencies {
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.6")
     runtimeOnly("com.h2database:h2")
     runtimeOnly("com.mysql:mysql-connector-j")
+    //Micrometer Prometheus(/actuator/prometheus)
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
     annotationProcessor("org.projectlombok:lombok")
     //Jakarta Annotations API
@@ -56,8 +65,12 @@ dependencies {
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
-//    //== GreenMail Junit5 ==
-//    testImplementation("com.icegreen:greenmail-junit5:1.6.15")
+    //== GreenMail Junit5 ==
+    testImplementation("com.icegreen:greenmail-junit5:2.1.2")
+    //== jqwik(속성 기반 테스트) ==
+    testImplementation("net.jqwik:jqwik:1.9.2")
+    //== Testcontainers(실제 Redis 대상 Lua 스크립트 테스트, Docker 없으면 생략) ==
+    testImplementation("org.testcontainers:junit-jupiter")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
@@ -65,6 +78,24 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+//JMH - Start
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    resultFormat = "JSON"
+    //특정 벤치마크만 실행: -PjmhIncludes=OrderSaveBenchmark
+    //기본 실행에서는 MySQL, Redis가 필요한 OrderSaveBenchmark 제외(-PjmhIncludes로 지정 시에만 실행)
+    val jmhIncludes = findProperty("jmhIncludes") as String?
+    if (jmhIncludes != null)
+        includes = listOf(jmhIncludes)
+    else
+        excludes = listOf("OrderSaveBenchmark")
+    //결과 파일 이름 지정(커밋 간 비교): -PjmhResultsName=$(git rev-parse --short HEAD)
+    resultsFile = layout.buildDirectory.file("results/jmh/${findProperty("jmhResultsName") ?: "results"}.json")
+}
+//JMH - End
+
 //Querydsl - Start
 val generatedDir = file("src/main/generated")
 
@@ -0,0 +1,27 @@
+-- 엔티티 ID 생성 전략 IDENTITY -> TABLE(pooled) 전환
+-- 새 빌드의 애플리케이션을 처음 기동하기 전 운영/개발 DB에 실행
+-- 이미 행이 있으면(ddl-auto로 먼저 생성된 경우 등) 더 큰 값으로만 갱신하므로 다시 실행해도 안전
+-- next_val은 현재 최대 ID보다 allocationSize(100) * 2 만큼 앞에서 시작해 기존 ID와 충돌하지 않도록 함
+-- 기존 컬럼의 AUTO_INCREMENT 속성은 그대로 두어도 무방(애플리케이션이 ID를 직접 지정)
+
+CREATE TABLE IF NOT EXISTS id_generators
+(
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val      BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'users', COALESCE(MAX(user_id), 0) + 200 FROM users
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'products', COALESCE(MAX(product_id), 0) + 200 FROM products
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'orders', COALESCE(MAX(order_id), 0) + 200 FROM orders
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'order_products', COALESCE(MAX(order_product_id), 0) + 200 FROM order_products
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'payments', COALESCE(MAX(payment_id), 0) + 200 FROM payments
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
@@ -0,0 +1,64 @@
+//플랫폼 스레드 / 가상 스레드 비교용 부하 테스트
+//실행: k6 run -e BASE_URL=http://localhost:8080 -e MODE=platform loadtest/catalog.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE     = __ENV.MODE || 'platform';
+const VUS      = Number(__ENV.VUS || 400);
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+    scenarios: {
+        mixed: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: DURATION, target: VUS },
+                { duration: '10s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+//주문 조회(DB 조회) 요청에 사용할 AccessToken
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/v1/login`,
+                          JSON.stringify({ email: 'user1@mail.com', password: 'user1password' }),
+                          { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'login 200': r => r.status === 200 });
+    return { token: res.headers['Authorization'] };
+}
+
+export default function (data) {
+    const r = Math.random();
+    let res;
+    if (r < 0.6) {
+        const page = 1 + Math.floor(Math.random() * 5);
+        res = http.get(`${BASE_URL}/api/v1/products?page=${page}&size=10`, { tags: { name: 'products' } });
+    } else if (r < 0.9) {
+        const id = 1 + Math.floor(Math.random() * 10);
+        res = http.get(`${BASE_URL}/api/v1/products/${id}`, { tags: { name: 'product' } });
+    } else {
+        res = http.get(`${BASE_URL}/api/v1/users/orders`,
+                       { headers: { Authorization: data.token }, tags: { name: 'orders' } });
+    }
+    check(res, { 'status 200': r => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    const duration = data.metrics.http_req_duration.values;
+    const line = `${MODE}: ${data.metrics.http_reqs.values.rate.toFixed(1)} req/s, `
+                 + `p50 ${duration['p(50)'].toFixed(1)}ms, p99 ${duration['p(99)'].toFixed(1)}ms, `
+                 + `failed ${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)}%\n`;
+    return {
+        stdout: line,
+        [`loadtest/results/${MODE}.json`]: JSON.stringify(data, null, 2),
+    };
+}
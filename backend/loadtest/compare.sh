@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+#플랫폼 스레드(Java 17, Tomcat 200 스레드)와 가상 스레드(Java 21) 모드를 차례로 기동하여 같은 부하로 비교
+#필요: k6, Redis, 실행 중인 DB(dev_db), JDK 17/21 툴체인
+#사용: loadtest/compare.sh [profile]   (기본 dev)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PROFILE=${1:-dev}
+BASE_URL=${BASE_URL:-http://localhost:8080}
+mkdir -p loadtest/results
+
+run() {
+    local mode=$1 java_version=$2 profiles=$3
+
+    ./gradlew -q -PjavaVersion="$java_version" bootJar
+    java -jar build/libs/backend-0.0.1-SNAPSHOT.jar --spring.profiles.active="$profiles" \
+        > "loadtest/results/$mode.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null" EXIT
+
+    until curl -s -o /dev/null "$BASE_URL/api/v1/products"; do sleep 1; done
+
+    k6 run --quiet -e BASE_URL="$BASE_URL" -e MODE="$mode" loadtest/catalog.js
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run platform 17 "$PROFILE"
+run virtual 21 "$PROFILE,virtual"
+
+echo "Results: loadtest/results/{platform,virtual}.json"
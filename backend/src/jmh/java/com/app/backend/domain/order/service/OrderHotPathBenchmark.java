@@ -0,0 +1,161 @@
+package com.app.backend.domain.order.service;
+
+import com.app.backend.domain.order.dto.request.OrderProductRequest;
+import com.app.backend.domain.order.dto.response.OrderProductResponse;
+import com.app.backend.domain.order.dto.response.OrderResponse;
+import com.app.backend.domain.order.entity.Order;
+import com.app.backend.domain.order.entity.OrderProduct;
+import com.app.backend.domain.order.util.OrderPricing;
+import com.app.backend.domain.order.util.OrderUtil;
+import com.app.backend.domain.order.util.OrderUtil.MailInfo;
+import com.app.backend.domain.product.entity.Product;
+import com.app.backend.domain.user.entity.User;
+import com.app.backend.global.entity.BaseEntity;
+import com.app.backend.global.rs.RsData;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 주문 요청 처리 중 CPU 비용이 큰 구간 측정, 주문 제품 1/10/50개
+ * 가격 계산(기존 BigDecimal 방식, OrderPricing), 주문 번호/메일 본문 생성(OrderUtil), 응답 변환 및 JSON 직렬화
+ * DB, Redis 없이 메모리 객체만 사용하므로 오프라인 실행 가능
+ * 실행: ./gradlew jmh -PjmhIncludes=OrderHotPathBenchmark -PjmhResultsName=$(git rev-parse --short HEAD)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderHotPathBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int lineItems;
+
+    private List<Product>             products;
+    private List<OrderProductRequest> productInfo;
+    private Order                     order;
+    private MailInfo                  mailInfo;
+    private RsData<OrderResponse>     rsData;
+    private ObjectMapper              objectMapper;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        User customer = User.builder()
+                            .id(1L)
+                            .email("bench@mail.com")
+                            .name("bench")
+                            .address("bench address")
+                            .detailAddress("bench detail address")
+                            .role("ROLE_USER")
+                            .build();
+
+        products = new ArrayList<>();
+        productInfo = new ArrayList<>();
+        for (int i = 1; i <= lineItems; i++) {
+            products.add(Product.builder()
+                                .id((long) i)
+                                .name("product-" + i)
+                                .description("bench product")
+                                .price(BigDecimal.valueOf(1000L * i, 2))
+                                .stock(Integer.MAX_VALUE)
+                                .status(true)
+                                .build());
+            productInfo.add(new OrderProductRequest((long) i, i % 5 + 1));
+        }
+        OrderPricing pricing = pricing();
+
+        order = Order.of(customer,
+                         OrderUtil.generateOrderNumber(),
+                         pricing.getTotalAmount(),
+                         pricing.getTotalPrice(),
+                         "%s %s".formatted(customer.getAddress(), customer.getDetailAddress()));
+        Field createdDate = BaseEntity.class.getDeclaredField("createdDate");
+        createdDate.setAccessible(true);
+        createdDate.set(order, LocalDateTime.now());
+        for (int i = 0; i < pricing.size(); i++)
+            OrderProduct.of(order, products.get(i), pricing.getAmount(i),
+                            pricing.getUnitPrice(i), pricing.getLineTotal(i));
+
+        mailInfo = MailInfo.builder()
+                           .isShipped(true)
+                           .name(customer.getName())
+                           .address(order.getAddress())
+                           .orderNumber(order.getOrderNumber())
+                           .orderProducts(order.getOrderProducts().stream().map(OrderProductResponse::of).toList())
+                           .build();
+
+        rsData = new RsData<>(true, "200", "주문 조회", OrderResponse.of(order));
+
+        //AppConfig의 Jackson 설정과 동일
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                                                  .modules(new JavaTimeModule())
+                                                  .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                                                  .build();
+    }
+
+    /**
+     * 기존 saveOrder 가격 계산: 스트림으로 제품 ID-가격/개수 HashMap 생성 후 BigDecimal 곱셈 합계
+     */
+    @Benchmark
+    public BigDecimal totalPrice_bigDecimal() {
+        Map<Long, Integer> productAmountMap = productInfo.stream()
+                                                         .collect(Collectors.toMap(OrderProductRequest::getProductId,
+                                                                                   OrderProductRequest::getAmount));
+        Map<Long, BigDecimal> productPriceMap = products.stream()
+                                                        .collect(Collectors.toMap(Product::getId, Product::getPrice));
+        return productPriceMap.entrySet().stream()
+                              .map(entry -> entry.getValue()
+                                                 .multiply(BigDecimal.valueOf(productAmountMap.get(entry.getKey()))))
+                              .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Benchmark
+    public BigDecimal totalPrice_pricing() {
+        return pricing().getTotalPrice();
+    }
+
+    @Benchmark
+    public String generateOrderNumber() {
+        return OrderUtil.generateOrderNumber();
+    }
+
+    @Benchmark
+    public String orderCompleteMailText() {
+        return OrderUtil.getOrderCompleteMailText(mailInfo);
+    }
+
+    @Benchmark
+    public OrderResponse orderResponse() {
+        return OrderResponse.of(order);
+    }
+
+    @Benchmark
+    public String serializeRsData() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(rsData);
+    }
+
+    private OrderPricing pricing() {
+        OrderPricing pricing = OrderPricing.of(productInfo);
+        for (Product product : products)
+            pricing.price(pricing.indexOf(product.getId()), product.getPrice());
+        return pricing;
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.app.backend.domain.order.service;
+
+import com.app.backend.BackendApplication;
+import com.app.backend.domain.order.dto.request.OrderProductRequest;
+import com.app.backend.domain.order.dto.request.OrderRequest;
+import com.app.backend.domain.product.entity.Product;
+import com.app.backend.domain.product.repository.ProductRepository;
+import com.app.backend.domain.user.entity.User;
+import com.app.backend.domain.user.repository.UserRepository;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 주문 저장(OrderService.saveOrder) 지연 시간 측정, 주문 제품 1/10/50개
+ * dev 프로필(MySQL, Redis) 기준이며 별도 스키마(coffee_bench)를 생성/삭제하므로 개발 DB에 영향 없음
+ * IDENTITY 전략과 비교: 이전 커밋에서 같은 벤치마크를 실행해 결과 JSON 비교
+ * 실행: ./gradlew jmh -PjmhIncludes=OrderSaveBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderSaveBenchmark {
+
+    private static final String DATASOURCE_URL = System.getProperty(
+            "bench.datasource.url",
+            "jdbc:mysql://localhost:3360/coffee_bench?serverTimezone=Asia/Seoul&createDatabaseIfNotExist=true"
+            + "&rewriteBatchedStatements=true"
+    );
+    private static final int    PRODUCT_COUNT  = 50;
+
+    @Param({"1", "10", "50"})
+    private int lineItems;
+
+    private ConfigurableApplicationContext context;
+    private OrderService                   orderService;
+    private long                           userId;
+    private OrderRequest                   orderRequest;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("dev")
+                .properties("spring.datasource.url=" + DATASOURCE_URL,
+                            "spring.jpa.hibernate.ddl-auto=create-drop",
+                            "spring.jpa.show-sql=false",
+                            "spring.jpa.properties.hibernate.show_sql=false",
+                            "spring.jpa.properties.hibernate.format_sql=false",
+                            "spring.jpa.properties.hibernate.highlight_sql=false",
+                            "spring.jpa.properties.hibernate.use_sql_comments=false",
+                            "logging.level.root=WARN")
+                .run();
+        orderService = context.getBean(OrderService.class);
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                                                                   .email("bench-" + suffix + "@mail.com")
+                                                                   .password("bench")
+                                                                   .name("bench")
+                                                                   .address("bench address")
+                                                                   .detailAddress("bench detail address")
+                                                                   .phone("01000000000")
+                                                                   .status("ACTIVATED")
+                                                                   .role("ROLE_USER")
+                                                                   .build());
+        userId = user.getId();
+
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        List<OrderProductRequest> productInfo = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Product product = productRepository.save(Product.builder()
+                                                            .name("bench-" + suffix + "-" + i)
+                                                            .description("bench product")
+                                                            .image(null)
+                                                            .price(BigDecimal.valueOf(10000))
+                                                            .stock(Integer.MAX_VALUE)
+                                                            .status(true)
+                                                            .build());
+            if (i < lineItems)
+                productInfo.add(new OrderProductRequest(product.getId(), 1));
+        }
+        orderRequest = new OrderRequest(productInfo);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long saveOrder() {
+        return orderService.saveOrder(userId, orderRequest);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.app.backend.domain.order.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 주문 번호 생성기 비교
+ * 랜덤 생성기의 DB 중복 검사 비용은 포함하지 않으며, 순수 생성 비용만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderNumberGeneratorBenchmark {
+
+    private OrderNumberGenerator random;
+    private OrderNumberGenerator snowflake;
+
+    @Setup
+    public void setup() {
+        random = new RandomOrderNumberGenerator();
+        snowflake = new SnowflakeOrderNumberGenerator(1);
+    }
+
+    @Benchmark
+    public String random() {
+        return random.generate();
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return snowflake.generate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String random_contended() {
+        return random.generate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String snowflake_contended() {
+        return snowflake.generate();
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.app.backend.domain.product.search;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 제품명 검색: DB LIKE '%keyword%' 조회 vs 메모리 n-gram 역색인 비교
+ * H2(MySQL 모드) 메모리 DB에 임의의 한글 제품명을 가진 제품을 적재 후 측정
+ * like와 indexSearchName은 모두 일치하는 전체 제품 ID를 ID 순으로 반환(같은 결과 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSearchBenchmark {
+
+    private static final String[] WORDS = {"콜롬비아", "에티오피아", "과테말라", "케냐", "브라질", "수프리모", "예가체프",
+                                            "안티구아", "디카페인", "블렌드", "싱글오리진", "원두", "드립백", "콜드브루"};
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"예가체프", "콜드"})
+    private String keyword;
+
+    private Connection         connection;
+    private PreparedStatement  likeStatement;
+    private ProductSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:product_search;MODE=MySQL", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                              CREATE TABLE products (
+                                  product_id BIGINT PRIMARY KEY,
+                                  product_name VARCHAR(255) NOT NULL,
+                                  product_description TEXT NOT NULL
+                              )
+                              """);
+        }
+
+        index = new ProductSearchIndex();
+        index.startWarming();
+
+        Random random = new Random(42);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO products VALUES (?, ?, ?)")) {
+            List<ProductSearchDocument> batch = new ArrayList<>(10_000);
+            for (long id = 1; id <= rows; id++) {
+                String name = "%s %s %d".formatted(WORDS[random.nextInt(WORDS.length)],
+                                                   WORDS[random.nextInt(WORDS.length)],
+                                                   id);
+                String description = "%s 상세설명".formatted(WORDS[random.nextInt(WORDS.length)]);
+                insert.setLong(1, id);
+                insert.setString(2, name);
+                insert.setString(3, description);
+                insert.addBatch();
+                batch.add(new ProductSearchDocument(id, name, description));
+
+                if (batch.size() == 10_000) {
+                    insert.executeBatch();
+                    index.warm(batch);
+                    batch.clear();
+                }
+            }
+            insert.executeBatch();
+            index.warm(batch);
+        }
+        index.finishWarming();
+
+        likeStatement = connection.prepareStatement(
+                "SELECT product_id FROM products WHERE product_name LIKE ? ORDER BY product_id"
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        likeStatement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> like() throws SQLException {
+        likeStatement.setString(1, "%" + keyword + "%");
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet rs = likeStatement.executeQuery()) {
+            while (rs.next())
+                ids.add(rs.getLong(1));
+        }
+        return ids;
+    }
+
+    @Benchmark
+    public List<Long> indexSearchName() {
+        return index.searchName(keyword);
+    }
+
+    @Benchmark
+    public List<Long> indexRankedSearch() {
+        return index.search(keyword, 10);
+    }
+
+    @Benchmark
+    public List<String> indexSuggest() {
+        return index.suggest(keyword, 10);
+    }
+
+}
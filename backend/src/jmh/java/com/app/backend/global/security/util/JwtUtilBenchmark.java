@@ -0,0 +1,89 @@
+package com.app.backend.global.security.util;
+
+import com.app.backend.domain.user.entity.User;
+import com.app.backend.global.security.user.CustomUserDetails;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JwtAuthorizationFilter 요청당 토큰 처리 비용 비교
+ * legacy: 요청마다 파서를 새로 만들어 4회 파싱/서명 검증(isExpired, getUsername, getRole, getUserId)
+ * parseOnce: 재사용 파서로 1회 파싱
+ * cached: 검증된 클레임 캐시 조회(같은 토큰 반복 요청)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET =
+            "c99197156d1d4db89296e58473b8d37c3bd2285ae5014594ac211603b44071feDFASDFASDFASDFASDFASDF";
+
+    private JwtUtil   jwtUtil;
+    private SecretKey secretKey;
+    private String    accessToken;
+
+    @Setup
+    public void setup() {
+        jwtUtil = new JwtUtil(SECRET, 10000, 300);
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8),
+                                      Jwts.SIG.HS512.key().build().getAlgorithm());
+        CustomUserDetails userDetails = new CustomUserDetails(User.builder()
+                                                                  .id(1L)
+                                                                  .email("user@mail.com")
+                                                                  .role("ROLE_USER")
+                                                                  .build());
+        accessToken = jwtUtil.createAccessToken(userDetails, TimeUnit.HOURS.toMillis(1)).substring(7);
+    }
+
+    @Benchmark
+    public void legacy(final Blackhole blackhole) {
+        blackhole.consume(legacyClaims().getExpiration().before(new Date()));
+        blackhole.consume(legacyClaims().get("username", String.class));
+        blackhole.consume(legacyClaims().get("role", String.class));
+        blackhole.consume(legacyClaims().get("id", Long.class));
+    }
+
+    @Benchmark
+    public void parseOnce(final Blackhole blackhole) {
+        consume(jwtUtil.parseClaims(accessToken), blackhole);
+    }
+
+    @Benchmark
+    public void cached(final Blackhole blackhole) {
+        consume(jwtUtil.getVerifiedClaims(accessToken), blackhole);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void cached_contended(final Blackhole blackhole) {
+        consume(jwtUtil.getVerifiedClaims(accessToken), blackhole);
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private Claims legacyClaims() {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload();
+    }
+
+    private void consume(final Claims claims, final Blackhole blackhole) {
+        blackhole.consume(jwtUtil.getUsername(claims));
+        blackhole.consume(jwtUtil.getRole(claims));
+        blackhole.consume(jwtUtil.getUserId(claims));
+    }
+
+}
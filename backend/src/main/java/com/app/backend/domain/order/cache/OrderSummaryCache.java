@@ -0,0 +1,326 @@
+package com.app.backend.domain.order.cache;
+
+import com.app.backend.domain.order.dto.response.UserOrderSummaryResponse;
+import com.app.backend.domain.order.dto.response.UserOrderSummaryResponse.RecentOrder;
+import com.app.backend.domain.order.entity.Order;
+import com.app.backend.domain.order.entity.OrderStatus;
+import com.app.backend.global.redis.repository.RedisRepository;
+import com.app.backend.global.util.TransactionUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 주문 요약 읽기 모델(Redis 해시, 키: orderSummary-{회원 ID})
+ * 필드: orderCount, totalSpend(최소 화폐 단위 정수), status:{주문 상태}, recent:{주문 ID}(최근 주문 JSON), recentStatus:{주문 ID}
+ * 주문 생성/상태 변경 시 커밋 이후 Lua 스크립트로 증분 갱신하며, 키가 없으면 갱신하지 않고 다음 조회 시 DB에서 재구성
+ * 모든 갱신/삭제는 회원별 버전(orderSummaryVersion-{회원 ID})을 증가시키고, 재구성 결과는 원본 조회 전에 읽은 버전이
+ * 그대로일 때만 저장(원본 조회 중 커밋된 주문이 재구성 결과에서 누락된 채로 저장되는 것 방지)
+ */
+@Slf4j
+@Component
+public class OrderSummaryCache {
+
+    private static final String KEY_PREFIX           = "orderSummary-";
+    private static final String VERSION_KEY_PREFIX   = "orderSummaryVersion-";
+    private static final String ORDER_COUNT_FIELD    = "orderCount";
+    private static final String TOTAL_SPEND_FIELD    = "totalSpend";
+    private static final String STATUS_FIELD_PREFIX  = "status:";
+    private static final String RECENT_FIELD_PREFIX  = "recent:";
+    private static final String RECENT_STATUS_PREFIX = "recentStatus:";
+    private static final int    SPEND_SCALE          = 2;
+
+    /**
+     * 키가 있을 때만 집계 필드 증감, 최근 주문 추가(최근 N건 초과분 삭제) 또는 최근 주문 상태 변경
+     * 키 존재 여부와 무관하게 버전은 항상 증가
+     * KEYS: 요약 해시, 버전 / ARGV: 버전 TTL(초), 주문 수 증감, 누적 결제 금액 증감, 주문 상태별 증감(OrderStatus 선언 순서),
+     * 주문 ID, 주문 상태, [최근 주문 JSON, 최근 주문 보관 개수]
+     * 문자열 인자는 해시 값 직렬화기와 같은 JSON 형식으로 전달되므로 그대로 저장
+     */
+    private static final RedisScript<Long> APPLY_SCRIPT = RedisScript.of(applyScript(), Long.class);
+
+    /**
+     * 버전이 기대값과 같을 때만 요약 해시 교체
+     * KEYS: 요약 해시, 버전 / ARGV: 기대 버전, TTL(초), 필드, 값, 필드, 값...
+     * 필드 이름은 JSON 문자열로 전달되므로 디코딩하여 저장(해시 키 직렬화기는 문자열 그대로)
+     */
+    private static final RedisScript<Long> REBUILD_SCRIPT = RedisScript.of("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            for i = 3, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], cjson.decode(ARGV[i]), ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * 요약 해시 삭제 + 버전 증가
+     * KEYS: 요약 해시, 버전 / ARGV: 버전 TTL(초)
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of("""
+            redis.call('DEL', KEYS[1])
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisRepository redisRepository;
+    private final ObjectMapper    objectMapper;
+
+    private final int  recentSize;
+    private final long ttlHours;
+
+    public OrderSummaryCache(final RedisRepository redisRepository,
+                             final ObjectMapper objectMapper,
+                             @Value("${order.summary.recent-size:10}") final int recentSize,
+                             @Value("${order.summary.ttl-hours:24}") final long ttlHours) {
+        this.redisRepository = redisRepository;
+        this.objectMapper = objectMapper;
+        this.recentSize = recentSize;
+        this.ttlHours = ttlHours;
+    }
+
+    /**
+     * 회원 주문 요약 조회(Redis -> 원본)
+     * Redis 장애 시 원본 조회로 대체
+     *
+     * @param userId - 회원 ID
+     * @param loader - 원본 조회
+     * @return 회원 주문 요약
+     */
+    public UserOrderSummaryResponse get(final long userId, final Supplier<UserOrderSummaryResponse> loader) {
+        String key     = KEY_PREFIX + userId;
+        Long   version = null;
+        try {
+            Map<String, Object> hash = redisRepository.getHash(key);
+            if (hash != null && hash.containsKey(ORDER_COUNT_FIELD))
+                return toResponse(hash);
+            version = toLong(redisRepository.get(VERSION_KEY_PREFIX + userId));
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.debug("Failed to read order summary: {}", key, e);
+        }
+
+        UserOrderSummaryResponse summary = loader.get();
+        if (version == null)    //Redis 장애 시 저장 생략
+            return summary;
+        try {
+            List<Object> args = new ArrayList<>();
+            args.add(version);
+            args.add(TimeUnit.HOURS.toSeconds(ttlHours));
+            toHash(summary).forEach((field, value) -> {
+                args.add(field);
+                args.add(value);
+            });
+            Long stored = redisRepository.execute(REBUILD_SCRIPT, List.of(key, VERSION_KEY_PREFIX + userId), args.toArray());
+            if (stored == null || stored == 0)
+                log.debug("Order summary changed while rebuilding, not cached: {}", key);
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.debug("Failed to write order summary: {}", key, e);
+        }
+        return summary;
+    }
+
+    /**
+     * 주문 생성 반영(주문 수, 주문 상태별 주문 수, 누적 결제 금액, 최근 주문)
+     *
+     * @param order - 저장된 주문
+     */
+    public void recordCreated(final Order order) {
+        long   userId = order.getCustomer().getId();
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(RecentOrder.of(order));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize recent order: orderId={}", order.getId(), e);
+            evict(userId);
+            return;
+        }
+
+        long[] statusDeltas = new long[OrderStatus.values().length];
+        statusDeltas[order.getStatus().ordinal()] = 1;
+        long spendDelta = order.getStatus() == OrderStatus.CANCELLED ? 0 : toMinorUnits(order.getTotalPrice());
+
+        TransactionUtil.afterCommit(() -> apply(userId, 1, spendDelta, statusDeltas,
+                                                order.getId(), order.getStatus().name(), json, recentSize));
+    }
+
+    /**
+     * 주문 상태 변경 반영(주문 상태별 주문 수, 취소/취소 해제 시 누적 결제 금액, 최근 주문 상태)
+     *
+     * @param userId     - 회원 ID
+     * @param orderId    - 주문 ID
+     * @param from       - 변경 전 주문 상태
+     * @param to         - 변경 후 주문 상태
+     * @param totalPrice - 주문 총 가격(취소/취소 해제가 아니면 null 가능)
+     */
+    public void recordStatusChanged(final long userId,
+                                    final long orderId,
+                                    final OrderStatus from,
+                                    final OrderStatus to,
+                                    final BigDecimal totalPrice) {
+        if (from == to)
+            return;
+
+        long[] statusDeltas = new long[OrderStatus.values().length];
+        statusDeltas[from.ordinal()] = -1;
+        statusDeltas[to.ordinal()] = 1;
+        long spendDelta = 0;
+        if (to == OrderStatus.CANCELLED)
+            spendDelta = -toMinorUnits(totalPrice);
+        else if (from == OrderStatus.CANCELLED)
+            spendDelta = toMinorUnits(totalPrice);
+
+        long finalSpendDelta = spendDelta;
+        TransactionUtil.afterCommit(() -> apply(userId, 0, finalSpendDelta, statusDeltas, orderId, to.name()));
+    }
+
+    /**
+     * 회원 주문 요약 삭제(다음 조회 시 재구성)
+     * 트랜잭션 안에서 호출되면 커밋 이후 수행
+     *
+     * @param userId - 회원 ID
+     */
+    public void evict(final long userId) {
+        TransactionUtil.afterCommit(() -> doEvict(userId));
+    }
+
+    /**
+     * 최근 주문 보관 개수
+     *
+     * @return 최근 주문 보관 개수
+     */
+    public int getRecentSize() {
+        return recentSize;
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    /**
+     * 증분 갱신 스크립트 실행, 실패 시 요약 삭제(다음 조회 시 재구성)
+     */
+    private void apply(final long userId,
+                       final long countDelta,
+                       final long spendDelta,
+                       final long[] statusDeltas,
+                       final Object... recent) {
+        List<Object> args = new ArrayList<>();
+        args.add(TimeUnit.HOURS.toSeconds(ttlHours));
+        args.add(countDelta);
+        args.add(spendDelta);
+        for (long delta : statusDeltas)
+            args.add(delta);
+        args.addAll(List.of(recent));
+        try {
+            redisRepository.execute(APPLY_SCRIPT, List.of(KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId), args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("Failed to update order summary: userId={}", userId, e);
+            doEvict(userId);
+        }
+    }
+
+    private void doEvict(final long userId) {
+        try {
+            redisRepository.execute(EVICT_SCRIPT, List.of(KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId),
+                                    TimeUnit.HOURS.toSeconds(ttlHours));
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict order summary: userId={}", userId, e);
+        }
+    }
+
+    private Map<String, Object> toHash(final UserOrderSummaryResponse summary) throws JsonProcessingException {
+        Map<String, Object> hash = new LinkedHashMap<>();
+        hash.put(ORDER_COUNT_FIELD, summary.orderCount());
+        hash.put(TOTAL_SPEND_FIELD, toMinorUnits(summary.totalSpend()));
+        for (OrderStatus status : OrderStatus.values())
+            hash.put(STATUS_FIELD_PREFIX + status.name(), summary.statusCounts().getOrDefault(status.name(), 0L));
+        for (RecentOrder recentOrder : summary.recentOrders()) {
+            hash.put(RECENT_FIELD_PREFIX + recentOrder.orderId(), objectMapper.writeValueAsString(recentOrder));
+            hash.put(RECENT_STATUS_PREFIX + recentOrder.orderId(), recentOrder.orderStatus());
+        }
+        return hash;
+    }
+
+    private UserOrderSummaryResponse toResponse(final Map<String, Object> hash) throws JsonProcessingException {
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        for (OrderStatus status : OrderStatus.values())
+            statusCounts.put(status.name(), toLong(hash.get(STATUS_FIELD_PREFIX + status.name())));
+
+        List<RecentOrder> recentOrders = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : hash.entrySet()) {
+            if (!entry.getKey().startsWith(RECENT_FIELD_PREFIX))
+                continue;
+            RecentOrder recentOrder = objectMapper.readValue((String) entry.getValue(), RecentOrder.class);
+            Object      status      = hash.get(RECENT_STATUS_PREFIX + recentOrder.orderId());
+            recentOrders.add(status == null ? recentOrder : recentOrder.withOrderStatus((String) status));
+        }
+        recentOrders.sort(Comparator.comparingLong(RecentOrder::orderId).reversed());
+
+        return new UserOrderSummaryResponse(recentOrders,
+                                            statusCounts,
+                                            toLong(hash.get(ORDER_COUNT_FIELD)),
+                                            BigDecimal.valueOf(toLong(hash.get(TOTAL_SPEND_FIELD)), SPEND_SCALE));
+    }
+
+    private static long toMinorUnits(final BigDecimal amount) {
+        return amount.setScale(SPEND_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static long toLong(final Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    private static String applyScript() {
+        OrderStatus[] statuses = OrderStatus.values();
+        int           idArg    = statuses.length + 4;
+
+        StringBuilder script = new StringBuilder();
+        script.append("redis.call('INCR', KEYS[2])\n")
+              .append("redis.call('EXPIRE', KEYS[2], ARGV[1])\n")
+              .append("if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end\n")
+              .append("redis.call('HINCRBY', KEYS[1], '").append(ORDER_COUNT_FIELD).append("', ARGV[2])\n")
+              .append("redis.call('HINCRBY', KEYS[1], '").append(TOTAL_SPEND_FIELD).append("', ARGV[3])\n");
+        for (int i = 0; i < statuses.length; i++)
+            script.append("redis.call('HINCRBY', KEYS[1], '").append(STATUS_FIELD_PREFIX).append(statuses[i].name())
+                  .append("', ARGV[").append(i + 4).append("])\n");
+        script.append("local id = ARGV[").append(idArg).append("]\n")
+              .append("local recent = '").append(RECENT_FIELD_PREFIX).append("' .. id\n")
+              .append("local recentStatus = '").append(RECENT_STATUS_PREFIX).append("' .. id\n")
+              .append("if ARGV[").append(idArg + 2).append("] then\n")
+              .append("  redis.call('HSET', KEYS[1], recent, ARGV[").append(idArg + 2)
+              .append("], recentStatus, ARGV[").append(idArg + 1).append("])\n")
+              .append("  local ids = {}\n")
+              .append("  for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do\n")
+              .append("    if string.sub(field, 1, ").append(RECENT_FIELD_PREFIX.length()).append(") == '")
+              .append(RECENT_FIELD_PREFIX).append("' then\n")
+              .append("      table.insert(ids, tonumber(string.sub(field, ").append(RECENT_FIELD_PREFIX.length() + 1)
+              .append(")))\n")
+              .append("    end\n")
+              .append("  end\n")
+              .append("  table.sort(ids)\n")
+              .append("  for i = 1, #ids - tonumber(ARGV[").append(idArg + 3).append("]) do\n")
+              .append("    redis.call('HDEL', KEYS[1], '").append(RECENT_FIELD_PREFIX).append("' .. ids[i], '")
+              .append(RECENT_STATUS_PREFIX).append("' .. ids[i])\n")
+              .append("  end\n")
+              .append("elseif redis.call('HEXISTS', KEYS[1], recent) == 1 then\n")
+              .append("  redis.call('HSET', KEYS[1], recentStatus, ARGV[").append(idArg + 1).append("])\n")
+              .append("end\n")
+              .append("return 1");
+        return script.toString();
+    }
+
+}
@@ -8,8 +8,9 @@ package com.app.backend.domain.order.constant;
  * Description :
  */
 public abstract class OrderMessageConstant {
-    public static final String ORDER_SAVE_SUCCESS      = "주문 성공";
-    public static final String ORDER_READ_SUCCESS      = "주문 조회 성공";
-    public static final String ORDER_LIST_READ_SUCCESS = "주문 목록 조회 성공";
-    public static final String ORDER_CANCEL_SUCCESS    = "주문 취소 성공";
+    public static final String ORDER_SAVE_SUCCESS               = "주문 성공";
+    public static final String ORDER_READ_SUCCESS               = "주문 조회 성공";
+    public static final String ORDER_LIST_READ_SUCCESS          = "주문 목록 조회 성공";
+    public static final String ORDER_CANCEL_SUCCESS             = "주문 취소 성공";
+    public static final String ORDER_STATUS_BULK_UPDATE_SUCCESS = "주문 상태 일괄 변경 완료";
 }
@@ -3,9 +3,12 @@ package com.app.backend.domain.order.controller;
 import com.app.backend.domain.order.constant.OrderMessageConstant;
 import com.app.backend.domain.order.dto.request.OrderRequest;
 import com.app.backend.domain.order.dto.response.OrderResponse;
+import com.app.backend.domain.order.dto.response.OrderSaveResponse;
 import com.app.backend.domain.order.exception.OrderException;
+import com.app.backend.domain.order.service.OrderIngestionService;
 import com.app.backend.domain.order.service.OrderService;
 import com.app.backend.global.error.exception.ErrorCode;
+import com.app.backend.global.idempotency.IdempotencyStore;
 import com.app.backend.global.rs.RsData;
 import com.app.backend.global.security.user.CustomUserDetails;
 import jakarta.validation.Valid;
@@ -21,6 +24,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -31,21 +35,36 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class OrderController {
 
-    private final OrderService orderService;
+    private static final int IDEMPOTENCY_KEY_MAX_LENGTH = 255;
+
+    private final OrderService          orderService;
+    private final OrderIngestionService orderIngestionService;
+    private final IdempotencyStore      idempotencyStore;
 
     @PostMapping
-    public RsData<Void> saveOrder(@RequestBody @Valid final OrderRequest orderRequest,
-                                  final BindingResult bindingResult,
-                                  @AuthenticationPrincipal UserDetails userDetails) {
+    public RsData<OrderSaveResponse> saveOrder(@RequestBody @Valid final OrderRequest orderRequest,
+                                               final BindingResult bindingResult,
+                                               @RequestHeader(name = "Idempotency-Key", required = false) final String idempotencyKey,
+                                               @AuthenticationPrincipal UserDetails userDetails) {
         if (bindingResult.hasErrors())
             throw new OrderException(ErrorCode.INVALID_INPUT_VALUE);
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > IDEMPOTENCY_KEY_MAX_LENGTH))
+            throw new OrderException(ErrorCode.INVALID_INPUT_VALUE);
+
+        long userId = ((CustomUserDetails) userDetails).getUser().getId();
 
-        long userId  = ((CustomUserDetails) userDetails).getUser().getId();
-        long orderId = orderService.saveOrder(userId, orderRequest);
+        OrderSaveResponse orderSaveResponse =
+                idempotencyKey == null
+                ? new OrderSaveResponse(orderIngestionService.saveOrder(userId, orderRequest))
+                : idempotencyStore.execute("order:%d:%s".formatted(userId, idempotencyKey),
+                                           orderRequest,
+                                           OrderSaveResponse.class,
+                                           () -> new OrderSaveResponse(orderIngestionService.saveOrder(userId, orderRequest)));
 
         return new RsData<>(true,
                             String.valueOf(HttpStatus.OK.value()),
-                            OrderMessageConstant.ORDER_SAVE_SUCCESS);
+                            OrderMessageConstant.ORDER_SAVE_SUCCESS,
+                            orderSaveResponse);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,12 @@
+package com.app.backend.domain.order.dto;
+
+import com.app.backend.domain.order.dto.request.OrderRequest;
+
+/**
+ * 묶음 저장(group commit) 대상 주문 요청
+ *
+ * @param userId       - 회원 ID
+ * @param orderRequest - 주문 요청 DTO
+ */
+public record OrderIngestRequest(long userId, OrderRequest orderRequest) {
+}
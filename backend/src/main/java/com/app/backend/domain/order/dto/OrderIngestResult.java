@@ -0,0 +1,21 @@
+package com.app.backend.domain.order.dto;
+
+import com.app.backend.global.error.exception.DomainException;
+
+/**
+ * 묶음 저장(group commit) 주문별 결과(성공 시 주문 ID, 실패 시 예외)
+ *
+ * @param orderId   - 주문 ID
+ * @param exception - 주문 실패 사유
+ */
+public record OrderIngestResult(Long orderId, DomainException exception) {
+
+    public static OrderIngestResult success(final long orderId) {
+        return new OrderIngestResult(orderId, null);
+    }
+
+    public static OrderIngestResult failure(final DomainException exception) {
+        return new OrderIngestResult(null, exception);
+    }
+
+}
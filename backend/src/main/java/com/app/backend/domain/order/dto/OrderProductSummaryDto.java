@@ -0,0 +1,13 @@
+package com.app.backend.domain.order.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 제품 조회 프로젝션(주문 ID, 제품명, 주문 당시 가격, 수량, 합계)
+ */
+public record OrderProductSummaryDto(Long orderId,
+                                     String productName,
+                                     BigDecimal productPrice,
+                                     int productAmount,
+                                     BigDecimal totalProductPrice) {
+}
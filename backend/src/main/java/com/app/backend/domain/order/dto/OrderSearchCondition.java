@@ -0,0 +1,20 @@
+package com.app.backend.domain.order.dto;
+
+import com.app.backend.domain.order.entity.OrderStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 주문 조회 조건(각 조건은 null이면 적용하지 않음)
+ *
+ * @param status - 주문 상태
+ * @param from   - 주문 일시 시작(포함)
+ * @param to     - 주문 일시 종료(미포함)
+ * @param userId - 주문 회원 ID
+ */
+public record OrderSearchCondition(OrderStatus status, LocalDateTime from, LocalDateTime to, Long userId) {
+
+    public static OrderSearchCondition empty() {
+        return new OrderSearchCondition(null, null, null, null);
+    }
+
+}
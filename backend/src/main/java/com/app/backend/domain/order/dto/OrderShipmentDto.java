@@ -0,0 +1,7 @@
+package com.app.backend.domain.order.dto;
+
+/**
+ * 배송 상태 변경 대상 주문 정보(주문 ID, 주문 번호, 주문 회원 ID, 주문 회원 이메일)
+ */
+public record OrderShipmentDto(Long orderId, String orderNumber, Long userId, String email) {
+}
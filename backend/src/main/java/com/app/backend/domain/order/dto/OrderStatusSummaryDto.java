@@ -0,0 +1,10 @@
+package com.app.backend.domain.order.dto;
+
+import com.app.backend.domain.order.entity.OrderStatus;
+import java.math.BigDecimal;
+
+/**
+ * 주문 상태별 집계 프로젝션(주문 수, 주문 가격 합계)
+ */
+public record OrderStatusSummaryDto(OrderStatus status, Long count, BigDecimal totalPrice) {
+}
@@ -0,0 +1,14 @@
+package com.app.backend.domain.order.dto;
+
+import com.app.backend.domain.order.entity.OrderStatus;
+import java.math.BigDecimal;
+
+/**
+ * 일괄 상태 변경 대상 주문 정보(주문 ID, 주문 번호, 현재 주문 상태, 주문 회원 ID, 주문 총 가격)
+ */
+public record OrderStatusTargetDto(Long orderId,
+                                   String orderNumber,
+                                   OrderStatus status,
+                                   Long userId,
+                                   BigDecimal totalPrice) {
+}
@@ -0,0 +1,21 @@
+package com.app.backend.domain.order.dto;
+
+import com.app.backend.domain.order.entity.OrderStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 조회 프로젝션(주문 정보 + 주문 회원 정보)
+ */
+public record OrderSummaryDto(Long orderId,
+                              String orderNumber,
+                              int totalAmount,
+                              BigDecimal totalPrice,
+                              String address,
+                              OrderStatus status,
+                              LocalDateTime createdDate,
+                              Long userId,
+                              String userName,
+                              String userEmail,
+                              String userPhone) {
+}
@@ -0,0 +1,25 @@
+package com.app.backend.domain.order.dto.request;
+
+import com.app.backend.domain.order.entity.OrderStatus;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 관리자 주문 상태 일괄 변경 요청(주문 ID, 주문 번호 중 하나 이상)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusBulkRequest {
+    @JsonProperty("order_ids")
+    private List<Long>   orderIds     = new ArrayList<>();
+    @JsonProperty("order_numbers")
+    private List<String> orderNumbers = new ArrayList<>();
+    @NotNull
+    private OrderStatus  status;
+}
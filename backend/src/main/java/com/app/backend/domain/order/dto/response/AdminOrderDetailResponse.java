@@ -1,5 +1,7 @@
 package com.app.backend.domain.order.dto.response;
 
+import com.app.backend.domain.order.dto.OrderProductSummaryDto;
+import com.app.backend.domain.order.dto.OrderSummaryDto;
 import com.app.backend.domain.order.entity.Order;
 import com.app.backend.domain.order.entity.Payment;
 import com.app.backend.domain.order.entity.PaymentMethod;
@@ -47,12 +49,42 @@ public class AdminOrderDetailResponse {
                 .map(OrderProductResponse::of)
                 .collect(Collectors.toList());
 
-        this.paymentMethod = payment.getMethod();
-        this.paymentStatus = payment.getStatus();
-        this.paymentDate = Ut.Str.localDateTimeToString(payment.getCreatedDate());
+        //결제 정보가 없으면 결제 필드 생략(NON_NULL)
+        this.paymentMethod = payment == null ? null : payment.getMethod();
+        this.paymentStatus = payment == null ? null : payment.getStatus();
+        this.paymentDate = payment == null || payment.getCreatedDate() == null
+                           ? null : Ut.Str.localDateTimeToString(payment.getCreatedDate());
+    }
+
+    private AdminOrderDetailResponse(final OrderSummaryDto order,
+                                     final List<OrderProductSummaryDto> orderProducts,
+                                     final Payment payment) {
+        this.orderNumber = order.orderNumber();
+        this.userName = order.userName();
+        this.userEmail = order.userEmail();
+        this.userPhone = order.userPhone();
+        this.orderStatus = order.status().name();
+        this.orderCreatedDate = Ut.Str.localDateTimeToString(order.createdDate());
+        this.totalPrice = order.totalPrice();
+        this.orderAddress = order.address();
+
+        this.orderList = orderProducts.stream()
+                .map(OrderProductResponse::of)
+                .collect(Collectors.toList());
+
+        this.paymentMethod = payment == null ? null : payment.getMethod();
+        this.paymentStatus = payment == null ? null : payment.getStatus();
+        this.paymentDate = payment == null || payment.getCreatedDate() == null
+                           ? null : Ut.Str.localDateTimeToString(payment.getCreatedDate());
     }
 
     public static AdminOrderDetailResponse of(final Order order, final Payment payment) {
         return new AdminOrderDetailResponse(order, payment);
     }
+
+    public static AdminOrderDetailResponse of(final OrderSummaryDto order,
+                                              final List<OrderProductSummaryDto> orderProducts,
+                                              final Payment payment) {
+        return new AdminOrderDetailResponse(order, orderProducts, payment);
+    }
 }
@@ -1,5 +1,6 @@
 package com.app.backend.domain.order.dto.response;
 
+import com.app.backend.domain.order.dto.OrderSummaryDto;
 import com.app.backend.domain.order.entity.Order;
 import com.app.backend.standard.util.Ut;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -32,7 +33,22 @@ public class AdminOrderResponse {
         this.createdDate = Ut.Str.localDateTimeToString(order.getCreatedDate());
     }
 
+    private AdminOrderResponse(final OrderSummaryDto order) {
+
+        this.userName = order.userName();
+        this.userEmail = order.userEmail();
+        this.orderNumber = order.orderNumber();
+        this.orderStatus = order.status().name();
+        this.totalPrice = order.totalPrice();
+        this.orderAddress = order.address();
+        this.createdDate = Ut.Str.localDateTimeToString(order.createdDate());
+    }
+
     public static AdminOrderResponse of(final Order order) {
         return new AdminOrderResponse(order);
     }
+
+    public static AdminOrderResponse of(final OrderSummaryDto order) {
+        return new AdminOrderResponse(order);
+    }
 }
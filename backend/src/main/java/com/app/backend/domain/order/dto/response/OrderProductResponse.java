@@ -1,5 +1,6 @@
 package com.app.backend.domain.order.dto.response;
 
+import com.app.backend.domain.order.dto.OrderProductSummaryDto;
 import com.app.backend.domain.order.entity.OrderProduct;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -31,8 +32,19 @@ public class OrderProductResponse {
         this.totalPrice = orderProduct.getTotalProductPrice();
     }
 
+    private OrderProductResponse(final OrderProductSummaryDto orderProduct) {
+        this.name = orderProduct.productName();
+        this.price = orderProduct.productPrice();
+        this.amount = orderProduct.productAmount();
+        this.totalPrice = orderProduct.totalProductPrice();
+    }
+
     public static OrderProductResponse of(final OrderProduct orderProduct) {
         return new OrderProductResponse(orderProduct);
     }
 
+    public static OrderProductResponse of(final OrderProductSummaryDto orderProduct) {
+        return new OrderProductResponse(orderProduct);
+    }
+
 }
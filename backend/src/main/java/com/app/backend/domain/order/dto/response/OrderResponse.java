@@ -1,5 +1,7 @@
 package com.app.backend.domain.order.dto.response;
 
+import com.app.backend.domain.order.dto.OrderProductSummaryDto;
+import com.app.backend.domain.order.dto.OrderSummaryDto;
 import com.app.backend.domain.order.entity.Order;
 import com.app.backend.standard.util.Ut;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -41,8 +43,23 @@ public class OrderResponse {
         this.createdDate = Ut.Str.localDateTimeToString(order.getCreatedDate());
     }
 
+    private OrderResponse(final OrderSummaryDto order, final List<OrderProductSummaryDto> orderProducts) {
+        this.orderNumber = order.orderNumber();
+        this.name = order.userName();
+        this.totalAmount = order.totalAmount();
+        this.totalPrice = order.totalPrice();
+        this.orderAddress = order.address();
+        this.orderStatus = order.status().name();
+        this.orderList = orderProducts.stream().map(OrderProductResponse::of).toList();
+        this.createdDate = Ut.Str.localDateTimeToString(order.createdDate());
+    }
+
     public static OrderResponse of(final Order order) {
         return new OrderResponse(order);
     }
 
+    public static OrderResponse of(final OrderSummaryDto order, final List<OrderProductSummaryDto> orderProducts) {
+        return new OrderResponse(order, orderProducts);
+    }
+
 }
@@ -0,0 +1,9 @@
+package com.app.backend.domain.order.dto.response;
+
+/**
+ * 주문 생성 결과(멱등성 키 재요청 시 저장된 값으로 재응답)
+ *
+ * @param orderId - 생성된 주문 ID
+ */
+public record OrderSaveResponse(long orderId) {
+}
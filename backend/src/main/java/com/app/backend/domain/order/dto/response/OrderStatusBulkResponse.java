@@ -0,0 +1,45 @@
+package com.app.backend.domain.order.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 주문 상태 일괄 변경 결과
+ *
+ * @param status  - 변경할 주문 상태
+ * @param summary - 결과별 주문 수
+ * @param items   - 요청 순서와 같은 주문별 결과
+ */
+public record OrderStatusBulkResponse(String status, Map<Result, Long> summary, List<Item> items) {
+
+    public static OrderStatusBulkResponse of(final String status, final List<Item> items) {
+        Map<Result, Long> summary = new EnumMap<>(Result.class);
+        for (Result result : Result.values())
+            summary.put(result, 0L);
+        items.forEach(item -> summary.merge(item.result(), 1L, Long::sum));
+        return new OrderStatusBulkResponse(status, summary, items);
+    }
+
+    public enum Result {
+        UPDATED,            //상태 변경됨
+        UNCHANGED,          //이미 요청한 상태
+        INVALID_TRANSITION, //현재 상태에서 요청한 상태로 변경 불가
+        NOT_FOUND           //주문 없음
+    }
+
+    /**
+     * 주문별 결과
+     *
+     * @param orderId        - 주문 ID(주문이 없으면 요청한 주문 ID 또는 null)
+     * @param orderNumber    - 주문 번호(주문이 없으면 요청한 주문 번호 또는 null)
+     * @param previousStatus - 변경 전 주문 상태(주문이 없으면 null)
+     * @param result         - 결과
+     */
+    @JsonInclude(Include.NON_NULL)
+    public record Item(Long orderId, String orderNumber, String previousStatus, Result result) {
+    }
+
+}
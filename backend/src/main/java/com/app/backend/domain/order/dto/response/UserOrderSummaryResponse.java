@@ -0,0 +1,65 @@
+package com.app.backend.domain.order.dto.response;
+
+import com.app.backend.domain.order.dto.OrderSummaryDto;
+import com.app.backend.domain.order.entity.Order;
+import com.app.backend.standard.util.Ut;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 주문 요약(최근 주문, 주문 상태별 주문 수, 누적 결제 금액)
+ * 이전 주문의 주문 제품 상세는 주문 내역 페이지 조회 사용
+ *
+ * @param recentOrders - 최근 주문 목록(주문 ID 내림차순)
+ * @param statusCounts - 주문 상태별 주문 수
+ * @param orderCount   - 전체 주문 수
+ * @param totalSpend   - 누적 결제 금액(취소 주문 제외)
+ */
+public record UserOrderSummaryResponse(List<RecentOrder> recentOrders,
+                                       Map<String, Long> statusCounts,
+                                       long orderCount,
+                                       BigDecimal totalSpend) {
+
+    /**
+     * 최근 주문
+     *
+     * @param orderId     - 주문 ID
+     * @param orderNumber - 주문 번호
+     * @param totalAmount - 주문 제품 총 개수
+     * @param totalPrice  - 주문 총 가격
+     * @param orderStatus - 주문 상태
+     * @param createdDate - 주문 일시
+     */
+    public record RecentOrder(long orderId,
+                              String orderNumber,
+                              int totalAmount,
+                              BigDecimal totalPrice,
+                              String orderStatus,
+                              String createdDate) {
+
+        public static RecentOrder of(final Order order) {
+            return new RecentOrder(order.getId(),
+                                   order.getOrderNumber(),
+                                   order.getTotalAmount(),
+                                   order.getTotalPrice(),
+                                   order.getStatus().name(),
+                                   Ut.Str.localDateTimeToString(order.getCreatedDate()));
+        }
+
+        public static RecentOrder of(final OrderSummaryDto order) {
+            return new RecentOrder(order.orderId(),
+                                   order.orderNumber(),
+                                   order.totalAmount(),
+                                   order.totalPrice(),
+                                   order.status().name(),
+                                   Ut.Str.localDateTimeToString(order.createdDate()));
+        }
+
+        public RecentOrder withOrderStatus(final String orderStatus) {
+            return new RecentOrder(orderId, orderNumber, totalAmount, totalPrice, orderStatus, createdDate);
+        }
+
+    }
+
+}
@@ -2,6 +2,7 @@ package com.app.backend.domain.order.entity;
 
 import com.app.backend.domain.user.entity.User;
 import com.app.backend.global.entity.BaseEntity;
+import com.app.backend.global.entity.IdGenerators;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -15,6 +16,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.DecimalMin;
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -34,7 +36,13 @@ import lombok.NoArgsConstructor;
 public class Order extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_id_generator")
+    @TableGenerator(name = "order_id_generator",
+                    table = IdGenerators.TABLE,
+                    pkColumnName = IdGenerators.PK_COLUMN,
+                    valueColumnName = IdGenerators.VALUE_COLUMN,
+                    pkColumnValue = "orders",
+                    allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "order_id", nullable = false, updatable = false)
     private Long id;
 
@@ -2,6 +2,7 @@ package com.app.backend.domain.order.entity;
 
 import com.app.backend.domain.product.entity.Product;
 import com.app.backend.global.entity.BaseEntity;
+import com.app.backend.global.entity.IdGenerators;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -11,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.math.BigDecimal;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -27,7 +29,13 @@ import lombok.NoArgsConstructor;
 public class OrderProduct extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_product_id_generator")
+    @TableGenerator(name = "order_product_id_generator",
+                    table = IdGenerators.TABLE,
+                    pkColumnName = IdGenerators.PK_COLUMN,
+                    valueColumnName = IdGenerators.VALUE_COLUMN,
+                    pkColumnValue = "order_products",
+                    allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "order_product_id", nullable = false, updatable = false)
     private Long id;
 
@@ -52,6 +60,15 @@ public class OrderProduct extends BaseEntity {
                                   final Product product,
                                   final int productAmount,
                                   final BigDecimal productPrice) {
+        return of(order, product, productAmount, productPrice,
+                  productPrice.multiply(BigDecimal.valueOf(productAmount)));
+    }
+
+    public static OrderProduct of(final Order order,
+                                  final Product product,
+                                  final int productAmount,
+                                  final BigDecimal productPrice,
+                                  final BigDecimal totalProductPrice) {
         OrderProduct orderProduct = OrderProduct.builder()
                                                 .productAmount(productAmount)
                                                 .productPrice(productPrice)
@@ -60,9 +77,8 @@ public class OrderProduct extends BaseEntity {
         order.getOrderProducts().add(orderProduct);
         orderProduct.product = product;
 //        product.getOrderProducts().add(orderProduct);   //TODO: 연관관계 설정 확인 필요
-        orderProduct.totalProductPrice = productPrice.multiply(BigDecimal.valueOf(productAmount));
+        orderProduct.totalProductPrice = totalProductPrice;
         return orderProduct;
     }
-    //TODO: 제품(Product) 주문 발생 시(= OrderProduct 엔티티 생성 시) 재고 수량 감소 병행 필요, 재고 수량이 주문 수량보다 작다면?
 
 }
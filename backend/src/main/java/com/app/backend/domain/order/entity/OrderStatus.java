@@ -1,5 +1,21 @@
 package com.app.backend.domain.order.entity;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum OrderStatus {
-    ORDERED, SHIPPED, DELIVERED, CANCELLED
+    ORDERED, SHIPPED, DELIVERED, CANCELLED;
+
+    /**
+     * 이 상태로 변경할 수 있는 이전 상태 목록(일괄 상태 변경 시 UPDATE 조건으로 사용)
+     *
+     * @return 허용된 이전 상태 목록(ORDERED로의 변경은 허용하지 않음)
+     */
+    public Set<OrderStatus> getAllowedPreviousStatuses() {
+        return switch (this) {
+            case ORDERED -> EnumSet.noneOf(OrderStatus.class);
+            case SHIPPED, CANCELLED -> EnumSet.of(ORDERED);
+            case DELIVERED -> EnumSet.of(SHIPPED);
+        };
+    }
 }
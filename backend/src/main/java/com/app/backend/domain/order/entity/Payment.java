@@ -2,6 +2,7 @@ package com.app.backend.domain.order.entity;
 
 import com.app.backend.domain.user.entity.User;
 import com.app.backend.global.entity.BaseEntity;
+import com.app.backend.global.entity.IdGenerators;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -14,6 +15,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.math.BigDecimal;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -30,7 +32,13 @@ import lombok.NoArgsConstructor;
 public class Payment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "payment_id_generator")
+    @TableGenerator(name = "payment_id_generator",
+                    table = IdGenerators.TABLE,
+                    pkColumnName = IdGenerators.PK_COLUMN,
+                    valueColumnName = IdGenerators.VALUE_COLUMN,
+                    pkColumnValue = "payments",
+                    allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "payment_id", nullable = false, updatable = false)
     private Long id;
 
@@ -2,7 +2,6 @@ package com.app.backend.domain.order.repository;
 
 import com.app.backend.domain.order.entity.Order;
 import com.app.backend.domain.order.entity.OrderStatus;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,8 +16,6 @@ public interface OrderRepository extends JpaRepository<Order, Long>, OrderReposi
 
     Optional<Order> findByOrderNumber(String orderNumber);
 
-    List<Order> findAllByStatusAndCreatedDateLessThanEqual(OrderStatus status, LocalDateTime dateTime);
-
     boolean existsByOrderNumber(String orderNumber);
 
     void deleteByOrderNumber(String orderNumber);
@@ -1,4 +1,50 @@
 package com.app.backend.domain.order.repository;
 
+import com.app.backend.domain.order.dto.OrderProductSummaryDto;
+import com.app.backend.domain.order.dto.OrderSearchCondition;
+import com.app.backend.domain.order.dto.OrderShipmentDto;
+import com.app.backend.domain.order.dto.OrderStatusSummaryDto;
+import com.app.backend.domain.order.dto.OrderStatusTargetDto;
+import com.app.backend.domain.order.dto.OrderSummaryDto;
+import com.app.backend.domain.order.entity.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 public interface OrderRepositoryCustom {
+
+    List<OrderShipmentDto> findShipmentTargets(OrderStatus status, LocalDateTime createdBefore, Long lastOrderId,
+                                               int limit);
+
+    long updateStatus(Collection<Long> orderIds, OrderStatus oldStatus, OrderStatus newStatus,
+                      LocalDateTime modifiedDate);
+
+    long updateStatus(Collection<Long> orderIds, Collection<OrderStatus> oldStatuses, OrderStatus newStatus,
+                      LocalDateTime modifiedDate);
+
+    List<OrderStatusTargetDto> findStatusTargetsByIds(Collection<Long> orderIds);
+
+    List<OrderStatusTargetDto> findStatusTargetsByOrderNumbers(Collection<String> orderNumbers);
+
+    List<Long> findIdsByStatusAndModifiedDate(Collection<Long> orderIds, OrderStatus status,
+                                              LocalDateTime modifiedDate);
+
+    Optional<OrderSummaryDto> findSummaryById(Long orderId);
+
+    Optional<OrderSummaryDto> findSummaryByOrderNumber(String orderNumber);
+
+    List<OrderSummaryDto> findSummaries(Long userId, OrderStatus status);
+
+    Page<OrderSummaryDto> findSummaries(OrderSearchCondition condition, Pageable pageable);
+
+    Stream<OrderSummaryDto> streamSummaries(OrderSearchCondition condition, int fetchSize);
+
+    List<OrderStatusSummaryDto> findStatusSummaries(Long userId);
+
+    List<OrderProductSummaryDto> findProductSummaries(Collection<Long> orderIds);
+
 }
@@ -1,7 +1,39 @@
 package com.app.backend.domain.order.repository;
 
+import static com.app.backend.domain.order.entity.QOrder.order;
+import static com.app.backend.domain.order.entity.QOrderProduct.orderProduct;
+import static com.app.backend.domain.product.entity.QProduct.product;
+import static com.app.backend.domain.user.entity.QUser.user;
+
+import com.app.backend.domain.order.dto.OrderProductSummaryDto;
+import com.app.backend.domain.order.dto.OrderSearchCondition;
+import com.app.backend.domain.order.dto.OrderShipmentDto;
+import com.app.backend.domain.order.dto.OrderStatusSummaryDto;
+import com.app.backend.domain.order.dto.OrderStatusTargetDto;
+import com.app.backend.domain.order.dto.OrderSummaryDto;
+import com.app.backend.domain.order.entity.Order;
+import com.app.backend.domain.order.entity.OrderStatus;
+import com.app.backend.domain.order.exception.OrderException;
+import com.app.backend.global.error.exception.ErrorCode;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -10,4 +42,310 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
 
+    /**
+     * 배송 상태 변경 대상 주문 청크 조회
+     * 마지막으로 처리한 주문 ID 이후부터 주문 ID 오름차순으로 조회(keyset 페이지네이션), 회원 이메일을 함께 조회
+     *
+     * @param status        - 주문 상태
+     * @param createdBefore - 주문 일시 기준
+     * @param lastOrderId   - 이전 청크의 마지막 주문 ID(첫 청크는 null)
+     * @param limit         - 청크 크기
+     * @return 배송 상태 변경 대상 주문 목록
+     */
+    @Override
+    public List<OrderShipmentDto> findShipmentTargets(final OrderStatus status,
+                                                      final LocalDateTime createdBefore,
+                                                      final Long lastOrderId,
+                                                      final int limit) {
+        return jpaQueryFactory.select(Projections.constructor(OrderShipmentDto.class,
+                                                              order.id,
+                                                              order.orderNumber,
+                                                              user.id,
+                                                              user.email))
+                              .from(order)
+                              .join(order.customer, user)
+                              .where(order.status.eq(status),
+                                     order.createdDate.loe(createdBefore),
+                                     lastOrderId == null ? null : order.id.gt(lastOrderId))
+                              .orderBy(order.id.asc())
+                              .limit(limit)
+                              .fetch();
+    }
+
+    /**
+     * 주문 상태 일괄 변경
+     * 변경 전 상태가 일치하는 주문만 변경
+     *
+     * @param orderIds     - 주문 ID 목록
+     * @param oldStatus    - 변경 전 주문 상태
+     * @param newStatus    - 변경할 주문 상태
+     * @param modifiedDate - 수정 일시
+     * @return 변경된 행 수
+     */
+    @Override
+    public long updateStatus(final Collection<Long> orderIds,
+                             final OrderStatus oldStatus,
+                             final OrderStatus newStatus,
+                             final LocalDateTime modifiedDate) {
+        return jpaQueryFactory.update(order)
+                              .set(order.status, newStatus)
+                              .set(order.modifiedDate, modifiedDate)
+                              .where(order.id.in(orderIds), order.status.eq(oldStatus))
+                              .execute();
+    }
+
+    /**
+     * 주문 상태 일괄 변경
+     * 변경 전 상태가 허용된 상태 목록에 포함된 주문만 변경(상태 전이 검증을 UPDATE 조건으로 수행)
+     *
+     * @param orderIds     - 주문 ID 목록
+     * @param oldStatuses  - 허용된 변경 전 주문 상태 목록
+     * @param newStatus    - 변경할 주문 상태
+     * @param modifiedDate - 수정 일시
+     * @return 변경된 행 수
+     */
+    @Override
+    public long updateStatus(final Collection<Long> orderIds,
+                             final Collection<OrderStatus> oldStatuses,
+                             final OrderStatus newStatus,
+                             final LocalDateTime modifiedDate) {
+        if (orderIds.isEmpty() || oldStatuses.isEmpty())
+            return 0;
+
+        return jpaQueryFactory.update(order)
+                              .set(order.status, newStatus)
+                              .set(order.modifiedDate, modifiedDate)
+                              .where(order.id.in(orderIds), order.status.in(oldStatuses))
+                              .execute();
+    }
+
+    /**
+     * 주문 ID 목록에 해당하는 일괄 상태 변경 대상 주문 조회
+     *
+     * @param orderIds - 주문 ID 목록
+     * @return 일괄 상태 변경 대상 주문 목록
+     */
+    @Override
+    public List<OrderStatusTargetDto> findStatusTargetsByIds(final Collection<Long> orderIds) {
+        if (orderIds.isEmpty())
+            return List.of();
+        return selectStatusTarget().where(order.id.in(orderIds)).fetch();
+    }
+
+    /**
+     * 주문 번호 목록에 해당하는 일괄 상태 변경 대상 주문 조회
+     *
+     * @param orderNumbers - 주문 번호 목록
+     * @return 일괄 상태 변경 대상 주문 목록
+     */
+    @Override
+    public List<OrderStatusTargetDto> findStatusTargetsByOrderNumbers(final Collection<String> orderNumbers) {
+        if (orderNumbers.isEmpty())
+            return List.of();
+        return selectStatusTarget().where(order.orderNumber.in(orderNumbers)).fetch();
+    }
+
+    /**
+     * 주문 ID 목록 중 지정한 상태와 수정 일시를 가진 주문 ID 조회
+     *
+     * @param orderIds     - 주문 ID 목록
+     * @param status       - 주문 상태
+     * @param modifiedDate - 수정 일시
+     * @return 주문 ID 목록
+     */
+    @Override
+    public List<Long> findIdsByStatusAndModifiedDate(final Collection<Long> orderIds,
+                                                     final OrderStatus status,
+                                                     final LocalDateTime modifiedDate) {
+        return jpaQueryFactory.select(order.id)
+                              .from(order)
+                              .where(order.id.in(orderIds),
+                                     order.status.eq(status),
+                                     order.modifiedDate.eq(modifiedDate))
+                              .fetch();
+    }
+
+    /**
+     * 주문 ID로 주문 정보 조회(회원 정보 포함, 단일 쿼리)
+     *
+     * @param orderId - 주문 ID
+     * @return 주문 조회 프로젝션
+     */
+    @Override
+    public Optional<OrderSummaryDto> findSummaryById(final Long orderId) {
+        return Optional.ofNullable(selectSummary().where(order.id.eq(orderId)).fetchOne());
+    }
+
+    /**
+     * 주문 번호로 주문 정보 조회(회원 정보 포함, 단일 쿼리)
+     *
+     * @param orderNumber - 주문 번호
+     * @return 주문 조회 프로젝션
+     */
+    @Override
+    public Optional<OrderSummaryDto> findSummaryByOrderNumber(final String orderNumber) {
+        return Optional.ofNullable(selectSummary().where(order.orderNumber.eq(orderNumber)).fetchOne());
+    }
+
+    /**
+     * 회원 ID, 주문 상태로 주문 정보 목록 조회(주문 ID 오름차순)
+     *
+     * @param userId - 회원 ID(null이면 전체 회원)
+     * @param status - 주문 상태(null이면 전체 상태)
+     * @return 주문 조회 프로젝션 목록
+     */
+    @Override
+    public List<OrderSummaryDto> findSummaries(final Long userId, final OrderStatus status) {
+        return selectSummary().where(userId == null ? null : user.id.eq(userId),
+                                     status == null ? null : order.status.eq(status))
+                              .orderBy(order.id.asc())
+                              .fetch();
+    }
+
+    /**
+     * 관리자 주문 정보 페이지 조회
+     * 정렬 조건이 없으면 주문 ID 오름차순, 전체 개수 쿼리는 필요한 경우에만 실행
+     *
+     * @param condition - 조회 조건
+     * @param pageable  - 페이징 객체
+     * @return 주문 조회 프로젝션 페이지
+     */
+    @Override
+    public Page<OrderSummaryDto> findSummaries(final OrderSearchCondition condition, final Pageable pageable) {
+        List<OrderSummaryDto> content = selectSummary().where(toPredicates(condition))
+                                                       .orderBy(toOrderSpecifiers(pageable.getSort()))
+                                                       .offset(pageable.getOffset())
+                                                       .limit(pageable.getPageSize())
+                                                       .fetch();
+        return PageableExecutionUtils.getPage(content, pageable,
+                                              () -> jpaQueryFactory.select(order.count())
+                                                                   .from(order)
+                                                                   .where(toPredicates(condition))
+                                                                   .fetchOne());
+    }
+
+    /**
+     * 관리자 주문 정보 스트림 조회(내보내기용)
+     * 읽기 전용 forward-only 커서로 fetchSize 단위로 가져오므로 결과 크기와 무관하게 메모리 사용량 일정
+     * 반환된 스트림은 트랜잭션 안에서 소비한 뒤 반드시 닫아야 함
+     *
+     * @param condition - 조회 조건
+     * @param fetchSize - JDBC fetch size
+     * @return 주문 조회 프로젝션 스트림(주문 ID 오름차순)
+     */
+    @Override
+    public Stream<OrderSummaryDto> streamSummaries(final OrderSearchCondition condition, final int fetchSize) {
+        return selectSummary().where(toPredicates(condition))
+                              .orderBy(order.id.asc())
+                              .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                              .setHint(HibernateHints.HINT_READ_ONLY, true)
+                              .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+                              .stream();
+    }
+
+    /**
+     * 회원의 주문 상태별 주문 수, 주문 가격 합계 조회(단일 GROUP BY 쿼리)
+     *
+     * @param userId - 회원 ID
+     * @return 주문 상태별 집계 프로젝션 목록(주문이 없는 상태는 제외)
+     */
+    @Override
+    public List<OrderStatusSummaryDto> findStatusSummaries(final Long userId) {
+        return jpaQueryFactory.select(Projections.constructor(OrderStatusSummaryDto.class,
+                                                              order.status,
+                                                              order.count(),
+                                                              order.totalPrice.sum()))
+                              .from(order)
+                              .where(order.customer.id.eq(userId))
+                              .groupBy(order.status)
+                              .fetch();
+    }
+
+    /**
+     * 주문 ID 목록에 해당하는 주문 제품 일괄 조회(제품명 포함, 단일 쿼리)
+     *
+     * @param orderIds - 주문 ID 목록
+     * @return 주문 제품 조회 프로젝션 목록(주문 ID, 주문 제품 ID 오름차순)
+     */
+    @Override
+    public List<OrderProductSummaryDto> findProductSummaries(final Collection<Long> orderIds) {
+        if (orderIds.isEmpty())
+            return List.of();
+
+        return jpaQueryFactory.select(Projections.constructor(OrderProductSummaryDto.class,
+                                                              orderProduct.order.id,
+                                                              product.name,
+                                                              orderProduct.productPrice,
+                                                              orderProduct.productAmount,
+                                                              orderProduct.totalProductPrice))
+                              .from(orderProduct)
+                              .join(orderProduct.product, product)
+                              .where(orderProduct.order.id.in(orderIds))
+                              .orderBy(orderProduct.order.id.asc(), orderProduct.id.asc())
+                              .fetch();
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private JPAQuery<OrderSummaryDto> selectSummary() {
+        return jpaQueryFactory.select(Projections.constructor(OrderSummaryDto.class,
+                                                              order.id,
+                                                              order.orderNumber,
+                                                              order.totalAmount,
+                                                              order.totalPrice,
+                                                              order.address,
+                                                              order.status,
+                                                              order.createdDate,
+                                                              user.id,
+                                                              user.name,
+                                                              user.email,
+                                                              user.phone))
+                              .from(order)
+                              .join(order.customer, user);
+    }
+
+    private JPAQuery<OrderStatusTargetDto> selectStatusTarget() {
+        return jpaQueryFactory.select(Projections.constructor(OrderStatusTargetDto.class,
+                                                              order.id,
+                                                              order.orderNumber,
+                                                              order.status,
+                                                              order.customer.id,
+                                                              order.totalPrice))
+                              .from(order);
+    }
+
+    private Predicate[] toPredicates(final OrderSearchCondition condition) {
+        return new Predicate[]{condition.status() == null ? null : order.status.eq(condition.status()),
+                               condition.from() == null ? null : order.createdDate.goe(condition.from()),
+                               condition.to() == null ? null : order.createdDate.lt(condition.to()),
+                               condition.userId() == null ? null : order.customer.id.eq(condition.userId())};
+    }
+
+    private OrderSpecifier<?>[] toOrderSpecifiers(final Sort sort) {
+        if (sort.isUnsorted())
+            return new OrderSpecifier[]{order.id.asc()};
+
+        List<OrderSpecifier<?>> specifiers = new ArrayList<>();
+        for (Sort.Order sortOrder : sort) {
+            ComparableExpressionBase<?> sortKey = sortKey(sortOrder.getProperty());
+            specifiers.add(sortOrder.isAscending() ? sortKey.asc() : sortKey.desc());
+        }
+        return specifiers.toArray(OrderSpecifier[]::new);
+    }
+
+    /**
+     * 정렬 가능한 속성만 허용(엔티티 경로를 그대로 노출하지 않음)
+     */
+    private ComparableExpressionBase<?> sortKey(final String property) {
+        return switch (property) {
+            case "id" -> order.id;
+            case "orderNumber" -> order.orderNumber;
+            case "totalAmount" -> order.totalAmount;
+            case "totalPrice" -> order.totalPrice;
+            case "status" -> order.status;
+            case "createdDate" -> order.createdDate;
+            default -> throw new OrderException(ErrorCode.ORDER_SORT_NOT_EXISTS);
+        };
+    }
+
 }
@@ -0,0 +1,209 @@
+package com.app.backend.domain.order.service;
+
+import com.app.backend.domain.order.dto.OrderIngestRequest;
+import com.app.backend.domain.order.dto.OrderIngestResult;
+import com.app.backend.domain.order.dto.request.OrderProductRequest;
+import com.app.backend.domain.order.dto.request.OrderRequest;
+import com.app.backend.domain.order.exception.OrderException;
+import com.app.backend.domain.product.service.HotStockService;
+import com.app.backend.global.error.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 주문 접수 파이프라인(group commit)
+ * 활성화 시 주문 요청을 크기가 제한된 링 버퍼에 넣고, 전용 기록 스레드가 쌓인 요청을 묶음 단위로 한 트랜잭션에 저장
+ * 요청 스레드는 자신의 주문이 포함된 묶음이 커밋될 때까지 대기
+ * 대기 시간을 넘기면 아직 기록 스레드가 가져가지 않은 주문은 취소하고 503(저장되지 않음이 보장되므로 재시도 가능)
+ * 묶음 트랜잭션이 실패하면 해당 묶음의 주문을 건별 저장으로 재시도
+ * 비활성화 상태이거나 인기 제품(Redis 카운터)이 포함된 주문은 기존 건별 저장(OrderService.saveOrder) 사용
+ */
+@Slf4j
+@Service
+public class OrderIngestionService implements DisposableBean {
+
+    private final OrderService                orderService;
+    private final HotStockService             hotStockService;
+    private final boolean                     enabled;
+    private final int                         batchSize;
+    private final long                        timeoutMillis;
+    private final BlockingQueue<PendingOrder> queue;
+
+    private Thread           writer;
+    private volatile boolean running;
+
+    public OrderIngestionService(final OrderService orderService,
+                                 final HotStockService hotStockService,
+                                 @Value("${order.ingestion.enabled:false}") final boolean enabled,
+                                 @Value("${order.ingestion.queue-capacity:4096}") final int queueCapacity,
+                                 @Value("${order.ingestion.batch-size:200}") final int batchSize,
+                                 @Value("${order.ingestion.timeout-millis:5000}") final long timeoutMillis) {
+        this.orderService = orderService;
+        this.hotStockService = hotStockService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled)
+            return;
+
+        running = true;
+        writer = new Thread(this::runWriter, "order-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 주문 저장
+     * 링 버퍼가 가득 차면 요청 한도 초과, 대기 시간 내에 기록이 시작되지 않으면 주문 접수 시간 초과
+     *
+     * @param userId       - 회원 ID
+     * @param orderRequest - 주문 요청 DTO
+     * @return 주문 ID
+     */
+    public long saveOrder(final long userId, final OrderRequest orderRequest) {
+        if (!enabled || containsHotProduct(orderRequest))
+            return orderService.saveOrder(userId, orderRequest);
+
+        PendingOrder pendingOrder = new PendingOrder(new OrderIngestRequest(userId, orderRequest),
+                                                     new CompletableFuture<>(),
+                                                     new AtomicBoolean());
+        if (!running || !queue.offer(pendingOrder))
+            throw new OrderException(ErrorCode.TOO_MANY_REQUESTS);
+
+        try {
+            return await(pendingOrder);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pendingOrder.claimed().compareAndSet(false, true);
+            throw new OrderException(ErrorCode.ORDER_INGESTION_TIMEOUT);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (writer != null)
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    /**
+     * 주문 저장 완료 대기
+     * 대기 시간 안에 기록 스레드가 가져가지 않았으면 취소(기록 스레드는 취소된 주문을 건너뜀)
+     * 이미 묶음 저장 중이면 커밋 결과를 알 수 있도록 한 번 더 대기
+     */
+    private long await(final PendingOrder pendingOrder) throws ExecutionException, InterruptedException {
+        try {
+            return pendingOrder.future().get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (pendingOrder.claimed().compareAndSet(false, true))
+                throw new OrderException(ErrorCode.ORDER_INGESTION_TIMEOUT);
+        }
+
+        try {
+            return pendingOrder.future().get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.error("Order ingestion batch did not finish within {}ms: userId={}",
+                      timeoutMillis * 2, pendingOrder.request().userId());
+            throw new OrderException(ErrorCode.ORDER_INGESTION_TIMEOUT);
+        }
+    }
+
+    private boolean containsHotProduct(final OrderRequest orderRequest) {
+        return orderRequest.getProductInfo()
+                           .stream()
+                           .map(OrderProductRequest::getProductId)
+                           .anyMatch(hotStockService::isHot);
+    }
+
+    /**
+     * 기록 스레드: 대기 중인 요청을 최대 batchSize만큼 꺼내 묶음 저장
+     * 이전 묶음을 커밋하는 동안 쌓인 요청이 다음 묶음이 되므로 부하가 클수록 묶음이 커짐
+     * 종료 시에는 남은 요청을 모두 처리한 뒤 종료
+     */
+    private void runWriter() {
+        List<PendingOrder> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null)
+                    continue;
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                batch.removeIf(pendingOrder -> !pendingOrder.claimed().compareAndSet(false, true));  //대기 시간 초과로 취소된 주문 제외
+                if (!batch.isEmpty())
+                    write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("Order ingestion writer failed", e);
+                batch.forEach(pendingOrder -> pendingOrder.future().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+
+        PendingOrder remaining;
+        while ((remaining = queue.poll()) != null)
+            remaining.future().completeExceptionally(new OrderException(ErrorCode.INTERNAL_SERVER_ERROR));
+    }
+
+    private void write(final List<PendingOrder> batch) {
+        List<OrderIngestResult> results;
+        try {
+            results = orderService.saveOrders(batch.stream().map(PendingOrder::request).toList());
+        } catch (RuntimeException e) {
+            log.warn("Order batch of {} failed, saving one by one", batch.size(), e);
+            batch.forEach(this::writeOne);
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            OrderIngestResult result = results.get(i);
+            if (result.exception() == null)
+                batch.get(i).future().complete(result.orderId());
+            else
+                batch.get(i).future().completeExceptionally(result.exception());
+        }
+    }
+
+    private void writeOne(final PendingOrder pendingOrder) {
+        try {
+            pendingOrder.future().complete(orderService.saveOrder(pendingOrder.request().userId(),
+                                                                  pendingOrder.request().orderRequest()));
+        } catch (RuntimeException e) {
+            pendingOrder.future().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * @param claimed - 기록 스레드가 가져갔거나 요청 스레드가 취소했는지(먼저 설정한 쪽이 소유)
+     */
+    private record PendingOrder(OrderIngestRequest request, CompletableFuture<Long> future, AtomicBoolean claimed) {
+    }
+
+}
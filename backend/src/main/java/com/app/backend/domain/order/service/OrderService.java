@@ -1,11 +1,25 @@
 package com.app.backend.domain.order.service;
 
+import com.app.backend.domain.order.cache.OrderSummaryCache;
+import com.app.backend.domain.order.dto.OrderIngestRequest;
+import com.app.backend.domain.order.dto.OrderIngestResult;
+import com.app.backend.domain.order.dto.OrderProductSummaryDto;
+import com.app.backend.domain.order.dto.OrderSearchCondition;
+import com.app.backend.domain.order.dto.OrderShipmentDto;
+import com.app.backend.domain.order.dto.OrderStatusSummaryDto;
+import com.app.backend.domain.order.dto.OrderStatusTargetDto;
+import com.app.backend.domain.order.dto.OrderSummaryDto;
 import com.app.backend.domain.order.dto.request.OrderProductRequest;
 import com.app.backend.domain.order.dto.request.OrderRequest;
 import com.app.backend.domain.order.dto.response.AdminOrderDetailResponse;
 import com.app.backend.domain.order.dto.response.AdminOrderResponse;
 import com.app.backend.domain.order.dto.response.OrderProductResponse;
 import com.app.backend.domain.order.dto.response.OrderResponse;
+import com.app.backend.domain.order.dto.response.OrderStatusBulkResponse;
+import com.app.backend.domain.order.dto.response.OrderStatusBulkResponse.Item;
+import com.app.backend.domain.order.dto.response.OrderStatusBulkResponse.Result;
+import com.app.backend.domain.order.dto.response.UserOrderSummaryResponse;
+import com.app.backend.domain.order.dto.response.UserOrderSummaryResponse.RecentOrder;
 import com.app.backend.domain.order.entity.Order;
 import com.app.backend.domain.order.entity.OrderProduct;
 import com.app.backend.domain.order.entity.OrderStatus;
@@ -13,45 +27,93 @@ import com.app.backend.domain.order.entity.Payment;
 import com.app.backend.domain.order.exception.OrderException;
 import com.app.backend.domain.order.repository.OrderProductRepository;
 import com.app.backend.domain.order.repository.OrderRepository;
+import com.app.backend.domain.order.util.OrderExportWriter;
+import com.app.backend.domain.order.util.OrderNumberGenerator;
+import com.app.backend.domain.order.util.OrderPricing;
+import com.app.backend.domain.order.util.OrderStatusCsvReader;
 import com.app.backend.domain.order.util.OrderUtil;
 import com.app.backend.domain.order.util.OrderUtil.MailInfo;
 import com.app.backend.domain.product.entity.Product;
 import com.app.backend.domain.product.exception.ProductException;
 import com.app.backend.domain.product.repository.ProductRepository;
+import com.app.backend.domain.product.service.StockReservationService;
 import com.app.backend.domain.user.entity.User;
 import com.app.backend.domain.user.exception.UserException;
 import com.app.backend.domain.user.repository.UserRepository;
 import com.app.backend.global.constant.MailMessageConstant;
+import com.app.backend.global.error.exception.DomainException;
 import com.app.backend.global.error.exception.ErrorCode;
-import com.app.backend.global.util.MailUtil;
+import com.app.backend.global.mail.service.MailOutboxService;
+import com.app.backend.global.metrics.AppMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final String ORDER_SAVE_TIMER     = "order.save";
+    private static final String PHASE_TAG            = "phase";
+    private static final String SCHEDULER_BATCH_SIZE = "scheduler.batch.size";
+
     private final OrderRepository            orderRepository;
     private final OrderProductRepository     orderProductRepository;
     private final ProductRepository          productRepository;
+    private final StockReservationService    stockReservationService;
     private final UserRepository             userRepository;
-    private final MailUtil                   mailUtil;
+    private final OrderNumberGenerator       orderNumberGenerator;
+    private final OrderSummaryCache          orderSummaryCache;
+    private final MailOutboxService          mailOutboxService;
     private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper               objectMapper;
+    private final AppMetrics                 appMetrics;
+
+    @Value("${order.shipment.chunk-size:500}")
+    private int shipmentChunkSize;
+
+    @Value("${order.export.fetch-size:1000}")
+    private int exportFetchSize;
+
+    @Value("${order.bulk-status.chunk-size:500}")
+    private int bulkStatusChunkSize;
+
+    @Value("${order.bulk-status.max-items:10000}")
+    private int bulkStatusMaxItems;
 
     /**
      * 주문 저장
@@ -62,68 +124,146 @@ public class OrderService {
      */
     @Transactional
     public long saveOrder(final long userId, final OrderRequest orderRequest) {
+        Timer.Sample sample = appMetrics.start();
+
         User user = userRepository.findById(userId).orElseThrow(() -> new UserException(ErrorCode.USER_NOT_FOUND));
 
         //TODO: 회원 상태(userStatus)에 따른 로직 수행 여부
 
-        List<OrderProductRequest> productInfo = orderRequest.getProductInfo();
+        OrderPricing  pricing  = OrderPricing.of(orderRequest.getProductInfo());   //같은 제품 ID는 개수 합산
+        List<Product> products = productRepository.findAllById(pricing.getProductIds());
+        sample = appMetrics.lap(sample, ORDER_SAVE_TIMER, PHASE_TAG, "lookup");
 
-        List<Long>    productIds = productInfo.stream().map(OrderProductRequest::getProductId).toList();
-        List<Product> products   = productRepository.findAllById(productIds);
+        Product[] orderedProducts = new Product[pricing.size()];  //주문 가격 계산과 같은 인덱스의 제품
+        for (Product product : products) {
+            int index = pricing.indexOf(product.getId());
+            pricing.price(index, product.getPrice());
+            orderedProducts[index] = product;
+        }
 
-        if (productIds.size() != products.size())   //주문 요청 정보의 제품 ID 중 존재하지 않은 제품 ID가 포함된 경우
+        if (!pricing.isFullyPriced())   //주문 요청 정보의 제품 ID 중 존재하지 않은 제품 ID가 포함된 경우
             throw new ProductException(ErrorCode.PRODUCT_NOT_FOUND);
+        sample = appMetrics.lap(sample, ORDER_SAVE_TIMER, PHASE_TAG, "pricing");
 
-        Map<Long, Integer>    productAmountMap = getProductAmountMap(productInfo);  //주문 제품 ID-주문 개수 맵
-        int                   orderAmount      = productAmountMap.values().stream().mapToInt(i -> i).sum(); //주문 제품 총 개수
-        Map<Long, BigDecimal> productPriceMap  = getProductPriceMap(products);   //주문 제품 ID-주문 가격 맵
-
-        BigDecimal totalPrice = getTotalPrice(productPriceMap, productAmountMap);   //주문 제품 총 합계 가격
+        stockReservationService.reserve(pricing.toAmountMap()); //주문 제품 재고 일괄 차감, 재고 부족 시 주문 전체 롤백
+        sample = appMetrics.lap(sample, ORDER_SAVE_TIMER, PHASE_TAG, "stock");
 
         String orderNumber = getNewOrderNumber();   //주문 번호 생성
 
         Order order = orderRepository.save(
-                Order.of(user, orderNumber, orderAmount, totalPrice,
+                Order.of(user, orderNumber, pricing.getTotalAmount(), pricing.getTotalPrice(),
                          "%s %s".formatted(user.getAddress(), user.getDetailAddress()))
         );    //주문(Order) 엔티티 저장
 
-        List<OrderProduct> orderProducts = new ArrayList<>();
-        for (Long productId : productIds) {
-            Integer    amount  = productAmountMap.get(productId);
-            BigDecimal price   = productPriceMap.get(productId);
-            Product    product = products.stream().filter(p -> p.getId().equals(productId)).findFirst().get();
-
-            OrderProduct orderProduct = OrderProduct.of(order, product, amount, price);
-            orderProducts.add(orderProduct);
-            //TODO: 제품 주문 정보 저장과 함께 제품 재고 수량 감소 연산 추가 필요
-//            orderProductRepository.save(orderProduct);
-//            orderProduct.getProduct().reduceStock(amount);
-            //TODO: 재고가 주문 수량보다 작다면? -> throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK);
-        }
+        List<OrderProduct> orderProducts = new ArrayList<>(pricing.size());
+        for (int i = 0; i < pricing.size(); i++)
+            orderProducts.add(OrderProduct.of(order, orderedProducts[i], pricing.getAmount(i),
+                                              pricing.getUnitPrice(i), pricing.getLineTotal(i)));
         orderProductRepository.saveAll(orderProducts);  //주문 제품(OrderProduct) 엔티티 저장
+        sample = appMetrics.lap(sample, ORDER_SAVE_TIMER, PHASE_TAG, "insert");    //JDBC 배치 INSERT는 커밋 시 실행
 
         //주문 완료 메일 전송
-        LocalDateTime orderTime = order.getCreatedDate();
-        boolean isShipped = orderTime.toLocalTime().isBefore(LocalTime.of(14, 0))
-                            && orderTime.toLocalTime().isAfter(LocalTime.of(9, 0));   //주문한 시간과 해당 일 오전 9시 ~ 오후 14시 비교
-
-        MailInfo mailInfo = MailInfo.builder()
-                                    .isShipped(isShipped)
-                                    .name(order.getCustomer().getName())
-                                    .address(order.getCustomer().getAddress())
-                                    .orderNumber(order.getOrderNumber())
-                                    .orderProducts(orderProducts.stream().map(OrderProductResponse::of).toList())
-                                    .build();
-        String text = OrderUtil.getOrderCompleteMailText(mailInfo); //주문 완료 메일 본문 생성
+        boolean isShipped = isShippedImmediately(order.getCreatedDate());
 
         if (isShipped)    //9시 ~ 14시에 주문된 경우
             order.updateOrderStatus(OrderStatus.SHIPPED);   //14시 이전 주문은 즉시 발송
 
-        mailUtil.sendMail(user.getEmail(), MailMessageConstant.MAIL_SUBJECT_ORDER_SUCCESS, text);   //주문 완료 메일 전송
+        enqueueOrderCompleteMail(order, orderProducts, isShipped);   //주문 완료 메일 전송 예약
+        orderSummaryCache.recordCreated(order); //회원 주문 요약 갱신(커밋 이후)
+        appMetrics.stop(sample, ORDER_SAVE_TIMER, PHASE_TAG, "mail");
 
         return order.getId();
     }
 
+    /**
+     * 주문 묶음 저장(group commit)
+     * 회원/제품 조회, 재고 차감, 주문/주문 제품 INSERT(JDBC 배치)를 묶음 전체에 대해 한 트랜잭션에서 일괄 처리
+     * 제품 행을 잠근 뒤 요청 순서대로 재고를 할당하므로, 실패한 주문만 제외되고 나머지 주문은 함께 커밋
+     * 인기 제품(Redis 카운터)이 포함된 주문은 대상이 아님(saveOrder 사용)
+     *
+     * @param requests - 주문 요청 목록
+     * @return 요청 순서와 같은 주문별 결과
+     */
+    @Transactional
+    public List<OrderIngestResult> saveOrders(final List<OrderIngestRequest> requests) {
+        OrderIngestResult[] results = new OrderIngestResult[requests.size()];
+
+        Map<Long, User> userMap = userRepository.findAllById(requests.stream().map(OrderIngestRequest::userId)
+                                                                     .collect(Collectors.toSet()))
+                                                .stream()
+                                                .collect(Collectors.toMap(User::getId, user -> user));
+        Map<Long, Product> productMap = productRepository.findAllByIdForUpdate(
+                requests.stream()
+                        .flatMap(request -> request.orderRequest().getProductInfo().stream())
+                        .map(OrderProductRequest::getProductId)
+                        .collect(Collectors.toSet())
+        ).stream().collect(Collectors.toMap(Product::getId, product -> product));   //제품 ID 오름차순으로 행 잠금
+
+        Map<Long, Integer> stockMap    = new HashMap<>();   //할당 후 남은 재고
+        Map<Long, Integer> reservedMap = new HashMap<>();   //제품별 할당 합계
+        productMap.values().forEach(product -> stockMap.put(product.getId(), product.getStock()));
+
+        LocalDateTime      now           = LocalDateTime.now();
+        boolean            isShipped     = isShippedImmediately(now);
+        List<Integer>      acceptedIndex = new ArrayList<>();
+        List<Order>        orders        = new ArrayList<>();
+        List<OrderProduct> orderProducts = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            User user = userMap.get(requests.get(i).userId());
+            if (user == null) {
+                results[i] = OrderIngestResult.failure(new UserException(ErrorCode.USER_NOT_FOUND));
+                continue;
+            }
+
+            OrderPricing pricing;
+            try {
+                pricing = priceOrder(requests.get(i).orderRequest(), productMap);
+            } catch (DomainException e) {
+                results[i] = OrderIngestResult.failure(e);
+                continue;
+            }
+            if (!hasStock(stockMap, pricing)) {
+                results[i] = OrderIngestResult.failure(new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK));
+                continue;
+            }
+            for (int j = 0; j < pricing.size(); j++) {
+                stockMap.merge(pricing.getProductId(j), -pricing.getAmount(j), Integer::sum);
+                reservedMap.merge(pricing.getProductId(j), pricing.getAmount(j), Integer::sum);
+            }
+
+            Order order = Order.of(user,
+                                   getNewOrderNumber(),
+                                   pricing.getTotalAmount(),
+                                   pricing.getTotalPrice(),
+                                   "%s %s".formatted(user.getAddress(), user.getDetailAddress()));
+            if (isShipped)
+                order.updateOrderStatus(OrderStatus.SHIPPED);
+            for (int j = 0; j < pricing.size(); j++)
+                orderProducts.add(OrderProduct.of(order, productMap.get(pricing.getProductId(j)), pricing.getAmount(j),
+                                                  pricing.getUnitPrice(j), pricing.getLineTotal(j)));
+
+            orders.add(order);
+            acceptedIndex.add(i);
+        }
+
+        if (orders.isEmpty())
+            return Arrays.asList(results);
+
+        stockReservationService.reserveLocked(reservedMap);  //제품당 UPDATE 1회
+
+        orderRepository.saveAll(orders);
+        orderProductRepository.saveAll(orderProducts);
+
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            enqueueOrderCompleteMail(order, order.getOrderProducts(), isShipped);
+            orderSummaryCache.recordCreated(order);
+            results[acceptedIndex.get(i)] = OrderIngestResult.success(order.getId());
+        }
+        return Arrays.asList(results);
+    }
+
     /**
      * 주문 ID로 주문 정보 단건 조회
      *
@@ -131,9 +271,9 @@ public class OrderService {
      * @return 주문 정보 응답(OrderResponse)
      */
     public OrderResponse getOrderById(final long orderId) {
-        Order order = orderRepository.findById(orderId)
-                                     .orElseThrow(() -> new OrderException(ErrorCode.ORDER_NOT_FOUND));
-        return OrderResponse.of(order);
+        OrderSummaryDto order = orderRepository.findSummaryById(orderId)
+                                               .orElseThrow(() -> new OrderException(ErrorCode.ORDER_NOT_FOUND));
+        return toOrderResponses(List.of(order)).get(0);
     }
 
     /**
@@ -145,11 +285,11 @@ public class OrderService {
      * @return
      */
     public OrderResponse getOrderByIdAndUserId(final long orderId, final long userId) {
-        Order order = orderRepository.findById(orderId)
-                                     .orElseThrow(() -> new OrderException(ErrorCode.ORDER_NOT_FOUND));
+        OrderSummaryDto order = orderRepository.findSummaryById(orderId)
+                                               .orElseThrow(() -> new OrderException(ErrorCode.ORDER_NOT_FOUND));
 
-        if (order.getCustomer().getId().equals(userId))
-            return OrderResponse.of(order);
+        if (order.userId().equals(userId))
+            return toOrderResponses(List.of(order)).get(0);
 
         throw new OrderException(ErrorCode.ORDER_BUYER_MISMATCH);
     }
@@ -161,9 +301,9 @@ public class OrderService {
      * @return 주문 정보 응답(OrderResponse)
      */
     public OrderResponse getOrderByOrderNumber(final String orderNumber) {
-        Order order = orderRepository.findByOrderNumber(orderNumber)
-                                     .orElseThrow(() -> new OrderException(ErrorCode.ORDER_NOT_FOUND));
-        return OrderResponse.of(order);
+        OrderSummaryDto order = orderRepository.findSummaryByOrderNumber(orderNumber)
+                                               .orElseThrow(() -> new OrderException(ErrorCode.ORDER_NOT_FOUND));
+        return toOrderResponses(List.of(order)).get(0);
     }
 
     /**
@@ -173,10 +313,33 @@ public class OrderService {
      * @return 주문 정보 응답(OrderResponse) 목록
      */
     public List<OrderResponse> getOrdersByUserId(final long userId) {
-        if (userRepository.findById(userId).isEmpty())
+        if (!userRepository.existsById(userId))
             throw new UserException(ErrorCode.USER_NOT_FOUND);
-        List<Order> orders = orderRepository.findByCustomer_Id(userId);
-        return orders.stream().map(OrderResponse::of).toList();
+        return toOrderResponses(orderRepository.findSummaries(userId, null));
+    }
+
+    /**
+     * 회원 주문 요약 조회(최근 주문, 주문 상태별 주문 수, 누적 결제 금액)
+     * Redis 읽기 모델에서 조회하며, 없으면 집계 쿼리 + 최근 주문 쿼리로 재구성
+     *
+     * @param userId - 회원 ID(인증된 회원)
+     * @return 회원 주문 요약
+     */
+    public UserOrderSummaryResponse getOrderSummaryByUserId(final long userId) {
+        return orderSummaryCache.get(userId, () -> loadOrderSummary(userId));
+    }
+
+    /**
+     * 회원 주문 내역 페이지 조회(주문 제품 포함, 주문 ID 내림차순)
+     *
+     * @param userId   - 회원 ID(인증된 회원)
+     * @param pageable - 페이징 객체
+     * @return 주문 정보 응답(OrderResponse) 페이지
+     */
+    public Page<OrderResponse> getOrderHistoryByUserId(final long userId, final Pageable pageable) {
+        Page<OrderSummaryDto> orders = orderRepository.findSummaries(new OrderSearchCondition(null, null, null, userId),
+                                                                     pageable);
+        return new PageImpl<>(toOrderResponses(orders.getContent()), pageable, orders.getTotalElements());
     }
 
     /**
@@ -187,33 +350,55 @@ public class OrderService {
      * @return 주문 정보 응답(OrderResponse) 목록
      */
     public List<OrderResponse> getOrdersByUserIdAndStatus(final long userId, final String orderStatus) {
-        if (userRepository.findById(userId).isEmpty())
+        if (!userRepository.existsById(userId))
             throw new UserException(ErrorCode.USER_NOT_FOUND);
 
         validOrderStatus(orderStatus);
 
-        List<Order> orders = orderRepository.findByCustomer_IdAndStatus(userId, OrderStatus.valueOf(orderStatus));
-        return orders.stream().map(OrderResponse::of).toList();
+        return toOrderResponses(orderRepository.findSummaries(userId, OrderStatus.valueOf(orderStatus)));
     }
 
     /**
-     * 모든 주문 정보 조회(List)
+     * 모든 주문 정보 조회(Page)
      *
-     * @return 주문 정보 응답(AdminOrderResponse) 목록
+     * @param pageable - 페이징 객체
+     * @return 주문 정보 응답(OrderResponse) 페이징 객체
      */
-    public List<AdminOrderResponse> getAllOrders() {
+    public Page<AdminOrderResponse> getAllOrders(final Pageable pageable) {
+        return getAllOrders(OrderSearchCondition.empty(), pageable);
+    }
+
+    /**
+     * 조건에 맞는 주문 정보 조회(Page)
+     *
+     * @param condition - 조회 조건(주문 상태, 주문 일시 범위, 주문 회원)
+     * @param pageable  - 페이징 객체
+     * @return 주문 정보 응답(AdminOrderResponse) 페이징 객체
+     */
+    public Page<AdminOrderResponse> getAllOrders(final OrderSearchCondition condition, final Pageable pageable) {
         //NOTE: 관리자 권한 계정 대상
-        return orderRepository.findAll().stream().map(AdminOrderResponse::of).toList();
+        return orderRepository.findSummaries(condition, pageable).map(AdminOrderResponse::of);
     }
 
     /**
-     * 모든 주문 정보 조회(Page)
+     * 조건에 맞는 주문 정보 내보내기
+     * DB 커서로 한 행씩 읽어 출력 스트림에 바로 기록(전체 결과를 메모리에 올리지 않음)
      *
-     * @param pageable - 페이징 객체
-     * @return 주문 정보 응답(OrderResponse) 페이징 객체
+     * @param condition    - 조회 조건(주문 상태, 주문 일시 범위, 주문 회원)
+     * @param format       - 내보내기 형식
+     * @param outputStream - 출력 스트림
+     * @return 내보낸 주문 수
      */
-    public Page<AdminOrderResponse> getAllOrders(final Pageable pageable) {
-        return orderRepository.findAll(pageable).map(AdminOrderResponse::of);
+    public long exportOrders(final OrderSearchCondition condition,
+                             final OrderExportWriter.Format format,
+                             final OutputStream outputStream) {
+        //NOTE: 관리자 권한 계정 대상
+        OrderExportWriter writer = new OrderExportWriter(format, outputStream, objectMapper);
+        writer.writeHeader();
+        try (Stream<OrderSummaryDto> orders = orderRepository.streamSummaries(condition, exportFetchSize)) {
+            orders.map(AdminOrderResponse::of).forEach(writer::write);
+        }
+        return writer.finish();
     }
 
     /**
@@ -224,13 +409,15 @@ public class OrderService {
      */
     public AdminOrderDetailResponse getOrderDetail(long orderId) {
         //NOTE: 관리자 권한 계정 대상
-        Order order = orderRepository.findById(orderId)
-                                     .orElseThrow(() -> new OrderException(ErrorCode.ORDER_NOT_FOUND));
+        OrderSummaryDto order = orderRepository.findSummaryById(orderId)
+                                               .orElseThrow(() -> new OrderException(ErrorCode.ORDER_NOT_FOUND));
 
-        //TODO: payment 값 필요.
+        //TODO: payment 값 필요. 결제 정보가 없으면 응답에서 결제 필드 생략
         Payment payment = null;
 
-        return AdminOrderDetailResponse.of(order, payment);
+        return AdminOrderDetailResponse.of(order,
+                                           orderRepository.findProductSummaries(List.of(order.orderId())),
+                                           payment);
     }
 
     /**
@@ -256,7 +443,7 @@ public class OrderService {
 
         validOrderStatus(orderStatus);
 
-        order.updateOrderStatus(OrderStatus.valueOf(orderStatus));
+        changeOrderStatus(order, OrderStatus.valueOf(orderStatus));
     }
 
     /**
@@ -274,12 +461,12 @@ public class OrderService {
         if (order.getCustomer().getId().equals(userId)) {
             validOrderStatus(orderStatus);
 
-            order.updateOrderStatus(OrderStatus.valueOf(orderStatus));
+            changeOrderStatus(order, OrderStatus.valueOf(orderStatus));
 
             if ("CANCELLED".equals(orderStatus))    //주문 취소 시 취소 성공 메일 전송
-                mailUtil.sendMail(order.getCustomer().getEmail(),
-                                  MailMessageConstant.MAIL_SUBJECT_ORDER_CANCEL,
-                                  OrderUtil.getOrderCancelMailText(order.getOrderNumber()));
+                mailOutboxService.enqueue(order.getCustomer().getEmail(),
+                                          MailMessageConstant.MAIL_SUBJECT_ORDER_CANCEL,
+                                          OrderUtil.getOrderCancelMailText(order.getOrderNumber()));
 
             return;
         }
@@ -297,32 +484,116 @@ public class OrderService {
     public void updateOrderStatus(final String orderNumber, final String orderStatus) {
         Order order = orderRepository.findByOrderNumber(orderNumber)
                                      .orElseThrow(() -> new OrderException(ErrorCode.ORDER_NOT_FOUND));
-        order.updateOrderStatus(OrderStatus.valueOf(orderStatus));
+        changeOrderStatus(order, OrderStatus.valueOf(orderStatus));
+    }
+
+    /**
+     * 주문 상태 일괄 변경
+     * 청크 단위로 대상 조회 후, 허용된 이전 상태 조건을 포함한 UPDATE 1회로 변경(청크마다 별도 트랜잭션으로 커밋)
+     * 중복된 주문 ID/주문 번호는 한 번만 처리
+     *
+     * @param orderIds     - 주문 ID 목록
+     * @param orderNumbers - 주문 번호 목록
+     * @param newStatus    - 변경할 주문 상태
+     * @return 결과별 주문 수와 요청 순서의 주문별 결과(주문 ID 목록 -> 주문 번호 목록 순)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderStatusBulkResponse updateOrderStatuses(final List<Long> orderIds,
+                                                       final List<String> orderNumbers,
+                                                       final OrderStatus newStatus) {
+        //NOTE: 관리자 권한 계정 대상
+        List<Long> ids = orderIds == null ? List.of()
+                                          : orderIds.stream().filter(Objects::nonNull).distinct().toList();
+        List<String> numbers = orderNumbers == null ? List.of()
+                                                    : orderNumbers.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty() && numbers.isEmpty() || ids.size() + numbers.size() > bulkStatusMaxItems)
+            throw new OrderException(ErrorCode.INVALID_INPUT_VALUE);
+        if (newStatus.getAllowedPreviousStatuses().isEmpty())
+            throw new OrderException(ErrorCode.INVALID_ORDER_STATUS);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long                startTime           = System.currentTimeMillis();
+        List<Item>          items               = new ArrayList<>(ids.size() + numbers.size());
+        for (int from = 0; from < ids.size(); from += bulkStatusChunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + bulkStatusChunkSize, ids.size()));
+            items.addAll(transactionTemplate.execute(status -> transitionChunk(
+                    chunk,
+                    orderRepository.findStatusTargetsByIds(chunk),
+                    OrderStatusTargetDto::orderId,
+                    id -> new Item(id, null, null, Result.NOT_FOUND),
+                    newStatus
+            )));
+        }
+        for (int from = 0; from < numbers.size(); from += bulkStatusChunkSize) {
+            List<String> chunk = numbers.subList(from, Math.min(from + bulkStatusChunkSize, numbers.size()));
+            items.addAll(transactionTemplate.execute(status -> transitionChunk(
+                    chunk,
+                    orderRepository.findStatusTargetsByOrderNumbers(chunk),
+                    OrderStatusTargetDto::orderNumber,
+                    number -> new Item(null, number, null, Result.NOT_FOUND),
+                    newStatus
+            )));
+        }
+
+        OrderStatusBulkResponse response = OrderStatusBulkResponse.of(newStatus.name(), items);
+        log.info("Bulk order status update: status={}, summary={}, elapsed={}ms",
+                 newStatus, response.summary(), System.currentTimeMillis() - startTime);
+        return response;
+    }
+
+    /**
+     * CSV로 주문 상태 일괄 변경
+     *
+     * @param csv       - orderId 또는 orderNumber 열을 가진 CSV 입력 스트림
+     * @param newStatus - 변경할 주문 상태
+     * @return 결과별 주문 수와 주문별 결과
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderStatusBulkResponse updateOrderStatuses(final InputStream csv, final OrderStatus newStatus) {
+        OrderStatusCsvReader.Keys keys = OrderStatusCsvReader.read(csv, bulkStatusMaxItems);
+        return updateOrderStatuses(keys.orderIds(), keys.orderNumbers(), newStatus);
     }
 
     /**
      * 주문 상태 변경 예약
      * 매일 오전 9시 기준 주문 상태인 주문 내역 -> 배송 상태로 변경
+     * 주문 ID 기준 청크 단위로 조회/일괄 변경하며, 청크마다 상태 변경과 배송 메일 예약을 하나의 트랜잭션으로 커밋
+     * 변경 전 상태가 주문 상태인 주문만 변경하므로 중단 후 재실행 시 남은 주문부터 이어서 처리
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Scheduled(cron = "0 0 9 * * ?")
 //    @Scheduled(fixedRate = 3000)  //NOTE: 테스트 시 사용
     public void scheduledUpdateOrderStatus() {
-        List<Order> orders = orderRepository.findAllByStatusAndCreatedDateLessThanEqual(
-                OrderStatus.ORDERED, LocalDateTime.now().withHour(9)
-        );
-
+        LocalDateTime       createdBefore       = LocalDateTime.now().withHour(9);
         TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
-        transactionTemplate.execute(status -> {
-            for (Order order : orders) {
-                order.updateOrderStatus(OrderStatus.SHIPPED);
-                mailUtil.sendMail(order.getCustomer().getEmail(),
-                                  MailMessageConstant.MAIL_SUBJECT_ORDER_UPDATE,
-                                  OrderUtil.getDeliveryStatusUpdateMailText(order.getOrderNumber()));
-                orderRepository.save(order);
-            }
-            return null;
-        });
+
+        long startTime   = System.currentTimeMillis();
+        long processed   = 0;
+        int  chunks      = 0;
+        Long lastOrderId = null;
+        while (true) {
+            List<OrderShipmentDto> chunk = orderRepository.findShipmentTargets(OrderStatus.ORDERED,
+                                                                               createdBefore,
+                                                                               lastOrderId,
+                                                                               shipmentChunkSize);
+            if (chunk.isEmpty())
+                break;
+
+            appMetrics.recordSize(SCHEDULER_BATCH_SIZE, chunk.size(), "job", "order.shipment");
+            Integer shipped = transactionTemplate.execute(status -> shipChunk(chunk));
+            processed += shipped == null ? 0 : shipped;
+            chunks++;
+            lastOrderId = chunk.get(chunk.size() - 1).orderId();
+
+            log.info("Shipping orders: chunk={}, shipped={}, lastOrderId={}, elapsed={}ms",
+                     chunks, processed, lastOrderId, System.currentTimeMillis() - startTime);
+
+            if (chunk.size() < shipmentChunkSize)
+                break;
+        }
+
+        log.info("Shipping orders completed: chunks={}, shipped={}, elapsed={}ms",
+                 chunks, processed, System.currentTimeMillis() - startTime);
     }
 
     /**
@@ -332,11 +603,9 @@ public class OrderService {
      */
     @Transactional
     public void deleteOrderById(final long orderId) {
-        if (orderRepository.existsById(orderId)) {
-            orderRepository.deleteById(orderId);
-            return;
-        }
-        throw new OrderException(ErrorCode.ORDER_NOT_FOUND);
+        Order order = orderRepository.findById(orderId)
+                                     .orElseThrow(() -> new OrderException(ErrorCode.ORDER_NOT_FOUND));
+        deleteOrder(order);
     }
 
     /**
@@ -346,54 +615,233 @@ public class OrderService {
      */
     @Transactional
     public void deleteOrderByOrderNumber(final String orderNumber) {
-        if (orderRepository.existsByOrderNumber(orderNumber)) {
-            orderRepository.deleteByOrderNumber(orderNumber);
-            return;
-        }
-        throw new OrderException(ErrorCode.ORDER_NOT_FOUND);
+        Order order = orderRepository.findByOrderNumber(orderNumber)
+                                     .orElseThrow(() -> new OrderException(ErrorCode.ORDER_NOT_FOUND));
+        deleteOrder(order);
     }
 
     //==================== 내부 메서드 ====================//
 
     /**
-     * 제품 ID - 가격 맵 추출
+     * 주문 조회 프로젝션 목록을 응답으로 변환
+     * 주문 제품은 주문 ID 목록으로 한 번에 조회(주문 수와 무관하게 쿼리 1회)
+     *
+     * @param orders - 주문 조회 프로젝션 목록
+     * @return 주문 정보 응답(OrderResponse) 목록
+     */
+    private List<OrderResponse> toOrderResponses(final List<OrderSummaryDto> orders) {
+        Map<Long, List<OrderProductSummaryDto>> orderProductMap =
+                orderRepository.findProductSummaries(orders.stream().map(OrderSummaryDto::orderId).toList())
+                               .stream()
+                               .collect(Collectors.groupingBy(OrderProductSummaryDto::orderId));
+        return orders.stream()
+                     .map(order -> OrderResponse.of(order,
+                                                    orderProductMap.getOrDefault(order.orderId(), List.of())))
+                     .toList();
+    }
+
+    /**
+     * 회원 주문 요약 원본 조회(주문 상태별 집계 쿼리 1회 + 최근 주문 쿼리 1회)
+     *
+     * @param userId - 회원 ID
+     * @return 회원 주문 요약
+     */
+    private UserOrderSummaryResponse loadOrderSummary(final long userId) {
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        for (OrderStatus status : OrderStatus.values())
+            statusCounts.put(status.name(), 0L);
+
+        long       orderCount = 0;
+        BigDecimal totalSpend = BigDecimal.ZERO;
+        for (OrderStatusSummaryDto dto : orderRepository.findStatusSummaries(userId)) {
+            statusCounts.put(dto.status().name(), dto.count());
+            orderCount += dto.count();
+            if (dto.status() != OrderStatus.CANCELLED)
+                totalSpend = totalSpend.add(dto.totalPrice());
+        }
+
+        List<RecentOrder> recentOrders = orderRepository.findSummaries(
+                new OrderSearchCondition(null, null, null, userId),
+                PageRequest.of(0, orderSummaryCache.getRecentSize(), Sort.by(Direction.DESC, "id"))
+        ).getContent().stream().map(RecentOrder::of).toList();
+
+        return new UserOrderSummaryResponse(recentOrders, statusCounts, orderCount, totalSpend);
+    }
+
+    /**
+     * 주문 상태 변경 및 회원 주문 요약 갱신(커밋 이후)
+     *
+     * @param order     - 주문 엔티티
+     * @param newStatus - 변경할 주문 상태
+     */
+    private void changeOrderStatus(final Order order, final OrderStatus newStatus) {
+        OrderStatus oldStatus = order.getStatus();
+        order.updateOrderStatus(newStatus);
+        orderSummaryCache.recordStatusChanged(order.getCustomer().getId(), order.getId(),
+                                              oldStatus, newStatus, order.getTotalPrice());
+    }
+
+    /**
+     * 주문 삭제 및 회원 주문 요약 삭제(다음 조회 시 재구성)
      *
-     * @param products - 제품 엔티티 목록
-     * @return 제품 ID - 가격 맵
+     * @param order - 주문 엔티티
      */
-    private Map<Long, BigDecimal> getProductPriceMap(final List<Product> products) {
-        return products.stream().collect(Collectors.toMap(Product::getId, Product::getPrice));
+    private void deleteOrder(final Order order) {
+        Long userId = order.getCustomer().getId();
+        orderRepository.delete(order);
+        if (userId != null)
+            orderSummaryCache.evict(userId);
+    }
+
+    /**
+     * 일괄 상태 변경 청크 처리
+     * 허용된 이전 상태 조건으로 UPDATE 후, 변경된 행 수가 대상 수와 다르면(조회 이후 다른 요청으로 상태 변경)
+     * 이번 수정 일시로 변경된 주문만 변경 성공으로 판단
+     *
+     * @param keys      - 요청한 주문 ID 또는 주문 번호 청크
+     * @param targets   - 청크에 해당하는 주문 목록
+     * @param keyOf     - 주문에서 요청 키 추출
+     * @param notFound  - 주문이 없는 요청 키의 결과
+     * @param newStatus - 변경할 주문 상태
+     * @return 요청 순서의 주문별 결과
+     */
+    private <K> List<Item> transitionChunk(final List<K> keys,
+                                           final List<OrderStatusTargetDto> targets,
+                                           final Function<OrderStatusTargetDto, K> keyOf,
+                                           final Function<K, Item> notFound,
+                                           final OrderStatus newStatus) {
+        Set<OrderStatus>             allowed      = newStatus.getAllowedPreviousStatuses();
+        Map<K, OrderStatusTargetDto> targetMap    = targets.stream().collect(Collectors.toMap(keyOf, t -> t));
+        LocalDateTime                modifiedDate = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        List<Long> eligibleIds = targets.stream()
+                                        .filter(target -> allowed.contains(target.status()))
+                                        .map(OrderStatusTargetDto::orderId)
+                                        .toList();
+
+        long      updated    = orderRepository.updateStatus(eligibleIds, allowed, newStatus, modifiedDate);
+        Set<Long> updatedIds = new HashSet<>(eligibleIds);
+        if (updated != eligibleIds.size())
+            updatedIds = new HashSet<>(orderRepository.findIdsByStatusAndModifiedDate(eligibleIds,
+                                                                                      newStatus,
+                                                                                      modifiedDate));
+
+        List<Item> items = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            OrderStatusTargetDto target = targetMap.get(key);
+            if (target == null) {
+                items.add(notFound.apply(key));
+                continue;
+            }
+
+            Result result;
+            if (updatedIds.contains(target.orderId())) {
+                result = Result.UPDATED;
+                orderSummaryCache.recordStatusChanged(target.userId(), target.orderId(),
+                                                      target.status(), newStatus, target.totalPrice());
+            } else if (target.status() == newStatus) {
+                result = Result.UNCHANGED;
+            } else {
+                result = Result.INVALID_TRANSITION;
+            }
+            items.add(new Item(target.orderId(), target.orderNumber(), target.status().name(), result));
+        }
+        return items;
     }
 
     /**
-     * 제품 ID - 개수 맵 추출
+     * 주문 청크 배송 상태 변경 및 배송 메일 예약
+     * 조회 이후 다른 요청으로 상태가 바뀐 주문은 변경/메일 대상에서 제외
      *
-     * @param productInfo - 주문 제품 정보 목록
-     * @return 주문 제품 ID - 주문 개수 맵
+     * @param chunk - 배송 상태 변경 대상 주문 목록
+     * @return 변경된 주문 수
      */
-    private Map<Long, Integer> getProductAmountMap(final List<OrderProductRequest> productInfo) {
-        return productInfo.stream()
-                          .collect(Collectors.toMap(OrderProductRequest::getProductId,
-                                                    OrderProductRequest::getAmount));
+    private int shipChunk(final List<OrderShipmentDto> chunk) {
+        LocalDateTime modifiedDate = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        List<Long>    orderIds     = chunk.stream().map(OrderShipmentDto::orderId).toList();
+
+        long updated = orderRepository.updateStatus(orderIds, OrderStatus.ORDERED, OrderStatus.SHIPPED, modifiedDate);
+
+        List<OrderShipmentDto> shipped = chunk;
+        if (updated != chunk.size()) {
+            Set<Long> shippedIds = new HashSet<>(orderRepository.findIdsByStatusAndModifiedDate(orderIds,
+                                                                                                OrderStatus.SHIPPED,
+                                                                                                modifiedDate));
+            shipped = chunk.stream().filter(dto -> shippedIds.contains(dto.orderId())).toList();
+        }
+
+        for (OrderShipmentDto dto : shipped) {
+            mailOutboxService.enqueue(dto.email(),
+                                      MailMessageConstant.MAIL_SUBJECT_ORDER_UPDATE,
+                                      OrderUtil.getDeliveryStatusUpdateMailText(dto.orderNumber()));
+            orderSummaryCache.recordStatusChanged(dto.userId(), dto.orderId(),
+                                                  OrderStatus.ORDERED, OrderStatus.SHIPPED, null);
+        }
+        return shipped.size();
+    }
+
+    /**
+     * 주문 묶음 저장 시 주문 1건의 가격 계산
+     *
+     * @param orderRequest - 주문 요청 DTO
+     * @param productMap   - 제품 ID - 제품 맵(묶음 전체 조회 결과)
+     * @return 주문 가격 계산
+     */
+    private OrderPricing priceOrder(final OrderRequest orderRequest, final Map<Long, Product> productMap) {
+        OrderPricing pricing = OrderPricing.of(orderRequest.getProductInfo());
+        for (int i = 0; i < pricing.size(); i++) {
+            Product product = productMap.get(pricing.getProductId(i));
+            if (product == null)
+                throw new ProductException(ErrorCode.PRODUCT_NOT_FOUND);
+            pricing.price(i, product.getPrice());
+        }
+        return pricing;
     }
 
     /**
-     * 주문 제품 당 가격 x 주문 제품 개수 합계
+     * 주문 제품 재고가 모두 충분한지
      *
-     * @param productPriceMap  - 제품 ID - 가격 맵
-     * @param productAmountMap - 제품 ID - 개수 맵
-     * @return 총 주문 가격
+     * @param stockMap - 제품 ID - 남은 재고 맵
+     * @param pricing  - 주문 가격 계산
+     * @return 재고 충분 여부
      */
-    private BigDecimal getTotalPrice(final Map<Long, BigDecimal> productPriceMap,
-                                     final Map<Long, Integer> productAmountMap) {
-        return productPriceMap.entrySet().stream()
-                              .map(entry -> {
-                                  Long       productId = entry.getKey();
-                                  BigDecimal price     = entry.getValue();
-                                  Integer    amount    = productAmountMap.getOrDefault(productId, 0);
-                                  //TODO: 주문 ID는 존재하지만 개수가 없는 경우...?
-                                  return price.multiply(BigDecimal.valueOf(amount));
-                              }).reduce(BigDecimal.ZERO, BigDecimal::add);
+    private boolean hasStock(final Map<Long, Integer> stockMap, final OrderPricing pricing) {
+        for (int i = 0; i < pricing.size(); i++)
+            if (stockMap.get(pricing.getProductId(i)) < pricing.getAmount(i))
+                return false;
+        return true;
+    }
+
+    /**
+     * 즉시 발송 여부: 주문 시각이 해당 일 오전 9시 ~ 오후 14시 사이인지
+     *
+     * @param orderTime - 주문 일시
+     * @return 즉시 발송 여부
+     */
+    private boolean isShippedImmediately(final LocalDateTime orderTime) {
+        return orderTime.toLocalTime().isBefore(LocalTime.of(14, 0))
+               && orderTime.toLocalTime().isAfter(LocalTime.of(9, 0));
+    }
+
+    /**
+     * 주문 완료 메일 전송 예약
+     *
+     * @param order         - 주문
+     * @param orderProducts - 주문 제품 목록
+     * @param isShipped     - 즉시 발송 여부
+     */
+    private void enqueueOrderCompleteMail(final Order order,
+                                          final List<OrderProduct> orderProducts,
+                                          final boolean isShipped) {
+        MailInfo mailInfo = MailInfo.builder()
+                                    .isShipped(isShipped)
+                                    .name(order.getCustomer().getName())
+                                    .address(order.getCustomer().getAddress())
+                                    .orderNumber(order.getOrderNumber())
+                                    .orderProducts(orderProducts.stream().map(OrderProductResponse::of).toList())
+                                    .build();
+        String text = OrderUtil.getOrderCompleteMailText(mailInfo); //주문 완료 메일 본문 생성
+
+        mailOutboxService.enqueue(order.getCustomer().getEmail(), MailMessageConstant.MAIL_SUBJECT_ORDER_SUCCESS, text);
     }
 
     /**
@@ -402,10 +850,12 @@ public class OrderService {
      * @return 생성된 주문 번호
      */
     private String getNewOrderNumber() {
-        String orderNumber;
-        do {
-            orderNumber = OrderUtil.generateOrderNumber();
-        } while (orderRepository.existsByOrderNumber(orderNumber));
+        String orderNumber = orderNumberGenerator.generate();
+        if (orderNumberGenerator.isCollisionFree())
+            return orderNumber;
+
+        while (orderRepository.existsByOrderNumber(orderNumber))
+            orderNumber = orderNumberGenerator.generate();
         return orderNumber;
     }
 
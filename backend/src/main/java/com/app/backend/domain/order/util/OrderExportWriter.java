@@ -0,0 +1,135 @@
+package com.app.backend.domain.order.util;
+
+import com.app.backend.domain.order.dto.response.AdminOrderResponse;
+import com.app.backend.domain.order.exception.OrderException;
+import com.app.backend.global.error.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 주문 내보내기 출력
+ * 한 행씩 출력 스트림에 바로 기록하므로 내보내는 주문 수와 무관하게 메모리 사용량 일정
+ */
+public class OrderExportWriter {
+
+    private static final String[] CSV_HEADER = {"orderNumber", "userName", "userEmail", "orderStatus",
+                                                "totalPrice", "orderAddress", "createdDate"};
+    private static final int      FLUSH_ROWS = 1000;
+
+    private final Format       format;
+    private final Writer       writer;
+    private final ObjectMapper objectMapper;
+
+    private long count;
+
+    public OrderExportWriter(final Format format, final OutputStream outputStream, final ObjectMapper objectMapper) {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 헤더 기록(CSV만 해당)
+     */
+    public void writeHeader() {
+        if (format == Format.CSV)
+            writeLine(String.join(",", CSV_HEADER));
+    }
+
+    /**
+     * 주문 한 건 기록
+     *
+     * @param order - 관리자 주문 정보 응답
+     */
+    public void write(final AdminOrderResponse order) {
+        try {
+            writeLine(format == Format.CSV ? toCsv(order) : objectMapper.writeValueAsString(order));
+            if (++count % FLUSH_ROWS == 0)
+                writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 남은 버퍼 기록
+     *
+     * @return 기록한 주문 수
+     */
+    public long finish() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private void writeLine(final String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String toCsv(final AdminOrderResponse order) {
+        return String.join(",",
+                           escape(order.getOrderNumber()),
+                           escape(order.getUserName()),
+                           escape(order.getUserEmail()),
+                           escape(order.getOrderStatus()),
+                           escape(order.getTotalPrice() == null ? null : order.getTotalPrice().toPlainString()),
+                           escape(order.getOrderAddress()),
+                           escape(order.getCreatedDate()));
+    }
+
+    /**
+     * RFC 4180 필드 이스케이프, 스프레드시트 수식으로 해석되는 값은 작은따옴표로 무력화
+     */
+    private static String escape(final String value) {
+        if (value == null || value.isEmpty())
+            return "";
+
+        String field = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0)
+            return field;
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        /**
+         * 내보내기 형식 문자열 변환
+         *
+         * @param value - 형식 문자열: ndjson, csv
+         * @return 내보내기 형식
+         */
+        public static Format from(final String value) {
+            return Arrays.stream(values())
+                         .filter(format -> format.name().equalsIgnoreCase(value))
+                         .findFirst()
+                         .orElseThrow(() -> new OrderException(ErrorCode.INVALID_INPUT_VALUE));
+        }
+    }
+
+}
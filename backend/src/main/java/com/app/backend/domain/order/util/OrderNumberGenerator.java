@@ -0,0 +1,23 @@
+package com.app.backend.domain.order.util;
+
+/**
+ * 주문 번호 생성기
+ * order.number.generator 설정(snowflake, random)에 따라 구현체 선택
+ */
+public interface OrderNumberGenerator {
+
+    /**
+     * 주문 번호 생성
+     *
+     * @return 주문 번호(yyyyMMdd + 대문자, 숫자 10자리)
+     */
+    String generate();
+
+    /**
+     * 생성한 주문 번호의 중복이 구조적으로 불가능한지 여부
+     *
+     * @return false인 경우 호출 측에서 중복 검사 필요
+     */
+    boolean isCollisionFree();
+
+}
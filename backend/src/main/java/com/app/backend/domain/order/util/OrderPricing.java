@@ -0,0 +1,186 @@
+package com.app.backend.domain.order.util;
+
+import com.app.backend.domain.order.dto.request.OrderProductRequest;
+import com.app.backend.domain.order.exception.OrderException;
+import com.app.backend.global.error.exception.ErrorCode;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 가격 계산
+ * 주문 요청의 제품 ID별 개수를 합친 뒤(같은 제품 ID가 여러 번 요청된 경우 개수 합산, 최초 요청 순서 유지),
+ * 제품 ID와 같은 인덱스의 배열에서 제품 가격을 최소 단위(scale 2) long 값으로 계산
+ * 합계 초과(overflow) 시 ORDER_PRICE_OVERFLOW, BigDecimal 변환은 엔티티 생성 시점(getter)에만 수행
+ */
+public final class OrderPricing {
+
+    public static final int SCALE = 2;  //제품 가격 컬럼 scale
+
+    private final long[]    productIds;
+    private final int[]     amounts;
+    private final long[]    unitPrices;     //제품 가격(최소 단위)
+    private final long[]    lineTotals;     //제품 가격 x 주문 개수(최소 단위)
+    private final boolean[] priced;
+    private final long[]    slotKeys;       //제품 ID 해시 테이블(개방 주소법)
+    private final int[]     slotIndexes;    //배열 인덱스 + 1, 0은 빈 슬롯
+    private final int       slotMask;
+
+    private int  size;
+    private int  pricedCount;
+    private int  totalAmount;
+    private long totalPrice;
+
+    private OrderPricing(final int capacity) {
+        int slotCount = Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;  //2 * capacity 이상의 2의 거듭제곱
+        productIds = new long[capacity];
+        amounts = new int[capacity];
+        unitPrices = new long[capacity];
+        lineTotals = new long[capacity];
+        priced = new boolean[capacity];
+        slotKeys = new long[slotCount];
+        slotIndexes = new int[slotCount];
+        slotMask = slotCount - 1;
+    }
+
+    /**
+     * 주문 제품 정보 목록으로 생성, 같은 제품 ID는 개수 합산
+     *
+     * @param productInfo - 주문 제품 정보 목록
+     * @return 주문 가격 계산
+     */
+    public static OrderPricing of(final List<OrderProductRequest> productInfo) {
+        OrderPricing pricing = new OrderPricing(productInfo.size());
+        for (OrderProductRequest request : productInfo)
+            pricing.add(request.getProductId(), request.getAmount());
+        return pricing;
+    }
+
+    /**
+     * 제품 ID의 배열 인덱스
+     *
+     * @param productId - 제품 ID
+     * @return 배열 인덱스, 주문 요청에 없는 제품 ID는 -1
+     */
+    public int indexOf(final long productId) {
+        return slotIndexes[findSlot(productId)] - 1;
+    }
+
+    /**
+     * 제품 가격 지정, 제품 가격 x 주문 개수와 총 주문 가격 계산
+     *
+     * @param index     - 배열 인덱스
+     * @param unitPrice - 제품 가격
+     */
+    public void price(final int index, final BigDecimal unitPrice) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("Unknown order line index: " + index);
+        if (priced[index])
+            return;
+
+        try {
+            long minorUnits = unitPrice.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+            long lineTotal  = Math.multiplyExact(minorUnits, amounts[index]);
+            totalPrice = Math.addExact(totalPrice, lineTotal);
+            unitPrices[index] = minorUnits;
+            lineTotals[index] = lineTotal;
+        } catch (ArithmeticException e) {
+            throw new OrderException(ErrorCode.ORDER_PRICE_OVERFLOW);
+        }
+        priced[index] = true;
+        pricedCount++;
+    }
+
+    /**
+     * 모든 제품 가격 지정 여부
+     *
+     * @return 모든 제품 가격 지정 여부
+     */
+    public boolean isFullyPriced() {
+        return pricedCount == size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getProductId(final int index) {
+        return productIds[index];
+    }
+
+    public int getAmount(final int index) {
+        return amounts[index];
+    }
+
+    public BigDecimal getUnitPrice(final int index) {
+        return BigDecimal.valueOf(unitPrices[index], SCALE);
+    }
+
+    public BigDecimal getLineTotal(final int index) {
+        return BigDecimal.valueOf(lineTotals[index], SCALE);
+    }
+
+    public int getTotalAmount() {
+        return totalAmount;
+    }
+
+    public BigDecimal getTotalPrice() {
+        return BigDecimal.valueOf(totalPrice, SCALE);
+    }
+
+    /**
+     * 제품 ID 목록(중복 제거, 요청 순서)
+     *
+     * @return 제품 ID 목록
+     */
+    public List<Long> getProductIds() {
+        Long[] ids = new Long[size];
+        for (int i = 0; i < size; i++)
+            ids[i] = productIds[i];
+        return List.of(ids);
+    }
+
+    /**
+     * 제품 ID - 주문 개수 맵(재고 차감용)
+     *
+     * @return 제품 ID - 주문 개수 맵
+     */
+    public Map<Long, Integer> toAmountMap() {
+        Map<Long, Integer> amountMap = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; i++)
+            amountMap.put(productIds[i], amounts[i]);
+        return amountMap;
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private void add(final long productId, final int amount) {
+        int slot  = findSlot(productId);
+        int index = slotIndexes[slot] - 1;
+        if (index < 0) {
+            index = size++;
+            productIds[index] = productId;
+            slotKeys[slot] = productId;
+            slotIndexes[slot] = index + 1;
+        }
+        try {
+            amounts[index] = Math.addExact(amounts[index], amount);
+            totalAmount = Math.addExact(totalAmount, amount);
+        } catch (ArithmeticException e) {
+            throw new OrderException(ErrorCode.ORDER_PRICE_OVERFLOW);
+        }
+    }
+
+    /**
+     * 제품 ID의 슬롯 또는 빈 슬롯 탐색(선형 탐사)
+     */
+    private int findSlot(final long productId) {
+        int slot = Long.hashCode(productId * 0x9E3779B97F4A7C15L) & slotMask;
+        while (slotIndexes[slot] != 0 && slotKeys[slot] != productId)
+            slot = (slot + 1) & slotMask;
+        return slot;
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.app.backend.domain.order.util;
+
+import com.app.backend.domain.order.exception.OrderException;
+import com.app.backend.global.error.exception.ErrorCode;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 상태 일괄 변경 CSV 읽기
+ * 헤더 행에 orderId 또는 orderNumber 열이 있어야 하며(관리자 주문 내보내기 CSV 그대로 사용 가능),
+ * 행마다 주문 ID가 있으면 주문 ID, 없으면 주문 번호 사용
+ */
+public final class OrderStatusCsvReader {
+
+    private static final String ORDER_ID_COLUMN     = "orderId";
+    private static final String ORDER_NUMBER_COLUMN = "orderNumber";
+
+    private OrderStatusCsvReader() {
+    }
+
+    /**
+     * CSV 읽기
+     *
+     * @param inputStream - CSV 입력 스트림(UTF-8)
+     * @param maxRows     - 최대 행 수(헤더 제외)
+     * @return 주문 ID, 주문 번호 목록
+     */
+    public static Keys read(final InputStream inputStream, final int maxRows) {
+        List<Long>   orderIds     = new ArrayList<>();
+        List<String> orderNumbers = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            skipBom(reader);
+            List<String> columns = readRecord(reader);
+            if (columns == null)
+                throw new OrderException(ErrorCode.INVALID_INPUT_VALUE);
+
+            int orderIdIndex     = columns.indexOf(ORDER_ID_COLUMN);
+            int orderNumberIndex = columns.indexOf(ORDER_NUMBER_COLUMN);
+            if (orderIdIndex < 0 && orderNumberIndex < 0)
+                throw new OrderException(ErrorCode.INVALID_INPUT_VALUE);
+
+            int          rows = 0;
+            List<String> fields;
+            while ((fields = readRecord(reader)) != null) {
+                if (fields.size() == 1 && fields.get(0).isEmpty())
+                    continue;
+                if (++rows > maxRows)
+                    throw new OrderException(ErrorCode.INVALID_INPUT_VALUE);
+
+                String orderId     = field(fields, orderIdIndex);
+                String orderNumber = field(fields, orderNumberIndex);
+                if (!orderId.isEmpty())
+                    orderIds.add(parseOrderId(orderId));
+                else if (!orderNumber.isEmpty())
+                    orderNumbers.add(orderNumber);
+                else
+                    throw new OrderException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Keys(orderIds, orderNumbers);
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    /**
+     * UTF-8 BOM 제거
+     */
+    private static void skipBom(final BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF')
+            reader.reset();
+    }
+
+    /**
+     * RFC 4180 레코드 하나 읽기(큰따옴표로 감싼 필드, "" 이스케이프, 따옴표 안 줄바꿈 지원)
+     * 물리적 줄 단위로 나누면 줄바꿈이 든 필드(예: 주소)의 나머지가 새 행으로 읽히므로 문자 단위로 파싱
+     *
+     * @return 필드 목록, 입력 끝이면 null
+     */
+    private static List<String> readRecord(final BufferedReader reader) throws IOException {
+        List<String>  fields   = new ArrayList<>();
+        StringBuilder field    = new StringBuilder();
+        boolean       inQuotes = false;
+        int           c;
+        while ((c = reader.read()) != -1) {
+            if (inQuotes) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        inQuotes = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else if (c == '\n') {
+                fields.add(field.toString().trim());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+
+        if (inQuotes) //닫히지 않은 따옴표
+            throw new OrderException(ErrorCode.INVALID_INPUT_VALUE);
+        if (fields.isEmpty() && field.isEmpty())
+            return null;
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    private static String field(final List<String> fields, final int index) {
+        return index < 0 || index >= fields.size() ? "" : fields.get(index);
+    }
+
+    private static long parseOrderId(final String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new OrderException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    /**
+     * CSV에서 읽은 주문 ID, 주문 번호 목록
+     *
+     * @param orderIds     - 주문 ID 목록
+     * @param orderNumbers - 주문 번호 목록
+     */
+    public record Keys(List<Long> orderIds, List<String> orderNumbers) {
+    }
+
+}
@@ -3,6 +3,7 @@ package com.app.backend.domain.order.util;
 import com.app.backend.domain.order.dto.response.OrderProductResponse;
 import com.app.backend.global.constant.MailMessageConstant;
 import java.security.SecureRandom;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -36,6 +37,23 @@ public class OrderUtil {
         return date + randomString;
     }
 
+    /**
+     * 주문 번호 문자열 생성
+     * 날짜와 양수 값을 사용하여 주문 번호 생성(값은 대문자, 숫자 36진수 고정 길이 문자열로 변환)
+     *
+     * @param date  - 주문 번호 날짜
+     * @param value - 36^10 미만의 양수 값
+     * @return 주문 번호
+     */
+    public static String generateOrderNumber(final LocalDate date, long value) {
+        char[] chars = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            chars[i] = CHARACTERS.charAt((int) (value % CHARACTERS.length()));
+            value /= CHARACTERS.length();
+        }
+        return date.format(FORMATTER) + new String(chars);
+    }
+
     /**
      * 랜덤 문자열 생성
      * 대문자, 숫자만 사용하여 랜덤한 문자열 생성
@@ -0,0 +1,24 @@
+package com.app.backend.domain.order.util;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 랜덤 문자열 기반 주문 번호 생성기
+ * 중복 가능성이 있으므로 호출 측에서 DB 중복 검사 필요
+ */
+@Component
+@ConditionalOnProperty(name = "order.number.generator", havingValue = "random")
+public class RandomOrderNumberGenerator implements OrderNumberGenerator {
+
+    @Override
+    public String generate() {
+        return OrderUtil.generateOrderNumber();
+    }
+
+    @Override
+    public boolean isCollisionFree() {
+        return false;
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.app.backend.domain.order.util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시간 순서 기반(Snowflake) 주문 번호 생성기
+ * 날짜 경과 밀리초(27비트) + 노드 ID(10비트) + 밀리초 내 시퀀스(12비트)를 36진수 10자리로 변환
+ * 노드 ID가 노드마다 다르게 설정되어 있으면 DB 조회 없이 전역적으로 유일한 주문 번호 보장
+ * 노드 ID는 기본값 없이 반드시 설정(order.number.node-id), 누락 시 기동 실패
+ */
+@Component
+@ConditionalOnProperty(name = "order.number.generator", havingValue = "snowflake", matchIfMissing = true)
+public class SnowflakeOrderNumberGenerator implements OrderNumberGenerator {
+
+    private static final int  NODE_BITS     = 10;
+    private static final int  SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID   = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long   nodeId;
+    private final Clock  clock;
+    private final ZoneId zoneId;
+
+    private long      lastMillis = -1L;
+    private long      sequence;
+    private LocalDate currentDate;
+    private long      currentDayStart;
+    private long      nextDayStart;
+
+    @Autowired
+    public SnowflakeOrderNumberGenerator(@Value("${order.number.node-id}") final long nodeId) {
+        this(nodeId, Clock.systemDefaultZone());
+    }
+
+    SnowflakeOrderNumberGenerator(final long nodeId, final Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID)
+            throw new IllegalArgumentException("Node ID must be between 0 and %d".formatted(MAX_NODE_ID));
+        this.nodeId = nodeId;
+        this.clock = clock;
+        this.zoneId = clock.getZone();
+    }
+
+    /**
+     * 주문 번호 생성
+     * 시계가 역행하거나 밀리초 내 시퀀스를 모두 사용한 경우 대기 없이 논리 시각을 1밀리초 앞당겨 단조 증가 유지
+     *
+     * @return 주문 번호
+     */
+    @Override
+    public synchronized String generate() {
+        long now = clock.millis();
+        if (now > lastMillis) {
+            sequence = 0;
+        } else {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            now = sequence == 0 ? lastMillis + 1 : lastMillis;
+        }
+        lastMillis = now;
+
+        if (now < currentDayStart || now >= nextDayStart)
+            updateDay(now);
+
+        long value = (now - currentDayStart) << (NODE_BITS + SEQUENCE_BITS) | nodeId << SEQUENCE_BITS | sequence;
+        return OrderUtil.generateOrderNumber(currentDate, value);
+    }
+
+    @Override
+    public boolean isCollisionFree() {
+        return true;
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    /**
+     * 기준 날짜 및 날짜 시작/종료 시각 갱신
+     * 하루 경과 밀리초는 일광 절약 시간 전환일(최대 25시간)에도 27비트 이내
+     *
+     * @param epochMillis - 현재 시각
+     */
+    private void updateDay(final long epochMillis) {
+        currentDate = Instant.ofEpochMilli(epochMillis).atZone(zoneId).toLocalDate();
+        currentDayStart = currentDate.atStartOfDay(zoneId).toInstant().toEpochMilli();
+        nextDayStart = currentDate.plusDays(1).atStartOfDay(zoneId).toInstant().toEpochMilli();
+    }
+
+}
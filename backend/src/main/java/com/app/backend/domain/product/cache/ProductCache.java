@@ -0,0 +1,332 @@
+package com.app.backend.domain.product.cache;
+
+import com.app.backend.domain.product.dto.ProductDetailDto;
+import com.app.backend.global.redis.repository.RedisRepository;
+import com.app.backend.global.util.TransactionUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제품 상세/목록 2단계 캐시
+ * L1: 노드 내 Caffeine 캐시(크기 + TTL 제한), L2: Redis(JSON 문자열)
+ * 제품 변경 시 Redis pub/sub으로 무효화 메시지를 전파하여 모든 노드의 L1 캐시 제거
+ * 목록 L2 키에는 버전을 포함하여, 버전 증가만으로 이전 목록 캐시 전체를 무효화(이전 키는 TTL로 만료)
+ * 상세 L2는 제품별 버전을 조회 전에 읽고 버전이 그대로일 때만 저장하여, 무효화 이후 이전 값이 다시 저장되는 것 방지
+ * 재고만 바뀐 경우(주문, 예약)는 상세만 무효화하고 목록 버전은 유지(목록의 재고 수량은 목록 캐시 TTL만큼 늦게 반영)
+ */
+@Slf4j
+@Component
+public class ProductCache implements MessageListener {
+
+    public static final String CHANNEL = "productCache-invalidation";
+
+    private static final String DETAIL_KEY_PREFIX         = "productCache-detail-";
+    private static final String DETAIL_VERSION_KEY_PREFIX = "productCache-detailVersion-";
+    private static final String LIST_KEY_PREFIX           = "productCache-list-";
+    private static final String LIST_VERSION_KEY          = "productCache-listVersion";
+    private static final int    MAX_LIST_SIZE             = 100;
+
+    /**
+     * 상세 L2 삭제 + 상세 버전 증가 + (목록 변경 시) 목록 버전 증가 + 무효화 메시지 발행을 1회 왕복으로 수행
+     * KEYS[1]: 목록 버전 키, KEYS[2..n+1]: 상세 키, KEYS[n+2..2n+1]: 상세 버전 키
+     * ARGV[1]: 채널, ARGV[2]: 제품 ID 목록(JSON 직렬화된 문자열), ARGV[3]: 목록 변경 여부(1/0), ARGV[4]: 상세 버전 TTL(초)
+     * 메시지는 값 직렬화기로 역직렬화되므로 JSON 문자열로 발행
+     */
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = RedisScript.of("""
+            local n = (#KEYS - 1) / 2
+            for i = 2, n + 1 do
+                redis.call('DEL', KEYS[i])
+                redis.call('INCR', KEYS[i + n])
+                redis.call('EXPIRE', KEYS[i + n], ARGV[4])
+            end
+            local version
+            if ARGV[3] == '1' then
+                version = redis.call('INCR', KEYS[1])
+            else
+                version = tonumber(redis.call('GET', KEYS[1]) or '0')
+            end
+            redis.call('PUBLISH', cjson.decode(ARGV[1]),
+                       cjson.encode(version .. '|' .. cjson.decode(ARGV[2]) .. '|' .. ARGV[3]))
+            return version
+            """, Long.class);
+
+    /**
+     * 상세 버전이 조회 시점과 같을 때만 상세 L2 저장
+     * KEYS[1]: 상세 키, KEYS[2]: 상세 버전 키 / ARGV[1]: 조회 시점 버전(JSON 문자열), ARGV[2]: 값, ARGV[3]: TTL(초)
+     */
+    private static final RedisScript<Long> SAVE_DETAIL_SCRIPT = RedisScript.of("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= cjson.decode(ARGV[1]) then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final RedisRepository               redisRepository;
+    private final ObjectMapper                  objectMapper;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Cache<Long, ProductDetailDto>      detailCache;
+    private final Cache<String, ProductPageSnapshot> listCache;
+
+    private final LongAdder l2Hits   = new LongAdder();
+    private final LongAdder l2Misses = new LongAdder();
+    private final LongAdder l2Errors = new LongAdder();
+
+    private final long l2TtlSeconds;
+    private final int  listMaxPage;
+
+    private volatile long listVersion;
+
+    public ProductCache(final RedisRepository redisRepository,
+                        final ObjectMapper objectMapper,
+                        final RedisMessageListenerContainer redisMessageListenerContainer,
+                        @Value("${product.cache.l1-maximum-size:10000}") final long l1MaximumSize,
+                        @Value("${product.cache.l1-ttl-seconds:60}") final long l1TtlSeconds,
+                        @Value("${product.cache.l2-ttl-seconds:600}") final long l2TtlSeconds,
+                        @Value("${product.cache.list-max-page:3}") final int listMaxPage) {
+        this.redisRepository = redisRepository;
+        this.objectMapper = objectMapper;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.detailCache = Caffeine.newBuilder()
+                                   .maximumSize(l1MaximumSize)
+                                   .expireAfterWrite(Duration.ofSeconds(l1TtlSeconds))
+                                   .recordStats()
+                                   .build();
+        this.listCache = Caffeine.newBuilder()
+                                 .maximumSize(l1MaximumSize)
+                                 .expireAfterWrite(Duration.ofSeconds(l1TtlSeconds))
+                                 .recordStats()
+                                 .build();
+        this.l2TtlSeconds = l2TtlSeconds;
+        this.listMaxPage = listMaxPage;
+    }
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        try {
+            Object version = redisRepository.get(LIST_VERSION_KEY);
+            listVersion = version == null ? 0 : ((Number) version).longValue();
+        } catch (RuntimeException e) {
+            log.warn("Failed to read product list cache version", e);
+        }
+    }
+
+    /**
+     * 제품 상세 조회(L1 -> L2 -> 원본)
+     * 같은 키에 대한 동시 L1 미스는 한 번만 적재
+     *
+     * @param productId - 제품 ID
+     * @param loader    - 원본 조회
+     * @return 제품 상세 DTO
+     */
+    public ProductDetailDto getDetail(final Long productId, final Supplier<ProductDetailDto> loader) {
+        return detailCache.get(productId, id -> loadDetail(id, loader));
+    }
+
+    /**
+     * 제품 목록 페이지 조회(L1 -> L2 -> 원본)
+     * 검색어 없는 앞쪽 페이지만 캐시
+     *
+     * @param sort      - 정렬 조건
+     * @param direction - 정렬 방향
+     * @param page      - 페이지(0부터 시작)
+     * @param size      - 페이지 크기
+     * @param loader    - 원본 조회
+     * @return 제품 목록 페이지
+     */
+    public ProductPageSnapshot getList(final String sort,
+                                       final String direction,
+                                       final int page,
+                                       final int size,
+                                       final Supplier<ProductPageSnapshot> loader) {
+        if (page >= listMaxPage || size > MAX_LIST_SIZE)
+            return loader.get();
+
+        String key = "%s-%s-%d-%d".formatted(sort, direction, page, size);
+        return listCache.get(key, k -> load(LIST_KEY_PREFIX + listVersion + "-" + k,
+                                            ProductPageSnapshot.class,
+                                            loader));
+    }
+
+    /**
+     * 제품 캐시 무효화(생성, 수정, 삭제)
+     * 트랜잭션 안에서 호출되면 커밋 이후 수행(커밋 전 재적재로 이전 값이 다시 캐시되는 것 방지)
+     *
+     * @param productIds - 변경된 제품 ID 목록(목록 캐시는 항상 무효화)
+     */
+    public void invalidate(final Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        TransactionUtil.afterCommit(() -> doInvalidate(ids, true));
+    }
+
+    /**
+     * 재고 변경에 따른 상세 캐시 무효화(주문, 예약, 재고 반환)
+     * 주문마다 목록 캐시가 비워지지 않도록 목록 버전은 유지
+     *
+     * @param productIds - 재고가 변경된 제품 ID 목록
+     */
+    public void invalidateStock(final Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        TransactionUtil.afterCommit(() -> doInvalidate(ids, false));
+    }
+
+    /**
+     * 무효화 메시지 수신: "{목록 버전}|{제품 ID},{제품 ID}...|{목록 변경 여부(1/0)}"
+     */
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        try {
+            String[] parts = String.valueOf(redisRepository.deserialize(message.getBody())).split("\\|", -1);
+            if (parts.length < 3 || !"0".equals(parts[2])) {
+                listVersion = Math.max(listVersion, Long.parseLong(parts[0]));
+                listCache.invalidateAll();
+            }
+            if (!parts[1].isEmpty())
+                for (String id : parts[1].split(","))
+                    detailCache.invalidate(Long.valueOf(id));
+        } catch (RuntimeException e) {
+            log.warn("Invalid product cache invalidation message", e);
+            detailCache.invalidateAll();
+            listCache.invalidateAll();
+        }
+    }
+
+    /**
+     * 캐시 통계
+     *
+     * @return 캐시별 hit/miss/eviction 수
+     */
+    public Map<String, Map<String, Long>> getStats() {
+        Map<String, Map<String, Long>> stats = new LinkedHashMap<>();
+        stats.put("l1Detail", toMap(detailCache.stats(), detailCache.estimatedSize()));
+        stats.put("l1List", toMap(listCache.stats(), listCache.estimatedSize()));
+
+        Map<String, Long> l2 = new LinkedHashMap<>();
+        l2.put("hitCount", l2Hits.sum());
+        l2.put("missCount", l2Misses.sum());
+        l2.put("errorCount", l2Errors.sum());
+        stats.put("l2", l2);
+        return stats;
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    /**
+     * L2 조회 후 없으면 원본 조회하여 L2 저장
+     * Redis 장애 시 원본 조회로 대체
+     */
+    private <T> T load(final String key, final Class<T> type, final Supplier<T> loader) {
+        try {
+            Object json = redisRepository.get(key);
+            if (json != null) {
+                l2Hits.increment();
+                return objectMapper.readValue((String) json, type);
+            }
+        } catch (RuntimeException | JsonProcessingException e) {
+            l2Errors.increment();
+            log.debug("Failed to read product cache: {}", key, e);
+        }
+
+        l2Misses.increment();
+        T value = loader.get();
+        try {
+            redisRepository.save(key, objectMapper.writeValueAsString(value), l2TtlSeconds, TimeUnit.SECONDS);
+        } catch (RuntimeException | JsonProcessingException e) {
+            l2Errors.increment();
+            log.debug("Failed to write product cache: {}", key, e);
+        }
+        return value;
+    }
+
+    /**
+     * 상세 L2 조회 후 없으면 원본 조회하여 L2 저장
+     * 상세 버전을 원본 조회 전에 읽어 두고, 그 사이 무효화되었으면(버전 증가) 저장하지 않음
+     * Redis 조회 실패 시 버전을 알 수 없으므로 저장 생략
+     */
+    private ProductDetailDto loadDetail(final Long productId, final Supplier<ProductDetailDto> loader) {
+        String key        = DETAIL_KEY_PREFIX + productId;
+        String versionKey = DETAIL_VERSION_KEY_PREFIX + productId;
+        String version    = null;
+        try {
+            List<Object> values = redisRepository.multiGet(List.of(key, versionKey));
+            if (values.get(0) != null) {
+                l2Hits.increment();
+                return objectMapper.readValue((String) values.get(0), ProductDetailDto.class);
+            }
+            version = values.get(1) == null ? "0" : String.valueOf(values.get(1));
+        } catch (RuntimeException | JsonProcessingException e) {
+            l2Errors.increment();
+            log.debug("Failed to read product cache: {}", key, e);
+        }
+
+        l2Misses.increment();
+        ProductDetailDto value = loader.get();
+        if (version == null)
+            return value;
+        try {
+            redisRepository.execute(SAVE_DETAIL_SCRIPT, List.of(key, versionKey), version,
+                                    objectMapper.writeValueAsString(value), l2TtlSeconds);
+        } catch (RuntimeException | JsonProcessingException e) {
+            l2Errors.increment();
+            log.debug("Failed to write product cache: {}", key, e);
+        }
+        return value;
+    }
+
+    private void doInvalidate(final List<Long> productIds, final boolean listChanged) {
+        detailCache.invalidateAll(productIds);
+        if (listChanged)
+            listCache.invalidateAll();
+        List<String> keys = new ArrayList<>(productIds.size() * 2 + 1);
+        keys.add(LIST_VERSION_KEY);
+        productIds.forEach(id -> keys.add(DETAIL_KEY_PREFIX + id));
+        productIds.forEach(id -> keys.add(DETAIL_VERSION_KEY_PREFIX + id));
+        try {
+            Long version = redisRepository.execute(INVALIDATE_SCRIPT, keys, CHANNEL,
+                                                   productIds.stream()
+                                                             .map(String::valueOf)
+                                                             .collect(Collectors.joining(",")),
+                                                   listChanged ? 1 : 0,
+                                                   l2TtlSeconds);
+            if (version != null && listChanged)
+                listVersion = Math.max(listVersion, version);
+        } catch (RuntimeException e) {
+            l2Errors.increment();
+            log.warn("Failed to broadcast product cache invalidation", e);
+        }
+    }
+
+    private Map<String, Long> toMap(final CacheStats cacheStats, final long size) {
+        Map<String, Long> map = new LinkedHashMap<>();
+        map.put("hitCount", cacheStats.hitCount());
+        map.put("missCount", cacheStats.missCount());
+        map.put("evictionCount", cacheStats.evictionCount());
+        map.put("size", size);
+        return map;
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.app.backend.domain.product.cache;
+
+import com.app.backend.domain.product.dto.ProductWithoutDescriptionDto;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 캐시용 제품 목록 페이지
+ */
+public record ProductPageSnapshot(List<ProductWithoutDescriptionDto> items, long totalItems, int page, int size) {
+
+    public static ProductPageSnapshot of(final Page<ProductWithoutDescriptionDto> page) {
+        return new ProductPageSnapshot(page.getContent(), page.getTotalElements(), page.getNumber(), page.getSize());
+    }
+
+    public Page<ProductWithoutDescriptionDto> toPage() {
+        return new PageImpl<>(items, PageRequest.of(page, size), totalItems);
+    }
+
+}
@@ -1,9 +1,13 @@
 package com.app.backend.domain.product.controller;
 
+import com.app.backend.domain.product.cache.ProductCache;
+import com.app.backend.domain.product.cache.ProductPageSnapshot;
 import com.app.backend.domain.product.dto.ProductDetailDto;
 import com.app.backend.domain.product.dto.ProductPageDto;
+import com.app.backend.domain.product.dto.ProductSliceDto;
 import com.app.backend.domain.product.dto.ProductWithoutDescriptionDto;
 import com.app.backend.domain.product.entity.Product;
+import com.app.backend.domain.product.search.ProductSearchService;
 import com.app.backend.domain.product.service.ProductService;
 import com.app.backend.global.rs.RsData;
 import jakarta.validation.Valid;
@@ -12,16 +16,21 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/products")
 @RequiredArgsConstructor
 public class ApiV1ProductController {
     private final ProductService productService;
+    private final ProductSearchService productSearchService;
+    private final ProductCache productCache;
 
     @GetMapping
     @Transactional(readOnly = true)
@@ -32,26 +41,80 @@ public class ApiV1ProductController {
             @Valid @RequestParam(name = "direction", defaultValue = "desc") String direction,
             @Valid @RequestParam(name = "keyword", defaultValue= "") String keyword
     ){
+        Page<ProductWithoutDescriptionDto> products = keyword.isBlank()
+                ? productCache.getList(sort, direction, page-1, size, () -> ProductPageSnapshot.of(
+                        productService.findBySortedPaged(page-1, size, sort, direction, keyword)
+                                .map(ProductWithoutDescriptionDto::new))).toPage()
+                : productService.findBySortedPaged(page-1, size, sort, direction, keyword)
+                        .map(ProductWithoutDescriptionDto::new);
+
+        return new RsData<>(
+                true,
+                "200",
+                "상품 페이지 전체조회",
+                new ProductPageDto<>(products));
+    }
+
+    @GetMapping("/slice")
+    @Transactional(readOnly = true)
+    public RsData<ProductSliceDto<ProductWithoutDescriptionDto>> itemsByCursor(
+            @Valid @RequestParam(name = "cursor", required = false) String cursor,
+            @Valid @RequestParam(name = "size", defaultValue = "10") @Min(1) int size,
+            @Valid @RequestParam(name = "sort", defaultValue = "created_date") String sort,
+            @Valid @RequestParam(name = "direction", defaultValue = "desc") String direction,
+            @Valid @RequestParam(name = "keyword", defaultValue= "") String keyword
+    ){
+        Slice<Product> slice = productService.findBySortedSlice(cursor, size, sort, direction, keyword);
+
         return new RsData<>(
                 true,
                 "200",
                 "상품 페이지 전체조회",
+                new ProductSliceDto<>(
+                        slice.map(ProductWithoutDescriptionDto::new),
+                        productService.nextCursor(slice, sort, direction)));
+    }
+
+    @GetMapping("/search")
+    @Transactional(readOnly = true)
+    public RsData<ProductPageDto<ProductWithoutDescriptionDto>> search(
+            @Valid @RequestParam(name = "keyword") @NotBlank String keyword,
+            @Valid @RequestParam(name = "page", defaultValue = "1") @Min(1) int page,
+            @Valid @RequestParam(name = "size", defaultValue = "10") @Min(1) int size
+    ){
+        return new RsData<>(
+                true,
+                "200",
+                "상품 검색",
                 new ProductPageDto<>(
-                        productService.findBySortedPaged(page-1, size, sort, direction, keyword)
+                        productSearchService.search(keyword, page-1, size)
                                 .map(ProductWithoutDescriptionDto::new)));
     }
 
+    @GetMapping("/autocomplete")
+    public RsData<List<String>> autocomplete(
+            @Valid @RequestParam(name = "prefix") @NotBlank String prefix,
+            @Valid @RequestParam(name = "size", defaultValue = "10") @Min(1) int size
+    ){
+        return new RsData<>(
+                true,
+                "200",
+                "상품명 자동완성",
+                productSearchService.suggest(prefix, size));
+    }
+
     @GetMapping("/{product_id}")
     @Transactional(readOnly = true)
     public RsData<ProductDetailDto> item(
             @PathVariable @Valid Long product_id
     ){
-        Product product = productService.findById(product_id);
+        ProductDetailDto product = productCache.getDetail(
+                product_id, () -> new ProductDetailDto(productService.findById(product_id)));
 
         return new RsData<>(true,
                 "200",
                 "%d번 상품 상세사항입니다.".formatted(product_id),
-                new ProductDetailDto(product));
+                product);
     }
 
     public record AddProductReqBody(
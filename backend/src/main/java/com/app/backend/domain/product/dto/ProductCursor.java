@@ -0,0 +1,39 @@
+package com.app.backend.domain.product.dto;
+
+import com.app.backend.domain.product.exception.ProductException;
+import com.app.backend.global.error.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 제품 목록 커서(keyset) 페이지 위치
+ * 정렬 조건, 정렬 방향, 마지막 제품 ID, 마지막 제품의 정렬 키 값을 Base64(URL-safe) 문자열로 인코딩
+ */
+public record ProductCursor(String sort, String direction, Long id, String value) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = String.join(DELIMITER, sort, direction, String.valueOf(id), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 디코딩
+     *
+     * @param cursor - 커서 문자열
+     * @return 커서
+     */
+    public static ProductCursor decode(final String cursor) {
+        try {
+            String   raw   = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);   //정렬 키 값(제품명)에 구분자가 포함될 수 있으므로 마지막에 위치
+            if (parts.length != 4)
+                throw new ProductException(ErrorCode.PRODUCT_INVALID_CURSOR);
+            return new ProductCursor(parts[0], parts[1], Long.valueOf(parts[2]), parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new ProductException(ErrorCode.PRODUCT_INVALID_CURSOR);
+        }
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.app.backend.domain.product.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+@Getter
+public class ProductSliceDto<T> {
+    @JsonProperty("product_info")
+    private final List<T> items;
+
+    private final long pageSize;
+    private final Boolean hasNext;
+    private final String nextCursor;
+
+    public ProductSliceDto(Slice<T> slice, String nextCursor) {
+        this.items = slice.getContent().stream().toList();
+        this.pageSize = slice.getSize();
+        this.hasNext = slice.hasNext();
+        this.nextCursor = nextCursor;
+    }
+}
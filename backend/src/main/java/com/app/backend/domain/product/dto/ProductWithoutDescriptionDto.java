@@ -3,10 +3,12 @@ package com.app.backend.domain.product.dto;
 import com.app.backend.domain.product.entity.Product;
 import java.math.BigDecimal;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class ProductWithoutDescriptionDto {
     private Long product_id;
     private String product_name;
@@ -0,0 +1,38 @@
+package com.app.backend.domain.product.entity;
+
+import com.app.backend.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DB에 반영된 인기 제품 재고 차감분 묶음(batch)
+ * 같은 묶음이 두 번 반영되지 않도록 재고 반영과 같은 트랜잭션에서 묶음 ID를 기본 키로 저장
+ */
+@Entity
+@Table(name = "HotStockFlushes",
+       indexes = @Index(name = "idx_hot_stock_flush_created_date", columnList = "createdDate"))
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class HotStockFlush extends BaseEntity {
+
+    @Id
+    @Column(name = "batch_id", nullable = false, updatable = false, length = 36)
+    private String batchId;
+
+    public static HotStockFlush of(final String batchId) {
+        return HotStockFlush.builder()
+                            .batchId(batchId)
+                            .build();
+    }
+
+}
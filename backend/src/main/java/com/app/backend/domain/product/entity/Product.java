@@ -1,12 +1,17 @@
 package com.app.backend.domain.product.entity;
 
+import com.app.backend.domain.product.search.ProductSearchIndexListener;
 import com.app.backend.global.entity.BaseEntity;
+import com.app.backend.global.entity.IdGenerators;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import java.math.BigDecimal;
@@ -14,7 +19,12 @@ import java.math.BigDecimal;
 import lombok.*;
 
 @Entity
-@Table(name = "Products")
+@Table(name = "Products",
+       indexes = {
+               @Index(name = "idx_product_created_date_id", columnList = "createdDate, product_id"),
+               @Index(name = "idx_product_price_id", columnList = "product_price, product_id")
+       })
+@EntityListeners(ProductSearchIndexListener.class)
 @Getter
 @Setter
 @Builder
@@ -23,7 +33,13 @@ import lombok.*;
 public class Product extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "product_id_generator")
+    @TableGenerator(name = "product_id_generator",
+                    table = IdGenerators.TABLE,
+                    pkColumnName = IdGenerators.PK_COLUMN,
+                    valueColumnName = IdGenerators.VALUE_COLUMN,
+                    pkColumnValue = "products",
+                    allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "product_id", nullable = false, updatable = false)
     @Setter(AccessLevel.NONE)
     private Long id;
@@ -0,0 +1,94 @@
+package com.app.backend.domain.product.entity;
+
+import com.app.backend.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "StockReservations",
+       uniqueConstraints = @UniqueConstraint(name = "uk_stock_reservation_active_key", columnNames = "active_key"),
+       indexes = {
+               @Index(name = "idx_stock_reservation_status_expires_at", columnList = "reservation_status, expires_at"),
+               @Index(name = "idx_stock_reservation_key", columnList = "reservation_key")
+       })
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class StockReservation extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reservation_id", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "reservation_key", nullable = false, updatable = false)
+    private String reservationKey;
+
+    /**
+     * 보류 중(RESERVED)인 예약의 예약 키, 확정/반환되면 null
+     * 같은 예약 키는 다시 사용되므로(주문마다 새 보류) 보류 중인 예약에만 유일성 적용
+     */
+    @Column(name = "active_key")
+    private String activeKey;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "product_id", nullable = false, updatable = false)
+    private Long productId;
+
+    @Column(name = "reservation_amount", nullable = false)
+    private int amount;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reservation_status", nullable = false)
+    private StockReservationStatus status;
+
+    public static StockReservation of(final String reservationKey,
+                                      final Long userId,
+                                      final Long productId,
+                                      final int amount,
+                                      final LocalDateTime expiresAt) {
+        return StockReservation.builder()
+                               .reservationKey(reservationKey)
+                               .activeKey(reservationKey)
+                               .userId(userId)
+                               .productId(productId)
+                               .amount(amount)
+                               .expiresAt(expiresAt)
+                               .status(StockReservationStatus.RESERVED)
+                               .build();
+    }
+
+    /**
+     * 예약 수량 및 만료 시각 갱신
+     *
+     * @param newAmount    - 새로운 예약 수량
+     * @param newExpiresAt - 새로운 만료 시각
+     * @return 재고 예약 엔티티
+     */
+    public StockReservation renew(final int newAmount, final LocalDateTime newExpiresAt) {
+        amount = newAmount;
+        expiresAt = newExpiresAt;
+        return this;
+    }
+
+}
@@ -0,0 +1,5 @@
+package com.app.backend.domain.product.entity;
+
+public enum StockReservationStatus {
+    RESERVED, CONFIRMED, RELEASED
+}
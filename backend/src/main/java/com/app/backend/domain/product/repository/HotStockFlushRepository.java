@@ -0,0 +1,16 @@
+package com.app.backend.domain.product.repository;
+
+import com.app.backend.domain.product.entity.HotStockFlush;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface HotStockFlushRepository extends JpaRepository<HotStockFlush, String> {
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from HotStockFlush f where f.createdDate < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+
+}
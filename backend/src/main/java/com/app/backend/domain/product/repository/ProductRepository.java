@@ -1,9 +1,16 @@
 package com.app.backend.domain.product.repository;
 
 import com.app.backend.domain.product.entity.Product;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
@@ -15,7 +22,15 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
 
     Page<Product> findByNameContaining(String keyword, Pageable pageable);
 
+    Page<Product> findByIdIn(Collection<Long> ids, Pageable pageable);
+
+    Slice<Product> findByNameStartingWith(String prefix, Pageable pageable);
+
     Boolean existsByName(String name);
 
     Boolean existsByNameAndIdNot(String name, Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id in :ids order by p.id")
+    List<Product> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
 }
@@ -1,4 +1,22 @@
 package com.app.backend.domain.product.repository;
 
+import com.app.backend.domain.product.dto.ProductCursor;
+import com.app.backend.domain.product.entity.Product;
+import com.app.backend.domain.product.search.ProductSearchDocument;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Slice;
+
 public interface ProductRepositoryCustom {
+
+    long decreaseStock(Long productId, int amount);
+
+    long increaseStock(Long productId, int amount);
+
+    long increaseStocks(Map<Long, Integer> productAmountMap);
+
+    List<ProductSearchDocument> findSearchDocuments(Long lastId, int limit);
+
+    Slice<Product> findSliceByCursor(String keyword, String sort, boolean ascending, ProductCursor cursor, int size);
+
 }
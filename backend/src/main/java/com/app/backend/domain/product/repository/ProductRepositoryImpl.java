@@ -1,7 +1,28 @@
 package com.app.backend.domain.product.repository;
 
+import static com.app.backend.domain.product.entity.QProduct.product;
+
+import com.app.backend.domain.product.dto.ProductCursor;
+import com.app.backend.domain.product.entity.Product;
+import com.app.backend.domain.product.exception.ProductException;
+import com.app.backend.domain.product.search.ProductSearchDocument;
+import com.app.backend.global.error.exception.ErrorCode;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -10,4 +31,161 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
 
+    /**
+     * 제품 재고 조건부 차감
+     * 재고가 차감 수량 이상인 경우에만 단일 UPDATE 문으로 차감
+     *
+     * @param productId - 제품 ID
+     * @param amount    - 차감 수량
+     * @return 변경된 행 수(0: 재고 부족 또는 존재하지 않는 제품)
+     */
+    @Override
+    public long decreaseStock(final Long productId, final int amount) {
+        return jpaQueryFactory.update(product)
+                              .set(product.stock, product.stock.subtract(amount))
+                              .set(product.modifiedDate, LocalDateTime.now())
+                              .where(product.id.eq(productId), product.stock.goe(amount))
+                              .execute();
+    }
+
+    /**
+     * 제품 재고 증가
+     *
+     * @param productId - 제품 ID
+     * @param amount    - 증가 수량
+     * @return 변경된 행 수
+     */
+    @Override
+    public long increaseStock(final Long productId, final int amount) {
+        return jpaQueryFactory.update(product)
+                              .set(product.stock, product.stock.add(amount))
+                              .set(product.modifiedDate, LocalDateTime.now())
+                              .where(product.id.eq(productId))
+                              .execute();
+    }
+
+    /**
+     * 여러 제품 재고 일괄 증가
+     * 제품별 증가 수량을 CASE 식으로 묶어 단일 UPDATE 문으로 처리
+     *
+     * @param productAmountMap - 제품 ID - 증가 수량 맵
+     * @return 변경된 행 수
+     */
+    @Override
+    public long increaseStocks(final Map<Long, Integer> productAmountMap) {
+        if (productAmountMap.isEmpty())
+            return 0;
+
+        CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = null;
+        for (Map.Entry<Long, Integer> entry : productAmountMap.entrySet())
+            cases = cases == null
+                    ? new CaseBuilder().when(product.id.eq(entry.getKey())).then(entry.getValue())
+                    : cases.when(product.id.eq(entry.getKey())).then(entry.getValue());
+
+        return jpaQueryFactory.update(product)
+                              .set(product.stock, product.stock.add(cases.otherwise(0)))
+                              .set(product.modifiedDate, LocalDateTime.now())
+                              .where(product.id.in(productAmountMap.keySet()))
+                              .execute();
+    }
+
+    /**
+     * 검색 색인 적재용 제품 정보 배치 조회(제품 ID 오름차순 keyset)
+     *
+     * @param lastId - 이전 배치의 마지막 제품 ID(첫 배치는 null)
+     * @param limit  - 배치 크기
+     * @return 제품 정보 목록
+     */
+    @Override
+    public List<ProductSearchDocument> findSearchDocuments(final Long lastId, final int limit) {
+        return jpaQueryFactory.select(Projections.constructor(ProductSearchDocument.class,
+                                                              product.id,
+                                                              product.name,
+                                                              product.description))
+                              .from(product)
+                              .where(lastId == null ? null : product.id.gt(lastId))
+                              .orderBy(product.id.asc())
+                              .limit(limit)
+                              .fetch();
+    }
+
+    /**
+     * 제품 목록 커서(keyset) 페이지 조회
+     * 마지막 제품의 (정렬 키, 제품 ID) 이후부터 조회하므로 OFFSET 스캔과 COUNT 쿼리 없이 다음 페이지 존재 여부만 확인
+     *
+     * @param keyword   - 제품명 검색어(빈 문자열이면 전체)
+     * @param sort      - 정렬 조건: created_date, price, name
+     * @param ascending - 오름차순 여부
+     * @param cursor    - 이전 페이지 마지막 위치(첫 페이지는 null)
+     * @param size      - 페이지 크기
+     * @return 제품 목록 Slice
+     */
+    @Override
+    public Slice<Product> findSliceByCursor(final String keyword,
+                                            final String sort,
+                                            final boolean ascending,
+                                            final ProductCursor cursor,
+                                            final int size) {
+        ComparableExpressionBase<?> sortKey = sortKey(sort);
+
+        List<Product> content = jpaQueryFactory.selectFrom(product)
+                                               .where(keyword.isBlank() ? null : product.name.contains(keyword),
+                                                      cursor == null ? null : seek(sort, ascending, cursor))
+                                               .orderBy(ascending ? sortKey.asc() : sortKey.desc(),
+                                                        ascending ? product.id.asc() : product.id.desc())
+                                               .limit(size + 1)
+                                               .fetch();
+
+        boolean hasNext = content.size() > size;
+        if (hasNext)
+            content = content.subList(0, size);
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private ComparableExpressionBase<?> sortKey(final String sort) {
+        return switch (sort) {
+            case "created_date" -> product.createdDate;
+            case "price" -> product.price;
+            case "name" -> product.name;
+            default -> throw new ProductException(ErrorCode.PRODUCT_SORT_NOT_EXISTS);
+        };
+    }
+
+    /**
+     * 커서 이후 위치 조건 생성: (정렬 키, 제품 ID) 튜플 비교
+     *
+     * @param sort      - 정렬 조건
+     * @param ascending - 오름차순 여부
+     * @param cursor    - 커서
+     * @return 조회 조건
+     */
+    private BooleanExpression seek(final String sort, final boolean ascending, final ProductCursor cursor) {
+        try {
+            return switch (sort) {
+                case "created_date" -> seek(product.createdDate, LocalDateTime.parse(cursor.value()), ascending,
+                                            cursor.id());
+                case "name" -> seek(product.name, cursor.value(), ascending, cursor.id());
+                case "price" -> {
+                    BigDecimal price = new BigDecimal(cursor.value());
+                    yield ascending
+                          ? product.price.gt(price).or(product.price.eq(price).and(product.id.gt(cursor.id())))
+                          : product.price.lt(price).or(product.price.eq(price).and(product.id.lt(cursor.id())));
+                }
+                default -> throw new ProductException(ErrorCode.PRODUCT_SORT_NOT_EXISTS);
+            };
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new ProductException(ErrorCode.PRODUCT_INVALID_CURSOR);
+        }
+    }
+
+    private <T extends Comparable<?>> BooleanExpression seek(final ComparableExpression<T> key,
+                                                             final T value,
+                                                             final boolean ascending,
+                                                             final Long id) {
+        return ascending ? key.gt(value).or(key.eq(value).and(product.id.gt(id)))
+                         : key.lt(value).or(key.eq(value).and(product.id.lt(id)));
+    }
+
 }
@@ -0,0 +1,42 @@
+package com.app.backend.domain.product.repository;
+
+import com.app.backend.domain.product.entity.StockReservation;
+import com.app.backend.domain.product.entity.StockReservationStatus;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    /**
+     * 보류 중인 예약 조회(예약 키당 최대 1건, active_key 유일 제약)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<StockReservation> findByActiveKey(String activeKey);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from StockReservation r where r.status = :status and r.expiresAt <= :now order by r.id")
+    List<StockReservation> findExpired(@Param("status") StockReservationStatus status,
+                                       @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    /**
+     * 보류 중인 예약 상태 변경(확정/반환), 예약 키를 다시 사용할 수 있도록 active_key 해제
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update StockReservation r set r.status = :newStatus, r.activeKey = null, r.modifiedDate = :now "
+           + "where r.id in :ids and r.status = :oldStatus")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("oldStatus") StockReservationStatus oldStatus,
+                     @Param("newStatus") StockReservationStatus newStatus,
+                     @Param("now") LocalDateTime now);
+
+}
@@ -0,0 +1,73 @@
+package com.app.backend.domain.product.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * n-gram 토크나이저
+ * 한글은 형태소 분석 없이도 음절 bi-gram으로 부분 일치 검색이 가능하므로 uni-gram + bi-gram 색인
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 문자열 정규화: NFKC 정규화, 소문자 변환, 공백 제거
+     *
+     * @param text - 문자열
+     * @return 정규화된 문자열
+     */
+    public static String normalize(final String text) {
+        if (text == null)
+            return "";
+
+        String        normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb         = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isWhitespace(c))
+                sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 색인용 n-gram 빈도 추출(uni-gram + bi-gram)
+     *
+     * @param normalized - 정규화된 문자열
+     * @return n-gram - 빈도 맵
+     */
+    public static Map<String, Integer> indexGrams(final String normalized) {
+        Map<String, Integer> grams = new HashMap<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            grams.merge(normalized.substring(i, i + 1), 1, Integer::sum);
+            if (i + 1 < normalized.length())
+                grams.merge(normalized.substring(i, i + 2), 1, Integer::sum);
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어 n-gram 추출
+     * 한 글자 검색어는 uni-gram, 두 글자 이상은 bi-gram 사용
+     *
+     * @param normalized - 정규화된 검색어
+     * @return n-gram 목록
+     */
+    public static Set<String> queryGrams(final String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (normalized.length() == 1) {
+            grams.add(normalized);
+            return grams;
+        }
+        for (int i = 0; i + 1 < normalized.length(); i++)
+            grams.add(normalized.substring(i, i + 2));
+        return grams;
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.app.backend.domain.product.search;
+
+/**
+ * 검색 색인 대상 제품 정보
+ */
+public record ProductSearchDocument(Long id, String name, String description) {
+}
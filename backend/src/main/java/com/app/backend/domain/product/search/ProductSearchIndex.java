@@ -0,0 +1,307 @@
+package com.app.backend.domain.product.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제품 검색용 메모리 역색인
+ * 제품명, 제품 설명의 n-gram 역색인(제품명 가중치 부여)과 자동완성용 정렬된 제품명 색인 유지
+ * 색인 적재(warming)가 끝나기 전에는 isReady()가 false이며, 호출 측은 DB 검색으로 대체
+ * 재적재(주기적 동기화) 중에는 기존 색인으로 계속 검색하며, 완료 시 적재 데이터에 없는 제품(다른 노드에서 삭제)을 제거
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final int NAME_WEIGHT        = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final Map<String, Map<Long, Integer>> postings  = new HashMap<>();    //n-gram - (제품 ID - 가중 빈도)
+    private final Map<Long, Document>             documents = new HashMap<>();
+    private final NavigableMap<String, Set<Long>> names     = new TreeMap<>();    //정규화된 제품명 - 제품 ID
+    private final Set<Long>                       touched   = new HashSet<>();    //적재 중 변경된 제품 ID
+    private final Set<Long>                       warmed    = new HashSet<>();    //적재 데이터에 포함된 제품 ID
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+    private boolean          warming;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 제품 색인 추가/갱신
+     *
+     * @param productId   - 제품 ID
+     * @param name        - 제품명
+     * @param description - 제품 설명
+     */
+    public void upsert(final Long productId, final String name, final String description) {
+        lock.writeLock().lock();
+        try {
+            if (warming)
+                touched.add(productId);
+            put(productId, name, description);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제품 색인 제거
+     *
+     * @param productId - 제품 ID
+     */
+    public void remove(final Long productId) {
+        lock.writeLock().lock();
+        try {
+            if (warming)
+                touched.add(productId);
+            delete(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void startWarming() {
+        lock.writeLock().lock();
+        try {
+            warming = true;
+            touched.clear();
+            warmed.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 적재 데이터 색인
+     * 적재 시작 이후 변경된 제품은 이미 최신 상태로 색인되어 있으므로 제외
+     *
+     * @param documents - 적재할 제품 목록
+     */
+    public void warm(final List<ProductSearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            for (ProductSearchDocument document : documents) {
+                warmed.add(document.id());
+                if (!touched.contains(document.id()))
+                    put(document.id(), document.name(), document.description());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 적재 완료
+     * 적재 데이터에 없고 적재 중 변경되지도 않은 제품(적재 전에 삭제된 제품) 제거
+     */
+    public void finishWarming() {
+        lock.writeLock().lock();
+        try {
+            List<Long> stale = new ArrayList<>();
+            for (Long productId : documents.keySet())
+                if (!warmed.contains(productId) && !touched.contains(productId))
+                    stale.add(productId);
+            stale.forEach(this::delete);
+            clearWarming();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 적재 중단(적재 실패), 색인 사용 가능 여부는 그대로 유지
+     */
+    public void abortWarming() {
+        lock.writeLock().lock();
+        try {
+            clearWarming();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 순위 검색
+     * 검색어의 모든 n-gram을 포함하는 제품을 TF-IDF 점수(제품명 가중치 포함) 내림차순으로 반환
+     * 제품명이 검색어를 포함하거나 검색어로 시작하면 가산점 부여
+     *
+     * @param keyword    - 검색어
+     * @param maxResults - 최대 결과 수
+     * @return 제품 ID 목록(점수 내림차순)
+     */
+    public List<Long> search(final String keyword, final int maxResults) {
+        String normalized = NgramTokenizer.normalize(keyword);
+        if (normalized.isEmpty())
+            return List.of();
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>();
+            boolean           first  = true;
+            for (String gram : NgramTokenizer.queryGrams(normalized)) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting == null)
+                    return List.of();
+
+                double            idf  = Math.log(1.0 + (double) documents.size() / posting.size());
+                Map<Long, Double> next = new HashMap<>();
+                if (first) {
+                    posting.forEach((id, tf) -> next.put(id, tf * idf));
+                    first = false;
+                } else {
+                    scores.forEach((id, score) -> {
+                        Integer tf = posting.get(id);
+                        if (tf != null)
+                            next.put(id, score + tf * idf);
+                    });
+                }
+                scores = next;
+                if (scores.isEmpty())
+                    return List.of();
+            }
+
+            scores.replaceAll((id, score) -> {
+                String name = documents.get(id).normalizedName();
+                if (name.startsWith(normalized))
+                    return score * 2;
+                return name.contains(normalized) ? score * 1.5 : score;
+            });
+
+            return scores.entrySet().stream()
+                         .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                                          .thenComparing(Map.Entry.comparingByKey()))
+                         .limit(maxResults)
+                         .map(Map.Entry::getKey)
+                         .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 제품명 부분 일치 검색(LIKE '%keyword%' 대체)
+     *
+     * @param keyword - 검색어
+     * @return 제품명이 검색어를 포함하는 제품 ID 목록
+     */
+    public List<Long> searchName(final String keyword) {
+        String normalized = NgramTokenizer.normalize(keyword);
+        if (normalized.isEmpty())
+            return List.of();
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = null;
+            for (String gram : NgramTokenizer.queryGrams(normalized)) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting == null)
+                    return List.of();
+                if (candidates == null)
+                    candidates = new HashSet<>(posting.keySet());
+                else
+                    candidates.retainAll(posting.keySet());
+            }
+
+            List<Long> result = new ArrayList<>();
+            for (Long id : candidates)
+                if (documents.get(id).normalizedName().contains(normalized))
+                    result.add(id);
+            Collections.sort(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 자동완성
+     *
+     * @param prefix - 입력 중인 검색어
+     * @param limit  - 최대 결과 수
+     * @return 검색어로 시작하는 제품명 목록(정규화된 제품명 순)
+     */
+    public List<String> suggest(final String prefix, final int limit) {
+        String normalized = NgramTokenizer.normalize(prefix);
+        if (normalized.isEmpty())
+            return List.of();
+
+        lock.readLock().lock();
+        try {
+            List<String> result = new ArrayList<>(limit);
+            for (Set<Long> ids : names.subMap(normalized, true, normalized + Character.MAX_VALUE, true).values()) {
+                for (Long id : ids) {
+                    result.add(documents.get(id).name());
+                    if (result.size() >= limit)
+                        return result;
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private void put(final Long productId, final String name, final String description) {
+        Document old = documents.get(productId);
+        if (old != null && Objects.equals(old.name(), name) && Objects.equals(old.description(), description))
+            return;
+        if (old != null)
+            delete(productId);
+
+        String               normalizedName = NgramTokenizer.normalize(name);
+        Map<String, Integer> grams          = new HashMap<>();
+        NgramTokenizer.indexGrams(normalizedName)
+                      .forEach((gram, tf) -> grams.merge(gram, tf * NAME_WEIGHT, Integer::sum));
+        NgramTokenizer.indexGrams(NgramTokenizer.normalize(description))
+                      .forEach((gram, tf) -> grams.merge(gram, tf * DESCRIPTION_WEIGHT, Integer::sum));
+
+        grams.forEach((gram, tf) -> postings.computeIfAbsent(gram, k -> new HashMap<>()).put(productId, tf));
+        names.computeIfAbsent(normalizedName, k -> new HashSet<>()).add(productId);
+        documents.put(productId, new Document(name, description, normalizedName, grams.keySet()));
+    }
+
+    private void clearWarming() {
+        warming = false;
+        touched.clear();
+        warmed.clear();
+    }
+
+    private void delete(final Long productId) {
+        Document old = documents.remove(productId);
+        if (old == null)
+            return;
+
+        for (String gram : old.grams()) {
+            Map<Long, Integer> posting = postings.get(gram);
+            posting.remove(productId);
+            if (posting.isEmpty())
+                postings.remove(gram);
+        }
+        Set<Long> ids = names.get(old.normalizedName());
+        ids.remove(productId);
+        if (ids.isEmpty())
+            names.remove(old.normalizedName());
+    }
+
+    private record Document(String name, String description, String normalizedName, Set<String> grams) {
+    }
+
+}
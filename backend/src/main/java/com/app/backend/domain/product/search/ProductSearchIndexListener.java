@@ -0,0 +1,55 @@
+package com.app.backend.domain.product.search;
+
+import com.app.backend.domain.product.entity.Product;
+import com.app.backend.global.util.TransactionUtil;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 제품 엔티티 변경 시 검색 색인 갱신
+ * 트랜잭션 안에서 변경된 경우 커밋 이후에만 반영하여 롤백된 변경이 색인에 남지 않도록 처리
+ * 자기 노드 색인에 반영한 뒤 ProductSearchIndexSync로 다른 노드에 전파
+ */
+public class ProductSearchIndexListener {
+
+    private final ObjectProvider<ProductSearchIndex>     productSearchIndexProvider;
+    private final ObjectProvider<ProductSearchIndexSync> productSearchIndexSyncProvider;
+
+    public ProductSearchIndexListener(final ObjectProvider<ProductSearchIndex> productSearchIndexProvider,
+                                      final ObjectProvider<ProductSearchIndexSync> productSearchIndexSyncProvider) {
+        this.productSearchIndexProvider = productSearchIndexProvider;
+        this.productSearchIndexSyncProvider = productSearchIndexSyncProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(final Product product) {
+        Long   id          = product.getId();
+        String name        = product.getName();
+        String description = product.getDescription();
+        afterCommit(id, index -> index.upsert(id, name, description));
+    }
+
+    @PostRemove
+    public void onRemove(final Product product) {
+        Long id = product.getId();
+        afterCommit(id, index -> index.remove(id));
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private void afterCommit(final Long productId, final Consumer<ProductSearchIndex> action) {
+        ProductSearchIndex index = productSearchIndexProvider.getIfAvailable();
+        if (index == null)
+            return;
+
+        TransactionUtil.afterCommit(() -> {
+            action.accept(index);
+            productSearchIndexSyncProvider.ifAvailable(sync -> sync.publish(productId));
+        });
+    }
+
+}
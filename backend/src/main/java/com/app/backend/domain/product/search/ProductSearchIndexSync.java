@@ -0,0 +1,76 @@
+package com.app.backend.domain.product.search;
+
+import com.app.backend.domain.product.repository.ProductRepository;
+import com.app.backend.global.redis.repository.RedisRepository;
+import jakarta.annotation.PostConstruct;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제품 검색 색인 변경을 다른 노드에 전파
+ * 메시지에는 제품 ID만 담고, 수신 노드가 DB에서 최신 상태를 다시 읽어 반영(메시지 순서가 뒤바뀌어도 최신 상태로 수렴)
+ * 메시지 유실은 주기적 재적재(ProductSearchIndexWarmer)로 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexSync implements MessageListener {
+
+    public static final String CHANNEL = "productSearchIndex-changes";
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final RedisRepository               redisRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ProductRepository             productRepository;
+    private final ProductSearchIndex            productSearchIndex;
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 제품 변경 전파(커밋 이후 호출)
+     * Redis 장애 시 전파를 생략하며, 다른 노드는 다음 재적재 때 반영
+     *
+     * @param productId - 변경된 제품 ID
+     */
+    public void publish(final Long productId) {
+        try {
+            redisRepository.publish(CHANNEL, instanceId + "|" + productId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast product search index change: productId={}", productId, e);
+        }
+    }
+
+    /**
+     * 변경 메시지 수신: "{발행 노드 ID}|{제품 ID}"
+     * 자기 노드가 발행한 메시지는 이미 반영되었으므로 무시
+     */
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        try {
+            String[] parts = String.valueOf(redisRepository.deserialize(message.getBody())).split("\\|", -1);
+            if (instanceId.equals(parts[0]))
+                return;
+
+            Long productId = Long.valueOf(parts[1]);
+            productRepository.findById(productId)
+                             .ifPresentOrElse(
+                                     product -> productSearchIndex.upsert(productId,
+                                                                          product.getName(),
+                                                                          product.getDescription()),
+                                     () -> productSearchIndex.remove(productId));
+        } catch (RuntimeException e) {
+            log.warn("Invalid product search index change message", e);
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.app.backend.domain.product.search;
+
+import com.app.backend.domain.product.repository.ProductRepository;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 후 제품 검색 색인 적재
+ * 별도 스레드에서 제품 ID 순으로 배치 조회하여 적재하며, 최초 적재 중 검색은 DB로 대체됨
+ * 이후 주기적으로 재적재하여 유실된 변경 전파 메시지(다른 노드의 변경)를 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexWarmer {
+
+    private final ProductRepository  productRepository;
+    private final ProductSearchIndex productSearchIndex;
+
+    @Value("${product.search.warm-batch-size:1000}")
+    private int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread thread = new Thread(this::warm, "product-search-warmer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 주기적 재적재, 재적재 중에도 기존 색인으로 검색
+     */
+    @Scheduled(fixedDelayString = "${product.search.rewarm-delay:600000}",
+               initialDelayString = "${product.search.rewarm-delay:600000}")
+    public void rewarm() {
+        warm();
+    }
+
+    /**
+     * 제품 검색 색인 적재
+     * 이미 적재 중이면 생략
+     */
+    public void warm() {
+        if (!running.compareAndSet(false, true))
+            return;
+
+        long startTime = System.currentTimeMillis();
+        long count     = 0;
+
+        productSearchIndex.startWarming();
+        try {
+            Long lastId = null;
+            while (true) {
+                List<ProductSearchDocument> documents = productRepository.findSearchDocuments(lastId, batchSize);
+                if (documents.isEmpty())
+                    break;
+
+                productSearchIndex.warm(documents);
+                count += documents.size();
+                lastId = documents.get(documents.size() - 1).id();
+
+                if (documents.size() < batchSize)
+                    break;
+            }
+            productSearchIndex.finishWarming();
+            log.info("Product search index warmed: products={}, elapsed={}ms",
+                     count, System.currentTimeMillis() - startTime);
+        } catch (RuntimeException e) {
+            productSearchIndex.abortWarming();
+            log.error("Failed to warm product search index", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+}
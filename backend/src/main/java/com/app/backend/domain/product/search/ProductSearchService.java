@@ -0,0 +1,96 @@
+package com.app.backend.domain.product.search;
+
+import com.app.backend.domain.product.entity.Product;
+import com.app.backend.domain.product.repository.ProductRepository;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ProductSearchService {
+
+    private final ProductRepository  productRepository;
+    private final ProductSearchIndex productSearchIndex;
+
+    @Value("${product.search.max-results:1000}")
+    private int maxResults;
+
+    /**
+     * 제품 순위 검색
+     * 색인 적재 전에는 DB 제품명 부분 일치 검색으로 대체
+     *
+     * @param keyword - 검색어
+     * @param page    - 페이지(0부터 시작)
+     * @param size    - 페이지 크기
+     * @return 검색 결과 페이지(관련도 순)
+     */
+    public Page<Product> search(final String keyword, final int page, final int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        if (!productSearchIndex.isReady())
+            return productRepository.findByNameContaining(keyword, pageable);
+
+        List<Long> ids = productSearchIndex.search(keyword, maxResults);
+        int        from = (int) Math.min(pageable.getOffset(), ids.size());
+        int        to   = Math.min(from + size, ids.size());
+
+        return new PageImpl<>(findAllInOrder(ids.subList(from, to)), pageable, ids.size());
+    }
+
+    /**
+     * 제품명 부분 일치 검색
+     * 색인 적재 전이거나 일치하는 제품이 너무 많으면 DB 검색으로 대체
+     *
+     * @param keyword  - 검색어
+     * @param pageable - 페이지 정보(정렬 포함)
+     * @return 검색 결과 페이지
+     */
+    public Page<Product> searchByName(final String keyword, final Pageable pageable) {
+        if (productSearchIndex.isReady()) {
+            List<Long> ids = productSearchIndex.searchName(keyword);
+            if (ids.isEmpty())
+                return Page.empty(pageable);
+            if (ids.size() <= maxResults)
+                return productRepository.findByIdIn(ids, pageable);
+        }
+        return productRepository.findByNameContaining(keyword, pageable);
+    }
+
+    /**
+     * 자동완성
+     *
+     * @param prefix - 입력 중인 검색어
+     * @param size   - 최대 결과 수
+     * @return 제품명 목록
+     */
+    public List<String> suggest(final String prefix, final int size) {
+        if (productSearchIndex.isReady())
+            return productSearchIndex.suggest(prefix, size);
+        return productRepository.findByNameStartingWith(prefix, PageRequest.of(0, size, Sort.by("name")))
+                                .map(Product::getName)
+                                .getContent();
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private List<Product> findAllInOrder(final List<Long> ids) {
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++)
+            order.put(ids.get(i), i);
+        return productRepository.findAllById(ids).stream()
+                                .sorted(Comparator.comparing(product -> order.get(product.getId())))
+                                .toList();
+    }
+
+}
@@ -0,0 +1,419 @@
+package com.app.backend.domain.product.service;
+
+import com.app.backend.domain.product.cache.ProductCache;
+import com.app.backend.domain.product.entity.HotStockFlush;
+import com.app.backend.domain.product.exception.ProductException;
+import com.app.backend.domain.product.repository.HotStockFlushRepository;
+import com.app.backend.domain.product.repository.ProductRepository;
+import com.app.backend.global.error.exception.ErrorCode;
+import com.app.backend.global.metrics.AppMetrics;
+import com.app.backend.global.redis.repository.RedisRepository;
+import com.app.backend.global.util.TransactionUtil;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 인기 제품(hot SKU) 재고 카운터
+ * 설정된 제품의 재고는 Redis 카운터가 기준이 되며, 차감분은 주기적으로 Products 테이블에 일괄 반영(write-behind)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotStockService {
+
+    private static final String STOCK_KEY_PREFIX     = "hotStock-";
+    private static final String DELTA_KEY            = "hotStockDelta";
+    private static final String FLUSHING_DELTA_KEY   = "hotStockDelta-flushing";
+    private static final String FLUSH_LOCK_KEY       = "hotStockDelta-flushLock";
+    private static final String BATCH_FIELD          = "batch";
+    private static final String BATCH_FIELD_KEY      = "\"batch\"";    //해시 필드 원문(JSON 문자열)
+    private static final String CHECKED_FIELD        = "checked";
+    private static final String SCHEDULER_BATCH_SIZE = "scheduler.batch.size";
+
+    /**
+     * KEYS: 제품별 카운터..., 차감분 해시 / ARGV: 주문 개수..., 제품 ID...
+     * 반환값: 0 = 전부 차감, 양수 i = i번째 제품 재고 부족, 음수 -i = i번째 카운터 미적재
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = RedisScript.of("""
+            local n = #KEYS - 1
+            for i = 1, n do
+                local stock = redis.call('GET', KEYS[i])
+                if not stock then
+                    return -i
+                end
+                if tonumber(stock) < tonumber(ARGV[i]) then
+                    return i
+                end
+            end
+            for i = 1, n do
+                redis.call('DECRBY', KEYS[i], ARGV[i])
+                redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], ARGV[i])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS: 제품별 카운터..., 차감분 해시 / ARGV: 반환 개수..., 제품 ID...
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            local n = #KEYS - 1
+            for i = 1, n do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('INCRBY', KEYS[i], ARGV[i])
+                    redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], -tonumber(ARGV[i]))
+                end
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS: 카운터, 차감분 해시, 반영 중 차감분 해시 / ARGV: DB 재고, 제품 ID, DB 조회 시점의 반영 중 묶음 ID, 반영 완료 여부(1/0)
+     * 아직 DB에 반영되지 않은 차감분(반영 중인 묶음 포함)을 제외한 값으로 카운터 적재
+     * 반영 중 묶음이 DB 조회 이후 바뀐 경우에도 차감분을 제외하여, 어긋나더라도 적게 적재(초과 판매 방지)
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = RedisScript.of("""
+            local pending  = tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0')
+            local flushing = redis.call('HGET', KEYS[3], ARGV[2])
+            if flushing and not (redis.call('HGET', KEYS[3], '"batch"') == ARGV[3] and ARGV[4] == '1') then
+                pending = pending + tonumber(flushing)
+            end
+            redis.call('SET', KEYS[1], tonumber(ARGV[1]) - pending, 'NX')
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS: 카운터, 차감분 해시 / ARGV: 제품 ID
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS: 반영 중 차감분 해시 / ARGV: 묶음 ID
+     * 제품 행 잠금을 잡은 반영 트랜잭션이 반영할 제품을 다시 읽으며 확인 표시("checked")를 남김
+     * 반영 중 묶음이 바뀌었으면(다른 노드가 반영 후 해제) 빈 목록
+     */
+    private static final RedisScript<List> CHECK_DELTA_SCRIPT = RedisScript.of("""
+            if redis.call('HGET', KEYS[1], '"batch"') ~= ARGV[1] then
+                return {}
+            end
+            redis.call('HSET', KEYS[1], '"checked"', '1')
+            return redis.call('HGETALL', KEYS[1])
+            """, List.class);
+
+    /**
+     * KEYS: 반영 중 차감분 해시 / ARGV: 제품 ID
+     * 반영 중 묶음에서 제품 차감분을 빼내 반영 대상에서 제외
+     * 반환값: {차감분} = 반영 트랜잭션이 아직 확인 전이라 반영에서 제외됨, 빈 목록 = 차감분 없음 또는 이미 반영됨
+     */
+    private static final RedisScript<List> SUPERSEDE_SCRIPT = RedisScript.of("""
+            local delta = redis.call('HGET', KEYS[1], ARGV[1])
+            if not delta then
+                return {}
+            end
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            if redis.call('HEXISTS', KEYS[1], '"checked"') == 1 then
+                return {}
+            end
+            return {delta}
+            """, List.class);
+
+    /**
+     * KEYS: 차감분 해시 / ARGV: 제품 ID, 차감분
+     */
+    private static final RedisScript<Long> RESTORE_SCRIPT = RedisScript.of("""
+            redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS: 차감분 해시, 반영 중 차감분 해시, 반영 잠금 / ARGV: 잠금 소유자, 잠금 만료 시간(ms), 새 묶음 ID
+     * 잠금을 얻은 노드만 차감분을 반영 중 해시로 옮기고 묶음 ID를 부여
+     * 이전 반영이 실패해 남아있는 묶음이 있으면 같은 묶음 ID로 먼저 재시도
+     * 묶음 ID 필드는 스크립트 결과가 값 직렬화기(JSON)로 역직렬화되므로 JSON 문자열("batch")로 저장
+     */
+    private static final RedisScript<List> CLAIM_DELTA_SCRIPT = RedisScript.of("""
+            if not redis.call('SET', KEYS[3], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return {}
+            end
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    redis.call('DEL', KEYS[3])
+                    return {}
+                end
+                redis.call('RENAME', KEYS[1], KEYS[2])
+            end
+            redis.call('HSETNX', KEYS[2], '"batch"', ARGV[3])
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    /**
+     * KEYS: 반영 중 차감분 해시, 반영 잠금 / ARGV: 묶음 ID, 잠금 소유자
+     * 반영한 묶음과 같을 때만 반영 중 해시 삭제, 자신의 잠금만 해제
+     */
+    private static final RedisScript<Long> RELEASE_DELTA_SCRIPT = RedisScript.of("""
+            if redis.call('HGET', KEYS[1], '"batch"') == ARGV[1] then
+                redis.call('DEL', KEYS[1])
+            end
+            if redis.call('GET', KEYS[2]) == ARGV[2] then
+                redis.call('DEL', KEYS[2])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisRepository            redisRepository;
+    private final ProductRepository          productRepository;
+    private final HotStockFlushRepository    hotStockFlushRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ProductCache               productCache;
+    private final AppMetrics                 appMetrics;
+
+    @Value("${product.hot-stock.product-ids:}")
+    private Set<Long> hotProductIds;
+
+    @Value("${product.hot-stock.flush-lease-millis:30000}")
+    private long flushLeaseMillis;
+
+    @Value("${product.hot-stock.flush-retention-hours:24}")
+    private long flushRetentionHours;
+
+    public boolean isHot(final Long productId) {
+        return hotProductIds.contains(productId);
+    }
+
+    /**
+     * 인기 제품 재고 일괄 차감
+     * 모든 제품의 재고 확인과 차감이 하나의 Lua 스크립트로 원자적으로 수행
+     *
+     * @param productAmountMap - 제품 ID - 주문 개수 맵
+     */
+    public void reserve(final Map<Long, Integer> productAmountMap) {
+        if (productAmountMap.isEmpty())
+            return;
+
+        List<Long> productIds = new ArrayList<>(new TreeMap<>(productAmountMap).keySet());
+        for (int attempt = 0; attempt <= productIds.size(); attempt++) {
+            Long result = redisRepository.execute(RESERVE_SCRIPT,
+                                                  getKeys(productIds),
+                                                  getArgs(productIds, productAmountMap));
+            if (result == null || result == 0)
+                return;
+            if (result > 0)
+                throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+
+            load(productIds.get((int) -result - 1));    //카운터 미적재 제품은 DB 재고로 적재 후 재시도
+        }
+        throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+    }
+
+    /**
+     * 인기 제품 재고 반환(주문 롤백 보상)
+     *
+     * @param productAmountMap - 제품 ID - 반환 개수 맵
+     */
+    public void release(final Map<Long, Integer> productAmountMap) {
+        if (productAmountMap.isEmpty())
+            return;
+
+        List<Long> productIds = new ArrayList<>(new TreeMap<>(productAmountMap).keySet());
+        redisRepository.execute(RELEASE_SCRIPT, getKeys(productIds), getArgs(productIds, productAmountMap));
+    }
+
+    /**
+     * 카운터 제거
+     * 관리자가 재고를 직접 수정한 경우 DB 값이 기준이 되도록 카운터와 미반영 차감분 폐기
+     * 반영 중 묶음의 차감분은 제품 행 잠금을 잡은 뒤 즉시 빼내어, 진행 중인 반영이 새 재고 위에 다시 적용하지 않도록 처리
+     * 카운터와 미반영 차감분은 커밋 이후 폐기(커밋 전 재적재로 이전 재고가 카운터에 다시 적재되는 것 방지)
+     *
+     * @param productId - 제품 ID
+     */
+    public void evict(final Long productId) {
+        if (!isHot(productId))
+            return;
+
+        productRepository.findAllByIdForUpdate(List.of(productId));    //반영 중 묶음 반영 트랜잭션과 직렬화
+        List<?> superseded = redisRepository.execute(SUPERSEDE_SCRIPT, List.of(FLUSHING_DELTA_KEY), productId);
+        if (superseded != null && !superseded.isEmpty())
+            registerSupersededRollback(productId, ((Number) superseded.get(0)).longValue());
+
+        TransactionUtil.afterCommit(() -> redisRepository.execute(EVICT_SCRIPT,
+                                                                  List.of(STOCK_KEY_PREFIX + productId, DELTA_KEY),
+                                                                  productId));
+    }
+
+    /**
+     * 미반영 차감분 DB 일괄 반영(write-behind)
+     * 반영 잠금을 얻은 노드만 반영하며, 잠금 만료나 반영 후 해제 전 장애로 같은 묶음을 다시 가져와도
+     * DB에 기록된 묶음 ID로 중복 반영을 막음
+     */
+    @Scheduled(fixedDelayString = "${product.hot-stock.flush-delay:1000}")
+    public void flush() {
+        if (hotProductIds.isEmpty())
+            return;
+
+        String  owner   = UUID.randomUUID().toString();
+        List<?> entries = redisRepository.execute(CLAIM_DELTA_SCRIPT,
+                                                  List.of(DELTA_KEY, FLUSHING_DELTA_KEY, FLUSH_LOCK_KEY),
+                                                  owner,
+                                                  flushLeaseMillis,
+                                                  UUID.randomUUID().toString());
+        if (entries == null || entries.isEmpty())
+            return;
+
+        String          batchId  = null;
+        Map<Long, Long> deltaMap = new TreeMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            if (BATCH_FIELD.equals(entries.get(i))) {
+                batchId = (String) entries.get(i + 1);
+                continue;
+            }
+            if (CHECKED_FIELD.equals(entries.get(i)))
+                continue;
+            long delta = ((Number) entries.get(i + 1)).longValue();
+            if (delta != 0)
+                deltaMap.put(((Number) entries.get(i)).longValue(), delta);
+        }
+        appMetrics.recordSize(SCHEDULER_BATCH_SIZE, deltaMap.size(), "job", "hot-stock.flush");
+
+        boolean applied = apply(batchId, deltaMap);
+        redisRepository.execute(RELEASE_DELTA_SCRIPT, List.of(FLUSHING_DELTA_KEY, FLUSH_LOCK_KEY), batchId, owner);
+        if (!applied)
+            return;
+        productCache.invalidateStock(deltaMap.keySet());
+
+        log.debug("Flushed hot stock deltas: batchId={}, {}", batchId, deltaMap);
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    /**
+     * 차감분 묶음 DB 반영, 묶음 ID 저장과 재고 반영을 한 트랜잭션으로 수행
+     *
+     * @param batchId  - 묶음 ID
+     * @param deltaMap - 제품 ID - 차감분 맵
+     * @return 반영 여부(이미 반영된 묶음: false)
+     */
+    private boolean apply(final String batchId, final Map<Long, Long> deltaMap) {
+        if (hotStockFlushRepository.existsById(batchId)) {
+            log.info("Hot stock delta batch already applied: {}", batchId);
+            return false;
+        }
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                hotStockFlushRepository.saveAndFlush(HotStockFlush.of(batchId));    //동시에 같은 묶음 반영 시 기본 키 충돌
+                productRepository.findAllByIdForUpdate(deltaMap.keySet());
+                Set<Long> remaining = getRemainingProductIds(batchId);
+                deltaMap.forEach((productId, delta) -> {
+                    if (remaining.contains(productId))    //관리자 재고 수정으로 제외된 차감분은 건너뜀
+                        productRepository.increaseStock(productId, (int) -delta);
+                });
+                hotStockFlushRepository.deleteCreatedBefore(LocalDateTime.now().minusHours(flushRetentionHours));
+            });
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.info("Hot stock delta batch applied by another node: {}", batchId);
+            return false;
+        }
+    }
+
+    /**
+     * 반영 트랜잭션이 제품 행 잠금을 잡은 뒤 반영 중 묶음에 남아 있는 제품 ID 조회
+     * 관리자 재고 수정(evict)은 같은 행 잠금을 잡은 뒤 차감분을 빼내므로, 여기서 빠진 제품은 새 재고 위에 반영하지 않음
+     *
+     * @param batchId - 묶음 ID
+     * @return 반영할 제품 ID 목록
+     */
+    private Set<Long> getRemainingProductIds(final String batchId) {
+        List<?>   entries   = redisRepository.execute(CHECK_DELTA_SCRIPT, List.of(FLUSHING_DELTA_KEY), batchId);
+        Set<Long> remaining = new HashSet<>();
+        if (entries == null)
+            return remaining;
+        for (int i = 0; i + 1 < entries.size(); i += 2)
+            if (entries.get(i) instanceof Number productId)
+                remaining.add(productId.longValue());
+        return remaining;
+    }
+
+    /**
+     * 관리자 재고 수정 트랜잭션이 롤백되면 빼낸 차감분을 미반영 차감분으로 되돌림
+     * 빼낸 시점에 반영 트랜잭션이 확인 전이었으므로(행 잠금 대기) 해당 차감분은 묶음 반영에서 제외됨
+     *
+     * @param productId - 제품 ID
+     * @param delta     - 빼낸 차감분
+     */
+    private void registerSupersededRollback(final Long productId, final long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+            return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED)
+                    redisRepository.execute(RESTORE_SCRIPT, List.of(DELTA_KEY), productId, delta);
+            }
+        });
+    }
+
+    /**
+     * DB 재고로 카운터 적재
+     * 재고와 반영 중 묶음의 반영 여부를 같은 트랜잭션(같은 스냅샷)에서 조회
+     *
+     * @param productId - 제품 ID
+     */
+    private void load(final Long productId) {
+        Object flushingBatchId = redisRepository.getHashValue(FLUSHING_DELTA_KEY, BATCH_FIELD_KEY);
+        String batchId         = flushingBatchId == null ? "" : (String) flushingBatchId;
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        long[] snapshot = transactionTemplate.execute(status -> new long[]{
+                productRepository.findById(productId)
+                                 .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND))
+                                 .getStock(),
+                !batchId.isEmpty() && hotStockFlushRepository.existsById(batchId) ? 1 : 0
+        });
+        redisRepository.execute(LOAD_SCRIPT,
+                                List.of(STOCK_KEY_PREFIX + productId, DELTA_KEY, FLUSHING_DELTA_KEY),
+                                snapshot[0],
+                                productId,
+                                batchId,
+                                snapshot[1]);
+    }
+
+    private List<String> getKeys(final List<Long> productIds) {
+        List<String> keys = new ArrayList<>(productIds.size() + 1);
+        for (Long productId : productIds)
+            keys.add(STOCK_KEY_PREFIX + productId);
+        keys.add(DELTA_KEY);
+        return keys;
+    }
+
+    private Object[] getArgs(final List<Long> productIds, final Map<Long, Integer> productAmountMap) {
+        Object[] args = new Object[productIds.size() * 2];
+        for (int i = 0; i < productIds.size(); i++) {
+            args[i] = productAmountMap.get(productIds.get(i));
+            args[productIds.size() + i] = productIds.get(i);
+        }
+        return args;
+    }
+
+}
@@ -1,16 +1,22 @@
 package com.app.backend.domain.product.service;
 
+import com.app.backend.domain.product.cache.ProductCache;
 import com.app.backend.domain.product.controller.ApiV1ProductController;
+import com.app.backend.domain.product.dto.ProductCursor;
 import com.app.backend.domain.product.entity.Product;
 import com.app.backend.domain.product.exception.ProductException;
 import com.app.backend.domain.product.repository.ProductRepository;
+import com.app.backend.domain.product.search.ProductSearchService;
 import com.app.backend.global.error.exception.ErrorCode;
-import com.app.backend.global.redis.repository.RedisRepository;
-import java.util.concurrent.TimeUnit;
+import com.app.backend.global.metrics.AppMetrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,8 +26,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProductService {
     private final ProductRepository productRepository;
 
-    private final RedisRepository redisRepository;
+    private final StockReservationService stockReservationService;
 
+    private final HotStockService hotStockService;
+
+    private final ProductSearchService productSearchService;
+
+    private final ProductCache productCache;
+
+    private final AppMetrics appMetrics;
+
+    private static final String STOCK_CHECK_TIMER = "product.stock.check";
     private static final String CREATED_DATE = "created_date";
     private static final String PRICE = "price";
     private static final String NAME = "name";
@@ -60,7 +75,50 @@ public class ProductService {
         if(keyword.isBlank()) return findBySortedPagedWithoutSearchKeyword(page, size, sort, direction);
         Sort sortOption = makeSortOption(sort,direction);
         Pageable pageable = PageRequest.of(page, size, sortOption);
-        return productRepository.findByNameContaining(keyword, pageable);
+        return productSearchService.searchByName(keyword, pageable);
+    }
+
+    /**
+     * 제품 목록 커서(keyset) 페이지 조회
+     *
+     * @param cursor    - 이전 페이지의 다음 커서(첫 페이지는 null 또는 빈 문자열)
+     * @param size      - 페이지 크기
+     * @param sort      - 정렬 조건: created_date, price, name
+     * @param direction - 정렬 방향: asc, desc
+     * @param keyword   - 제품명 검색어
+     * @return 제품 목록 Slice
+     */
+    public Slice<Product> findBySortedSlice(
+            String cursor, int size, String sort, String direction, String keyword) {
+        makeSortOption(sort, direction);    //정렬 조건, 방향 검증
+
+        ProductCursor productCursor = null;
+        if(cursor != null && !cursor.isBlank()){
+            productCursor = ProductCursor.decode(cursor);
+            if(!productCursor.sort().equals(sort) || !productCursor.direction().equals(direction))
+                throw new ProductException(ErrorCode.PRODUCT_INVALID_CURSOR);
+        }
+        return productRepository.findSliceByCursor(keyword, sort, direction.equals("asc"), productCursor, size);
+    }
+
+    /**
+     * 다음 페이지 커서 생성
+     *
+     * @param slice     - 현재 페이지
+     * @param sort      - 정렬 조건
+     * @param direction - 정렬 방향
+     * @return 다음 페이지 커서(마지막 페이지면 null)
+     */
+    public String nextCursor(Slice<Product> slice, String sort, String direction) {
+        if(!slice.hasNext() || slice.getContent().isEmpty()) return null;
+
+        Product last = slice.getContent().get(slice.getContent().size() - 1);
+        String value = switch (sort) {
+            case CREATED_DATE -> last.getCreatedDate().toString();
+            case PRICE -> last.getPrice().toPlainString();
+            default -> last.getName();
+        };
+        return new ProductCursor(sort, direction, last.getId(), value).encode();
     }
 
     public Product add(ApiV1ProductController.AddProductReqBody addProductReqBody) {
@@ -78,7 +136,9 @@ public class ProductService {
                 .status(addProductReqBody.status())
                 .build();
 
-        return this.productRepository.save(product);
+        Product saved = this.productRepository.save(product);
+        productCache.invalidate(List.of(saved.getId()));
+        return saved;
     }
 
     public Product findById(long id) {
@@ -106,11 +166,14 @@ public class ProductService {
 
         if (modifyProductReqBody.amount() != null) {
             product.setStock(modifyProductReqBody.amount());
+            hotStockService.evict(product.getId());
         }
 
         if (modifyProductReqBody.status() != null) {
             product.setStatus(modifyProductReqBody.status());
         }
+
+        productCache.invalidate(List.of(product.getId()));
     }
 
     public void flush() {
@@ -119,36 +182,40 @@ public class ProductService {
 
     public void delete(Product product) {
         this.productRepository.delete(product);
+        productCache.invalidate(List.of(product.getId()));
     }
 
+    /**
+     * 제품 재고 보류
+     * 보류 내역은 예약 원장에 기록되며, 만료된 보류는 스케줄러가 일괄 반환
+     *
+     * @return 예약 키(재고 부족 시 null)
+     */
     @Transactional
     public String checkStockAvailableAndCaching(Long user_id, Long product_id, Integer amount){
-        Product product = this.findById(product_id);
-        if(product.getStock() < amount) return null;
-
-        String redisKey = "order-%s_%s".formatted(user_id,product_id);
-        String redisKeyForValue = "orderValue-%s_%s".formatted(user_id,product_id);
-
-        // 중복된 레디스 키값이 들어오면 갱신되기 때문에 되돌리기 작업 필요
-        if(redisRepository.isKeyExists(redisKey)){
-            Integer stock = (Integer) redisRepository.get(redisKey);
-            product.setStock(product.getStock()+stock);
+        Timer.Sample sample = appMetrics.start();
+        String result = "error";
+        try {
+            this.findById(product_id);
+
+            String reservationKey = "order-%s_%s".formatted(user_id,product_id);
+            if(!stockReservationService.hold(reservationKey, user_id, product_id, amount)) {
+                result = "insufficient";
+                return null;
+            }
+            result = "held";
+            return reservationKey;
+        } finally {
+            appMetrics.stop(sample, STOCK_CHECK_TIMER, "productId", () -> String.valueOf(product_id), "result", result);
         }
-
-        product.setStock(product.getStock()-amount);
-
-        redisRepository.save(redisKey,amount,3, TimeUnit.MINUTES);
-        redisRepository.save(redisKeyForValue,amount,4, TimeUnit.MINUTES);
-        return redisKey;
     }
 
-    public void deleteCacheAfterPayment(String redisKey){
-        redisRepository.delete(redisKey);
+    public void deleteCacheAfterPayment(String reservationKey){
+        stockReservationService.confirm(reservationKey);
     }
 
     @Transactional
     public void restoreStock(Long productId, Integer amount) {
-        Product product = this.findById(productId);
-        product.setStock(product.getStock()+amount);
+        stockReservationService.release(Map.of(productId, amount));
     }
 }
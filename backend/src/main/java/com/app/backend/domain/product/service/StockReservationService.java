@@ -0,0 +1,268 @@
+package com.app.backend.domain.product.service;
+
+import com.app.backend.domain.product.cache.ProductCache;
+import com.app.backend.domain.product.entity.StockReservation;
+import com.app.backend.domain.product.entity.StockReservationStatus;
+import com.app.backend.domain.product.exception.ProductException;
+import com.app.backend.domain.product.repository.ProductRepository;
+import com.app.backend.domain.product.repository.StockReservationRepository;
+import com.app.backend.global.error.exception.ErrorCode;
+import com.app.backend.global.metrics.AppMetrics;
+import com.app.backend.global.util.TransactionUtil;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private static final String SCHEDULER_BATCH_SIZE = "scheduler.batch.size";
+
+    private final ProductRepository          productRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final HotStockService            hotStockService;
+    private final ProductCache               productCache;
+    private final PlatformTransactionManager transactionManager;
+    private final AppMetrics                 appMetrics;
+
+    @Value("${product.reservation.hold-minutes:3}")
+    private long holdMinutes;
+
+    @Value("${product.reservation.sweep-batch-size:500}")
+    private int sweepBatchSize;
+
+    /**
+     * 주문 제품 재고 일괄 예약(차감)
+     * 제품 ID 오름차순으로 조건부 UPDATE를 수행하여 행 잠금 획득 순서를 고정(교착 상태 방지)
+     * 하나라도 재고가 부족하면 예외를 던져 호출한 트랜잭션 전체를 롤백(전부 예약 또는 전부 실패)
+     * 인기 제품은 Redis 카운터에서 차감하고, 트랜잭션이 롤백되면 카운터에 보상 반환
+     *
+     * @param productAmountMap - 제품 ID - 주문 개수 맵
+     */
+    @Transactional
+    public void reserve(final Map<Long, Integer> productAmountMap) {
+        Map<Long, Integer> hotAmountMap = extractHot(productAmountMap);
+        hotStockService.reserve(hotAmountMap);
+        registerHotRollback(hotAmountMap);
+
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(productAmountMap).entrySet())
+            if (!hotAmountMap.containsKey(entry.getKey())
+                && productRepository.decreaseStock(entry.getKey(), entry.getValue()) == 0)
+                throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+        productCache.invalidateStock(productAmountMap.keySet());
+    }
+
+    /**
+     * 잠금을 획득한 제품의 할당 재고 일괄 차감(주문 묶음 저장)
+     * 호출 측에서 제품 행을 잠근 상태로 주문별 할당을 마친 뒤, 제품별 합계를 제품당 UPDATE 1회로 차감
+     * 인기 제품(Redis 카운터)은 대상이 아님
+     *
+     * @param productAmountMap - 제품 ID - 할당 합계 맵
+     */
+    @Transactional
+    public void reserveLocked(final Map<Long, Integer> productAmountMap) {
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(productAmountMap).entrySet())
+            if (productRepository.decreaseStock(entry.getKey(), entry.getValue()) == 0)
+                throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+        productCache.invalidateStock(productAmountMap.keySet());
+    }
+
+    /**
+     * 단일 제품 재고 예약 시도
+     *
+     * @param productId - 제품 ID
+     * @param amount    - 예약 수량
+     * @return 예약 성공 여부
+     */
+    @Transactional
+    public boolean tryReserve(final Long productId, final int amount) {
+        if (!hotStockService.isHot(productId)) {
+            if (productRepository.decreaseStock(productId, amount) == 0)
+                return false;
+            productCache.invalidateStock(List.of(productId));
+            return true;
+        }
+
+        try {
+            reserve(Map.of(productId, amount));
+            return true;
+        } catch (ProductException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 예약 재고 일괄 반환
+     *
+     * @param productAmountMap - 제품 ID - 반환 개수 맵
+     */
+    @Transactional
+    public void release(final Map<Long, Integer> productAmountMap) {
+        Map<Long, Integer> hotAmountMap = extractHot(productAmountMap);
+        registerHotCommit(hotAmountMap);
+
+        Map<Long, Integer> coldAmountMap = new TreeMap<>(productAmountMap);
+        coldAmountMap.keySet().removeAll(hotAmountMap.keySet());
+        productRepository.increaseStocks(coldAmountMap);
+        productCache.invalidateStock(productAmountMap.keySet());
+    }
+
+    /**
+     * 사용자별 제품 재고 보류(장바구니 예약)
+     * 재고 차감과 예약 원장 기록이 같은 트랜잭션에서 처리되므로 만료 시 반환할 재고가 유실되지 않음
+     * 이미 보류 중인 예약이 있으면 기존 수량과의 차이만큼만 차감/반환하고 만료 시각 갱신
+     * 같은 예약 키로 동시에 새 보류가 생성되면 하나만 저장되고 나머지는 예외(PRODUCT_RESERVATION_CONFLICT)
+     *
+     * @param reservationKey - 예약 키
+     * @param userId         - 회원 ID
+     * @param productId      - 제품 ID
+     * @param amount         - 보류 수량
+     * @return 보류 성공 여부
+     */
+    @Transactional
+    public boolean hold(final String reservationKey, final Long userId, final Long productId, final int amount) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(holdMinutes);
+        Optional<StockReservation> opReservation = stockReservationRepository.findByActiveKey(reservationKey);
+
+        int delta = amount - opReservation.map(StockReservation::getAmount).orElse(0);
+        if (delta > 0 && !tryReserve(productId, delta))
+            return false;
+        if (delta < 0)
+            release(Map.of(productId, -delta));
+
+        if (opReservation.isPresent()) {
+            opReservation.get().renew(amount, expiresAt);
+            return true;
+        }
+
+        try {
+            stockReservationRepository.saveAndFlush(StockReservation.of(reservationKey, userId, productId, amount, expiresAt));
+        } catch (DataIntegrityViolationException e) {
+            //같은 예약 키의 보류가 동시에 생성된 경우(active_key 유일 제약), 재고 차감까지 롤백
+            throw new ProductException(ErrorCode.PRODUCT_RESERVATION_CONFLICT);
+        }
+        return true;
+    }
+
+    /**
+     * 보류 재고 확정(결제 완료)
+     * 확정된 예약은 만료되어도 재고가 반환되지 않음
+     *
+     * @param reservationKey - 예약 키
+     * @return 확정 여부(false: 이미 만료되어 반환된 예약)
+     */
+    @Transactional
+    public boolean confirm(final String reservationKey) {
+        return stockReservationRepository.findByActiveKey(reservationKey)
+                                         .map(reservation -> stockReservationRepository.updateStatus(
+                                                 List.of(reservation.getId()),
+                                                 StockReservationStatus.RESERVED,
+                                                 StockReservationStatus.CONFIRMED,
+                                                 LocalDateTime.now()
+                                         ) > 0)
+                                         .orElse(false);
+    }
+
+    /**
+     * 만료된 재고 보류 일괄 반환
+     * 배치 단위로 만료 예약을 잠그고, 제품별 반환 수량을 합산해 단일 UPDATE로 재고를 반환한 뒤 같은 트랜잭션에서 예약을 반환 처리
+     * RESERVED 상태인 예약만 대상이므로 중단 후 재실행해도 중복 반환되지 않음
+     */
+    @Scheduled(fixedDelayString = "${product.reservation.sweep-delay:10000}")
+    public void sweepExpired() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        int total = 0;
+        Integer swept;
+        do {
+            swept = transactionTemplate.execute(status -> sweepExpiredBatch());
+            total += swept == null ? 0 : swept;
+        } while (swept != null && swept == sweepBatchSize);
+
+        if (total > 0)
+            log.info("Released {} expired stock reservations", total);
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    /**
+     * 만료된 재고 보류 한 배치 반환
+     *
+     * @return 반환 처리된 예약 수
+     */
+    private int sweepExpiredBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<StockReservation> expired = stockReservationRepository.findExpired(StockReservationStatus.RESERVED,
+                                                                                now,
+                                                                                PageRequest.of(0, sweepBatchSize));
+        if (expired.isEmpty())
+            return 0;
+        appMetrics.recordSize(SCHEDULER_BATCH_SIZE, expired.size(), "job", "stock.reservation.sweep");
+
+        Map<Long, Integer> productAmountMap = new HashMap<>();
+        for (StockReservation reservation : expired)
+            productAmountMap.merge(reservation.getProductId(), reservation.getAmount(), Integer::sum);
+
+        release(productAmountMap);
+        stockReservationRepository.updateStatus(expired.stream().map(StockReservation::getId).toList(),
+                                                StockReservationStatus.RESERVED,
+                                                StockReservationStatus.RELEASED,
+                                                now);
+        return expired.size();
+    }
+
+    private Map<Long, Integer> extractHot(final Map<Long, Integer> productAmountMap) {
+        Map<Long, Integer> hotAmountMap = new HashMap<>();
+        productAmountMap.forEach((productId, amount) -> {
+            if (hotStockService.isHot(productId))
+                hotAmountMap.put(productId, amount);
+        });
+        return hotAmountMap;
+    }
+
+    /**
+     * 트랜잭션 롤백 시 인기 제품 카운터 보상 반환 등록
+     *
+     * @param hotAmountMap - 제품 ID - 차감 개수 맵
+     */
+    private void registerHotRollback(final Map<Long, Integer> hotAmountMap) {
+        if (hotAmountMap.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive())
+            return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED)
+                    hotStockService.release(hotAmountMap);
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 커밋 후 인기 제품 카운터 반환 등록
+     *
+     * @param hotAmountMap - 제품 ID - 반환 개수 맵
+     */
+    private void registerHotCommit(final Map<Long, Integer> hotAmountMap) {
+        if (!hotAmountMap.isEmpty())
+            TransactionUtil.afterCommit(() -> hotStockService.release(hotAmountMap));
+    }
+
+}
@@ -1,23 +1,54 @@
 package com.app.backend.domain.user.controller;
 
 import com.app.backend.domain.order.constant.OrderMessageConstant;
+import com.app.backend.domain.order.dto.OrderSearchCondition;
+import com.app.backend.domain.order.dto.request.OrderStatusBulkRequest;
 import com.app.backend.domain.order.dto.response.AdminOrderDetailResponse;
 import com.app.backend.domain.order.dto.response.AdminOrderResponse;
 import com.app.backend.domain.order.dto.response.OrderResponse;
+import com.app.backend.domain.order.dto.response.OrderStatusBulkResponse;
+import com.app.backend.domain.order.entity.OrderStatus;
 import com.app.backend.domain.order.service.OrderService;
+import com.app.backend.domain.order.util.OrderExportWriter;
+import com.app.backend.domain.product.cache.ProductCache;
+import com.app.backend.domain.product.dto.PageDto;
 import com.app.backend.domain.user.exception.UserException;
 import com.app.backend.global.error.exception.ErrorCode;
+import com.app.backend.global.profiler.ProfilerSettings;
+import com.app.backend.global.profiler.RequestProfiler;
 import com.app.backend.global.rs.RsData;
-import java.util.List;
+import com.app.backend.global.security.password.BoundedPasswordEncoder;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * PackageName : com.app.backend.domain.user.controller
@@ -34,16 +65,51 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminController {
 
     private final OrderService orderService;
+    private final ProductCache productCache;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final RequestProfiler requestProfiler;
 
     @GetMapping("/orders")
-    public RsData<List<AdminOrderResponse>> getAllOrders() {
+    public RsData<PageDto<AdminOrderResponse>> getAllOrders(
+            @RequestParam(name = "page", defaultValue = "1") @Min(1) int page,
+            @RequestParam(name = "size", defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(name = "status", required = false) OrderStatus status,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "userId", required = false) Long userId
+    ) {
 
-        List<AdminOrderResponse> allOrders = orderService.getAllOrders();
+        Page<AdminOrderResponse> orders = orderService.getAllOrders(
+                new OrderSearchCondition(status, from, to, userId),
+                PageRequest.of(page - 1, size, Sort.by(Direction.DESC, "id"))
+        );
 
         return new RsData<>(true,
                             String.valueOf(HttpStatus.OK.value()),
                             OrderMessageConstant.ORDER_LIST_READ_SUCCESS,
-                            allOrders);
+                            new PageDto<>(orders));
+    }
+
+    @GetMapping(value = "/orders/export", produces = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @RequestParam(name = "status", required = false) OrderStatus status,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "userId", required = false) Long userId
+    ) {
+
+        OrderExportWriter.Format exportFormat = OrderExportWriter.Format.from(format);
+        OrderSearchCondition     condition    = new OrderSearchCondition(status, from, to, userId);
+
+        return ResponseEntity.ok()
+                             .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                             .header(HttpHeaders.CONTENT_DISPOSITION,
+                                     ContentDisposition.attachment()
+                                                       .filename("orders." + exportFormat.getExtension())
+                                                       .build()
+                                                       .toString())
+                             .body(outputStream -> orderService.exportOrders(condition, exportFormat, outputStream));
     }
 
     @GetMapping("/orders/{id}")
@@ -56,4 +122,67 @@ public class AdminController {
                 OrderMessageConstant.ORDER_LIST_READ_SUCCESS,
                 order);
     }
+
+    @PatchMapping("/orders/status")
+    public RsData<OrderStatusBulkResponse> updateOrderStatuses(@Valid @RequestBody OrderStatusBulkRequest request) {
+
+        OrderStatusBulkResponse response = orderService.updateOrderStatuses(request.getOrderIds(),
+                                                                            request.getOrderNumbers(),
+                                                                            request.getStatus());
+
+        return new RsData<>(true,
+                            String.valueOf(HttpStatus.OK.value()),
+                            OrderMessageConstant.ORDER_STATUS_BULK_UPDATE_SUCCESS,
+                            response);
+    }
+
+    @PostMapping(value = "/orders/status", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public RsData<OrderStatusBulkResponse> updateOrderStatusesFromCsv(
+            @RequestParam(name = "status") OrderStatus status,
+            @RequestPart(name = "file") MultipartFile file
+    ) throws IOException {
+
+        OrderStatusBulkResponse response = orderService.updateOrderStatuses(file.getInputStream(), status);
+
+        return new RsData<>(true,
+                            String.valueOf(HttpStatus.OK.value()),
+                            OrderMessageConstant.ORDER_STATUS_BULK_UPDATE_SUCCESS,
+                            response);
+    }
+
+    @GetMapping("/cache/products")
+    public RsData<Map<String, Map<String, Long>>> getProductCacheStats() {
+
+        return new RsData<>(true,
+                            String.valueOf(HttpStatus.OK.value()),
+                            "제품 캐시 통계 조회",
+                            productCache.getStats());
+    }
+
+    @GetMapping("/security/password-hashing")
+    public RsData<Map<String, Long>> getPasswordHashingStats() {
+
+        return new RsData<>(true,
+                            String.valueOf(HttpStatus.OK.value()),
+                            "비밀번호 해시 처리 통계 조회",
+                            passwordEncoder.getStats());
+    }
+
+    @GetMapping("/profiler")
+    public RsData<ProfilerSettings> getProfilerSettings() {
+
+        return new RsData<>(true,
+                            String.valueOf(HttpStatus.OK.value()),
+                            "요청 프로파일러 설정 조회",
+                            requestProfiler.getSettings());
+    }
+
+    @PatchMapping("/profiler")
+    public RsData<ProfilerSettings> updateProfilerSettings(@RequestBody ProfilerSettings request) {
+
+        return new RsData<>(true,
+                            String.valueOf(HttpStatus.OK.value()),
+                            "요청 프로파일러 설정 변경",
+                            requestProfiler.update(request));
+    }
 }
@@ -1,7 +1,9 @@
 package com.app.backend.domain.user.controller;
 
 import com.app.backend.domain.order.dto.response.OrderResponse;
+import com.app.backend.domain.order.dto.response.UserOrderSummaryResponse;
 import com.app.backend.domain.order.service.OrderService;
+import com.app.backend.domain.product.dto.PageDto;
 import com.app.backend.domain.user.dto.request.UserChangePasswordRequest;
 import com.app.backend.domain.user.dto.request.UserInfoModifyRequest;
 import com.app.backend.domain.user.dto.request.UserSignupRequest;
@@ -13,12 +15,20 @@ import com.app.backend.global.error.exception.ErrorCode;
 import com.app.backend.global.rq.Rq;
 import com.app.backend.global.rs.RsData;
 import com.app.backend.global.security.dto.LoginDto;
+import com.app.backend.global.security.password.PasswordRateLimiter;
 import com.app.backend.global.security.user.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.List;
 import java.util.Objects;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -34,6 +44,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import static com.app.backend.global.error.exception.ErrorCode.*;
@@ -45,10 +56,15 @@ public class ApiV1UserController {
 
     private final UserService  userService;
     private final OrderService orderService;
+    private final PasswordRateLimiter passwordRateLimiter;
 
     @PostMapping("/signup")
     @Transactional
-    public RsData<Void> signup(@Valid @RequestBody UserSignupRequest req) {
+    public RsData<Void> signup(@Valid @RequestBody UserSignupRequest req, HttpServletRequest request) {
+        if (!passwordRateLimiter.trySignup(request.getRemoteAddr())) {
+            throw new UserException(TOO_MANY_REQUESTS);
+        }
+
         userService.signup(req);
 
         return new RsData<>(
@@ -125,6 +141,10 @@ public class ApiV1UserController {
             throw new UserException(UNAUTHORIZATION_USER);
         }
 
+        if (!passwordRateLimiter.tryChangePassword(userId)) {
+            throw new UserException(TOO_MANY_REQUESTS);
+        }
+
         userService.changePassword(user, req);
 
         return new RsData<>(
@@ -171,4 +191,37 @@ public class ApiV1UserController {
                             orders);
     }
 
+    @GetMapping("/users/orders/summary")
+    public RsData<UserOrderSummaryResponse> getOrderSummaryByUser(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Long userId = userDetails.getUser().getId();
+
+        UserOrderSummaryResponse summary = orderService.getOrderSummaryByUserId(userId);
+
+        return new RsData<>(true,
+                            String.valueOf(HttpStatus.OK.value()),
+                            "회원의 주문 정보를 성공적으로 조회했습니다.",
+                            summary);
+    }
+
+    @GetMapping("/users/orders/history")
+    public RsData<PageDto<OrderResponse>> getOrderHistoryByUser(
+            @RequestParam(name = "page", defaultValue = "1") @Min(1) int page,
+            @RequestParam(name = "size", defaultValue = "10") @Min(1) @Max(100) int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Long userId = userDetails.getUser().getId();
+
+        Page<OrderResponse> orders = orderService.getOrderHistoryByUserId(
+                userId,
+                PageRequest.of(page - 1, size, Sort.by(Direction.DESC, "id"))
+        );
+
+        return new RsData<>(true,
+                            String.valueOf(HttpStatus.OK.value()),
+                            "회원의 주문 정보를 성공적으로 조회했습니다.",
+                            new PageDto<>(orders));
+    }
+
 }
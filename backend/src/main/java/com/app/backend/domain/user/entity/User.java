@@ -1,12 +1,14 @@
 package com.app.backend.domain.user.entity;
 
 import com.app.backend.global.entity.BaseEntity;
+import com.app.backend.global.entity.IdGenerators;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.Email;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -23,7 +25,13 @@ import lombok.NoArgsConstructor;
 public class User extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id_generator")
+    @TableGenerator(name = "user_id_generator",
+                    table = IdGenerators.TABLE,
+                    pkColumnName = IdGenerators.PK_COLUMN,
+                    valueColumnName = IdGenerators.VALUE_COLUMN,
+                    pkColumnValue = "users",
+                    allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "user_id", nullable = false, updatable = false)
     private Long id;
 
@@ -8,6 +8,7 @@ import com.app.backend.domain.user.entity.UserRole;
 import com.app.backend.domain.user.entity.UserStatus;
 import com.app.backend.domain.user.exception.UserException;
 import com.app.backend.domain.user.repository.UserRepository;
+import com.app.backend.global.security.password.PasswordHashRejectedException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -32,7 +33,7 @@ public class UserService {
 
         User user = User.builder()
                 .email(req.getEmail())
-                .password(passwordEncoder.encode(req.getPassword()))
+                .password(encode(req.getPassword()))
                 .name(req.getName())
                 .address(req.getAddress())
                 .detailAddress(req.getDetailAddress())
@@ -67,15 +68,33 @@ public class UserService {
             throw new UserException(INVALID_INPUT_VALUE);
         }
 
-        if (passwordEncoder.matches(req.getNewPassword(), user.getPassword())) {
+        boolean sameAsCurrent;
+        try {
+            sameAsCurrent = passwordEncoder.matches(req.getNewPassword(), user.getPassword());
+        } catch (PasswordHashRejectedException e) {
+            throw new UserException(TOO_MANY_REQUESTS);
+        }
+
+        if (sameAsCurrent) {
             throw new UserException(PASSWORD_SAME_AS_CURRENT);
         }
 
-        user.changePassword(passwordEncoder.encode(req.getNewPassword()));
+        user.changePassword(encode(req.getNewPassword()));
     }
 
     public void deleteUser(User user) {
         user.deleteUser();
     }
 
+    /**
+     * 해시 스레드 풀이 포화 상태면 요청 한도 초과로 응답
+     */
+    private String encode(String rawPassword) {
+        try {
+            return passwordEncoder.encode(rawPassword);
+        } catch (PasswordHashRejectedException e) {
+            throw new UserException(TOO_MANY_REQUESTS);
+        }
+    }
+
 }
@@ -0,0 +1,41 @@
+package com.app.backend.global.config;
+
+import com.app.backend.global.metrics.AppMetrics;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * {이름}.detail 지표 히스토그램 비활성화
+     * management.metrics.distribution.percentiles-histogram은 이름 접두어로 적용되어 상세 지표에도 켜지므로,
+     * 설정 파일 필터(PropertiesMeterFilter) 이후에 적용되도록 가장 낮은 우선순위로 등록
+     */
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public MeterFilter detailHistogramFilter() {
+        return AppMetrics.disableDetailHistograms();
+    }
+
+    /**
+     * Redis 키 접두어 상세 태그 값 종류 제한
+     */
+    @Bean
+    public MeterFilter redisCommandDetailTagFilter(@Value("${metrics.detail-max-tag-values:100}") final int max) {
+        return AppMetrics.limitDetailTag("redis.command", "keyPrefix", max);
+    }
+
+    /**
+     * 제품 ID 상세 태그 값 종류 제한
+     */
+    @Bean
+    public MeterFilter stockCheckDetailTagFilter(@Value("${metrics.detail-max-tag-values:100}") final int max) {
+        return AppMetrics.limitDetailTag("product.stock.check", "productId", max);
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.app.backend.global.entity;
+
+/**
+ * 엔티티 ID 생성 테이블 설정
+ * IDENTITY 전략은 INSERT 후에야 ID를 알 수 있어 Hibernate가 INSERT 배치를 사용하지 않으므로,
+ * 엔티티별 행을 가진 ID 생성 테이블에서 ALLOCATION_SIZE 단위로 ID 블록을 미리 할당(pooled 최적화)
+ * 기존 MySQL 데이터 이관: db/mysql/V1__id_generators.sql
+ */
+public final class IdGenerators {
+
+    public static final String TABLE           = "id_generators";
+    public static final String PK_COLUMN       = "sequence_name";
+    public static final String VALUE_COLUMN    = "next_val";
+    public static final int    ALLOCATION_SIZE = 100;
+
+    private IdGenerators() {
+    }
+
+}
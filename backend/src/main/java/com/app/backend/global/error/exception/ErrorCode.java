@@ -15,6 +15,9 @@ public enum ErrorCode {
     ENTITY_NOT_FOUND(HttpStatus.NOT_FOUND, false, "C003", "값을 찾지 못함"),
     HANDLE_ACCESS_DENIED(HttpStatus.FORBIDDEN, false, "C004", "요청이 거부됨"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, false, "C005", "서버 내부 오류 발생"),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, false, "C006", "요청 한도 초과"),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, false, "C007", "같은 멱등성 키의 요청이 처리 중"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, false, "C008", "다른 요청에 사용된 멱등성 키"),
 
     //User
     EMAIL_DUPLICATION(HttpStatus.BAD_REQUEST, false, "U001", "이미 사용중인 이메일"),
@@ -32,11 +35,16 @@ public enum ErrorCode {
     PRODUCT_OUT_OF_STOCK(HttpStatus.BAD_REQUEST, false, "P003", "제품 재고 부족"),
     PRODUCT_SORT_NOT_EXISTS(HttpStatus.NOT_FOUND, false, "P004", "요청한 정렬 조건이 존재하지 않음"),
     PRODUCT_DIRECTION_NOT_EXISTS(HttpStatus.NOT_FOUND, false, "P005", "요청한 정렬 방향이 존재하지 않음"),
+    PRODUCT_INVALID_CURSOR(HttpStatus.BAD_REQUEST, false, "P006", "잘못된 페이지 커서"),
+    PRODUCT_RESERVATION_CONFLICT(HttpStatus.CONFLICT, false, "P007", "같은 재고 보류 요청이 동시에 처리됨"),
 
     //Order
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, false, "O001", "주문 정보가 존재하지 않음"),
     INVALID_ORDER_STATUS(HttpStatus.BAD_REQUEST, false, "O002", "잘못된 주문 상태"),
     ORDER_BUYER_MISMATCH(HttpStatus.BAD_REQUEST, false, "O003", "주문 정보와 주문 회원 불일치"),
+    ORDER_PRICE_OVERFLOW(HttpStatus.BAD_REQUEST, false, "O004", "주문 금액 또는 수량 범위 초과"),
+    ORDER_SORT_NOT_EXISTS(HttpStatus.BAD_REQUEST, false, "O005", "요청한 정렬 조건이 존재하지 않음"),
+    ORDER_INGESTION_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, false, "O006", "주문 접수 대기 시간 초과"),
 
     //Payment
     PAYMENT_FAILED(HttpStatus.BAD_REQUEST, false, "E001", "결제 실패"),
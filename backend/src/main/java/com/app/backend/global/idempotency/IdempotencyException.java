@@ -0,0 +1,10 @@
+package com.app.backend.global.idempotency;
+
+import com.app.backend.global.error.exception.DomainException;
+import com.app.backend.global.error.exception.ErrorCode;
+
+public class IdempotencyException extends DomainException {
+    public IdempotencyException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,215 @@
+package com.app.backend.global.idempotency;
+
+import com.app.backend.global.error.exception.ErrorCode;
+import com.app.backend.global.redis.repository.RedisRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 기반 요청 중복 실행 방지
+ * 최초 요청은 키에 처리 중 표시를 남기고 실행, 완료 시 응답을 저장하여 같은 키의 재요청에는 저장된 응답으로 재응답
+ * 처리 중인 같은 키의 요청은 완료될 때까지 잠시 대기하고, 대기 시간을 넘기면 409
+ * 같은 키로 다른 요청 본문이 들어오면 422
+ * 실행이 실패하면 키를 제거하여 재요청 시 다시 실행
+ * 처리 중 표시에는 요청마다 고유한 소유자 토큰을 담고, 실행 중에는 주기적으로 만료 시간을 연장(lease 갱신)
+ * 완료 저장/키 제거는 처리 중 표시가 자기 것일 때만 수행(만료 후 다른 요청이 선점한 키를 덮어쓰지 않음)
+ * Redis 장애 시에는 중복 방지 없이 실행
+ */
+@Slf4j
+@Component
+public class IdempotencyStore implements DisposableBean {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final long   POLL_MILLIS = 50;
+
+    private final RedisRepository redisRepository;
+    private final ObjectMapper    objectMapper;
+    private final long            inProgressTtlMillis;
+    private final long            completedTtlMillis;
+    private final long            waitMillis;
+
+    private final ScheduledExecutorService renewer;
+
+    public IdempotencyStore(final RedisRepository redisRepository,
+                            final ObjectMapper objectMapper,
+                            @Value("${idempotency.in-progress-ttl-seconds:30}") final long inProgressTtlSeconds,
+                            @Value("${idempotency.completed-ttl-hours:24}") final long completedTtlHours,
+                            @Value("${idempotency.wait-millis:3000}") final long waitMillis) {
+        this.redisRepository = redisRepository;
+        this.objectMapper = objectMapper;
+        this.inProgressTtlMillis = TimeUnit.SECONDS.toMillis(inProgressTtlSeconds);
+        this.completedTtlMillis = TimeUnit.HOURS.toMillis(completedTtlHours);
+        this.waitMillis = waitMillis;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("idempotency-renew-");
+        threadFactory.setDaemon(true);
+        this.renewer = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    /**
+     * 멱등성 키 단위로 한 번만 실행
+     *
+     * @param key          - 멱등성 키(호출 측에서 회원 등 범위를 포함하여 전달)
+     * @param request      - 요청 본문(같은 키의 다른 요청 판별용)
+     * @param responseType - 응답 타입
+     * @param action       - 실행할 작업
+     * @return 실행 결과 또는 저장된 응답
+     */
+    public <T> T execute(final String key,
+                         final Object request,
+                         final Class<T> responseType,
+                         final Supplier<T> action) {
+        String redisKey    = KEY_PREFIX + key;
+        String fingerprint = fingerprint(request);
+        String marker      = write(new IdempotencyRecord(Status.IN_PROGRESS,
+                                                         fingerprint,
+                                                         UUID.randomUUID().toString(),
+                                                         null));
+        long   deadline    = System.currentTimeMillis() + waitMillis;
+
+        while (true) {
+            boolean acquired;
+            try {
+                acquired = redisRepository.saveIfAbsent(redisKey, marker, inProgressTtlMillis, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                log.warn("Idempotency store unavailable, executing without deduplication: {}", key, e);
+                return action.get();
+            }
+
+            if (acquired)
+                return run(redisKey, fingerprint, marker, action);
+
+            IdempotencyRecord record = read(redisKey);
+            if (record == null)     //선행 요청이 실패하여 키가 제거된 경우 다시 선점 시도
+                continue;
+            if (!record.fingerprint().equals(fingerprint))
+                throw new IdempotencyException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            if (record.status() == Status.COMPLETED)
+                return read(record.response(), responseType);
+            if (System.currentTimeMillis() >= deadline)
+                throw new IdempotencyException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+
+            sleep();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        renewer.shutdownNow();
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private <T> T run(final String redisKey,
+                      final String fingerprint,
+                      final String marker,
+                      final Supplier<T> action) {
+        long               period  = Math.max(inProgressTtlMillis / 3, 1);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(redisKey, marker),
+                                                                 period, period, TimeUnit.MILLISECONDS);
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            renewal.cancel(false);
+            try {
+                redisRepository.deleteIfEquals(redisKey, marker);
+            } catch (RuntimeException deleteException) {
+                log.warn("Failed to release idempotency key: {}", redisKey, deleteException);
+            }
+            throw e;
+        }
+        renewal.cancel(false);
+
+        try {
+            if (!redisRepository.replaceIfEquals(redisKey,
+                                                 marker,
+                                                 write(new IdempotencyRecord(Status.COMPLETED, fingerprint, null, write(response))),
+                                                 completedTtlMillis,
+                                                 TimeUnit.MILLISECONDS))
+                log.warn("Idempotency lease lost before completion, response not stored: {}", redisKey);
+        } catch (RuntimeException e) {
+            //처리 중 표시가 만료되면 재요청이 다시 실행될 수 있음
+            log.warn("Failed to store idempotent response: {}", redisKey, e);
+        }
+        return response;
+    }
+
+    /**
+     * 처리 중 표시 만료 시간 연장, 이미 다른 값으로 바뀌었으면(만료 후 재선점) 갱신 중단
+     */
+    private void renew(final String redisKey, final String marker) {
+        boolean renewed;
+        try {
+            renewed = redisRepository.replaceIfEquals(redisKey, marker, marker, inProgressTtlMillis, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            log.debug("Failed to renew idempotency lease, retrying: {}", redisKey, e);
+            return;
+        }
+        if (!renewed) {
+            log.warn("Idempotency lease lost while in progress: {}", redisKey);
+            throw new IllegalStateException("Idempotency lease lost: " + redisKey);     //주기 실행 중단
+        }
+    }
+
+    private IdempotencyRecord read(final String redisKey) {
+        Object value = redisRepository.get(redisKey);
+        return value == null ? null : read((String) value, IdempotencyRecord.class);
+    }
+
+    private <T> T read(final String json, final Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid idempotency record", e);
+        }
+    }
+
+    private String write(final Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize idempotency record", e);
+        }
+    }
+
+    private String fingerprint(final Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(write(request).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(POLL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private enum Status {
+        IN_PROGRESS, COMPLETED
+    }
+
+    private record IdempotencyRecord(Status status, String fingerprint, String owner, String response) {
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.app.backend.global.mail.entity;
+
+import com.app.backend.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "MailOutboxes",
+       indexes = @Index(name = "idx_mail_outbox_status_next_attempt_at", columnList = "mail_status, next_attempt_at"))
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class MailOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_id", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "mail_to", nullable = false, updatable = false)
+    private String to;
+
+    @Column(name = "mail_subject", nullable = false, updatable = false)
+    private String subject;
+
+    @Column(name = "mail_text", nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String text;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mail_status", nullable = false)
+    private MailOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public static MailOutbox of(final String to, final String subject, final String text) {
+        return MailOutbox.builder()
+                         .to(to)
+                         .subject(subject)
+                         .text(text)
+                         .status(MailOutboxStatus.PENDING)
+                         .nextAttemptAt(LocalDateTime.now())
+                         .build();
+    }
+
+    /**
+     * 전송 실패 처리
+     * 최대 시도 횟수에 도달하면 FAILED, 아니면 다음 시도 시각을 지정해 재시도 대기
+     *
+     * @param error         - 실패 사유
+     * @param maxAttempts   - 최대 시도 횟수
+     * @param nextAttemptAt - 다음 시도 시각
+     * @return 메일 아웃박스 엔티티
+     */
+    public MailOutbox fail(final String error, final int maxAttempts, final LocalDateTime nextAttemptAt) {
+        attempts++;
+        lastError = error == null || error.length() <= 500 ? error : error.substring(0, 500);
+        if (attempts >= maxAttempts)
+            status = MailOutboxStatus.FAILED;
+        else
+            this.nextAttemptAt = nextAttemptAt;
+        return this;
+    }
+
+}
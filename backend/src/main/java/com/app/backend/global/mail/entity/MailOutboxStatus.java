@@ -0,0 +1,5 @@
+package com.app.backend.global.mail.entity;
+
+public enum MailOutboxStatus {
+    PENDING, SENT, FAILED
+}
@@ -0,0 +1,38 @@
+package com.app.backend.global.mail.repository;
+
+import com.app.backend.global.mail.entity.MailOutbox;
+import com.app.backend.global.mail.entity.MailOutboxStatus;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from MailOutbox m where m.status = :status and m.nextAttemptAt <= :now order by m.id")
+    List<MailOutbox> findDispatchable(@Param("status") MailOutboxStatus status,
+                                      @Param("now") LocalDateTime now,
+                                      Pageable pageable);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update MailOutbox m set m.nextAttemptAt = :leaseUntil, m.modifiedDate = :now where m.id in :ids")
+    int lease(@Param("ids") Collection<Long> ids,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update MailOutbox m set m.status = :newStatus, m.attempts = m.attempts + 1, m.modifiedDate = :now "
+           + "where m.id in :ids and m.status = :oldStatus")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("oldStatus") MailOutboxStatus oldStatus,
+                     @Param("newStatus") MailOutboxStatus newStatus,
+                     @Param("now") LocalDateTime now);
+
+}
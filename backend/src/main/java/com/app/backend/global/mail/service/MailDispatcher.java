@@ -0,0 +1,195 @@
+package com.app.backend.global.mail.service;
+
+import com.app.backend.global.mail.entity.MailOutbox;
+import com.app.backend.global.mail.entity.MailOutboxStatus;
+import com.app.backend.global.mail.repository.MailOutboxRepository;
+import com.app.backend.global.metrics.AppMetrics;
+import com.app.backend.global.util.MailUtil;
+import com.app.backend.global.util.VirtualThreads;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 메일 아웃박스 전송기
+ * 전송 대기 메일을 배치 단위로 선점(lease)하여 크기가 제한된 전용 스레드 풀에서 전송
+ * 배치마다 하나의 SMTP 연결을 사용하며, 실패한 메일은 지수 백오프로 재시도
+ * 가상 스레드 모드에서는 전송 스레드만 가상 스레드로 바뀌고 동시 전송 수 제한은 유지
+ */
+@Slf4j
+@Component
+public class MailDispatcher implements DisposableBean {
+
+    private static final String SCHEDULER_BATCH_SIZE = "scheduler.batch.size";
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailUtil             mailUtil;
+    private final TransactionTemplate  transactionTemplate;
+    private final ThreadPoolExecutor   executor;
+    private final AppMetrics           appMetrics;
+
+    private final int  batchSize;
+    private final int  maxAttempts;
+    private final long backoffSeconds;
+    private final long maxBackoffSeconds;
+    private final long leaseSeconds;
+
+    public MailDispatcher(final MailOutboxRepository mailOutboxRepository,
+                          final MailUtil mailUtil,
+                          final PlatformTransactionManager transactionManager,
+                          final AppMetrics appMetrics,
+                          @Value("${mail.outbox.threads:2}") final int threads,
+                          @Value("${mail.outbox.queue-capacity:4}") final int queueCapacity,
+                          @Value("${mail.outbox.batch-size:50}") final int batchSize,
+                          @Value("${mail.outbox.max-attempts:5}") final int maxAttempts,
+                          @Value("${mail.outbox.backoff-seconds:10}") final long backoffSeconds,
+                          @Value("${mail.outbox.max-backoff-seconds:3600}") final long maxBackoffSeconds,
+                          @Value("${mail.outbox.lease-seconds:300}") final long leaseSeconds,
+                          @Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreads) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailUtil = mailUtil;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.appMetrics = appMetrics;
+        if (virtualThreads)
+            VirtualThreads.requireSupported();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                                               new ArrayBlockingQueue<>(queueCapacity),
+                                               virtualThreads
+                                               ? new VirtualThreadTaskExecutor("mail-dispatch-").getVirtualThreadFactory()
+                                               : new CustomizableThreadFactory("mail-dispatch-"));
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffSeconds = backoffSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    /**
+     * 전송 대기 메일 배치 선점 및 전송 작업 제출
+     * 작업 큐가 가득 차면 다음 주기로 미룸(선점된 배치는 선점 만료 후 다시 전송 대상이 됨)
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.dispatch-delay:1000}")
+    public void dispatch() {
+        while (executor.getQueue().remainingCapacity() > 0) {
+            List<MailOutbox> batch = claim();
+            if (batch.isEmpty())
+                return;
+            appMetrics.recordSize(SCHEDULER_BATCH_SIZE, batch.size(), "job", "mail.outbox");
+
+            try {
+                executor.execute(() -> send(batch));
+            } catch (RejectedExecutionException e) {
+                log.warn("Mail dispatch queue is full, {} mails deferred", batch.size());
+                return;
+            }
+
+            if (batch.size() < batchSize)
+                return;
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    /**
+     * 전송 대기 메일 배치 선점
+     * 행 잠금 상태에서 다음 시도 시각을 선점 만료 시각으로 미뤄 다른 전송기와 중복 전송 방지
+     *
+     * @return 선점한 메일 목록
+     */
+    private List<MailOutbox> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<MailOutbox> batch = mailOutboxRepository.findDispatchable(MailOutboxStatus.PENDING,
+                                                                           now,
+                                                                           PageRequest.of(0, batchSize));
+            if (!batch.isEmpty())
+                mailOutboxRepository.lease(batch.stream().map(MailOutbox::getId).toList(),
+                                           now.plusSeconds(leaseSeconds),
+                                           now);
+            return batch;
+        });
+    }
+
+    /**
+     * 메일 배치 전송 및 결과 반영
+     *
+     * @param batch - 선점한 메일 목록
+     */
+    private void send(final List<MailOutbox> batch) {
+        SimpleMailMessage[] messages = batch.stream()
+                                            .map(m -> mailUtil.createMailMessage(m.getTo(),
+                                                                                 m.getSubject(),
+                                                                                 m.getText()))
+                                            .toArray(SimpleMailMessage[]::new);
+
+        Map<Long, String> failures = new HashMap<>();
+        try {
+            mailUtil.sendMails(messages);
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            for (int i = 0; i < messages.length; i++)
+                if (failedMessages.isEmpty() || failedMessages.containsKey(messages[i]))
+                    failures.put(batch.get(i).getId(),
+                                 failedMessages.isEmpty() ? e.getMessage() : failedMessages.get(messages[i])
+                                                                                           .getMessage());
+        } catch (MailException e) {
+            batch.forEach(m -> failures.put(m.getId(), e.getMessage()));
+        }
+
+        try {
+            complete(batch, failures);
+        } catch (RuntimeException e) {
+            log.error("Failed to record mail dispatch result", e);
+        }
+        if (!failures.isEmpty())
+            log.warn("Failed to send {} of {} mails", failures.size(), batch.size());
+    }
+
+    /**
+     * 전송 결과 반영
+     * 성공한 메일은 SENT, 실패한 메일은 시도 횟수에 따른 지수 백오프 후 재시도 또는 FAILED
+     *
+     * @param batch    - 전송한 메일 목록
+     * @param failures - 실패한 메일 ID - 실패 사유 맵
+     */
+    private void complete(final List<MailOutbox> batch, final Map<Long, String> failures) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+
+            List<Long> sentIds = batch.stream().map(MailOutbox::getId).filter(id -> !failures.containsKey(id))
+                                      .toList();
+            if (!sentIds.isEmpty())
+                mailOutboxRepository.updateStatus(sentIds, MailOutboxStatus.PENDING, MailOutboxStatus.SENT, now);
+
+            for (MailOutbox mail : mailOutboxRepository.findAllById(failures.keySet())) {
+                long backoff = Math.min(backoffSeconds << Math.min(mail.getAttempts(), 20), maxBackoffSeconds);
+                mail.fail(failures.get(mail.getId()), maxAttempts, now.plusSeconds(backoff));
+            }
+        });
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.app.backend.global.mail.service;
+
+import com.app.backend.global.mail.entity.MailOutbox;
+import com.app.backend.global.mail.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 메일 아웃박스
+ * 호출한 트랜잭션과 함께 커밋되어야 전송되며, 롤백되면 메일도 전송되지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    /**
+     * 메일 전송 예약
+     *
+     * @param to      - 이메일 주소
+     * @param subject - 메일 제목
+     * @param text    - 메일 내용
+     */
+    @Transactional
+    public void enqueue(final String to, final String subject, final String text) {
+        mailOutboxRepository.save(MailOutbox.of(to, subject, text));
+    }
+
+}
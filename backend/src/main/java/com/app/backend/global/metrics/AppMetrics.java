@@ -0,0 +1,163 @@
+package com.app.backend.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 지표 기록(Micrometer, /actuator/prometheus로 노출)
+ * 기본 지표에는 값의 종류가 적은 태그(단계, 결과, 명령)만 사용
+ * 제품 ID, Redis 키 접두어처럼 값의 종류가 많은 태그는 {이름}.detail 지표에 metrics.detail-sample-rate 비율로만 기록
+ * 저부하 모드: 비율을 1 미만(예: 0.01)으로 설정, 0이면 상세 지표 기록 안 함
+ * 상세 지표는 히스토그램을 만들지 않으며, 태그 값 종류는 먼저 기록된 metrics.detail-max-tag-values개로 제한(MetricsConfig)
+ */
+@Component
+public class AppMetrics {
+
+    private static final String DETAIL_SUFFIX = ".detail";
+
+    private final MeterRegistry registry;
+    private final double        detailSampleRate;
+
+    public AppMetrics(final MeterRegistry registry,
+                      @Value("${metrics.detail-sample-rate:1.0}") final double detailSampleRate) {
+        this.registry = registry;
+        this.detailSampleRate = detailSampleRate;
+    }
+
+    /**
+     * 시간 측정 시작
+     *
+     * @return 측정 샘플
+     */
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * 시간 측정 종료 및 기록
+     *
+     * @param sample - 측정 샘플
+     * @param name   - 지표 이름
+     * @param tags   - 태그(키, 값 순서)
+     * @return 측정 시간(ns)
+     */
+    public long stop(final Timer.Sample sample, final String name, final String... tags) {
+        return sample.stop(registry.timer(name, tags));
+    }
+
+    /**
+     * 시간 측정 종료 및 기록 후 다음 구간 측정 시작(단계별 측정)
+     *
+     * @param sample - 측정 샘플
+     * @param name   - 지표 이름
+     * @param tags   - 태그(키, 값 순서)
+     * @return 다음 구간 측정 샘플
+     */
+    public Timer.Sample lap(final Timer.Sample sample, final String name, final String... tags) {
+        stop(sample, name, tags);
+        return start();
+    }
+
+    /**
+     * 시간 측정 종료 및 기록, 샘플링된 경우 상세 태그를 더한 {이름}.detail 지표에도 기록
+     *
+     * @param sample      - 측정 샘플
+     * @param name        - 지표 이름
+     * @param detailKey   - 상세 태그 키
+     * @param detailValue - 상세 태그 값(샘플링된 경우에만 계산)
+     * @param tags        - 태그(키, 값 순서)
+     * @return 측정 시간(ns)
+     */
+    public long stop(final Timer.Sample sample,
+                     final String name,
+                     final String detailKey,
+                     final Supplier<String> detailValue,
+                     final String... tags) {
+        long nanos = stop(sample, name, tags);
+        if (isDetailSampled())
+            registry.timer(name + DETAIL_SUFFIX, withTag(tags, detailKey, detailValue.get()))
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        return nanos;
+    }
+
+    /**
+     * 횟수 증가
+     *
+     * @param name   - 지표 이름
+     * @param amount - 증가량
+     * @param tags   - 태그(키, 값 순서)
+     */
+    public void count(final String name, final double amount, final String... tags) {
+        registry.counter(name, tags).increment(amount);
+    }
+
+    /**
+     * 크기 분포 기록(배치 크기 등)
+     *
+     * @param name - 지표 이름
+     * @param size - 크기
+     * @param tags - 태그(키, 값 순서)
+     */
+    public void recordSize(final String name, final long size, final String... tags) {
+        DistributionSummary.builder(name).tags(tags).register(registry).record(size);
+    }
+
+    /**
+     * {이름}.detail 지표의 히스토그램, 백분위 비활성화 필터
+     * 태그 조합마다 히스토그램 버킷 시계열이 생기므로 상세 지표에는 건수, 합계, 최댓값만 기록
+     *
+     * @return 지표 필터
+     */
+    public static MeterFilter disableDetailHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(final Meter.Id id, final DistributionStatisticConfig config) {
+                if (!id.getName().endsWith(DETAIL_SUFFIX))
+                    return config;
+                return DistributionStatisticConfig.builder()
+                                                  .percentilesHistogram(false)
+                                                  .percentiles()
+                                                  .serviceLevelObjectives()
+                                                  .build()
+                                                  .merge(config);
+            }
+        };
+    }
+
+    /**
+     * 상세 태그 값 종류 제한 필터, 한도를 넘는 새 값의 지표는 기록하지 않음
+     *
+     * @param name      - 지표 이름(.detail 제외)
+     * @param detailKey - 상세 태그 키
+     * @param max       - 최대 태그 값 종류 수
+     * @return 지표 필터
+     */
+    public static MeterFilter limitDetailTag(final String name, final String detailKey, final int max) {
+        return MeterFilter.maximumAllowableTags(name + DETAIL_SUFFIX, detailKey, max, MeterFilter.deny());
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private boolean isDetailSampled() {
+        return detailSampleRate >= 1.0
+               || detailSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < detailSampleRate;
+    }
+
+    private static String[] withTag(final String[] tags, final String key, final String value) {
+        String[] result = Arrays.copyOf(tags, tags.length + 2);
+        result[tags.length] = key;
+        result[tags.length + 1] = value;
+        return result;
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.app.backend.global.profiler;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 프로파일러 Hibernate 연동
+ * 프로파일링 비활성 시 ThreadLocal 조회만 수행
+ */
+@Configuration
+public class ProfilerConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer requestProfilerHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new ProfilingStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                           ProfilingSessionEventListener.class.getName());
+        };
+    }
+
+}
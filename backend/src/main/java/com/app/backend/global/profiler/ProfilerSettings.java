@@ -0,0 +1,32 @@
+package com.app.backend.global.profiler;
+
+/**
+ * 요청 프로파일러 설정
+ * 변경 요청 시 null인 항목은 기존 값 유지
+ *
+ * @param enabled             - 프로파일링 여부
+ * @param headersEnabled      - 응답 헤더(X-Profile-*) 추가 여부
+ * @param slowThresholdMillis - 느린 요청 로그 기준 처리 시간(ms)
+ * @param slowStatementCount  - 느린 요청 로그 기준 SQL 실행 수(N+1 식별)
+ */
+public record ProfilerSettings(Boolean enabled,
+                               Boolean headersEnabled,
+                               Long slowThresholdMillis,
+                               Integer slowStatementCount) {
+
+    /**
+     * null이 아닌 항목만 반영한 설정
+     *
+     * @param changes - 변경할 설정
+     * @return 변경된 설정
+     */
+    public ProfilerSettings merge(final ProfilerSettings changes) {
+        return new ProfilerSettings(changes.enabled != null ? changes.enabled : enabled,
+                                    changes.headersEnabled != null ? changes.headersEnabled : headersEnabled,
+                                    changes.slowThresholdMillis != null ? changes.slowThresholdMillis
+                                                                        : slowThresholdMillis,
+                                    changes.slowStatementCount != null ? changes.slowStatementCount
+                                                                       : slowStatementCount);
+    }
+
+}
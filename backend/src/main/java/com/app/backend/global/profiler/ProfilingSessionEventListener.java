@@ -0,0 +1,34 @@
+package com.app.backend.global.profiler;
+
+import org.hibernate.engine.spi.BaseSessionEventListener;
+
+/**
+ * 요청 처리 중 JDBC 실행 시간 기록
+ * 세션마다 Hibernate가 생성(hibernate.session.events.auto)
+ */
+public class ProfilingSessionEventListener extends BaseSessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestProfiler.recordSqlTime(System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestProfiler.recordSqlTime(System.nanoTime() - batchStart);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.app.backend.global.profiler;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 처리 중 Hibernate가 준비하는 SQL 기록(SQL은 변경하지 않음)
+ */
+public class ProfilingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(final String sql) {
+        RequestProfiler.recordStatement(sql);
+        return sql;
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.app.backend.global.profiler;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * HTTP 요청 1건의 SQL, Redis 호출 수/시간
+ * 요청 처리 스레드에서만 사용(RequestProfiler의 ThreadLocal)
+ */
+@Getter
+public class RequestProfile {
+
+    private static final int     MAX_DISTINCT_STATEMENTS = 200;
+    private static final int     MAX_FINGERPRINT_LENGTH  = 300;
+    private static final Pattern COMMENT                 = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern STRING_LITERAL          = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL          = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST                 = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE              = Pattern.compile("\\s+");
+
+    private final long startNanos = System.nanoTime();
+
+    private int  sqlCount;
+    private long sqlNanos;
+    private int  redisCount;
+    private long redisNanos;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Integer> statements = new HashMap<>();   //SQL 원문 - 실행 횟수(지문은 로그 출력 시 계산)
+
+    void recordStatement(final String sql) {
+        sqlCount++;
+        if (statements.size() < MAX_DISTINCT_STATEMENTS || statements.containsKey(sql))
+            statements.merge(sql, 1, Integer::sum);
+    }
+
+    void recordSqlTime(final long nanos) {
+        sqlNanos += nanos;
+    }
+
+    void recordRedis(final long nanos) {
+        redisCount++;
+        redisNanos += nanos;
+    }
+
+    /**
+     * 요청 시작 후 경과 시간(ns)
+     *
+     * @return 경과 시간
+     */
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * 실행 횟수가 많은 쿼리 지문 목록
+     * 리터럴, IN 목록 길이, 주석, 공백 차이를 제거해 같은 형태의 쿼리를 묶음(N+1 식별)
+     *
+     * @param limit - 최대 개수
+     * @return 쿼리 지문 - 실행 횟수(실행 횟수 내림차순)
+     */
+    public Map<String, Integer> getTopFingerprints(final int limit) {
+        Map<String, Integer> fingerprints = new HashMap<>();
+        statements.forEach((sql, count) -> fingerprints.merge(fingerprint(sql), count, Integer::sum));
+
+        List<Map.Entry<String, Integer>> sorted = fingerprints.entrySet()
+                                                              .stream()
+                                                              .sorted(Map.Entry.<String, Integer>comparingByValue(
+                                                                      Comparator.reverseOrder()))
+                                                              .limit(limit)
+                                                              .toList();
+        Map<String, Integer> result = new LinkedHashMap<>();
+        sorted.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    /**
+     * 쿼리 지문 생성
+     *
+     * @param sql - SQL 원문
+     * @return 쿼리 지문
+     */
+    static String fingerprint(final String sql) {
+        String fingerprint = COMMENT.matcher(sql).replaceAll(" ");
+        fingerprint = STRING_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = IN_LIST.matcher(fingerprint).replaceAll("(?...)");
+        fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ").trim().toLowerCase();
+        return fingerprint.length() > MAX_FINGERPRINT_LENGTH
+               ? fingerprint.substring(0, MAX_FINGERPRINT_LENGTH) + "..."
+               : fingerprint;
+    }
+
+}
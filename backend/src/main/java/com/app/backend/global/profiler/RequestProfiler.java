@@ -0,0 +1,192 @@
+package com.app.backend.global.profiler;
+
+import com.app.backend.global.redis.repository.RedisRepository;
+import jakarta.annotation.PostConstruct;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 단위 SQL, Redis 호출 프로파일러
+ * SQL은 Hibernate StatementInspector(실행 수, 쿼리)와 SessionEventListener(실행 시간),
+ * Redis는 RedisRepository에서 요청 처리 스레드의 RequestProfile에 기록
+ * 설정은 관리자 API로 재시작 없이 변경하며, Redis에 저장해 재시작 후에도 유지하고 Redis 채널로 전체 인스턴스에 전파
+ * 응답 헤더(X-Profile-*)는 profiler.headers-allowed가 켜진 환경에서만 켤 수 있음(운영 환경에서 실행 중 변경으로 노출 방지)
+ */
+@Slf4j
+@Component
+public class RequestProfiler implements MessageListener {
+
+    public static final String CHANNEL      = "requestProfiler-settings";
+    public static final String SETTINGS_KEY = "requestProfiler-settings";
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private static final int TOP_FINGERPRINTS = 5;
+
+    private final RedisRepository               redisRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final boolean                       headersAllowed;
+
+    private volatile ProfilerSettings settings;
+
+    public RequestProfiler(final RedisRepository redisRepository,
+                           final RedisMessageListenerContainer redisMessageListenerContainer,
+                           @Value("${profiler.enabled:false}") final boolean enabled,
+                           @Value("${profiler.headers-allowed:false}") final boolean headersAllowed,
+                           @Value("${profiler.headers-enabled:false}") final boolean headersEnabled,
+                           @Value("${profiler.slow-threshold-ms:1000}") final long slowThresholdMillis,
+                           @Value("${profiler.slow-statement-count:50}") final int slowStatementCount) {
+        this.redisRepository = redisRepository;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.headersAllowed = headersAllowed;
+        this.settings = restrict(new ProfilerSettings(enabled, headersEnabled, slowThresholdMillis, slowStatementCount));
+    }
+
+    /**
+     * 저장된 설정이 있으면 설정 파일 값 대신 사용, Redis 장애 시 설정 파일 값 유지
+     */
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        try {
+            Object stored = redisRepository.get(SETTINGS_KEY);
+            if (stored != null) {
+                settings = restrict(parse(String.valueOf(stored)));
+                log.info("Request profiler settings loaded: {}", settings);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to load request profiler settings", e);
+        }
+    }
+
+    public ProfilerSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * 설정 변경 후 저장 및 다른 인스턴스에 전파
+     * 응답 헤더가 허용되지 않은 환경에서는 응답 헤더 사용 요청을 무시
+     *
+     * @param changes - 변경할 설정(null 항목은 유지)
+     * @return 변경된 설정
+     */
+    public ProfilerSettings update(final ProfilerSettings changes) {
+        if (!headersAllowed && Boolean.TRUE.equals(changes.headersEnabled()))
+            log.warn("Request profiler headers are not allowed in this environment");
+
+        ProfilerSettings updated = restrict(settings.merge(changes));
+        settings = updated;
+        log.info("Request profiler settings changed: {}", updated);
+        try {
+            String value = format(updated);
+            redisRepository.save(SETTINGS_KEY, value);
+            redisRepository.publish(CHANNEL, value);
+        } catch (RuntimeException e) {
+            log.warn("Failed to store or broadcast request profiler settings", e);
+        }
+        return updated;
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        try {
+            settings = restrict(parse(String.valueOf(redisRepository.deserialize(message.getBody()))));
+        } catch (RuntimeException e) {
+            log.warn("Invalid request profiler settings message", e);
+        }
+    }
+
+    /**
+     * 요청 프로파일링 시작
+     *
+     * @return 요청 프로파일(비활성: null)
+     */
+    public RequestProfile begin() {
+        if (!settings.enabled())
+            return null;
+        RequestProfile profile = new RequestProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    /**
+     * 요청 프로파일링 종료, 기준을 넘은 요청은 실행 횟수가 많은 쿼리 지문과 함께 로그
+     *
+     * @param profile     - 요청 프로파일
+     * @param description - 요청 설명(메서드, URI)
+     */
+    public void end(final RequestProfile profile, final String description) {
+        CURRENT.remove();
+
+        ProfilerSettings current       = settings;
+        long             elapsedMillis = TimeUnit.NANOSECONDS.toMillis(profile.getElapsedNanos());
+        if (elapsedMillis < current.slowThresholdMillis() && profile.getSqlCount() < current.slowStatementCount())
+            return;
+
+        log.warn("Slow request: {} {}ms, sql={} ({}ms), redis={} ({}ms), top queries={}",
+                 description,
+                 elapsedMillis,
+                 profile.getSqlCount(),
+                 TimeUnit.NANOSECONDS.toMillis(profile.getSqlNanos()),
+                 profile.getRedisCount(),
+                 TimeUnit.NANOSECONDS.toMillis(profile.getRedisNanos()),
+                 profile.getTopFingerprints(TOP_FINGERPRINTS));
+    }
+
+    static void recordStatement(final String sql) {
+        RequestProfile profile = CURRENT.get();
+        if (profile != null)
+            profile.recordStatement(sql);
+    }
+
+    static void recordSqlTime(final long nanos) {
+        RequestProfile profile = CURRENT.get();
+        if (profile != null)
+            profile.recordSqlTime(nanos);
+    }
+
+    /**
+     * 요청 처리 중 Redis 호출 기록
+     *
+     * @param nanos - 호출 시간(ns)
+     */
+    public static void recordRedis(final long nanos) {
+        RequestProfile profile = CURRENT.get();
+        if (profile != null)
+            profile.recordRedis(nanos);
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    /**
+     * 응답 헤더가 허용되지 않은 환경이면 응답 헤더 사용 해제
+     */
+    private ProfilerSettings restrict(final ProfilerSettings value) {
+        return headersAllowed ? value : value.merge(new ProfilerSettings(null, false, null, null));
+    }
+
+    /**
+     * 저장, 전파 형식: "{프로파일링 여부}|{응답 헤더 여부}|{기준 처리 시간}|{기준 SQL 실행 수}"
+     */
+    private static String format(final ProfilerSettings value) {
+        return "%s|%s|%d|%d".formatted(value.enabled(),
+                                       value.headersEnabled(),
+                                       value.slowThresholdMillis(),
+                                       value.slowStatementCount());
+    }
+
+    private static ProfilerSettings parse(final String value) {
+        String[] parts = value.split("\\|");
+        return new ProfilerSettings(Boolean.valueOf(parts[0]),
+                                    Boolean.valueOf(parts[1]),
+                                    Long.valueOf(parts[2]),
+                                    Integer.valueOf(parts[3]));
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.app.backend.global.profiler;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청 프로파일링 필터
+ * 인증 필터의 Redis 호출까지 포함하도록 Spring Security 필터보다 먼저 실행
+ * 응답 헤더는 응답 커밋 직전 값으로 추가(스트리밍 응답은 커밋 이후 호출 미포함)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class RequestProfilingFilter extends OncePerRequestFilter {
+
+    public static final String SQL_COUNT_HEADER   = "X-Profile-Sql-Count";
+    public static final String SQL_TIME_HEADER    = "X-Profile-Sql-Time-Ms";
+    public static final String REDIS_COUNT_HEADER = "X-Profile-Redis-Count";
+    public static final String REDIS_TIME_HEADER  = "X-Profile-Redis-Time-Ms";
+    public static final String ELAPSED_HEADER     = "X-Profile-Elapsed-Ms";
+
+    private final RequestProfiler requestProfiler;
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        RequestProfile profile = requestProfiler.begin();
+        if (profile == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean             headersEnabled = Boolean.TRUE.equals(requestProfiler.getSettings().headersEnabled());
+        HttpServletResponse wrapped        = headersEnabled ? new ProfileHeaderResponse(response, profile) : response;
+        try {
+            filterChain.doFilter(request, wrapped);
+        } finally {
+            if (headersEnabled && !response.isCommitted())
+                setHeaders(response, profile);
+            requestProfiler.end(profile, request.getMethod() + " " + request.getRequestURI());
+        }
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private static void setHeaders(final HttpServletResponse response, final RequestProfile profile) {
+        response.setHeader(SQL_COUNT_HEADER, String.valueOf(profile.getSqlCount()));
+        response.setHeader(SQL_TIME_HEADER, toMillis(profile.getSqlNanos()));
+        response.setHeader(REDIS_COUNT_HEADER, String.valueOf(profile.getRedisCount()));
+        response.setHeader(REDIS_TIME_HEADER, toMillis(profile.getRedisNanos()));
+        response.setHeader(ELAPSED_HEADER, toMillis(profile.getElapsedNanos()));
+    }
+
+    private static String toMillis(final long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * 응답 커밋 직전에 프로파일 헤더 추가
+     */
+    private static class ProfileHeaderResponse extends OnCommittedResponseWrapper {
+
+        private final RequestProfile profile;
+
+        ProfileHeaderResponse(final HttpServletResponse response, final RequestProfile profile) {
+            super(response);
+            this.profile = profile;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            setHeaders((HttpServletResponse) getResponse(), profile);
+        }
+
+    }
+
+}
@@ -1,29 +1,460 @@
 package com.app.backend.global.redis.repository;
 
+import com.app.backend.global.metrics.AppMetrics;
+import com.app.backend.global.profiler.RequestProfiler;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class RedisRepository {
 
+    private static final String REDIS_TIMER    = "redis.command";
+    private static final String KEY_PREFIX_TAG = "keyPrefix";
+
+    private static final RedisScript<Long> REPLACE_IF_EQUALS_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+    private static final RedisScript<Long> DELETE_IF_EQUALS_SCRIPT  = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final AppMetrics                    appMetrics;
 
     public void save(String key, Object value, long duration, TimeUnit timeUnit) {
-        redisTemplate.opsForValue().set(key, value, duration, timeUnit);
+        Timer.Sample sample = appMetrics.start();
+        try {
+            redisTemplate.opsForValue().set(key, value, duration, timeUnit);
+        } finally {
+            record(sample, "set", key);
+        }
+    }
+
+    /**
+     * 만료 시간 없이 저장(운영 설정 등)
+     *
+     * @param key   - 키
+     * @param value - 값
+     */
+    public void save(String key, Object value) {
+        Timer.Sample sample = appMetrics.start();
+        try {
+            redisTemplate.opsForValue().set(key, value);
+        } finally {
+            record(sample, "set", key);
+        }
+    }
+
+    /**
+     * 키가 없을 때만 저장(SET NX)
+     *
+     * @param key      - 키
+     * @param value    - 값
+     * @param duration - 만료 시간
+     * @param timeUnit - 시간 단위
+     * @return 저장 여부
+     */
+    public boolean saveIfAbsent(String key, Object value, long duration, TimeUnit timeUnit) {
+        Timer.Sample sample = appMetrics.start();
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, duration, timeUnit));
+        } finally {
+            record(sample, "setnx", key);
+        }
     }
 
     public Object get(String key) {
-        return redisTemplate.opsForValue().get(key);
+        Timer.Sample sample = appMetrics.start();
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } finally {
+            record(sample, "get", key);
+        }
     }
 
     public void delete(String key) {
-        redisTemplate.delete(key);
+        Timer.Sample sample = appMetrics.start();
+        try {
+            redisTemplate.delete(key);
+        } finally {
+            record(sample, "del", key);
+        }
+    }
+
+    /**
+     * 여러 키 값 일괄 조회(MGET)
+     *
+     * @param keys - 키 목록
+     * @return 키 순서대로의 값 목록(키 없음: null)
+     */
+    public List<Object> multiGet(Collection<String> keys) {
+        if (keys.isEmpty())
+            return List.of();
+        Timer.Sample sample = appMetrics.start();
+        try {
+            return redisTemplate.opsForValue().multiGet(keys);
+        } finally {
+            record(sample, "mget", keys.iterator().next());
+        }
+    }
+
+    /**
+     * 여러 키 값 일괄 저장, 한 번의 파이프라인으로 SET 전송
+     *
+     * @param values   - 키-값 맵
+     * @param duration - 만료 시간
+     * @param timeUnit - 시간 단위
+     */
+    public void saveAll(Map<String, ?> values, long duration, TimeUnit timeUnit) {
+        if (values.isEmpty())
+            return;
+        Timer.Sample sample = appMetrics.start();
+        try {
+            redisTemplate.executePipelined(pipeline(operations -> values.forEach(
+                    (key, value) -> operations.opsForValue().set(key, value, duration, timeUnit)
+            )));
+        } finally {
+            record(sample, "pipeline", values.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * 여러 키 일괄 삭제(DEL)
+     *
+     * @param keys - 키 목록
+     * @return 삭제된 키 수
+     */
+    public long deleteAll(Collection<String> keys) {
+        if (keys.isEmpty())
+            return 0;
+        Timer.Sample sample = appMetrics.start();
+        try {
+            Long deleted = redisTemplate.delete(keys);
+            return deleted == null ? 0 : deleted;
+        } finally {
+            record(sample, "del", keys.iterator().next());
+        }
+    }
+
+    /**
+     * 값이 기대값과 같을 때만 새 값으로 교체(GET 비교 + SET을 Lua 스크립트로 원자적으로 수행)
+     *
+     * @param key      - 키
+     * @param expected - 기대값
+     * @param value    - 새 값
+     * @param duration - 만료 시간
+     * @param timeUnit - 시간 단위
+     * @return 교체 여부(키 없음 또는 값 불일치: false)
+     */
+    public boolean replaceIfEquals(String key, Object expected, Object value, long duration, TimeUnit timeUnit) {
+        Long result = execute(REPLACE_IF_EQUALS_SCRIPT, List.of(key), expected, value, timeUnit.toMillis(duration));
+        return result != null && result == 1;
+    }
+
+    /**
+     * 값이 기대값과 같을 때만 삭제(GET 비교 + DEL을 Lua 스크립트로 원자적으로 수행)
+     *
+     * @param key      - 키
+     * @param expected - 기대값
+     * @return 삭제 여부
+     */
+    public boolean deleteIfEquals(String key, Object expected) {
+        Long result = execute(DELETE_IF_EQUALS_SCRIPT, List.of(key), expected);
+        return result != null && result == 1;
     }
 
     public boolean isKeyExists(String redisKey) {
-        return redisTemplate.hasKey(redisKey);
+        Timer.Sample sample = appMetrics.start();
+        try {
+            return redisTemplate.hasKey(redisKey);
+        } finally {
+            record(sample, "exists", redisKey);
+        }
+    }
+
+    /**
+     * 값 증가(INCR)
+     *
+     * @param key - 키
+     * @return 증가된 값
+     */
+    public Long increment(String key) {
+        Timer.Sample sample = appMetrics.start();
+        try {
+            return redisTemplate.opsForValue().increment(key);
+        } finally {
+            record(sample, "incr", key);
+        }
+    }
+
+    /**
+     * 만료 시간 설정
+     *
+     * @param key      - 키
+     * @param duration - 만료 시간
+     * @param timeUnit - 시간 단위
+     */
+    public void expire(String key, long duration, TimeUnit timeUnit) {
+        Timer.Sample sample = appMetrics.start();
+        try {
+            redisTemplate.expire(key, duration, timeUnit);
+        } finally {
+            record(sample, "expire", key);
+        }
+    }
+
+    /**
+     * 해시 전체 필드 조회(HGETALL)
+     *
+     * @param key - 키
+     * @return 필드-값 맵(키 없음: 빈 맵)
+     */
+    public Map<String, Object> getHash(String key) {
+        Timer.Sample sample = appMetrics.start();
+        try {
+            return redisTemplate.<String, Object>opsForHash().entries(key);
+        } finally {
+            record(sample, "hgetall", key);
+        }
+    }
+
+    /**
+     * 해시 필드 조회(HGET)
+     *
+     * @param key   - 키
+     * @param field - 필드
+     * @return 값
+     */
+    public Object getHashValue(String key, String field) {
+        Timer.Sample sample = appMetrics.start();
+        try {
+            return redisTemplate.<String, Object>opsForHash().get(key, field);
+        } finally {
+            record(sample, "hget", key);
+        }
+    }
+
+    /**
+     * 해시 필드 저장(HSET)
+     *
+     * @param key   - 키
+     * @param field - 필드
+     * @param value - 값
+     */
+    public void saveHashValue(String key, String field, Object value) {
+        Timer.Sample sample = appMetrics.start();
+        try {
+            redisTemplate.<String, Object>opsForHash().put(key, field, value);
+        } finally {
+            record(sample, "hset", key);
+        }
     }
+
+    /**
+     * 기존 해시를 새 필드로 교체 후 만료 시간 설정, 한 번의 파이프라인으로 DEL + HSET + EXPIRE 전송
+     *
+     * @param key      - 키
+     * @param values   - 필드-값 맵
+     * @param duration - 만료 시간
+     * @param timeUnit - 시간 단위
+     */
+    public void replaceHash(String key, Map<String, Object> values, long duration, TimeUnit timeUnit) {
+        Timer.Sample sample = appMetrics.start();
+        try {
+            redisTemplate.executePipelined(pipeline(operations -> {
+                operations.delete(key);
+                operations.<String, Object>opsForHash().putAll(key, values);
+                operations.expire(key, duration, timeUnit);
+            }));
+        } finally {
+            record(sample, "pipeline", key);
+        }
+    }
+
+    /**
+     * 해시 필드 삭제(HDEL)
+     *
+     * @param key    - 키
+     * @param fields - 필드 목록
+     */
+    public void deleteHashValues(String key, Object... fields) {
+        Timer.Sample sample = appMetrics.start();
+        try {
+            redisTemplate.opsForHash().delete(key, fields);
+        } finally {
+            record(sample, "hdel", key);
+        }
+    }
+
+    /**
+     * 채널 메시지 발행
+     *
+     * @param channel - 채널
+     * @param message - 메시지
+     */
+    public void publish(String channel, Object message) {
+        Timer.Sample sample = appMetrics.start();
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } finally {
+            record(sample, "publish", channel);
+        }
+    }
+
+    /**
+     * 수신한 채널 메시지 역직렬화
+     *
+     * @param body - 메시지 본문
+     * @return 메시지
+     */
+    public Object deserialize(byte[] body) {
+        return redisTemplate.getValueSerializer().deserialize(body);
+    }
+
+    /**
+     * 남은 만료 시간 조회
+     *
+     * @param key      - 키
+     * @param timeUnit - 시간 단위
+     * @return 남은 만료 시간(만료 없음: -1, 키 없음: -2)
+     */
+    public Long getExpire(String key, TimeUnit timeUnit) {
+        Timer.Sample sample = appMetrics.start();
+        try {
+            return redisTemplate.getExpire(key, timeUnit);
+        } finally {
+            record(sample, "ttl", key);
+        }
+    }
+
+    /**
+     * 여러 키의 남은 만료 시간 일괄 조회, 한 번의 파이프라인으로 TTL 전송
+     *
+     * @param keys     - 키 목록
+     * @param timeUnit - 시간 단위
+     * @return 키 순서대로의 남은 만료 시간(만료 없음: -1, 키 없음: -2)
+     */
+    public List<Long> getExpires(List<String> keys, TimeUnit timeUnit) {
+        List<Long> expires = new ArrayList<>(keys.size());
+        for (Object result : executePipelined(operations -> keys.forEach(key -> operations.getExpire(key, timeUnit))))
+            expires.add(result == null ? null : ((Number) result).longValue());
+        return expires;
+    }
+
+    /**
+     * 패턴과 일치하는 키 목록 조회(SCAN, 서버를 블로킹하는 KEYS 대신 사용)
+     *
+     * @param pattern - 키 패턴
+     * @param count   - SCAN 1회당 조회 개수 힌트
+     * @return 키 목록
+     */
+    public List<String> scanKeys(String pattern, long count) {
+        Timer.Sample sample = appMetrics.start();
+        List<String> keys   = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(count).build())) {
+            cursor.forEachRemaining(keys::add);
+        } finally {
+            record(sample, "scan", pattern);
+        }
+        return keys;
+    }
+
+    /**
+     * Lua 스크립트 실행
+     * 인자는 값 직렬화기(JSON)로 직렬화되므로 스크립트에서 tonumber로 읽을 수 있는 숫자 인자 사용 권장
+     *
+     * @param script - 실행할 스크립트
+     * @param keys   - 스크립트 KEYS
+     * @param args   - 스크립트 ARGV
+     * @return 스크립트 실행 결과
+     */
+    public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+        Timer.Sample sample = appMetrics.start();
+        try {
+            return redisTemplate.execute(script, keys, args);
+        } finally {
+            record(sample, "eval", keys.isEmpty() ? null : keys.get(0));
+        }
+    }
+
+    /**
+     * 여러 명령을 한 번의 파이프라인(1회 왕복)으로 전송
+     * 명령 결과는 파이프라인 종료 후 반환되므로, 앞 명령의 결과에 따라 달라지는 명령은 Lua 스크립트(execute) 사용
+     *
+     * @param commands - 파이프라인에 보낼 명령
+     * @return 명령 순서대로의 결과 목록
+     */
+    public List<Object> executePipelined(Consumer<RedisOperations<String, Object>> commands) {
+        Timer.Sample sample = appMetrics.start();
+        try {
+            return redisTemplate.executePipelined(pipeline(commands));
+        } finally {
+            record(sample, "pipeline", null);
+        }
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    /**
+     * 파이프라인으로 실행할 세션 콜백, 콜백 안의 명령은 같은 연결로 모아 전송
+     */
+    @SuppressWarnings("unchecked")
+    private static SessionCallback<Object> pipeline(Consumer<RedisOperations<String, Object>> commands) {
+        return new SessionCallback<>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, Object>) operations);
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Redis 명령 처리 시간 기록, 키 접두어는 샘플링된 경우에만 상세 지표에 기록
+     * 요청 프로파일링 중이면 요청별 Redis 호출 수/시간에도 합산
+     *
+     * @param sample  - 측정 샘플
+     * @param command - Redis 명령
+     * @param key     - 키
+     */
+    private void record(Timer.Sample sample, String command, String key) {
+        RequestProfiler.recordRedis(
+                appMetrics.stop(sample, REDIS_TIMER, KEY_PREFIX_TAG, () -> keyPrefix(key), "command", command)
+        );
+    }
+
+    /**
+     * 키 앞쪽의 영문자 구간(예: orderSummary-1 → orderSummary)
+     * 리프레시 토큰 키(이메일)처럼 식별 정보가 포함된 키는 other
+     */
+    private static String keyPrefix(String key) {
+        if (key == null || key.indexOf('@') >= 0)
+            return "other";
+        int end = 0;
+        while (end < key.length() && Character.isLetter(key.charAt(end)))
+            end++;
+        return end == 0 ? "other" : key.substring(0, end);
+    }
+
 }
@@ -1,12 +1,16 @@
 package com.app.backend.global.security;
 
 import com.app.backend.global.config.AppConfig;
+import com.app.backend.global.metrics.AppMetrics;
 import com.app.backend.global.redis.repository.RedisRepository;
 import com.app.backend.global.rs.RsData;
+import com.app.backend.global.security.blacklist.TokenBlacklist;
 import com.app.backend.global.security.filter.JwtAuthenticationFilter;
 import com.app.backend.global.security.filter.JwtAuthorizationFilter;
 import com.app.backend.global.security.handler.JwtLogoutHandler;
 import com.app.backend.global.security.handler.JwtLogoutSuccessHandler;
+import com.app.backend.global.security.password.BoundedPasswordEncoder;
+import com.app.backend.global.security.password.PasswordRateLimiter;
 import com.app.backend.global.security.util.AuthResponseUtil;
 import com.app.backend.global.security.util.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -23,7 +27,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -36,6 +39,9 @@ public class SecurityConfig {
     private final JwtUtil jwtUtil;
     private final ObjectMapper objectMapper;
     private final RedisRepository redisRepository;
+    private final TokenBlacklist tokenBlacklist;
+    private final PasswordRateLimiter passwordRateLimiter;
+    private final AppMetrics appMetrics;
 
     @Value("${jwt.token.access-expiration}")
     private long ACCESS_EXPIRATION;
@@ -43,9 +49,18 @@ public class SecurityConfig {
     @Value("${jwt.token.refresh-expiration}")
     private long REFRESH_EXPIRATION;
 
+    /**
+     * BCrypt 해시를 전용 스레드 풀에서 수행하는 PasswordEncoder
+     * 저장된 해시의 cost가 설정값보다 낮으면 로그인 성공 시 재해시(CustomUserDetailsService.updatePassword)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-cost:10}") int bcryptCost,
+            @Value("${security.password.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+            @Value("${security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.timeout-millis:5000}") long timeoutMillis
+    ) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptCost), threads, queueCapacity, timeoutMillis);
     }
 
     @Bean
@@ -57,11 +72,11 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationConfiguration configuration) throws Exception {
 
         JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(
-                jwtUtil, ACCESS_EXPIRATION, REFRESH_EXPIRATION, objectMapper, redisRepository, authenticationManager(configuration));
+                jwtUtil, ACCESS_EXPIRATION, REFRESH_EXPIRATION, objectMapper, redisRepository, passwordRateLimiter, authenticationManager(configuration));
         jwtAuthenticationFilter.setFilterProcessesUrl("/api/v1/login");
 
         JwtAuthorizationFilter jwtAuthorizationFilter = new JwtAuthorizationFilter(
-                jwtUtil, ACCESS_EXPIRATION, REFRESH_EXPIRATION, objectMapper, redisRepository);
+                jwtUtil, ACCESS_EXPIRATION, REFRESH_EXPIRATION, objectMapper, redisRepository, tokenBlacklist, appMetrics);
 
         http.headers(head -> head
                         .frameOptions(option -> option.sameOrigin()))
@@ -70,10 +85,11 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorizeRequests -> authorizeRequests
                         .requestMatchers(HttpMethod.GET, "/h2-console/**", "/api/*/signup", "/api/*/products", "/api/*/products/*").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/*/signup").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/*/products").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PATCH, "/api/*/products","/api/*/products/*").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/*/products","/api/*/products/*").hasRole("ADMIN")
-                        .requestMatchers(HttpMethod.GET, "/api/*/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/api/*/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
                 .addFilterAt(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jwtAuthorizationFilter, JwtAuthenticationFilter.class)
@@ -91,7 +107,7 @@ public class SecurityConfig {
                         }))
                 .logout(logout -> logout
                         .logoutUrl("/api/v1/logout")
-                        .addLogoutHandler(new JwtLogoutHandler(jwtUtil, redisRepository))
+                        .addLogoutHandler(new JwtLogoutHandler(jwtUtil, redisRepository, tokenBlacklist))
                         .logoutSuccessHandler(new JwtLogoutSuccessHandler(objectMapper)));
 
         return http.build();
@@ -0,0 +1,48 @@
+package com.app.backend.global.security.blacklist;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 동시성 안전 Bloom 필터
+ * 입력은 이미 균일 분포인 해시(SHA-256)의 두 64비트 값을 받아 이중 해싱으로 비트 위치 계산
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long            bitSize;
+    private final int             hashCount;
+
+    /**
+     * @param expectedInsertions - 예상 삽입 수
+     * @param falsePositiveRate  - 목표 오탐률
+     */
+    public BloomFilter(final long expectedInsertions, final double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, (m + 63) / 64 * 64);
+        this.bits = new AtomicLongArray((int) (bitSize / 64));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    public void put(final long hash1, final long hash2) {
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            long mask  = 1L << (index & 63);
+            int  word  = (int) (index >>> 6);
+
+            long current;
+            while (((current = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+            }
+        }
+    }
+
+    public boolean mightContain(final long hash1, final long hash2) {
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << (index & 63))) == 0)
+                return false;
+        }
+        return true;
+    }
+
+}
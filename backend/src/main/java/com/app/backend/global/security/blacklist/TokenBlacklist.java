@@ -0,0 +1,248 @@
+package com.app.backend.global.security.blacklist;
+
+import com.app.backend.global.redis.repository.RedisRepository;
+import com.app.backend.global.security.util.JwtUtil;
+import jakarta.annotation.PostConstruct;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃된 AccessToken 블랙리스트
+ * Redis에는 토큰 원문 대신 SHA-256 해시를 키로 남은 유효 시간만큼 저장
+ * 노드마다 만료 시각 구간별 Bloom 필터를 두어, 필터에 없는 토큰(대부분의 요청)은 Redis 조회 없이 통과
+ * 로그아웃은 pub/sub으로 다른 노드 필터에 전파하고, 기동 시와 주기적으로 Redis 블랙리스트로 필터 재구성
+ * 재구독(Redis 재연결)이나 잘못된 메시지로 전파가 누락되었을 수 있으면 재구성 전까지 항상 Redis 조회
+ * 토큰 원문을 키로 저장하던 이전 블랙리스트 항목은 재구성 시 해시 키로 이전하며, 이전 완료 전에는 두 키 모두 조회
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener, SubscriptionListener {
+
+    public static final String CHANNEL = "tokenBlacklist";
+
+    private static final String KEY_PREFIX = "blacklist:";
+    private static final String VALUE      = "Logout";
+
+    /**
+     * 이전 블랙리스트 키(AccessToken 원문, JWT 헤더는 항상 "eyJ"로 시작)
+     */
+    private static final String LEGACY_KEY_PATTERN = "eyJ*";
+
+    private final RedisRepository               redisRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    /**
+     * 구간 종료 시각(ms) - 해당 구간에 만료되는 토큰의 Bloom 필터
+     * 구간 종료 시각이 지나면 포함된 토큰이 모두 만료되었으므로 구간 통째로 제거
+     */
+    private final ConcurrentNavigableMap<Long, BloomFilter> buckets = new ConcurrentSkipListMap<>();
+
+    private final long   bucketMillis;
+    private final long   expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile boolean ready;
+    private volatile boolean legacyMigrated;
+
+    /**
+     * 필터 누락 가능성이 생길 때마다 증가, 재구성 시작 이후 증가했으면 재구성 완료 후에도 ready로 전환하지 않음
+     */
+    private final AtomicLong    invalidations = new AtomicLong();
+    private final AtomicBoolean subscribed    = new AtomicBoolean();
+
+    public TokenBlacklist(final RedisRepository redisRepository,
+                          final RedisMessageListenerContainer redisMessageListenerContainer,
+                          @Value("${jwt.blacklist.bucket-minutes:30}") final long bucketMinutes,
+                          @Value("${jwt.blacklist.expected-insertions:100000}") final long expectedInsertions,
+                          @Value("${jwt.blacklist.false-positive-rate:0.001}") final double falsePositiveRate) {
+        this.redisRepository = redisRepository;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.bucketMillis = TimeUnit.MINUTES.toMillis(bucketMinutes);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * Redis 블랙리스트로 Bloom 필터 재구성
+     * 메시지 구독이 시작된 이후 수행하여 재구성 중 발생한 로그아웃도 누락되지 않도록 함
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long generation = invalidations.get();
+        try {
+            int migrated = migrateLegacyKeys();
+
+            long         now  = System.currentTimeMillis();
+            List<String> keys = redisRepository.scanKeys(KEY_PREFIX + "*", 1000);
+            List<Long>   ttls = redisRepository.getExpires(keys, TimeUnit.MILLISECONDS);
+            for (int i = 0; i < keys.size(); i++) {
+                Long ttl = ttls.get(i);
+                if (ttl != null && ttl > 0)
+                    put(keys.get(i).substring(KEY_PREFIX.length()), now + ttl);
+            }
+            if (invalidations.get() == generation)
+                ready = true;
+            log.info("Token blacklist filter rebuilt: {} entries, {} legacy entries migrated", keys.size(), migrated);
+        } catch (RuntimeException e) {
+            ready = false;
+            log.warn("Failed to rebuild token blacklist filter, falling back to Redis lookups", e);
+        }
+    }
+
+    /**
+     * 주기적 재구성, 유실된 메시지(Redis 장애 중 로그아웃 등)를 보정하고 Redis 조회 대체 상태에서 복구
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.rebuild-delay:300000}",
+               initialDelayString = "${jwt.blacklist.rebuild-delay:300000}")
+    public void reconcile() {
+        rebuild();
+    }
+
+    /**
+     * 채널 구독 완료, 최초 구독 이후의 구독은 연결 복구에 의한 재구독이므로 끊긴 동안의 메시지를 보정하기 위해 재구성
+     */
+    @Override
+    public void onChannelSubscribed(final byte[] channel, final long count) {
+        if (!subscribed.compareAndSet(false, true)) {
+            invalidate();
+            Thread thread = new Thread(this::rebuild, "token-blacklist-rebuild");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * 토큰 블랙리스트 등록
+     *
+     * @param token      - AccessToken
+     * @param expiration - 토큰 만료 시각
+     */
+    public void add(final String token, final Date expiration) {
+        long ttl = expiration.getTime() - System.currentTimeMillis();
+        if (ttl <= 0)
+            return;
+
+        String hash = JwtUtil.hashToken(token);
+        put(hash, expiration.getTime());
+        redisRepository.executePipelined(operations -> {
+            operations.opsForValue().set(KEY_PREFIX + hash, VALUE, ttl, TimeUnit.MILLISECONDS);
+            operations.convertAndSend(CHANNEL, hash + "|" + expiration.getTime());
+        });
+    }
+
+    /**
+     * 토큰 블랙리스트 포함 여부
+     * Bloom 필터에 없으면 Redis 조회 없이 false, 있으면(오탐 가능) Redis로 확인
+     *
+     * @param token - AccessToken
+     * @return 블랙리스트 포함 여부
+     */
+    public boolean isBlacklisted(final String token) {
+        String hash = JwtUtil.hashToken(token);
+        if (ready && !mightContain(hash))
+            return false;
+        if (!legacyMigrated)
+            return redisRepository.multiGet(List.of(KEY_PREFIX + hash, token)).stream().anyMatch(VALUE::equals);
+        return redisRepository.isKeyExists(KEY_PREFIX + hash);
+    }
+
+    /**
+     * 다른 노드의 로그아웃 수신: "{토큰 해시}|{만료 시각(ms)}"
+     */
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        try {
+            String[] parts = String.valueOf(redisRepository.deserialize(message.getBody())).split("\\|");
+            put(parts[0], Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            //필터에 반영하지 못한 토큰이 통과하지 않도록 재구성(주기적 재구성 포함) 전까지 Redis 조회로 전환
+            invalidate();
+            log.warn("Invalid token blacklist message, falling back to Redis lookups", e);
+        }
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private void invalidate() {
+        invalidations.incrementAndGet();
+        ready = false;
+    }
+
+    /**
+     * 토큰 원문 키로 저장된 이전 블랙리스트 항목을 남은 유효 시간 그대로 해시 키로 이전
+     *
+     * @return 이전한 항목 수
+     */
+    private int migrateLegacyKeys() {
+        List<String> keys   = redisRepository.scanKeys(LEGACY_KEY_PATTERN, 1000);
+        List<Object> values = redisRepository.multiGet(keys);
+        List<Long>   ttls   = redisRepository.getExpires(keys, TimeUnit.MILLISECONDS);
+
+        long              now    = System.currentTimeMillis();
+        Map<String, Long> legacy = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Long ttl = ttls.get(i);
+            if (VALUE.equals(values.get(i)) && ttl != null && ttl > 0) {
+                legacy.put(keys.get(i), ttl);
+                put(JwtUtil.hashToken(keys.get(i)), now + ttl);
+            }
+        }
+        if (!legacy.isEmpty())
+            redisRepository.executePipelined(operations -> legacy.forEach((token, ttl) -> {
+                operations.opsForValue().set(KEY_PREFIX + JwtUtil.hashToken(token), VALUE, ttl, TimeUnit.MILLISECONDS);
+                operations.delete(token);
+            }));
+        legacyMigrated = true;
+        return legacy.size();
+    }
+
+    private void put(final String hash, final long expiresAt) {
+        long bucketEnd = (expiresAt / bucketMillis + 1) * bucketMillis;
+        buckets.computeIfAbsent(bucketEnd, k -> new BloomFilter(expectedInsertions, falsePositiveRate))
+               .put(hash1(hash), hash2(hash));
+    }
+
+    private boolean mightContain(final String hash) {
+        long now = System.currentTimeMillis();
+        buckets.headMap(now, true).clear();
+
+        long hash1 = hash1(hash);
+        long hash2 = hash2(hash);
+        for (Map.Entry<Long, BloomFilter> entry : buckets.entrySet())
+            if (entry.getValue().mightContain(hash1, hash2))
+                return true;
+        return false;
+    }
+
+    private static long hash1(final String hash) {
+        return Long.parseUnsignedLong(hash.substring(0, 16), 16);
+    }
+
+    private static long hash2(final String hash) {
+        return Long.parseUnsignedLong(hash.substring(16, 32), 16) | 1;
+    }
+
+}
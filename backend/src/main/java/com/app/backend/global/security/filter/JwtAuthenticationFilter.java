@@ -2,6 +2,8 @@ package com.app.backend.global.security.filter;
 
 import com.app.backend.domain.user.exception.UserException;
 import com.app.backend.global.security.dto.LoginDto;
+import com.app.backend.global.security.password.PasswordHashRejectedException;
+import com.app.backend.global.security.password.PasswordRateLimiter;
 import com.app.backend.global.security.util.JwtUtil;
 import com.app.backend.global.security.user.CustomUserDetails;
 import com.app.backend.global.security.util.AuthResponseUtil;
@@ -14,6 +16,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -37,6 +40,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     private final long REFRESH_EXPIRATION;
     private final ObjectMapper objectMapper;
     private final RedisRepository redisRepository;
+    private final PasswordRateLimiter passwordRateLimiter;
     private final AuthenticationManager authenticationManager;
 
     @Override
@@ -49,6 +53,10 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
             String username = loginRequest.getEmail();
             String password = loginRequest.getPassword();
 
+            if (!passwordRateLimiter.tryLogin(request.getRemoteAddr(), username)) {
+                throw new PasswordHashRejectedException("로그인 요청 한도 초과");
+            }
+
             UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(username, password);
 
             return authenticationManager.authenticate(authToken);
@@ -59,6 +67,15 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException {
+        if (failed instanceof PasswordHashRejectedException) {
+            AuthResponseUtil.failLogin(
+                    response,
+                    new RsData<>(false, "429", "잠시 후 다시 시도해주세요"),
+                    HttpStatus.TOO_MANY_REQUESTS.value(),
+                    objectMapper);
+            return;
+        }
+
         AuthResponseUtil.failLogin(
                 response,
                 new RsData<>(false, "400", "로그인 정보가 정확하지 않습니다"),
@@ -77,7 +94,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
         // Todo: refreshToken key 정하기 username 대체
 
-        redisRepository.delete(userDetails.getUsername());
+        // SET 으로 기존 refreshToken 과 만료 시간을 함께 덮어씀
         redisRepository.save(userDetails.getUsername(), refreshToken, REFRESH_EXPIRATION, TimeUnit.MILLISECONDS);
 
         AuthResponseUtil.success(
@@ -1,14 +1,18 @@
 package com.app.backend.global.security.filter;
 
 import com.app.backend.domain.user.entity.User;
+import com.app.backend.global.metrics.AppMetrics;
+import com.app.backend.global.security.blacklist.TokenBlacklist;
 import com.app.backend.global.security.util.JwtUtil;
 import com.app.backend.global.security.user.CustomUserDetails;
 import com.app.backend.global.security.util.AuthResponseUtil;
 import com.app.backend.global.redis.repository.RedisRepository;
 import com.app.backend.global.rs.RsData;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -25,11 +29,15 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
+    private static final String JWT_VERIFY_TIMER = "auth.jwt.verify";
+
     private final JwtUtil jwtUtil;
     private final long ACCESS_EXPIRATION;
     private final long REFRESH_EXPIRATION;
     private final ObjectMapper objectMapper;
     private final RedisRepository redisRepository;
+    private final TokenBlacklist tokenBlacklist;
+    private final AppMetrics appMetrics;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -48,7 +56,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
         String accessToken = authorization.substring(7);
 
-        if(redisRepository.get(accessToken) != null){
+        if (tokenBlacklist.isBlacklisted(accessToken)) {
             AuthResponseUtil.failLogin(
                     response,
                     new RsData<>(false, "400", "로그아웃 처리된 AccessToken 입니다"),
@@ -57,13 +65,18 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             return;
         }
 
+        Claims claims;
+        Timer.Sample sample = appMetrics.start();
         try {
-            jwtUtil.isExpired(accessToken);
+            claims = jwtUtil.getVerifiedClaims(accessToken);
+            appMetrics.stop(sample, JWT_VERIFY_TIMER, "result", "valid");
         } catch (ExpiredJwtException e) {
+            appMetrics.stop(sample, JWT_VERIFY_TIMER, "result", "expired");
             System.out.println(" 기간 만료 ");
             reissueFilter(request, response, filterChain);
             return;
         } catch (JwtException e) {
+            appMetrics.stop(sample, JWT_VERIFY_TIMER, "result", "invalid");
             // Todo : 이외 오류 반환 (임시 코드 설정)
             AuthResponseUtil.failLogin(
                     response,
@@ -73,9 +86,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String username = jwtUtil.getUsername(accessToken);
-        String role = jwtUtil.getRole(accessToken);
-        Long id = jwtUtil.getUserId(accessToken);
+        String username = jwtUtil.getUsername(claims);
+        String role = jwtUtil.getRole(claims);
+        Long id = jwtUtil.getUserId(claims);
 
         CustomUserDetails userDetails = new CustomUserDetails(User.builder().id(id).email(username).role(role).build());
 
@@ -98,11 +111,18 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             return;
         }
 
-        Long id = jwtUtil.getUserId(refreshToken);
-        String username = jwtUtil.getUsername(refreshToken);
-        String role = jwtUtil.getRole(refreshToken);
+        Claims refreshClaims = jwtUtil.parseClaims(refreshToken);
+        Long id = jwtUtil.getUserId(refreshClaims);
+        String username = jwtUtil.getUsername(refreshClaims);
+        String role = jwtUtil.getRole(refreshClaims);
+
+        CustomUserDetails userDetails = new CustomUserDetails(User.builder().id(id).email(username).role(role).build());
+
+        String newAccessToken = jwtUtil.createAccessToken(userDetails, ACCESS_EXPIRATION);
+        String newRefreshToken = jwtUtil.createRefreshToken(userDetails, REFRESH_EXPIRATION);
 
-        if (!redisRepository.get(username).equals(refreshToken)) {
+        // 저장된 refreshToken 과 같을 때만 새 refreshToken 으로 교체 (비교 + 교체 1회 왕복)
+        if (!redisRepository.replaceIfEquals(username, refreshToken, newRefreshToken, REFRESH_EXPIRATION, TimeUnit.MILLISECONDS)) {
             AuthResponseUtil.failLogin(
                     response,
                     new RsData<>(false, "401", "잘못된 refreshToken"),
@@ -112,14 +132,6 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             return;
         }
 
-        CustomUserDetails userDetails = new CustomUserDetails(User.builder().id(id).email(username).role(role).build());
-
-        String newAccessToken = jwtUtil.createAccessToken(userDetails, ACCESS_EXPIRATION);
-        String newRefreshToken = jwtUtil.createRefreshToken(userDetails, REFRESH_EXPIRATION);
-
-        redisRepository.delete(userDetails.getUsername());
-        redisRepository.save(userDetails.getUsername(), newRefreshToken, REFRESH_EXPIRATION, TimeUnit.MILLISECONDS);
-
         UsernamePasswordAuthenticationToken authenticationToken =
                 new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authenticationToken);
@@ -1,7 +1,9 @@
 package com.app.backend.global.security.handler;
 
 import com.app.backend.global.redis.repository.RedisRepository;
+import com.app.backend.global.security.blacklist.TokenBlacklist;
 import com.app.backend.global.security.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -9,14 +11,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 
-import java.util.Date;
-import java.util.concurrent.TimeUnit;
-
 @RequiredArgsConstructor
 public class JwtLogoutHandler implements LogoutHandler {
 
     private final JwtUtil jwtUtil;
     private final RedisRepository redisRepository;
+    private final TokenBlacklist tokenBlacklist;
 
     @Override
     public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
@@ -28,13 +28,10 @@ public class JwtLogoutHandler implements LogoutHandler {
         if (authorization != null && refreshToken != null) {
             accessToken = authorization.substring(7);
             try {
-                String username = jwtUtil.getUsername(accessToken);
-                Date expiration = jwtUtil.getExpirationDate(accessToken);
-                long duration = expiration.getTime() - System.currentTimeMillis();
-                redisRepository.save(accessToken,"Logout", duration, TimeUnit.MILLISECONDS);
-                if (redisRepository.get(username).equals(refreshToken)) {
-                    redisRepository.delete(username);
-                }
+                Claims claims = jwtUtil.getVerifiedClaims(accessToken);
+                String username = jwtUtil.getUsername(claims);
+                tokenBlacklist.add(accessToken, claims.getExpiration());
+                redisRepository.deleteIfEquals(username, refreshToken);
             } catch (Exception e) {
                 // 어떤 예외가 있어도 그냥 로그아웃 성공하게 수정
             }
@@ -0,0 +1,151 @@
+package com.app.backend.global.security.password;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 전용 스레드 풀에서 해시를 수행하는 PasswordEncoder
+ * 동시에 CPU를 사용하는 해시 작업 수를 스레드 수로 제한하고, 대기열이 가득 차면 즉시 거부
+ * 요청 스레드는 결과를 기다리는 동안 CPU를 점유하지 않으므로 로그인 폭주 중에도 다른 요청 처리 가능
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder    delegate;
+    private final ThreadPoolExecutor executor;
+    private final long               timeoutMillis;
+
+    private final LongAdder  submitted     = new LongAdder();
+    private final LongAdder  rejected      = new LongAdder();
+    private final LongAdder  timedOut      = new LongAdder();
+    private final LongAdder  completed     = new LongAdder();
+    private final LongAdder  queueWaitNano = new LongAdder();
+    private final LongAdder  hashNano      = new LongAdder();
+    private final AtomicLong maxQueueWait  = new AtomicLong();
+    private final AtomicLong maxHash       = new AtomicLong();
+
+    /**
+     * @param delegate      - 실제 해시를 수행할 PasswordEncoder
+     * @param threads       - 해시 스레드 수
+     * @param queueCapacity - 대기열 크기
+     * @param timeoutMillis - 대기 + 해시 최대 시간(ms)
+     */
+    public BoundedPasswordEncoder(final PasswordEncoder delegate,
+                                  final int threads,
+                                  final int queueCapacity,
+                                  final long timeoutMillis) {
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                                               new ArrayBlockingQueue<>(queueCapacity),
+                                               runnable -> {
+                                                   Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                                                   thread.setDaemon(true);
+                                                   return thread;
+                                               },
+                                               new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 해시 작업 통계: 대기 시간과 해시 시간을 분리하여 집계
+     *
+     * @return 통계
+     */
+    public Map<String, Long> getStats() {
+        long count = completed.sum();
+
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("submitted", submitted.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("timedOut", timedOut.sum());
+        stats.put("completed", count);
+        stats.put("active", (long) executor.getActiveCount());
+        stats.put("queued", (long) executor.getQueue().size());
+        stats.put("avgQueueWaitMicros", count == 0 ? 0 : queueWaitNano.sum() / count / 1000);
+        stats.put("maxQueueWaitMicros", maxQueueWait.get() / 1000);
+        stats.put("avgHashMicros", count == 0 ? 0 : hashNano.sum() / count / 1000);
+        stats.put("maxHashMicros", maxHash.get() / 1000);
+        return stats;
+    }
+
+    /**
+     * 빈 종료 시 해시 스레드 종료
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private <T> T submit(final Callable<T> task) {
+        long      submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    record(startedAt - submittedAt, System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashRejectedException("비밀번호 처리 대기열 초과", e);
+        }
+        submitted.increment();
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new PasswordHashRejectedException("비밀번호 처리 대기 시간 초과", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashRejectedException("비밀번호 처리 중단", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void record(final long queueWait, final long hash) {
+        completed.increment();
+        queueWaitNano.add(queueWait);
+        hashNano.add(hash);
+        maxQueueWait.accumulateAndGet(queueWait, Math::max);
+        maxHash.accumulateAndGet(hash, Math::max);
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.app.backend.global.security.password;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 해시 작업 거부(요청 제한 초과, 대기열 초과, 대기 시간 초과)
+ * 로그인 중 발생 시 인증 실패로 처리되도록 AuthenticationServiceException 상속
+ */
+public class PasswordHashRejectedException extends AuthenticationServiceException {
+
+    public PasswordHashRejectedException(final String message) {
+        super(message);
+    }
+
+    public PasswordHashRejectedException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.app.backend.global.security.password;
+
+import com.app.backend.global.redis.repository.RedisRepository;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 해시가 필요한 요청(로그인, 회원가입, 비밀번호 변경)의 Redis 고정 윈도우 요청 제한
+ * 해시 스레드 풀에 작업이 들어가기 전에 IP/계정 단위로 거부하여 대량 시도가 대기열을 점유하지 못하도록 함
+ * Redis 장애 시에는 요청 허용(해시 스레드 풀 대기열 제한은 유지)
+ */
+@Slf4j
+@Component
+public class PasswordRateLimiter {
+
+    private static final String KEY_PREFIX = "rateLimit:";
+
+    /**
+     * KEYS: 카운터 / ARGV: 윈도우(ms)
+     * 반환값: 현재 윈도우 요청 수
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = RedisScript.of("""
+            local count = redis.call('INCR', KEYS[1])
+            if count == 1 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            end
+            return count
+            """, Long.class);
+
+    private final RedisRepository redisRepository;
+    private final long            windowMillis;
+    private final int             loginPerIp;
+    private final int             loginPerAccount;
+    private final int             signupPerIp;
+    private final int             passwordChangePerAccount;
+
+    public PasswordRateLimiter(final RedisRepository redisRepository,
+                               @Value("${security.password.rate-limit.window-seconds:60}") final long windowSeconds,
+                               @Value("${security.password.rate-limit.login-per-ip:30}") final int loginPerIp,
+                               @Value("${security.password.rate-limit.login-per-account:10}") final int loginPerAccount,
+                               @Value("${security.password.rate-limit.signup-per-ip:10}") final int signupPerIp,
+                               @Value("${security.password.rate-limit.password-change-per-account:5}") final int passwordChangePerAccount) {
+        this.redisRepository = redisRepository;
+        this.windowMillis = windowSeconds * 1000;
+        this.loginPerIp = loginPerIp;
+        this.loginPerAccount = loginPerAccount;
+        this.signupPerIp = signupPerIp;
+        this.passwordChangePerAccount = passwordChangePerAccount;
+    }
+
+    /**
+     * 로그인 허용 여부
+     *
+     * @param ip    - 요청 IP
+     * @param email - 로그인 이메일
+     * @return 허용 여부
+     */
+    public boolean tryLogin(final String ip, final String email) {
+        return tryAcquire("login:ip:" + ip, loginPerIp) && tryAcquire("login:account:" + email, loginPerAccount);
+    }
+
+    /**
+     * 회원가입 허용 여부
+     *
+     * @param ip - 요청 IP
+     * @return 허용 여부
+     */
+    public boolean trySignup(final String ip) {
+        return tryAcquire("signup:ip:" + ip, signupPerIp);
+    }
+
+    /**
+     * 비밀번호 변경 허용 여부
+     *
+     * @param userId - 회원 ID
+     * @return 허용 여부
+     */
+    public boolean tryChangePassword(final Long userId) {
+        return tryAcquire("password:account:" + userId, passwordChangePerAccount);
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private boolean tryAcquire(final String key, final int limit) {
+        try {
+            Long count = redisRepository.execute(INCREMENT_SCRIPT, List.of(KEY_PREFIX + key), windowMillis);
+            return count == null || count <= limit;
+        } catch (RuntimeException e) {
+            log.warn("Rate limit check failed, allowing request: {}", key, e);
+            return true;
+        }
+    }
+
+}
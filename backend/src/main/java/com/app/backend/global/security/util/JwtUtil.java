@@ -1,7 +1,12 @@
 package com.app.backend.global.security.util;
 
 import com.app.backend.global.security.user.CustomUserDetails;
-import io.jsonwebtoken.Jwt;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import jakarta.servlet.http.Cookie;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,35 +15,117 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
 
 @Component
 public class JwtUtil {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
 
-    public JwtUtil(@Value("${jwt.secret}") String secret) {
+    /**
+     * 검증된 토큰 클레임 캐시(키: 토큰 SHA-256 해시)
+     * 토큰 만료 시각 또는 최대 보관 시간 중 빠른 시점에 제거
+     */
+    private final Cache<String, Claims> claimsCache;
+
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.claims-cache.maximum-size:10000}") long claimsCacheMaximumSize,
+                   @Value("${jwt.claims-cache.max-ttl-seconds:300}") long claimsCacheMaxTtlSeconds) {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS512.key().build().getAlgorithm());
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaximumSize)
+                .expireAfter(new ClaimsExpiry(Duration.ofSeconds(claimsCacheMaxTtlSeconds).toNanos()))
+                .build();
+    }
+
+    /**
+     * 토큰 서명 검증 후 클레임 추출(1회 파싱)
+     *
+     * @param token - JWT
+     * @return 클레임
+     * @throws ExpiredJwtException            만료된 토큰
+     * @throws io.jsonwebtoken.JwtException 서명 불일치 등 잘못된 토큰
+     */
+    public Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 캐시를 사용한 토큰 클레임 추출
+     * 한 번 검증된 토큰은 만료 전까지 서명 검증 없이 캐시에서 반환, 검증 실패한 토큰은 캐시하지 않음
+     *
+     * @param token - JWT
+     * @return 클레임
+     * @throws ExpiredJwtException            만료된 토큰
+     * @throws io.jsonwebtoken.JwtException 서명 불일치 등 잘못된 토큰
+     */
+    public Claims getVerifiedClaims(String token) {
+        String key    = hashToken(token);
+        Claims claims = claimsCache.getIfPresent(key);
+
+        if (claims == null) {
+            claims = parseClaims(token);
+            claimsCache.put(key, claims);
+        } else if (isExpired(claims)) {
+            claimsCache.invalidate(key);
+            throw new ExpiredJwtException(null, claims, "JWT expired at " + claims.getExpiration());
+        }
+
+        return claims;
     }
 
     public Long getUserId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("id", Long.class);
+        return getUserId(parseClaims(token));
+    }
+
+    public Long getUserId(Claims claims) {
+        return claims.get("id", Long.class);
     }
 
     public String getUsername(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
+        return getUsername(parseClaims(token));
+    }
+
+    public String getUsername(Claims claims) {
+        return claims.get("username", String.class);
     }
 
     public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
+        return getRole(parseClaims(token));
+    }
+
+    public String getRole(Claims claims) {
+        return claims.get("role", String.class);
     }
 
     public boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        return isExpired(parseClaims(token));
     }
 
     public Date getExpirationDate(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration();
+        return parseClaims(token).getExpiration();
+    }
+
+    /**
+     * 토큰 SHA-256 해시(16진수 문자열)
+     * 토큰 원문 대신 캐시/블랙리스트 키로 사용
+     *
+     * @param token - JWT
+     * @return 해시 문자열(64자)
+     */
+    public static String hashToken(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public String createAccessToken(CustomUserDetails customUserDetails, long expiration) {
@@ -79,4 +166,35 @@ public class JwtUtil {
 
         return cookie;
     }
+
+    //==================== 내부 메서드 ====================//
+
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration() != null && claims.getExpiration().before(new Date());
+    }
+
+    /**
+     * 클레임 캐시 만료 정책: 토큰 만료 시각까지(최대 maxTtlNanos)
+     */
+    private record ClaimsExpiry(long maxTtlNanos) implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            if (claims.getExpiration() == null)
+                return maxTtlNanos;
+            long remainingNanos = Duration.ofMillis(claims.getExpiration().getTime() - System.currentTimeMillis())
+                                          .toNanos();
+            return Math.max(0, Math.min(remainingNanos, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
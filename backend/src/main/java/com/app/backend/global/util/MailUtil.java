@@ -1,11 +1,13 @@
 package com.app.backend.global.util;
 
+import com.app.backend.global.metrics.AppMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.stereotype.Component;
 
 /**
@@ -16,43 +18,58 @@ import org.springframework.stereotype.Component;
  * Description :
  */
 @Component
-@EnableAsync
 @RequiredArgsConstructor
 public class MailUtil {
 
+    private static final String MAIL_SEND_TIMER      = "mail.send";
+    private static final String MAIL_SEND_FAILURES   = "mail.send.failures";
+    private static final String MAIL_SEND_BATCH_SIZE = "mail.send.batch.size";
+
     private final JavaMailSender mailSender;
+    private final AppMetrics     appMetrics;
 
     @Value("${email.from}")
     private String from;
 
     /**
-     * 메일 전송
+     * 메일 일괄 전송
+     * 하나의 SMTP 연결을 재사용하여 전송, 일부 실패 시 MailSendException.getFailedMessages()로 실패 메일 확인
      *
-     * @param to      - 이메일 주소
-     * @param subject - 메일 제목
-     * @param text    - 메일 내용
+     * @param messages - 전송할 메일 목록
      */
-    @Async
-    public void sendMail(final String to, final String subject, final String text) {
-        SimpleMailMessage smm = createMailMessage(to);
-        smm.setSubject(subject);
-        smm.setText(text);
-
-        mailSender.send(smm);
+    public void sendMails(final SimpleMailMessage... messages) {
+        Timer.Sample sample = appMetrics.start();
+        try {
+            mailSender.send(messages);
+            appMetrics.stop(sample, MAIL_SEND_TIMER, "result", "success");
+        } catch (MailSendException e) {
+            appMetrics.stop(sample, MAIL_SEND_TIMER, "result", "failure");
+            appMetrics.count(MAIL_SEND_FAILURES,
+                             e.getFailedMessages().isEmpty() ? messages.length : e.getFailedMessages().size());
+            throw e;
+        } catch (MailException e) {
+            appMetrics.stop(sample, MAIL_SEND_TIMER, "result", "failure");
+            appMetrics.count(MAIL_SEND_FAILURES, messages.length);
+            throw e;
+        } finally {
+            appMetrics.recordSize(MAIL_SEND_BATCH_SIZE, messages.length);
+        }
     }
 
-    //==================== 내부 메서드 ====================//
-
     /**
      * SimpleMailMessage 생성
      *
-     * @param to - 이메일 주소
+     * @param to      - 이메일 주소
+     * @param subject - 메일 제목
+     * @param text    - 메일 내용
      * @return SimpleMailMessage 객체
      */
-    private SimpleMailMessage createMailMessage(final String to) {
+    public SimpleMailMessage createMailMessage(final String to, final String subject, final String text) {
         SimpleMailMessage smm = new SimpleMailMessage();
         smm.setFrom(from);
         smm.setTo(to);
+        smm.setSubject(subject);
+        smm.setText(text);
         return smm;
     }
 
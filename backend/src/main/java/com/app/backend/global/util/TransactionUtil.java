@@ -0,0 +1,33 @@
+package com.app.backend.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 동기화 유틸
+ */
+public final class TransactionUtil {
+
+    private TransactionUtil() {
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후 수행(롤백되면 수행 안 함), 트랜잭션 밖이면 즉시 수행
+     * 캐시 무효화, 색인 반영 등 커밋 전에 수행하면 커밋 전 값이 다시 적재될 수 있는 작업에 사용
+     *
+     * @param task - 수행할 작업
+     */
+    public static void afterCommit(final Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+}
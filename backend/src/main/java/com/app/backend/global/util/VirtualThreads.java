@@ -0,0 +1,30 @@
+package com.app.backend.global.util;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled) 실행 환경 확인
+ * Spring Boot는 Java 21 미만에서 설정을 무시하지만, 직접 만드는 가상 스레드 실행기는 실행 중 실패하므로 기동 시 명확한 메시지로 중단
+ */
+public final class VirtualThreads {
+
+    private static final int REQUIRED_JAVA_VERSION = 21;
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * 현재 런타임이 가상 스레드를 지원하지 않으면 예외
+     *
+     * @throws IllegalStateException Java 21 미만 런타임
+     */
+    public static void requireSupported() {
+        int feature = Runtime.version().feature();
+        if (feature < REQUIRED_JAVA_VERSION)
+            throw new IllegalStateException(
+                    "spring.threads.virtual.enabled=true requires Java %d or later, but running on Java %d. "
+                            .formatted(REQUIRED_JAVA_VERSION, feature)
+                    + "Build and run with -PjavaVersion=%d or disable the virtual_threads profile."
+                            .formatted(REQUIRED_JAVA_VERSION)
+            );
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.app.backend.domain.order.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.app.backend.domain.order.dto.response.UserOrderSummaryResponse;
+import com.app.backend.domain.order.dto.response.UserOrderSummaryResponse.RecentOrder;
+import com.app.backend.domain.order.entity.Order;
+import com.app.backend.domain.order.entity.OrderStatus;
+import com.app.backend.domain.user.entity.User;
+import com.app.backend.global.redis.config.RedisContainerTest;
+import com.app.backend.global.util.ReflectionUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderSummaryCacheTest extends RedisContainerTest {
+
+    private static final long USER_ID = 1L;
+
+    private OrderSummaryCache orderSummaryCache;
+    private List<Order>       database;
+    private AtomicInteger     loadCount;
+
+    @BeforeEach
+    void beforeEach() {
+        orderSummaryCache = new OrderSummaryCache(newRedisRepository(), new ObjectMapper(), 10, 24);
+        database = new ArrayList<>();
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("get, rebuilt summary cached and updated by later orders")
+    void get() {
+        //Given
+        database.add(order(1L, "10000.00"));
+        orderSummaryCache.get(USER_ID, this::load);
+
+        //When
+        Order created = order(2L, "5000.00");
+        database.add(created);
+        orderSummaryCache.recordCreated(created);
+        UserOrderSummaryResponse result = orderSummaryCache.get(USER_ID, this::load);
+
+        //Then
+        assertThat(loadCount).hasValue(1);
+        assertThat(result.orderCount()).isEqualTo(2);
+        assertThat(result.totalSpend()).isEqualByComparingTo("15000.00");
+        assertThat(result.statusCounts()).containsEntry("ORDERED", 2L);
+        assertThat(result.recentOrders()).extracting(RecentOrder::orderId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("get, order created while rebuilding is not lost")
+    void get_orderCreatedDuringRebuild() {
+        //Given: 원본 조회 직후(이미 읽은 결과에는 없음) 주문이 커밋되고 증분 갱신 실행
+        database.add(order(1L, "10000.00"));
+        Order created = order(2L, "5000.00");
+
+        //When
+        UserOrderSummaryResponse stale = orderSummaryCache.get(USER_ID, () -> {
+            UserOrderSummaryResponse summary = load();
+            database.add(created);
+            orderSummaryCache.recordCreated(created);
+            return summary;
+        });
+        UserOrderSummaryResponse result = orderSummaryCache.get(USER_ID, this::load);
+
+        //Then
+        assertThat(stale.orderCount()).isEqualTo(1);
+        assertThat(loadCount).hasValue(2);
+        assertThat(result.orderCount()).isEqualTo(2);
+        assertThat(result.recentOrders()).extracting(RecentOrder::orderId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("evict, summary rebuilt on next read")
+    void evict() {
+        //Given
+        database.add(order(1L, "10000.00"));
+        orderSummaryCache.get(USER_ID, this::load);
+
+        //When
+        database.clear();
+        orderSummaryCache.evict(USER_ID);
+        UserOrderSummaryResponse result = orderSummaryCache.get(USER_ID, this::load);
+
+        //Then
+        assertThat(loadCount).hasValue(2);
+        assertThat(result.orderCount()).isZero();
+    }
+
+    private UserOrderSummaryResponse load() {
+        loadCount.incrementAndGet();
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        for (OrderStatus status : OrderStatus.values())
+            statusCounts.put(status.name(), database.stream().filter(order -> order.getStatus() == status).count());
+        return new UserOrderSummaryResponse(database.stream()
+                                                    .sorted((a, b) -> Long.compare(b.getId(), a.getId()))
+                                                    .map(RecentOrder::of)
+                                                    .toList(),
+                                            statusCounts,
+                                            database.size(),
+                                            database.stream()
+                                                    .map(Order::getTotalPrice)
+                                                    .reduce(BigDecimal.ZERO, BigDecimal::add));
+    }
+
+    private Order order(final long orderId, final String totalPrice) {
+        User customer = User.builder().id(USER_ID).name("user").build();
+        Order order = Order.of(customer, "orderNumber" + orderId, 1, new BigDecimal(totalPrice), "address");
+        ReflectionUtil.setPrivateFieldValue(Order.class, order, "id", orderId);
+        ReflectionUtil.setPrivateFieldValue(Order.class, order, "createdDate", LocalDateTime.now());
+        return order;
+    }
+
+}
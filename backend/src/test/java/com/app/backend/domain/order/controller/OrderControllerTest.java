@@ -17,6 +17,7 @@ import com.app.backend.domain.order.constant.OrderMessageConstant;
 import com.app.backend.domain.order.dto.request.OrderProductRequest;
 import com.app.backend.domain.order.dto.request.OrderRequest;
 import com.app.backend.domain.order.dto.response.OrderResponse;
+import com.app.backend.domain.order.dto.response.OrderSaveResponse;
 import com.app.backend.domain.order.entity.Order;
 import com.app.backend.domain.order.exception.OrderException;
 import com.app.backend.domain.order.repository.OrderRepository;
@@ -107,9 +108,10 @@ class OrderControllerTest {
                                                               .content(objectMapper.writeValueAsString(orderRequest)));
 
         //Then
-        RsData<Void> rsData = new RsData<>(true,
-                                           String.valueOf(HttpStatus.OK.value()),
-                                           OrderMessageConstant.ORDER_SAVE_SUCCESS);
+        RsData<OrderSaveResponse> rsData = new RsData<>(true,
+                                                        String.valueOf(HttpStatus.OK.value()),
+                                                        OrderMessageConstant.ORDER_SAVE_SUCCESS,
+                                                        new OrderSaveResponse(1L));
 
         resultActions.andExpect(status().isOk())
                      .andExpect(content().json(objectMapper.writeValueAsString(rsData)))
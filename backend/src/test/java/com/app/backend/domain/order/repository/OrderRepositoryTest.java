@@ -1,18 +1,32 @@
 package com.app.backend.domain.order.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
+import com.app.backend.domain.order.dto.OrderSearchCondition;
+import com.app.backend.domain.order.dto.OrderShipmentDto;
+import com.app.backend.domain.order.dto.OrderStatusTargetDto;
+import com.app.backend.domain.order.dto.OrderSummaryDto;
 import com.app.backend.domain.order.entity.Order;
 import com.app.backend.domain.order.entity.OrderStatus;
+import com.app.backend.domain.order.exception.OrderException;
+import com.app.backend.global.error.exception.ErrorCode;
 import com.app.backend.global.annotation.RepositoryTest;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
@@ -275,4 +289,105 @@ class OrderRepositoryTest {
         assertThat(order).isNotNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("findShipmentTargets")
+    void findShipmentTargets() {
+        //Given
+        LocalDateTime createdBefore = LocalDateTime.of(2025, 1, 2, 9, 0);
+
+        //When
+        List<OrderShipmentDto> firstChunk  = orderRepository.findShipmentTargets(OrderStatus.ORDERED,
+                                                                                 createdBefore,
+                                                                                 null,
+                                                                                 3);
+        List<OrderShipmentDto> secondChunk = orderRepository.findShipmentTargets(OrderStatus.ORDERED,
+                                                                                 createdBefore,
+                                                                                 firstChunk.get(2).orderId(),
+                                                                                 3);
+
+        //Then
+        assertThat(firstChunk).extracting(OrderShipmentDto::orderId).containsExactly(1L, 2L, 3L);
+        assertThat(firstChunk).extracting(OrderShipmentDto::email).doesNotContainNull();
+        assertThat(secondChunk).extracting(OrderShipmentDto::orderId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("updateStatus")
+    void updateStatus() {
+        //Given
+        LocalDateTime modifiedDate = LocalDateTime.of(2025, 1, 2, 9, 0);
+
+        //When
+        long updated = orderRepository.updateStatus(List.of(1L, 2L, 5L),
+                                                    OrderStatus.ORDERED,
+                                                    OrderStatus.SHIPPED,
+                                                    modifiedDate);
+
+        //Then
+        assertThat(updated).isEqualTo(2);
+        assertThat(orderRepository.findIdsByStatusAndModifiedDate(List.of(1L, 2L, 5L),
+                                                                  OrderStatus.SHIPPED,
+                                                                  modifiedDate))
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("updateStatus, allowed previous statuses")
+    void updateStatus_allowedPreviousStatuses() {
+        //Given
+        LocalDateTime modifiedDate = LocalDateTime.of(2025, 1, 2, 9, 0);
+
+        //When
+        long updated = orderRepository.updateStatus(List.of(1L, 5L, 6L, 7L, 9L),
+                                                    OrderStatus.DELIVERED.getAllowedPreviousStatuses(),
+                                                    OrderStatus.DELIVERED,
+                                                    modifiedDate);
+
+        //Then
+        assertThat(updated).isEqualTo(2);
+        assertThat(orderRepository.findIdsByStatusAndModifiedDate(List.of(1L, 5L, 6L, 7L, 9L),
+                                                                  OrderStatus.DELIVERED,
+                                                                  modifiedDate))
+                .containsExactlyInAnyOrder(5L, 6L);
+    }
+
+    @Test
+    @DisplayName("findStatusTargetsByIds, findStatusTargetsByOrderNumbers")
+    void findStatusTargets() {
+        //Given
+
+        //When
+        List<OrderStatusTargetDto> byIds     = orderRepository.findStatusTargetsByIds(List.of(1L, 5L, 100L));
+        List<OrderStatusTargetDto> byNumbers = orderRepository.findStatusTargetsByOrderNumbers(
+                List.of("20250101ABCDE7", "unknown")
+        );
+
+        //Then
+        assertThat(byIds).extracting(OrderStatusTargetDto::orderId, OrderStatusTargetDto::status)
+                         .containsExactlyInAnyOrder(tuple(1L, OrderStatus.ORDERED), tuple(5L, OrderStatus.SHIPPED));
+        assertThat(byIds).extracting(OrderStatusTargetDto::userId).containsExactlyInAnyOrder(1L, 5L);
+        assertThat(byNumbers).extracting(OrderStatusTargetDto::orderId).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("findSummaries, sorted by whitelisted property")
+    void findSummaries_sort() {
+        //When
+        Page<OrderSummaryDto> result = orderRepository.findSummaries(OrderSearchCondition.empty(),
+                                                                     PageRequest.of(0, 3, Sort.by(Direction.DESC, "id")));
+
+        //Then
+        assertThat(result.getContent()).extracting(OrderSummaryDto::orderId).containsExactly(10L, 9L, 8L);
+    }
+
+    @Test
+    @DisplayName("findSummaries, unknown sort property")
+    void findSummaries_unknownSortProperty() {
+        //When, Then
+        assertThatThrownBy(() -> orderRepository.findSummaries(OrderSearchCondition.empty(),
+                                                               PageRequest.of(0, 3, Sort.by("customer.password"))))
+                .isInstanceOf(OrderException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_SORT_NOT_EXISTS);
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.app.backend.domain.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.domain.order.dto.OrderIngestRequest;
+import com.app.backend.domain.order.dto.OrderIngestResult;
+import com.app.backend.domain.order.dto.request.OrderProductRequest;
+import com.app.backend.domain.order.dto.request.OrderRequest;
+import com.app.backend.domain.order.exception.OrderException;
+import com.app.backend.domain.product.service.HotStockService;
+import com.app.backend.global.error.exception.ErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderIngestionServiceTest {
+
+    private OrderService                   orderService;
+    private OrderIngestionService          orderIngestionService;
+    private List<List<OrderIngestRequest>> savedBatches;
+    private CountDownLatch                 release;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void beforeEach() {
+        orderService = mock(OrderService.class);
+        savedBatches = new ArrayList<>();
+        release = new CountDownLatch(1);
+        when(orderService.saveOrders(anyList())).thenAnswer(invocation -> {
+            List<OrderIngestRequest> requests = invocation.getArgument(0);
+            savedBatches.add(List.copyOf(requests));
+            release.await(5, TimeUnit.SECONDS);
+            List<OrderIngestResult> results = new ArrayList<>();
+            for (int i = 0; i < requests.size(); i++)
+                results.add(OrderIngestResult.success(requests.get(i).userId()));
+            return results;
+        });
+        orderIngestionService = new OrderIngestionService(orderService, mock(HotStockService.class),
+                                                          true, 16, 200, 300);
+        orderIngestionService.init();
+    }
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        release.countDown();
+        orderIngestionService.destroy();
+    }
+
+    @Test
+    @DisplayName("saveOrder, committed batch returns order id")
+    void saveOrder() {
+        //Given
+        release.countDown();
+
+        //When
+        long orderId = orderIngestionService.saveOrder(1L, orderRequest());
+
+        //Then
+        assertThat(orderId).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("saveOrder, order still queued after timeout is cancelled and never written")
+    void saveOrder_timeoutWhileQueued() throws Exception {
+        //Given: 첫 주문 묶음이 커밋되지 않은 채로 기록 스레드 점유
+        CompletableFuture<Long> first = CompletableFuture.supplyAsync(
+                () -> orderIngestionService.saveOrder(1L, orderRequest()));
+        verify(orderService, timeout(1000)).saveOrders(anyList());
+
+        //When, Then
+        assertThatThrownBy(() -> orderIngestionService.saveOrder(2L, orderRequest()))
+                .isInstanceOf(OrderException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_INGESTION_TIMEOUT);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1L);
+        orderIngestionService.destroy();
+        assertThat(savedBatches.stream().flatMap(List::stream).map(OrderIngestRequest::userId))
+                .containsExactly(1L);
+    }
+
+    private OrderRequest orderRequest() {
+        return new OrderRequest(List.of(new OrderProductRequest(1L, 1)));
+    }
+
+}
@@ -3,16 +3,23 @@ package com.app.backend.domain.order.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.app.backend.domain.order.dto.OrderIngestRequest;
+import com.app.backend.domain.order.dto.OrderIngestResult;
+import com.app.backend.domain.order.dto.OrderSearchCondition;
 import com.app.backend.domain.order.dto.request.OrderProductRequest;
 import com.app.backend.domain.order.dto.request.OrderRequest;
+import com.app.backend.domain.order.dto.response.AdminOrderDetailResponse;
 import com.app.backend.domain.order.dto.response.AdminOrderResponse;
 import com.app.backend.domain.order.dto.response.OrderResponse;
+import com.app.backend.domain.order.dto.response.UserOrderSummaryResponse;
+import com.app.backend.domain.order.dto.response.UserOrderSummaryResponse.RecentOrder;
 import com.app.backend.domain.order.entity.Order;
 import com.app.backend.domain.order.entity.OrderProduct;
 import com.app.backend.domain.order.entity.OrderStatus;
 import com.app.backend.domain.order.exception.OrderException;
 import com.app.backend.domain.order.repository.OrderProductRepository;
 import com.app.backend.domain.order.repository.OrderRepository;
+import com.app.backend.domain.order.util.OrderExportWriter;
 import com.app.backend.domain.product.entity.Product;
 import com.app.backend.domain.product.repository.ProductRepository;
 import com.app.backend.domain.user.entity.User;
@@ -20,10 +27,16 @@ import com.app.backend.domain.user.exception.UserException;
 import com.app.backend.domain.user.repository.UserRepository;
 import com.app.backend.global.error.exception.ErrorCode;
 import com.app.backend.global.initdata.InitDummyData;
+import com.app.backend.global.util.QueryCountUtil;
 import com.app.backend.standard.util.Ut;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.PersistenceContext;
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -39,6 +52,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -60,9 +75,11 @@ class OrderServiceTest {
 //            .withPerMethodLifecycle(true);
 
     @Autowired
-    private OrderService  orderService;
+    private OrderService         orderService;
     @PersistenceContext
-    private EntityManager em;
+    private EntityManager        em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 //    @Autowired
 //    private PlatformTransactionManager transactionManager;
 
@@ -77,6 +94,8 @@ class OrderServiceTest {
 
     @Autowired
     private InitDummyData initDummyData;
+    @Autowired
+    private ObjectMapper  objectMapper;
 
     private List<User>    users;
     private List<Product> products;
@@ -147,7 +166,7 @@ class OrderServiceTest {
             assertThat(savedOrderProduct.getProductAmount()).isEqualTo(1);
             assertThat(savedOrderProduct.getProductPrice().compareTo(storedProducts.get(i).getPrice()) == 0).isTrue();
             assertThat(savedOrderProduct.getTotalProductPrice())
-                    .isEqualTo(storedProducts.get(i).getPrice().multiply(BigDecimal.ONE));
+                    .isEqualByComparingTo(storedProducts.get(i).getPrice().multiply(BigDecimal.ONE));
         }
 
 //        assertThat(receivedMessages).hasSize(1);
@@ -157,6 +176,32 @@ class OrderServiceTest {
 //                .isEqualTo(MailMessageConstant.MAIL_SUBJECT_ORDER_SUCCESS);
     }
 
+    @Test
+    @DisplayName("saveOrder, duplicate product ids")
+    void saveOrder_duplicateProductIds() {
+        //Given
+        long    customerId = users.get(0).getId();
+        Product product    = products.get(0);
+
+        OrderRequest orderRequest = new OrderRequest(List.of(new OrderProductRequest(product.getId(), 1),
+                                                             new OrderProductRequest(products.get(1).getId(), 1),
+                                                             new OrderProductRequest(product.getId(), 2)));
+
+        //When
+        long savedOrderId = orderService.saveOrder(customerId, orderRequest);
+
+        //Then
+        Order savedOrder = orderRepository.findById(savedOrderId).get();
+
+        assertThat(savedOrder.getTotalAmount()).isEqualTo(4);
+        assertThat(savedOrder.getTotalPrice()).isEqualByComparingTo(BigDecimal.valueOf(40000));
+        assertThat(savedOrder.getOrderProducts()).hasSize(2);
+        assertThat(savedOrder.getOrderProducts().get(0).getProduct().getId()).isEqualTo(product.getId());
+        assertThat(savedOrder.getOrderProducts().get(0).getProductAmount()).isEqualTo(3);
+        assertThat(savedOrder.getOrderProducts().get(0).getTotalProductPrice())
+                .isEqualByComparingTo(BigDecimal.valueOf(30000));
+    }
+
     @Test
     @DisplayName("saveOrder, unknown user id")
     void saveOrder_unknownUserId() {
@@ -205,6 +250,84 @@ class OrderServiceTest {
 //        assertThat(greenMailExtension.getReceivedMessages()).isEmpty();
     }
 
+    @Test
+    @DisplayName("saveOrder, decrease product stock")
+    void saveOrder_decreaseStock() {
+        //Given
+        long       customerId = users.get(0).getId();
+        List<Long> productIds = products.stream().map(Product::getId).toList();
+
+        List<OrderProductRequest> productInfo = new ArrayList<>();
+        for (Long productId : productIds)
+            productInfo.add(new OrderProductRequest(productId, 3));
+        OrderRequest orderRequest = new OrderRequest(productInfo);
+
+        //When
+        orderService.saveOrder(customerId, orderRequest);
+        afterEach();
+
+        //Then
+        List<Product> storedProducts = productRepository.findAllById(productIds);
+
+        assertThat(storedProducts).hasSize(productIds.size());
+        assertThat(storedProducts).allSatisfy(product -> assertThat(product.getStock()).isEqualTo(10 - 3));
+    }
+
+    @Test
+    @DisplayName("saveOrder, out of stock")
+    void saveOrder_outOfStock() {
+        //Given
+        long userId = users.get(0).getId();
+
+        OrderRequest orderRequest = new OrderRequest(List.of(new OrderProductRequest(products.get(0).getId(), 1),
+                                                             new OrderProductRequest(products.get(1).getId(), 11)));
+
+        //When
+
+        //Then
+        assertThatThrownBy(() -> orderService.saveOrder(userId, orderRequest))
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_OUT_OF_STOCK)
+                .hasMessage(ErrorCode.PRODUCT_OUT_OF_STOCK.getMessage());
+    }
+
+    @Test
+    @DisplayName("saveOrders, group commit with partial failures")
+    void saveOrders() {
+        //Given
+        long customerId = users.get(0).getId();
+        Long productId1 = products.get(0).getId();
+        Long productId2 = products.get(1).getId();
+
+        List<OrderIngestRequest> requests = List.of(
+                new OrderIngestRequest(customerId, new OrderRequest(List.of(new OrderProductRequest(productId1, 3),
+                                                                            new OrderProductRequest(productId2, 1)))),
+                new OrderIngestRequest(customerId, new OrderRequest(List.of(new OrderProductRequest(productId1, 8)))),
+                new OrderIngestRequest(Long.MAX_VALUE, new OrderRequest(List.of(new OrderProductRequest(productId1, 1)))),
+                new OrderIngestRequest(customerId, new OrderRequest(List.of(new OrderProductRequest(productId1, 7))))
+        );
+
+        //When
+        List<OrderIngestResult> results = orderService.saveOrders(requests);
+        afterEach();
+
+        //Then
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0).orderId()).isNotNull();
+        assertThat(results.get(1).exception()).hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_OUT_OF_STOCK);
+        assertThat(results.get(2).exception()).hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
+        assertThat(results.get(3).orderId()).isNotNull();
+
+        Order savedOrder = orderRepository.findById(results.get(0).orderId()).get();
+        assertThat(savedOrder.getCustomer().getId()).isEqualTo(customerId);
+        assertThat(savedOrder.getTotalAmount()).isEqualTo(4);
+        assertThat(orderProductRepository.findAll()
+                                         .stream()
+                                         .filter(op -> op.getOrder().getId().equals(savedOrder.getId())))
+                .hasSize(2);
+        assertThat(productRepository.findById(productId1).get().getStock()).isZero();
+        assertThat(productRepository.findById(productId2).get().getStock()).isEqualTo(9);
+    }
+
     @Test
     @DisplayName("getOrderById")
     void getOrderById() {
@@ -484,26 +607,31 @@ class OrderServiceTest {
     }
 
     @Test
-    @DisplayName("getAllOrders, List")
-    void getAllOrders_typeList() {
+    @DisplayName("getAllOrders, condition")
+    void getAllOrders_condition() {
         //Given
-        List<Order> orders = createDummyOrders(users.get(0), 10);
+        List<User>  customers = initDummyData.createDummyUsers(userRepository, 2);
+        List<Order> orders    = createDummyOrders(users.get(0), 5);
+        createDummyOrders(customers.get(1), 3);
+        orders.get(0).updateOrderStatus(OrderStatus.CANCELLED);
         afterEach();
 
+        OrderSearchCondition byCustomer = new OrderSearchCondition(null, null, null, users.get(0).getId());
+        OrderSearchCondition byStatus   = new OrderSearchCondition(OrderStatus.CANCELLED, null, null, null);
+        OrderSearchCondition byDate     = new OrderSearchCondition(null, LocalDateTime.now().plusDays(1), null, null);
+
         //When
-        List<AdminOrderResponse> findOrders = orderService.getAllOrders();
+        Page<AdminOrderResponse> customerOrders = orderService.getAllOrders(byCustomer, PageRequest.of(0, 10));
+        Page<AdminOrderResponse> statusOrders   = orderService.getAllOrders(byStatus, PageRequest.of(0, 10));
+        Page<AdminOrderResponse> dateOrders     = orderService.getAllOrders(byDate, PageRequest.of(0, 10));
 
         //Then
-        assertThat(findOrders).hasSize(orders.size());
-        for (int i = 0; i < orders.size(); i++) {
-            assertThat(findOrders.get(i).getOrderNumber()).isEqualTo(orders.get(i).getOrderNumber());
-            assertThat(findOrders.get(i).getUserName()).isEqualTo(orders.get(i).getCustomer().getName());
-            assertThat(findOrders.get(i).getTotalPrice().compareTo(orders.get(i).getTotalPrice()) == 0).isTrue();
-            assertThat(findOrders.get(i).getOrderAddress()).isEqualTo(orders.get(i).getAddress());
-            assertThat(findOrders.get(i).getOrderStatus()).isEqualTo(orders.get(i).getStatus().name());
-            assertThat(findOrders.get(i).getCreatedDate())
-                    .isEqualTo(Ut.Str.localDateTimeToString(orders.get(i).getCreatedDate()));
-        }
+        assertThat(customerOrders.getTotalElements()).isEqualTo(orders.size());
+        assertThat(customerOrders.getContent())
+                .allSatisfy(order -> assertThat(order.getUserEmail()).isEqualTo(users.get(0).getEmail()));
+        assertThat(statusOrders.getContent()).extracting(AdminOrderResponse::getOrderNumber)
+                                             .containsExactly(orders.get(0).getOrderNumber());
+        assertThat(dateOrders.getContent()).isEmpty();
     }
 
     @Test
@@ -533,6 +661,160 @@ class OrderServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("getOrdersByUserId, query count")
+    void getOrdersByUserId_queryCount() {
+        //Given
+        User        customer = users.get(0);
+        List<Order> orders   = createDummyOrders(customer, 5);
+        orders.forEach(this::createDummyOrderProducts);
+
+        Long userId = customer.getId();
+        afterEach();
+
+        //When
+        QueryCountUtil.Result<List<OrderResponse>> result =
+                QueryCountUtil.count(entityManagerFactory, () -> orderService.getOrdersByUserId(userId));
+
+        //Then
+        assertThat(result.value()).hasSize(5)
+                                  .allSatisfy(response -> assertThat(response.getOrderList()).hasSize(products.size()));
+        assertThat(result.count()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("getOrderSummaryByUserId")
+    void getOrderSummaryByUserId() {
+        //Given
+        User        customer = users.get(0);
+        List<Order> orders   = createDummyOrders(customer, 15);
+        orderService.updateOrderStatus(orders.get(0).getId(), "CANCELLED");
+        orderService.updateOrderStatus(orders.get(14).getId(), "SHIPPED");
+
+        Long userId = customer.getId();
+        afterEach();
+
+        //When
+        UserOrderSummaryResponse summary = orderService.getOrderSummaryByUserId(userId);
+
+        //Then
+        assertThat(summary.orderCount()).isEqualTo(15);
+        assertThat(summary.statusCounts()).containsEntry("ORDERED", 13L)
+                                          .containsEntry("SHIPPED", 1L)
+                                          .containsEntry("DELIVERED", 0L)
+                                          .containsEntry("CANCELLED", 1L);
+        assertThat(summary.totalSpend().compareTo(BigDecimal.valueOf(50000L * 14)) == 0).isTrue();
+        assertThat(summary.recentOrders()).hasSize(10)
+                                          .isSortedAccordingTo(Comparator.comparingLong(RecentOrder::orderId)
+                                                                         .reversed());
+        assertThat(summary.recentOrders().get(0).orderNumber()).isEqualTo(orders.get(14).getOrderNumber());
+        assertThat(summary.recentOrders().get(0).orderStatus()).isEqualTo("SHIPPED");
+    }
+
+    @Test
+    @DisplayName("getOrderHistoryByUserId")
+    void getOrderHistoryByUserId() {
+        //Given
+        User        customer = users.get(0);
+        List<Order> orders   = createDummyOrders(customer, 5);
+        orders.forEach(this::createDummyOrderProducts);
+
+        Long userId = customer.getId();
+        afterEach();
+
+        //When
+        Page<OrderResponse> page = orderService.getOrderHistoryByUserId(
+                userId, PageRequest.of(1, 2, Sort.by(Direction.DESC, "id"))
+        );
+
+        //Then
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting(OrderResponse::getOrderNumber)
+                                     .containsExactly(orders.get(2).getOrderNumber(), orders.get(1).getOrderNumber());
+        assertThat(page.getContent()).allSatisfy(response -> assertThat(response.getOrderList())
+                .hasSize(products.size()));
+    }
+
+    @Test
+    @DisplayName("getAllOrders, Page, query count")
+    void getAllOrders_typePage_queryCount() {
+        //Given
+        createDummyOrders(users.get(0), 30);
+        afterEach();
+
+        //When
+        long count = QueryCountUtil.count(entityManagerFactory, () -> orderService.getAllOrders(PageRequest.of(1, 10)));
+
+        //Then
+        assertThat(count).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getOrderDetail, without payment")
+    void getOrderDetail_withoutPayment() {
+        //Given
+        Order order = createDummyOrders(users.get(0), 1).get(0);
+        createDummyOrderProducts(order);
+
+        Long orderId = order.getId();
+        afterEach();
+
+        //When
+        QueryCountUtil.Result<AdminOrderDetailResponse> result =
+                QueryCountUtil.count(entityManagerFactory, () -> orderService.getOrderDetail(orderId));
+
+        //Then
+        assertThat(result.value().getOrderNumber()).isEqualTo(order.getOrderNumber());
+        assertThat(result.value().getUserEmail()).isEqualTo(users.get(0).getEmail());
+        assertThat(result.value().getOrderList()).hasSize(products.size());
+        assertThat(result.value().getPaymentMethod()).isNull();
+        assertThat(result.value().getPaymentDate()).isNull();
+        assertThat(result.count()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("exportOrders, CSV")
+    void exportOrders_csv() {
+        //Given
+        List<Order>           orders       = createDummyOrders(users.get(0), 3);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        afterEach();
+
+        //When
+        long count = orderService.exportOrders(new OrderSearchCondition(null, null, null, users.get(0).getId()),
+                                               OrderExportWriter.Format.CSV,
+                                               outputStream);
+
+        //Then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(orders.size());
+        assertThat(lines).hasSize(orders.size() + 1);
+        assertThat(lines[0]).startsWith("orderNumber,userName,userEmail");
+        assertThat(lines[1]).startsWith(orders.get(0).getOrderNumber() + ",");
+    }
+
+    @Test
+    @DisplayName("exportOrders, NDJSON with condition")
+    void exportOrders_ndjson() throws Exception {
+        //Given
+        List<Order>           orders       = createDummyOrders(users.get(0), 3);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        orders.get(1).updateOrderStatus(OrderStatus.DELIVERED);
+        afterEach();
+
+        //When
+        long count = orderService.exportOrders(new OrderSearchCondition(OrderStatus.DELIVERED, null, null, null),
+                                               OrderExportWriter.Format.NDJSON,
+                                               outputStream);
+
+        //Then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(1);
+        assertThat(lines).hasSize(1);
+        assertThat(objectMapper.readTree(lines[0]).get("orderNumber").asText())
+                .isEqualTo(orders.get(1).getOrderNumber());
+    }
+
     @Test
     @DisplayName("existsByOrderNumber, exists order number")
     void existByOrderNumber() {
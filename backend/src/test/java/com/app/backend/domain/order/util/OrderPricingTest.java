@@ -0,0 +1,113 @@
+package com.app.backend.domain.order.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.app.backend.domain.order.dto.request.OrderProductRequest;
+import com.app.backend.domain.order.exception.OrderException;
+import com.app.backend.global.error.exception.ErrorCode;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+class OrderPricingTest {
+
+    private static final int PRODUCT_COUNT = 20;
+
+    @Property
+    @Label("price, BigDecimal 계산과 같은 결과")
+    void price(@ForAll("productInfo") List<OrderProductRequest> productInfo,
+               @ForAll("prices") List<BigDecimal> prices) {
+        //Given
+        Map<Long, Integer> amountMap = new LinkedHashMap<>();
+        for (OrderProductRequest request : productInfo)
+            amountMap.merge(request.getProductId(), request.getAmount(), Integer::sum);
+
+        //When
+        OrderPricing pricing = OrderPricing.of(productInfo);
+        for (int i = 0; i < pricing.size(); i++)
+            pricing.price(i, priceOf(prices, pricing.getProductId(i)));
+
+        //Then
+        BigDecimal expectedTotalPrice = BigDecimal.ZERO;
+        for (Map.Entry<Long, Integer> entry : amountMap.entrySet())
+            expectedTotalPrice = expectedTotalPrice.add(priceOf(prices, entry.getKey())
+                                                                .multiply(BigDecimal.valueOf(entry.getValue())));
+
+        assertThat(pricing.isFullyPriced()).isTrue();
+        assertThat(pricing.getProductIds()).containsExactlyElementsOf(amountMap.keySet());
+        assertThat(pricing.toAmountMap()).containsExactlyEntriesOf(amountMap);
+        assertThat(pricing.getTotalAmount()).isEqualTo(productInfo.stream().mapToInt(OrderProductRequest::getAmount).sum());
+        assertThat(pricing.getTotalPrice()).isEqualByComparingTo(expectedTotalPrice);
+        for (int i = 0; i < pricing.size(); i++) {
+            BigDecimal price = priceOf(prices, pricing.getProductId(i));
+            assertThat(pricing.getUnitPrice(i)).isEqualByComparingTo(price);
+            assertThat(pricing.getLineTotal(i))
+                    .isEqualByComparingTo(price.multiply(BigDecimal.valueOf(pricing.getAmount(i))));
+        }
+    }
+
+    @Property
+    @Label("indexOf, 주문 요청에 없는 제품 ID")
+    void indexOf(@ForAll("productInfo") List<OrderProductRequest> productInfo) {
+        //Given
+        OrderPricing pricing = OrderPricing.of(productInfo);
+
+        //When
+
+        //Then
+        for (int i = 0; i < pricing.size(); i++)
+            assertThat(pricing.indexOf(pricing.getProductId(i))).isEqualTo(i);
+        assertThat(pricing.indexOf(PRODUCT_COUNT + 1)).isEqualTo(-1);
+        assertThat(pricing.isFullyPriced()).isFalse();
+    }
+
+    @Example
+    @Label("price, 범위 초과")
+    void price_overflow() {
+        //Given
+        OrderPricing pricing = OrderPricing.of(List.of(new OrderProductRequest(1L, Integer.MAX_VALUE)));
+
+        //When
+
+        //Then
+        assertThatThrownBy(() -> pricing.price(0, BigDecimal.valueOf(Long.MAX_VALUE / 100, 2)))
+                .isInstanceOf(OrderException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_PRICE_OVERFLOW);
+        assertThatThrownBy(() -> OrderPricing.of(List.of(new OrderProductRequest(1L, Integer.MAX_VALUE),
+                                                         new OrderProductRequest(1L, 1))))
+                .isInstanceOf(OrderException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_PRICE_OVERFLOW);
+    }
+
+    @Provide
+    Arbitrary<List<OrderProductRequest>> productInfo() {
+        Arbitrary<Long>    productIds = Arbitraries.longs().between(1, PRODUCT_COUNT);
+        Arbitrary<Integer> amounts    = Arbitraries.integers().between(1, 1000);
+        return Combinators.combine(productIds, amounts)
+                          .as(OrderProductRequest::new)
+                          .list().ofMinSize(1).ofMaxSize(50);
+    }
+
+    @Provide
+    Arbitrary<List<BigDecimal>> prices() {
+        return Arbitraries.bigDecimals()
+                          .between(new BigDecimal("100.00"), new BigDecimal("99999999.99"))
+                          .ofScale(OrderPricing.SCALE)
+                          .list().ofSize(PRODUCT_COUNT);
+    }
+
+    private static BigDecimal priceOf(final List<BigDecimal> prices, final long productId) {
+        return prices.get((int) productId - 1);
+    }
+
+}
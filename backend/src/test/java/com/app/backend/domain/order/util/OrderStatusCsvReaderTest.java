@@ -0,0 +1,119 @@
+package com.app.backend.domain.order.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.app.backend.domain.order.dto.response.AdminOrderResponse;
+import com.app.backend.domain.order.entity.Order;
+import com.app.backend.domain.order.exception.OrderException;
+import com.app.backend.domain.order.util.OrderExportWriter.Format;
+import com.app.backend.domain.user.entity.User;
+import com.app.backend.global.error.exception.ErrorCode;
+import com.app.backend.global.util.ReflectionUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderStatusCsvReaderTest {
+
+    @Test
+    @DisplayName("read, order id and order number columns")
+    void read() {
+        //Given
+        String csv = """
+                     \uFEFForderId,orderNumber,memo
+                     1,,first
+                     ,"20250101ABCDE2","quoted, with comma"
+
+                     3,20250101ABCDE3,""
+                     """;
+
+        //When
+        OrderStatusCsvReader.Keys keys = OrderStatusCsvReader.read(toStream(csv), 10);
+
+        //Then
+        assertThat(keys.orderIds()).containsExactly(1L, 3L);
+        assertThat(keys.orderNumbers()).containsExactly("20250101ABCDE2");
+    }
+
+    @Test
+    @DisplayName("read, export csv")
+    void read_exportCsv() {
+        //Given
+        String csv = """
+                     orderNumber,userName,userEmail,orderStatus,totalPrice,orderAddress,createdDate
+                     20250101ABCDE1,user,user@mail.com,SHIPPED,10000.00,"address, detail",2025-01-01 00:00:00
+                     """;
+
+        //When
+        OrderStatusCsvReader.Keys keys = OrderStatusCsvReader.read(toStream(csv), 10);
+
+        //Then
+        assertThat(keys.orderIds()).isEmpty();
+        assertThat(keys.orderNumbers()).containsExactly("20250101ABCDE1");
+    }
+
+    @Test
+    @DisplayName("read, re-import of exported csv with multi-line quoted address")
+    void read_exportedMultiLineAddress() {
+        //Given: 주소 줄바꿈 뒤에 주문 번호처럼 보이는 값이 있어도 같은 필드로 읽혀야 함
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        OrderExportWriter     writer       = new OrderExportWriter(Format.CSV, outputStream, new ObjectMapper());
+        writer.writeHeader();
+        writer.write(AdminOrderResponse.of(order("20250101ABCDE1", "서울시 강남구\r\n20250101EVIL01,\"101호\"")));
+        writer.write(AdminOrderResponse.of(order("20250101ABCDE2", "부산시 해운대구")));
+        writer.finish();
+
+        //When
+        OrderStatusCsvReader.Keys keys = OrderStatusCsvReader.read(
+                new ByteArrayInputStream(outputStream.toByteArray()), 2);
+
+        //Then
+        assertThat(keys.orderIds()).isEmpty();
+        assertThat(keys.orderNumbers()).containsExactly("20250101ABCDE1", "20250101ABCDE2");
+    }
+
+    @Test
+    @DisplayName("read, invalid csv")
+    void read_invalid() {
+        //Given
+        String noKeyColumn = "memo\nfirst\n";
+        String invalidId   = "orderId\nabc\n";
+        String tooManyRows = "orderId\n1\n2\n3\n";
+        String unclosed    = "orderId,memo\n1,\"unclosed\n2,memo\n";
+
+        //When
+
+        //Then
+        assertThatThrownBy(() -> OrderStatusCsvReader.read(toStream(noKeyColumn), 10))
+                .isInstanceOf(OrderException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> OrderStatusCsvReader.read(toStream(invalidId), 10))
+                .isInstanceOf(OrderException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> OrderStatusCsvReader.read(toStream(tooManyRows), 2))
+                .isInstanceOf(OrderException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> OrderStatusCsvReader.read(toStream(unclosed), 10))
+                .isInstanceOf(OrderException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    private static Order order(final String orderNumber, final String address) {
+        User  customer = User.builder().id(1L).name("user").email("user@mail.com").build();
+        Order order    = Order.of(customer, orderNumber, 1, new BigDecimal("10000.00"), address);
+        ReflectionUtil.setPrivateFieldValue(Order.class, order, "createdDate", LocalDateTime.of(2025, 1, 1, 0, 0));
+        return order;
+    }
+
+    private static InputStream toStream(final String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.app.backend.domain.order.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeOrderNumberGeneratorTest {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("generate, format")
+    void generate_format() {
+        //Given
+        Clock                         clock     = Clock.fixed(Instant.parse("2025-01-15T03:00:00Z"), ZONE_ID);
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(1023, clock);
+
+        //When
+        String orderNumber = generator.generate();
+
+        //Then
+        assertThat(orderNumber).hasSize(18).startsWith("20250115").matches("[0-9]{8}[A-Z0-9]{10}");
+    }
+
+    @Test
+    @DisplayName("generate, same millisecond and clock moved backwards")
+    void generate_fixedClock() {
+        //Given
+        Clock                         clock     = Clock.fixed(Instant.parse("2025-01-15T14:59:59.999Z"), ZONE_ID);
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(0, clock);
+
+        //When
+        Set<String> orderNumbers = new HashSet<>();
+        for (int i = 0; i < 10_000; i++)
+            orderNumbers.add(generator.generate());
+
+        //Then
+        assertThat(orderNumbers).hasSize(10_000);
+        assertThat(orderNumbers).anyMatch(orderNumber -> orderNumber.startsWith("20250116"));
+    }
+
+    @Test
+    @DisplayName("generate, concurrent nodes")
+    void generate_concurrentNodes() throws Exception {
+        //Given
+        Clock                               clock        = Clock.system(ZONE_ID);
+        List<SnowflakeOrderNumberGenerator> generators   = List.of(new SnowflakeOrderNumberGenerator(1, clock),
+                                                                   new SnowflakeOrderNumberGenerator(2, clock));
+        Set<String>                         orderNumbers = ConcurrentHashMap.newKeySet();
+        ExecutorService                     executor     = Executors.newFixedThreadPool(8);
+
+        //When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            SnowflakeOrderNumberGenerator generator = generators.get(i % 2);
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 20_000; j++)
+                    orderNumbers.add(generator.generate());
+            }));
+        }
+        for (Future<?> future : futures)
+            future.get();
+        executor.shutdown();
+
+        //Then
+        assertThat(orderNumbers).hasSize(160_000);
+    }
+
+    @Test
+    @DisplayName("constructor, invalid node id")
+    void constructor_invalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeOrderNumberGenerator(1024, Clock.systemDefaultZone()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
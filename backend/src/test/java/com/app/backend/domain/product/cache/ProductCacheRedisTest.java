@@ -0,0 +1,139 @@
+package com.app.backend.domain.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.app.backend.domain.product.dto.ProductDetailDto;
+import com.app.backend.global.config.RedisConfig;
+import com.app.backend.global.redis.config.RedisContainerTest;
+import com.app.backend.global.redis.repository.RedisRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 제품 캐시 무효화 스크립트 검증(실제 Redis)
+ * 스크립트가 cjson으로 발행한 메시지가 다른 노드의 onMessage 형식("{목록 버전}|{제품 ID},...|{목록 변경 여부}")과 일치하는지 확인
+ */
+class ProductCacheRedisTest extends RedisContainerTest {
+
+    private RedisMessageListenerContainer container;
+    private RedisRepository               redisRepository;
+    private ProductCache                  publisher;
+    private ProductCache                  subscriber;
+    private BlockingQueue<String>         messages;
+    private AtomicInteger                 loadCount;
+
+    @BeforeEach
+    void beforeEach() {
+        container = new RedisConfig().redisContainer(redisTemplate.getConnectionFactory(), false);
+        redisRepository = newRedisRepository();
+        publisher = new ProductCache(redisRepository, new ObjectMapper(), container, 100, 60, 600, 2);
+        subscriber = spy(new ProductCache(redisRepository, new ObjectMapper(), container, 100, 60, 600, 2));
+        messages = new LinkedBlockingQueue<>();
+        loadCount = new AtomicInteger();
+
+        //구독 등록 후 컨테이너 시작(시작 시 구독 완료까지 대기)
+        publisher.init();
+        subscriber.init();
+        container.addMessageListener((message, pattern) -> messages.add(
+                String.valueOf(redisRepository.deserialize(message.getBody()))), new ChannelTopic(ProductCache.CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @AfterEach
+    void afterEach() throws Exception {
+        container.destroy();
+    }
+
+    @Test
+    @DisplayName("invalidate, published message parsed by other node")
+    void invalidate() throws InterruptedException {
+        //Given
+        subscriber.getDetail(1L, this::load);
+
+        //When
+        publisher.invalidate(List.of(1L, 2L));
+
+        //Then
+        assertThat(messages.poll(5, TimeUnit.SECONDS)).isEqualTo("1|1,2|1");
+        verify(subscriber, timeout(5000)).onMessage(any(), any());
+        assertThat(subscriber.getDetail(1L, this::load).getName()).isEqualTo("상품");
+        assertThat(loadCount).hasValue(2);
+        assertThat(redisRepository.get("productCache-listVersion")).isEqualTo(1);
+
+        //수신한 목록 버전이 목록 L2 키에 반영
+        subscriber.getList("id", "desc", 0, 10, () -> new ProductPageSnapshot(List.of(), 0, 0, 10));
+        assertThat(redisRepository.isKeyExists("productCache-list-1-id-desc-0-10")).isTrue();
+    }
+
+    @Test
+    @DisplayName("invalidate, list only message has empty product ids")
+    void invalidate_listOnly() throws InterruptedException {
+        //Given
+        subscriber.getDetail(1L, this::load);
+
+        //When
+        publisher.invalidate(List.of());
+
+        //Then
+        assertThat(messages.poll(5, TimeUnit.SECONDS)).isEqualTo("1||1");
+        verify(subscriber, timeout(5000)).onMessage(any(), any());
+        subscriber.getDetail(1L, this::load);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("invalidateStock, keeps list version")
+    void invalidateStock() throws InterruptedException {
+        //When
+        publisher.invalidateStock(List.of(1L));
+
+        //Then
+        assertThat(messages.poll(5, TimeUnit.SECONDS)).isEqualTo("0|1|0");
+        assertThat(redisRepository.get("productCache-listVersion")).isNull();
+        assertThat(redisRepository.get("productCache-detailVersion-1")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getDetail, stale load finished after invalidate is not written to L2")
+    void getDetail_staleWriteRejected() {
+        //When: 원본 조회 중 다른 노드에서 무효화
+        subscriber.getDetail(1L, () -> {
+            publisher.invalidateStock(List.of(1L));
+            return load();
+        });
+
+        //Then
+        assertThat(redisRepository.isKeyExists("productCache-detail-1")).isFalse();
+
+        //무효화 이후 조회는 L2 저장
+        publisher.getDetail(1L, this::load);
+        assertThat(redisRepository.isKeyExists("productCache-detail-1")).isTrue();
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private ProductDetailDto load() {
+        loadCount.incrementAndGet();
+        ProductDetailDto dto = new ProductDetailDto();
+        dto.setName("상품");
+        dto.setPrice(BigDecimal.valueOf(10000));
+        return dto;
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.app.backend.domain.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.domain.product.dto.ProductDetailDto;
+import com.app.backend.global.redis.repository.RedisRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class ProductCacheTest {
+
+    private RedisRepository redisRepository;
+    private ProductCache    productCache;
+    private AtomicInteger   loadCount;
+
+    @BeforeEach
+    void beforeEach() {
+        redisRepository = mock(RedisRepository.class);
+        productCache = new ProductCache(redisRepository, new ObjectMapper(),
+                                        mock(RedisMessageListenerContainer.class), 100, 60, 600, 2);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("getDetail, L1 hit after first load")
+    void getDetail() {
+        //Given
+        when(redisRepository.multiGet(detailKeys(1L))).thenReturn(Arrays.asList(null, 2));
+
+        //When
+        productCache.getDetail(1L, this::load);
+        ProductDetailDto result = productCache.getDetail(1L, this::load);
+
+        //Then
+        assertThat(result.getName()).isEqualTo("상품");
+        assertThat(loadCount).hasValue(1);
+        verify(redisRepository).execute(any(), eq(detailKeys(1L)), eq("2"), anyString(), eq(600L));
+        assertThat(productCache.getStats().get("l1Detail").get("hitCount")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("getDetail, L2 hit")
+    void getDetail_l2Hit() {
+        //Given
+        when(redisRepository.multiGet(detailKeys(1L))).thenReturn(Arrays.asList("{\"name\":\"캐시 상품\"}", 1));
+
+        //When
+        ProductDetailDto result = productCache.getDetail(1L, this::load);
+
+        //Then
+        assertThat(result.getName()).isEqualTo("캐시 상품");
+        assertThat(loadCount).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("getDetail, Redis failure falls back to loader")
+    void getDetail_redisFailure() {
+        //Given
+        when(redisRepository.multiGet(any())).thenThrow(new IllegalStateException("connection refused"));
+
+        //When
+        ProductDetailDto result = productCache.getDetail(1L, this::load);
+
+        //Then
+        assertThat(result.getName()).isEqualTo("상품");
+        assertThat(productCache.getStats().get("l2").get("errorCount")).isEqualTo(1L);
+        verify(redisRepository, never()).execute(any(), any(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("invalidate, evicts L1 and broadcasts")
+    void invalidate() {
+        //Given
+        when(redisRepository.execute(any(), any(), eq(ProductCache.CHANNEL), eq("1,2"), eq(1), eq(600L)))
+                .thenReturn(5L);
+        productCache.getDetail(1L, this::load);
+
+        //When
+        productCache.invalidate(List.of(1L, 2L));
+        productCache.getDetail(1L, this::load);
+
+        //Then
+        assertThat(loadCount).hasValue(2);
+        verify(redisRepository).execute(any(),
+                                        eq(List.of("productCache-listVersion",
+                                                   "productCache-detail-1",
+                                                   "productCache-detail-2",
+                                                   "productCache-detailVersion-1",
+                                                   "productCache-detailVersion-2")),
+                                        eq(ProductCache.CHANNEL),
+                                        eq("1,2"),
+                                        eq(1),
+                                        eq(600L));
+        verify(redisRepository, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("invalidateStock, evicts detail only and keeps list cache")
+    void invalidateStock() {
+        //Given
+        ProductPageSnapshot snapshot = new ProductPageSnapshot(List.of(), 0, 0, 10);
+        productCache.getDetail(1L, this::load);
+        productCache.getList("created_date", "desc", 0, 10, () -> {
+            loadCount.incrementAndGet();
+            return snapshot;
+        });
+
+        //When
+        productCache.invalidateStock(List.of(1L));
+        productCache.getDetail(1L, this::load);
+        productCache.getList("created_date", "desc", 0, 10, () -> {
+            loadCount.incrementAndGet();
+            return snapshot;
+        });
+
+        //Then
+        assertThat(loadCount).hasValue(3);
+        verify(redisRepository).execute(any(),
+                                        eq(List.of("productCache-listVersion",
+                                                   "productCache-detail-1",
+                                                   "productCache-detailVersion-1")),
+                                        eq(ProductCache.CHANNEL),
+                                        eq("1"),
+                                        eq(0),
+                                        eq(600L));
+    }
+
+    @Test
+    @DisplayName("onMessage, evicts L1 entry of other node")
+    void onMessage() {
+        //Given
+        when(redisRepository.deserialize(any())).thenReturn("3|1,2|1");
+        productCache.getDetail(1L, this::load);
+
+        //When
+        productCache.onMessage(new DefaultMessage(new byte[0], new byte[0]), null);
+        productCache.getDetail(1L, this::load);
+
+        //Then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("onMessage, stock only message keeps list cache")
+    void onMessage_stockOnly() {
+        //Given
+        ProductPageSnapshot snapshot = new ProductPageSnapshot(List.of(), 0, 0, 10);
+        when(redisRepository.deserialize(any())).thenReturn("0|1|0");
+        productCache.getList("created_date", "desc", 0, 10, () -> {
+            loadCount.incrementAndGet();
+            return snapshot;
+        });
+
+        //When
+        productCache.onMessage(new DefaultMessage(new byte[0], new byte[0]), null);
+        productCache.getList("created_date", "desc", 0, 10, () -> {
+            loadCount.incrementAndGet();
+            return snapshot;
+        });
+
+        //Then
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("getList, pages beyond list-max-page are not cached")
+    void getList_notCachedPage() {
+        //Given
+        ProductPageSnapshot snapshot = new ProductPageSnapshot(List.of(), 0, 2, 10);
+
+        //When
+        productCache.getList("created_date", "desc", 2, 10, () -> {
+            loadCount.incrementAndGet();
+            return snapshot;
+        });
+        productCache.getList("created_date", "desc", 2, 10, () -> {
+            loadCount.incrementAndGet();
+            return snapshot;
+        });
+
+        //Then
+        assertThat(loadCount).hasValue(2);
+        verify(redisRepository, never()).save(anyString(), any(), anyLong(), any());
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private List<String> detailKeys(final Long productId) {
+        return List.of("productCache-detail-" + productId, "productCache-detailVersion-" + productId);
+    }
+
+    private ProductDetailDto load() {
+        loadCount.incrementAndGet();
+        ProductDetailDto dto = new ProductDetailDto();
+        dto.setName("상품");
+        dto.setPrice(BigDecimal.valueOf(10000));
+        return dto;
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.app.backend.domain.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.domain.product.entity.Product;
+import com.app.backend.domain.product.repository.ProductRepository;
+import com.app.backend.global.redis.repository.RedisRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class ProductSearchIndexSyncTest {
+
+    private RedisRepository        redisRepository;
+    private ProductRepository      productRepository;
+    private ProductSearchIndex     productSearchIndex;
+    private ProductSearchIndexSync productSearchIndexSync;
+
+    @BeforeEach
+    void beforeEach() {
+        redisRepository = mock(RedisRepository.class);
+        productRepository = mock(ProductRepository.class);
+        productSearchIndex = new ProductSearchIndex();
+        productSearchIndex.startWarming();
+        productSearchIndex.warm(List.of(new ProductSearchDocument(1L, "콜롬비아 수프리모", "부드러운 산미")));
+        productSearchIndex.finishWarming();
+        productSearchIndexSync = new ProductSearchIndexSync(redisRepository,
+                                                            mock(RedisMessageListenerContainer.class),
+                                                            productRepository,
+                                                            productSearchIndex);
+        when(redisRepository.deserialize(any())).thenAnswer(invocation -> new String(invocation.<byte[]>getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("onMessage, changed product re-read from database")
+    void onMessage_upsert() {
+        //Given
+        Product product = mock(Product.class);
+        when(product.getName()).thenReturn("케냐 AA");
+        when(product.getDescription()).thenReturn("진한 과일향");
+        when(productRepository.findById(2L)).thenReturn(Optional.of(product));
+
+        //When
+        productSearchIndexSync.onMessage(message("other-node|2"), null);
+
+        //Then
+        assertThat(productSearchIndex.searchName("케냐")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("onMessage, deleted product removed from index")
+    void onMessage_remove() {
+        //Given
+        when(productRepository.findById(1L)).thenReturn(Optional.empty());
+
+        //When
+        productSearchIndexSync.onMessage(message("other-node|1"), null);
+
+        //Then
+        assertThat(productSearchIndex.searchName("콜롬비아")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("onMessage, own message ignored")
+    void onMessage_ownMessage() {
+        //Given
+        productSearchIndexSync.publish(1L);
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(redisRepository).publish(eq(ProductSearchIndexSync.CHANNEL), captor.capture());
+
+        //When
+        productSearchIndexSync.onMessage(message(String.valueOf(captor.getValue())), null);
+
+        //Then
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("publish, Redis failure ignored")
+    void publish_redisFailure() {
+        //Given
+        doThrow(new IllegalStateException("down")).when(redisRepository).publish(anyString(), any());
+
+        //When
+        productSearchIndexSync.publish(1L);
+
+        //Then
+        assertThat(productSearchIndex.searchName("콜롬비아")).containsExactly(1L);
+    }
+
+    private DefaultMessage message(final String body) {
+        return new DefaultMessage(ProductSearchIndexSync.CHANNEL.getBytes(), body.getBytes());
+    }
+
+}
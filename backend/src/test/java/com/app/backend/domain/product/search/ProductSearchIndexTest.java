@@ -0,0 +1,123 @@
+package com.app.backend.domain.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        productSearchIndex = new ProductSearchIndex();
+        productSearchIndex.startWarming();
+        productSearchIndex.warm(List.of(
+                new ProductSearchDocument(1L, "콜롬비아 수프리모", "부드러운 산미와 견과류 향"),
+                new ProductSearchDocument(2L, "에티오피아 예가체프", "꽃향기와 밝은 산미"),
+                new ProductSearchDocument(3L, "과테말라 안티구아", "스모키한 향과 초콜릿 풍미, 콜롬비아 블렌딩 추천"),
+                new ProductSearchDocument(4L, "Colombia Decaf", "카페인을 제거한 원두")
+        ));
+        productSearchIndex.finishWarming();
+    }
+
+    @Test
+    @DisplayName("search, ranked by name weight")
+    void search() {
+        //When
+        List<Long> result = productSearchIndex.search("콜롬비아", 10);
+
+        //Then
+        assertThat(productSearchIndex.isReady()).isTrue();
+        assertThat(result).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("search, unknown keyword")
+    void search_unknownKeyword() {
+        assertThat(productSearchIndex.search("케냐", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("searchName")
+    void searchName() {
+        assertThat(productSearchIndex.searchName("예가 체프")).containsExactly(2L);
+        assertThat(productSearchIndex.searchName("COLOMBIA")).containsExactly(4L);
+        assertThat(productSearchIndex.searchName("산미")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("suggest")
+    void suggest() {
+        assertThat(productSearchIndex.suggest("콜", 10)).containsExactly("콜롬비아 수프리모");
+        assertThat(productSearchIndex.suggest("col", 10)).containsExactly("Colombia Decaf");
+    }
+
+    @Test
+    @DisplayName("upsert, remove")
+    void upsertAndRemove() {
+        //When
+        productSearchIndex.upsert(1L, "케냐 AA", "진한 과일향");
+        productSearchIndex.remove(3L);
+
+        //Then
+        assertThat(productSearchIndex.search("콜롬비아", 10)).isEmpty();
+        assertThat(productSearchIndex.search("케냐", 10)).containsExactly(1L);
+        assertThat(productSearchIndex.suggest("콜", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("warm, changes during warming are kept")
+    void warm_touched() {
+        //Given
+        ProductSearchIndex index = new ProductSearchIndex();
+        index.startWarming();
+        index.upsert(1L, "케냐 AA", "진한 과일향");
+
+        //When
+        index.warm(List.of(new ProductSearchDocument(1L, "콜롬비아 수프리모", "부드러운 산미")));
+        index.finishWarming();
+
+        //Then
+        assertThat(index.searchName("케냐")).containsExactly(1L);
+        assertThat(index.searchName("콜롬비아")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("rewarm, index stays ready and products missing from the reload are removed")
+    void rewarm() {
+        //When
+        productSearchIndex.startWarming();
+        boolean readyDuringRewarm = productSearchIndex.isReady();
+        productSearchIndex.upsert(5L, "케냐 AA", "진한 과일향");
+        productSearchIndex.warm(List.of(
+                new ProductSearchDocument(1L, "콜롬비아 수프리모", "부드러운 산미와 견과류 향"),
+                new ProductSearchDocument(2L, "에티오피아 예가체프", "꽃향기와 밝은 산미")
+        ));
+        productSearchIndex.finishWarming();
+
+        //Then
+        assertThat(readyDuringRewarm).isTrue();
+        assertThat(productSearchIndex.isReady()).isTrue();
+        assertThat(productSearchIndex.searchName("콜롬비아")).containsExactly(1L);
+        assertThat(productSearchIndex.searchName("과테말라")).isEmpty();
+        assertThat(productSearchIndex.searchName("케냐")).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("abortWarming, existing index kept")
+    void abortWarming() {
+        //When
+        productSearchIndex.startWarming();
+        productSearchIndex.warm(List.of(new ProductSearchDocument(1L, "콜롬비아 수프리모", "부드러운 산미와 견과류 향")));
+        productSearchIndex.abortWarming();
+
+        //Then
+        assertThat(productSearchIndex.isReady()).isTrue();
+        assertThat(productSearchIndex.searchName("과테말라")).containsExactly(3L);
+    }
+
+}
@@ -0,0 +1,405 @@
+package com.app.backend.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.domain.product.cache.ProductCache;
+import com.app.backend.domain.product.entity.HotStockFlush;
+import com.app.backend.domain.product.entity.Product;
+import com.app.backend.domain.product.exception.ProductException;
+import com.app.backend.domain.product.repository.HotStockFlushRepository;
+import com.app.backend.domain.product.repository.ProductRepository;
+import com.app.backend.global.error.exception.ErrorCode;
+import com.app.backend.global.metrics.AppMetrics;
+import com.app.backend.global.redis.config.RedisContainerTest;
+import com.app.backend.global.redis.repository.RedisRepository;
+import com.app.backend.global.util.ReflectionUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class HotStockServiceTest extends RedisContainerTest {
+
+    private static final long PRODUCT_ID = 1L;
+
+    private FakeDatabase            db;
+    private ProductRepository       productRepository;
+    private HotStockFlushRepository hotStockFlushRepository;
+    private AtomicInteger           appliedFlushes;
+
+    @BeforeEach
+    void beforeEach() {
+        db = new FakeDatabase(Map.of(PRODUCT_ID, 10));
+        appliedFlushes = new AtomicInteger();
+        productRepository = mock(ProductRepository.class);
+        hotStockFlushRepository = mock(HotStockFlushRepository.class);
+
+        when(productRepository.findById(anyLong())).thenAnswer(invocation -> Optional.of(
+                Product.builder()
+                       .name("상품")
+                       .price(BigDecimal.valueOf(10000))
+                       .stock(db.stocks.get(invocation.<Long>getArgument(0)))
+                       .status(true)
+                       .build()
+        ));
+        when(productRepository.increaseStock(anyLong(), anyInt())).thenAnswer(invocation -> {
+            db.beforeIncrease.run();
+            db.stage(invocation.getArgument(0), invocation.getArgument(1));
+            return 1L;
+        });
+        when(productRepository.findAllByIdForUpdate(anyCollection())).thenAnswer(invocation -> {
+            db.beforeLock.run();
+            return List.of();
+        });
+        when(hotStockFlushRepository.existsById(anyString()))
+                .thenAnswer(invocation -> db.batchIds.contains(invocation.<String>getArgument(0)));
+        when(hotStockFlushRepository.saveAndFlush(any())).thenAnswer(invocation -> {
+            HotStockFlush flush = invocation.getArgument(0);
+            db.stageBatch(flush.getBatchId());
+            return flush;
+        });
+    }
+
+    @Test
+    @DisplayName("flush, deltas applied once and flushing hash cleared")
+    void flush() {
+        //Given
+        HotStockService node = newNode(newRedisRepository());
+        node.reserve(Map.of(PRODUCT_ID, 3));
+
+        //When
+        node.flush();
+        node.flush();
+
+        //Then
+        assertThat(db.stocks.get(PRODUCT_ID)).isEqualTo(7);
+        assertThat(appliedFlushes).hasValue(1);
+        assertThat(redisTemplate.hasKey("hotStockDelta-flushing")).isFalse();
+        assertThat(redisTemplate.hasKey("hotStockDelta-flushLock")).isFalse();
+    }
+
+    @Test
+    @DisplayName("flush, batch committed before a crash is not applied again")
+    void flush_crashBeforeRelease() {
+        //Given
+        HotStockService crashingNode = newNode(crashBeforeRelease());
+        HotStockService otherNode    = newNode(newRedisRepository());
+        crashingNode.reserve(Map.of(PRODUCT_ID, 3));
+        assertThatThrownBy(crashingNode::flush).isInstanceOf(IllegalStateException.class);
+        redisTemplate.delete("hotStockDelta-flushLock");    //잠금 만료
+
+        //When
+        otherNode.flush();
+
+        //Then
+        assertThat(db.stocks.get(PRODUCT_ID)).isEqualTo(7);
+        assertThat(appliedFlushes).hasValue(1);
+        assertThat(redisTemplate.hasKey("hotStockDelta-flushing")).isFalse();
+    }
+
+    @Test
+    @DisplayName("flush, concurrent nodes apply the batch once")
+    void flush_concurrent() throws Exception {
+        //Given
+        HotStockService first  = newNode(newRedisRepository());
+        HotStockService second = newNode(newRedisRepository());
+        first.reserve(Map.of(PRODUCT_ID, 3));
+        CountDownLatch start = new CountDownLatch(1);
+
+        //When
+        CompletableFuture<Void> firstFlush  = CompletableFuture.runAsync(() -> awaitThen(start, first::flush));
+        CompletableFuture<Void> secondFlush = CompletableFuture.runAsync(() -> awaitThen(start, second::flush));
+        start.countDown();
+        CompletableFuture.allOf(firstFlush, secondFlush).get(10, TimeUnit.SECONDS);
+        first.flush();
+        second.flush();
+
+        //Then
+        assertThat(db.stocks.get(PRODUCT_ID)).isEqualTo(7);
+        assertThat(appliedFlushes).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("flush, lease expired while first node is still applying")
+    void flush_leaseExpired() throws Exception {
+        //Given
+        HotStockService first  = newNode(newRedisRepository());
+        HotStockService second = newNode(newRedisRepository());
+        first.reserve(Map.of(PRODUCT_ID, 3));
+        CountDownLatch          applying   = new CountDownLatch(1);
+        CountDownLatch          proceed    = new CountDownLatch(1);
+        CompletableFuture<Void> firstFlush = blockFlush(first, applying, proceed);
+        redisTemplate.delete("hotStockDelta-flushLock");    //잠금 만료
+
+        //When
+        second.flush();
+        proceed.countDown();
+        firstFlush.get(10, TimeUnit.SECONDS);
+
+        //Then
+        assertThat(db.stocks.get(PRODUCT_ID)).isEqualTo(7);
+        assertThat(appliedFlushes).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("reserve, counter reloaded during flush excludes deltas being flushed")
+    void reserve_reloadDuringFlush() throws Exception {
+        //Given
+        HotStockService first  = newNode(newRedisRepository());
+        HotStockService second = newNode(newRedisRepository());
+        first.reserve(Map.of(PRODUCT_ID, 3));
+        CountDownLatch          applying   = new CountDownLatch(1);
+        CountDownLatch          proceed    = new CountDownLatch(1);
+        CompletableFuture<Void> firstFlush = blockFlush(first, applying, proceed);
+        redisTemplate.delete("hotStock-" + PRODUCT_ID);     //카운터 유실
+
+        //When, Then
+        assertThatThrownBy(() -> second.reserve(Map.of(PRODUCT_ID, 8)))
+                .isInstanceOf(ProductException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_OUT_OF_STOCK);
+        second.reserve(Map.of(PRODUCT_ID, 7));
+        proceed.countDown();
+        firstFlush.get(10, TimeUnit.SECONDS);
+        second.flush();
+        assertThat(db.stocks.get(PRODUCT_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("reserve, counter reloaded after commit but before release does not subtract twice")
+    void reserve_reloadAfterCommit() {
+        //Given
+        HotStockService crashingNode = newNode(crashBeforeRelease());
+        HotStockService otherNode    = newNode(newRedisRepository());
+        crashingNode.reserve(Map.of(PRODUCT_ID, 3));
+        assertThatThrownBy(crashingNode::flush).isInstanceOf(IllegalStateException.class);
+        redisTemplate.delete("hotStock-" + PRODUCT_ID);     //카운터 유실
+
+        //When
+        otherNode.reserve(Map.of(PRODUCT_ID, 7));
+
+        //Then
+        assertThatThrownBy(() -> otherNode.reserve(Map.of(PRODUCT_ID, 1)))
+                .isInstanceOf(ProductException.class);
+    }
+
+    @Test
+    @DisplayName("evict, delta in running flush not applied on top of overwritten stock")
+    void evict_duringFlush() throws Exception {
+        //Given: 반영 중 묶음이 제품 행 잠금 직전에 멈춘 상태
+        HotStockService node = newNode(newRedisRepository());
+        node.reserve(Map.of(PRODUCT_ID, 3));
+        CountDownLatch          locking = new CountDownLatch(1);
+        CountDownLatch          proceed = new CountDownLatch(1);
+        CompletableFuture<Void> flush   = blockBeforeLock(node, locking, proceed);
+
+        //When: 관리자가 재고를 20으로 수정
+        db.stocks.put(PRODUCT_ID, 20);
+        node.evict(PRODUCT_ID);
+        proceed.countDown();
+        flush.get(10, TimeUnit.SECONDS);
+
+        //Then
+        assertThat(db.stocks.get(PRODUCT_ID)).isEqualTo(20);
+        node.reserve(Map.of(PRODUCT_ID, 20));
+        assertThatThrownBy(() -> node.reserve(Map.of(PRODUCT_ID, 1))).isInstanceOf(ProductException.class);
+    }
+
+    @Test
+    @DisplayName("evict, delta taken from running flush restored when stock update rolls back")
+    void evict_rollback() throws Exception {
+        //Given
+        HotStockService node = newNode(newRedisRepository());
+        node.reserve(Map.of(PRODUCT_ID, 3));
+        CountDownLatch          locking = new CountDownLatch(1);
+        CountDownLatch          proceed = new CountDownLatch(1);
+        CompletableFuture<Void> flush   = blockBeforeLock(node, locking, proceed);
+
+        //When
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            node.evict(PRODUCT_ID);
+            proceed.countDown();
+            flush.get(10, TimeUnit.SECONDS);
+            TransactionSynchronizationManager.getSynchronizations()
+                                             .forEach(synchronization -> synchronization.afterCompletion(
+                                                     TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        node.flush();
+
+        //Then: 수정이 롤백되었으므로 카운터는 유지되고 차감분은 다음 반영에서 DB에 반영
+        assertThat(db.stocks.get(PRODUCT_ID)).isEqualTo(7);
+        assertThat(redisTemplate.opsForValue().get("hotStock-" + PRODUCT_ID)).isEqualTo(7);
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private HotStockService newNode(final RedisRepository redisRepository) {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        doAnswer(invocation -> {
+            if (db.commit())
+                appliedFlushes.incrementAndGet();
+            return null;
+        }).when(transactionManager).commit(any());
+        doAnswer(invocation -> {
+            db.rollback();
+            return null;
+        }).when(transactionManager).rollback(any());
+
+        HotStockService hotStockService = new HotStockService(redisRepository,
+                                                              productRepository,
+                                                              hotStockFlushRepository,
+                                                              transactionManager,
+                                                              mock(ProductCache.class),
+                                                              new AppMetrics(new SimpleMeterRegistry(), 1.0));
+        ReflectionUtil.setPrivateFieldValue(HotStockService.class, hotStockService, "hotProductIds", Set.of(PRODUCT_ID));
+        ReflectionUtil.setPrivateFieldValue(HotStockService.class, hotStockService, "flushLeaseMillis", 30_000L);
+        ReflectionUtil.setPrivateFieldValue(HotStockService.class, hotStockService, "flushRetentionHours", 24L);
+        return hotStockService;
+    }
+
+    /**
+     * DB 커밋 후 반영 중 해시 해제 전에 장애가 나는 노드의 RedisRepository
+     */
+    private RedisRepository crashBeforeRelease() {
+        RedisRepository redisRepository = spy(newRedisRepository());
+        doThrow(new IllegalStateException("crash"))
+                .when(redisRepository)
+                .execute(any(), eq(List.of("hotStockDelta-flushing", "hotStockDelta-flushLock")), any(), any());
+        return redisRepository;
+    }
+
+    /**
+     * 재고 반영 도중(커밋 전) 멈춘 flush 실행
+     */
+    private CompletableFuture<Void> blockFlush(final HotStockService node,
+                                               final CountDownLatch applying,
+                                               final CountDownLatch proceed) throws InterruptedException {
+        db.beforeIncrease = () -> {
+            applying.countDown();
+            awaitThen(proceed, () -> {
+            });
+        };
+        CompletableFuture<Void> future = CompletableFuture.runAsync(node::flush);
+        assertThat(applying.await(10, TimeUnit.SECONDS)).isTrue();
+        db.beforeIncrease = () -> {
+        };
+        return future;
+    }
+
+    /**
+     * 제품 행 잠금 직전(반영 대상 재확인 전)에 멈춘 flush 실행
+     */
+    private CompletableFuture<Void> blockBeforeLock(final HotStockService node,
+                                                    final CountDownLatch locking,
+                                                    final CountDownLatch proceed) throws InterruptedException {
+        db.beforeLock = () -> {
+            locking.countDown();
+            awaitThen(proceed, () -> {
+            });
+        };
+        CompletableFuture<Void> future = CompletableFuture.runAsync(node::flush);
+        assertThat(locking.await(10, TimeUnit.SECONDS)).isTrue();
+        db.beforeLock = () -> {
+        };
+        return future;
+    }
+
+    private static void awaitThen(final CountDownLatch latch, final Runnable runnable) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        runnable.run();
+    }
+
+    /**
+     * 커밋 시점에만 변경이 보이는 DB 대역(제품 재고, 반영된 묶음 ID)
+     * 다른 트랜잭션이 반영 중인 묶음 ID를 저장하면 기본 키 충돌로 처리
+     */
+    private static class FakeDatabase {
+
+        private final Map<Long, Integer> stocks   = new ConcurrentHashMap<>();
+        private final Set<String>        batchIds = ConcurrentHashMap.newKeySet();
+
+        private final Set<String>                     stagedBatchIds = ConcurrentHashMap.newKeySet();
+        private final ThreadLocal<String>             stagedBatchId  = new ThreadLocal<>();
+        private final ThreadLocal<Map<Long, Integer>> stagedStocks   = ThreadLocal.withInitial(HashMap::new);
+
+        private volatile Runnable beforeIncrease = () -> {
+        };
+        private volatile Runnable beforeLock     = () -> {
+        };
+
+        private FakeDatabase(final Map<Long, Integer> stocks) {
+            this.stocks.putAll(stocks);
+        }
+
+        private synchronized void stageBatch(final String batchId) {
+            if (batchIds.contains(batchId) || !stagedBatchIds.add(batchId))
+                throw new DataIntegrityViolationException("Duplicate batch: " + batchId);
+            stagedBatchId.set(batchId);
+        }
+
+        private void stage(final Long productId, final int amount) {
+            stagedStocks.get().merge(productId, amount, Integer::sum);
+        }
+
+        /**
+         * @return 묶음 반영 커밋 여부
+         */
+        private synchronized boolean commit() {
+            stagedStocks.get().forEach((productId, amount) -> stocks.merge(productId, amount, Integer::sum));
+            String batchId = stagedBatchId.get();
+            if (batchId != null) {
+                batchIds.add(batchId);
+                stagedBatchIds.remove(batchId);
+            }
+            clear();
+            return batchId != null;
+        }
+
+        private synchronized void rollback() {
+            String batchId = stagedBatchId.get();
+            if (batchId != null)
+                stagedBatchIds.remove(batchId);
+            clear();
+        }
+
+        private void clear() {
+            stagedBatchId.remove();
+            stagedStocks.get().clear();
+        }
+
+    }
+
+}
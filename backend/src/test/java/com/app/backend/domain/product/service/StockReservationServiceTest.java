@@ -0,0 +1,137 @@
+package com.app.backend.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.app.backend.domain.product.entity.Product;
+import com.app.backend.domain.product.entity.StockReservation;
+import com.app.backend.domain.product.entity.StockReservationStatus;
+import com.app.backend.domain.product.repository.ProductRepository;
+import com.app.backend.domain.product.repository.StockReservationRepository;
+import com.app.backend.global.initdata.InitDummyData;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class StockReservationServiceTest {
+
+    @Autowired
+    private StockReservationService    stockReservationService;
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+    @Autowired
+    private ProductRepository          productRepository;
+    @PersistenceContext
+    private EntityManager              em;
+
+    @Autowired
+    private InitDummyData initDummyData;
+
+    private List<Product> products;
+
+    @BeforeEach
+    void beforeEach() {
+        products = initDummyData.createDummyProducts(productRepository, 2);
+    }
+
+    @Test
+    @DisplayName("hold")
+    void hold() {
+        //Given
+        Long productId = products.get(0).getId();
+
+        //When
+        boolean first  = stockReservationService.hold("order-1_" + productId, 1L, productId, 4);
+        boolean second = stockReservationService.hold("order-1_" + productId, 1L, productId, 6);
+        em.flush();
+        em.clear();
+
+        //Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(productRepository.findById(productId).get().getStock()).isEqualTo(4);
+        assertThat(stockReservationRepository.findByActiveKey("order-1_" + productId))
+                .hasValueSatisfying(reservation -> assertThat(reservation.getAmount()).isEqualTo(6));
+    }
+
+    @Test
+    @DisplayName("hold, out of stock")
+    void hold_outOfStock() {
+        //Given
+        Long productId = products.get(0).getId();
+
+        //When
+        boolean result = stockReservationService.hold("order-1_" + productId, 1L, productId, 11);
+
+        //Then
+        assertThat(result).isFalse();
+        assertThat(stockReservationRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("hold, reservation key reused after confirm, duplicate active reservation rejected")
+    void hold_reuseKey() {
+        //Given
+        Long   productId = products.get(0).getId();
+        String key       = "order-1_" + productId;
+        stockReservationService.hold(key, 1L, productId, 2);
+        stockReservationService.confirm(key);
+
+        //When
+        boolean reheld = stockReservationService.hold(key, 1L, productId, 3);
+        em.flush();
+        em.clear();
+
+        //Then
+        assertThat(reheld).isTrue();
+        assertThat(stockReservationRepository.findAll())
+                .extracting(StockReservation::getStatus)
+                .containsExactlyInAnyOrder(StockReservationStatus.CONFIRMED, StockReservationStatus.RESERVED);
+        assertThatThrownBy(() -> stockReservationRepository.saveAndFlush(
+                StockReservation.of(key, 1L, productId, 1, LocalDateTime.now().plusMinutes(3))
+        )).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("sweepExpired")
+    void sweepExpired() {
+        //Given
+        Long productId1 = products.get(0).getId();
+        Long productId2 = products.get(1).getId();
+        stockReservationService.reserve(Map.of(productId1, 5, productId2, 2));
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        stockReservationRepository.save(StockReservation.of("order-1_" + productId1, 1L, productId1, 3, past));
+        stockReservationRepository.save(StockReservation.of("order-2_" + productId1, 2L, productId1, 2, past));
+        stockReservationRepository.save(StockReservation.of("order-1_" + productId2, 1L, productId2, 2,
+                                                            LocalDateTime.now().plusMinutes(3)));
+
+        //When
+        stockReservationService.sweepExpired();
+        stockReservationService.sweepExpired();
+        em.flush();
+        em.clear();
+
+        //Then
+        assertThat(productRepository.findById(productId1).get().getStock()).isEqualTo(10);
+        assertThat(productRepository.findById(productId2).get().getStock()).isEqualTo(8);
+        assertThat(stockReservationRepository.findAll())
+                .extracting(StockReservation::getStatus)
+                .containsExactlyInAnyOrder(StockReservationStatus.RELEASED,
+                                           StockReservationStatus.RELEASED,
+                                           StockReservationStatus.RESERVED);
+    }
+
+}
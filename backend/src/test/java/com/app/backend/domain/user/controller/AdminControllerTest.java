@@ -1,24 +1,39 @@
 package com.app.backend.domain.user.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.app.backend.domain.order.constant.OrderMessageConstant;
+import com.app.backend.domain.order.dto.OrderSearchCondition;
+import com.app.backend.domain.order.dto.request.OrderStatusBulkRequest;
 import com.app.backend.domain.order.dto.response.AdminOrderResponse;
+import com.app.backend.domain.order.dto.response.OrderStatusBulkResponse;
 import com.app.backend.domain.order.entity.Order;
+import com.app.backend.domain.order.entity.OrderStatus;
 import com.app.backend.domain.order.service.OrderService;
+import com.app.backend.domain.product.dto.PageDto;
 import com.app.backend.domain.user.entity.User;
 import com.app.backend.domain.user.exception.UserException;
 import com.app.backend.global.error.exception.ErrorCode;
+import com.app.backend.global.profiler.ProfilerSettings;
+import com.app.backend.global.profiler.RequestProfiler;
+import com.app.backend.global.profiler.RequestProfilingFilter;
 import com.app.backend.global.rs.RsData;
 import com.app.backend.global.util.ReflectionUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,8 +42,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -47,11 +66,13 @@ import org.springframework.test.web.servlet.ResultActions;
 class AdminControllerTest {
 
     @MockitoBean
-    private OrderService orderService;
+    private OrderService    orderService;
     @Autowired
-    private MockMvc      mockMvc;
+    private MockMvc         mockMvc;
     @Autowired
-    private ObjectMapper objectMapper;
+    private ObjectMapper    objectMapper;
+    @Autowired
+    private RequestProfiler requestProfiler;
 
     private AdminOrderResponse orderResponse;
 
@@ -74,7 +95,8 @@ class AdminControllerTest {
 
         orderResponse = AdminOrderResponse.of(order);
 
-        when(orderService.getAllOrders()).thenReturn(List.of(orderResponse));
+        when(orderService.getAllOrders(any(OrderSearchCondition.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(orderResponse), PageRequest.of(0, 20), 1));
     }
 
     @Test
@@ -92,7 +114,8 @@ class AdminControllerTest {
         RsData<Object> rsData = new RsData<>(true,
                                              String.valueOf(HttpStatus.OK.value()),
                                              OrderMessageConstant.ORDER_LIST_READ_SUCCESS,
-                                             List.of(orderResponse));
+                                             new PageDto<>(new PageImpl<>(List.of(orderResponse),
+                                                                          PageRequest.of(0, 20), 1)));
 
         resultActions.andExpect(status().isOk())
                      .andExpect(content().json(objectMapper.writeValueAsString(rsData)))
@@ -130,4 +153,133 @@ class AdminControllerTest {
                      .andDo(print());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("exportOrders, unknown format")
+    void exportOrders_unknownFormat() throws Exception {
+        //Given
+
+        //When
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/admin/orders/export?format=xlsx")
+                                                              .accept(MediaType.ALL_VALUE)
+                                                              .with(user("admin").roles("ADMIN")));
+
+        //Then
+        resultActions.andExpect(status().isBadRequest())
+                     .andDo(print());
+    }
+
+    @Test
+    @DisplayName("updateOrderStatuses")
+    void updateOrderStatuses() throws Exception {
+        //Given
+        OrderStatusBulkResponse response = OrderStatusBulkResponse.of(
+                OrderStatus.SHIPPED.name(),
+                List.of(new OrderStatusBulkResponse.Item(1L, null, OrderStatus.ORDERED.name(),
+                                                         OrderStatusBulkResponse.Result.UPDATED),
+                        new OrderStatusBulkResponse.Item(null, "unknown", null,
+                                                         OrderStatusBulkResponse.Result.NOT_FOUND))
+        );
+        when(orderService.updateOrderStatuses(anyList(), anyList(), any(OrderStatus.class))).thenReturn(response);
+
+        String requestBody = objectMapper.writeValueAsString(
+                new OrderStatusBulkRequest(List.of(1L), List.of("unknown"), OrderStatus.SHIPPED)
+        );
+
+        //When
+        ResultActions resultActions = mockMvc.perform(patch("/api/v1/admin/orders/status")
+                                                              .accept(MediaType.APPLICATION_JSON_VALUE)
+                                                              .contentType(MediaType.APPLICATION_JSON_VALUE)
+                                                              .content(requestBody)
+                                                              .with(user("admin").roles("ADMIN")));
+
+        //Then
+        RsData<Object> rsData = new RsData<>(true,
+                                             String.valueOf(HttpStatus.OK.value()),
+                                             OrderMessageConstant.ORDER_STATUS_BULK_UPDATE_SUCCESS,
+                                             response);
+
+        resultActions.andExpect(status().isOk())
+                     .andExpect(content().json(objectMapper.writeValueAsString(rsData)))
+                     .andDo(print());
+    }
+
+    @Test
+    @DisplayName("updateOrderStatuses, not admin")
+    void updateOrderStatuses_forbidden() throws Exception {
+        //Given
+        String requestBody = objectMapper.writeValueAsString(
+                new OrderStatusBulkRequest(List.of(1L), null, OrderStatus.SHIPPED)
+        );
+
+        //When
+        ResultActions resultActions = mockMvc.perform(patch("/api/v1/admin/orders/status")
+                                                              .accept(MediaType.APPLICATION_JSON_VALUE)
+                                                              .contentType(MediaType.APPLICATION_JSON_VALUE)
+                                                              .content(requestBody)
+                                                              .with(user("user").roles("USER")));
+
+        //Then
+        resultActions.andExpect(status().isForbidden())
+                     .andDo(print());
+    }
+
+    @Test
+    @DisplayName("updateOrderStatusesFromCsv")
+    void updateOrderStatusesFromCsv() throws Exception {
+        //Given
+        OrderStatusBulkResponse response = OrderStatusBulkResponse.of(
+                OrderStatus.DELIVERED.name(),
+                List.of(new OrderStatusBulkResponse.Item(1L, "orderNumber", OrderStatus.ORDERED.name(),
+                                                         OrderStatusBulkResponse.Result.INVALID_TRANSITION))
+        );
+        when(orderService.updateOrderStatuses(any(InputStream.class), any(OrderStatus.class))).thenReturn(response);
+
+        MockMultipartFile file = new MockMultipartFile("file", "orders.csv", "text/csv",
+                                                       "orderNumber\norderNumber\n".getBytes(StandardCharsets.UTF_8));
+
+        //When
+        ResultActions resultActions = mockMvc.perform(multipart("/api/v1/admin/orders/status")
+                                                              .file(file)
+                                                              .param("status", OrderStatus.DELIVERED.name())
+                                                              .accept(MediaType.APPLICATION_JSON_VALUE)
+                                                              .with(user("admin").roles("ADMIN")));
+
+        //Then
+        RsData<Object> rsData = new RsData<>(true,
+                                             String.valueOf(HttpStatus.OK.value()),
+                                             OrderMessageConstant.ORDER_STATUS_BULK_UPDATE_SUCCESS,
+                                             response);
+
+        resultActions.andExpect(status().isOk())
+                     .andExpect(content().json(objectMapper.writeValueAsString(rsData)))
+                     .andDo(print());
+    }
+
+    @Test
+    @DisplayName("updateProfilerSettings")
+    void updateProfilerSettings() throws Exception {
+        //Given
+        ProfilerSettings settings = requestProfiler.getSettings();
+
+        //When
+        ResultActions resultActions = mockMvc.perform(patch("/api/v1/admin/profiler")
+                                                              .accept(MediaType.APPLICATION_JSON_VALUE)
+                                                              .contentType(MediaType.APPLICATION_JSON_VALUE)
+                                                              .content("{\"slowThresholdMillis\": %d}".formatted(
+                                                                      settings.slowThresholdMillis()))
+                                                              .with(user("admin").roles("ADMIN")));
+
+        //Then
+        RsData<Object> rsData = new RsData<>(true,
+                                             String.valueOf(HttpStatus.OK.value()),
+                                             "요청 프로파일러 설정 변경",
+                                             settings);
+
+        resultActions.andExpect(status().isOk())
+                     .andExpect(content().json(objectMapper.writeValueAsString(rsData)))
+                     .andExpect(header().exists(RequestProfilingFilter.SQL_COUNT_HEADER))
+                     .andExpect(header().exists(RequestProfilingFilter.REDIS_COUNT_HEADER))
+                     .andDo(print());
+    }
+
+}
@@ -0,0 +1,209 @@
+package com.app.backend.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.global.error.exception.ErrorCode;
+import com.app.backend.global.redis.repository.RedisRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class IdempotencyStoreTest {
+
+    private RedisRepository  redisRepository;
+    private IdempotencyStore idempotencyStore;
+    private AtomicInteger    executeCount;
+
+    @BeforeEach
+    void beforeEach() {
+        redisRepository = mock(RedisRepository.class);
+        idempotencyStore = new IdempotencyStore(redisRepository, new ObjectMapper(), 30, 24, 100);
+        executeCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("execute, first request executed and response stored")
+    void execute() {
+        //Given
+        when(redisRepository.saveIfAbsent(eq("idempotency:key"), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenReturn(true);
+        when(redisRepository.replaceIfEquals(anyString(), any(), any(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenReturn(true);
+
+        //When
+        Long result = idempotencyStore.execute("key", Map.of("a", 1), Long.class, this::action);
+
+        //Then
+        assertThat(result).isEqualTo(1L);
+        assertThat(executeCount).hasValue(1);
+        ArgumentCaptor<Object> markerCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(redisRepository).saveIfAbsent(eq("idempotency:key"), markerCaptor.capture(), anyLong(),
+                                             eq(TimeUnit.MILLISECONDS));
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(redisRepository).replaceIfEquals(eq("idempotency:key"), eq(markerCaptor.getValue()), captor.capture(),
+                                                eq(TimeUnit.HOURS.toMillis(24)), eq(TimeUnit.MILLISECONDS));
+        assertThat((String) captor.getValue()).contains("COMPLETED");
+        assertThat((String) markerCaptor.getValue()).contains("IN_PROGRESS").contains("\"owner\":\"");
+    }
+
+    @Test
+    @DisplayName("execute, completed request replayed without execution")
+    void execute_replay() {
+        //Given
+        Map<String, Integer> request = Map.of("a", 1);
+        String               stored  = storedRecord(request);
+        when(redisRepository.saveIfAbsent(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenReturn(false);
+        when(redisRepository.get("idempotency:key")).thenReturn(stored);
+
+        //When
+        Long result = idempotencyStore.execute("key", request, Long.class, this::action);
+
+        //Then
+        assertThat(result).isEqualTo(1L);
+        assertThat(executeCount).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("execute, same key with different request")
+    void execute_keyReused() {
+        //Given
+        String stored = storedRecord(Map.of("a", 1));
+        when(redisRepository.saveIfAbsent(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenReturn(false);
+        when(redisRepository.get("idempotency:key")).thenReturn(stored);
+
+        //When, Then
+        assertThatThrownBy(() -> idempotencyStore.execute("key", Map.of("a", 2), Long.class, this::action))
+                .isInstanceOf(IdempotencyException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        assertThat(executeCount).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("execute, request in progress beyond wait time")
+    void execute_inProgress() {
+        //Given
+        String inProgress = "{\"status\":\"IN_PROGRESS\",\"fingerprint\":\"" + fingerprintOf(Map.of("a", 1)) + "\"}";
+        when(redisRepository.saveIfAbsent(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenReturn(false);
+        when(redisRepository.get("idempotency:key")).thenReturn(inProgress);
+
+        //When, Then
+        assertThatThrownBy(() -> idempotencyStore.execute("key", Map.of("a", 1), Long.class, this::action))
+                .isInstanceOf(IdempotencyException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        assertThat(executeCount).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("execute, failed execution releases key")
+    void execute_failure() {
+        //Given
+        when(redisRepository.saveIfAbsent(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenReturn(true);
+
+        //When, Then
+        assertThatThrownBy(() -> idempotencyStore.execute("key", Map.of("a", 1), Long.class, () -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+        ArgumentCaptor<Object> markerCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(redisRepository).saveIfAbsent(eq("idempotency:key"), markerCaptor.capture(), anyLong(),
+                                             eq(TimeUnit.MILLISECONDS));
+        verify(redisRepository).deleteIfEquals("idempotency:key", markerCaptor.getValue());
+        verify(redisRepository, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("execute, lease renewed while action runs longer than the in-progress TTL")
+    void execute_leaseRenewed() {
+        //Given
+        IdempotencyStore store = new IdempotencyStore(redisRepository, new ObjectMapper(), 1, 24, 100);
+        when(redisRepository.saveIfAbsent(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenReturn(true);
+        when(redisRepository.replaceIfEquals(anyString(), any(), any(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenReturn(true);
+
+        //When
+        Long result = store.execute("key", Map.of("a", 1), Long.class, () -> {
+            sleep(1_200);
+            return action();
+        });
+
+        //Then
+        assertThat(result).isEqualTo(1L);
+        ArgumentCaptor<Object> markerCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(redisRepository).saveIfAbsent(eq("idempotency:key"), markerCaptor.capture(), eq(1_000L),
+                                             eq(TimeUnit.MILLISECONDS));
+        verify(redisRepository, atLeast(2)).replaceIfEquals("idempotency:key", markerCaptor.getValue(),
+                                                            markerCaptor.getValue(), 1_000L, TimeUnit.MILLISECONDS);
+        store.destroy();
+    }
+
+    @Test
+    @DisplayName("execute, lease lost to another request, completed record not written over it")
+    void execute_leaseLost() {
+        //Given
+        when(redisRepository.saveIfAbsent(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenReturn(true);
+        when(redisRepository.replaceIfEquals(anyString(), any(), any(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenReturn(false);
+
+        //When
+        Long result = idempotencyStore.execute("key", Map.of("a", 1), Long.class, this::action);
+
+        //Then
+        assertThat(result).isEqualTo(1L);
+        verify(redisRepository, never()).save(anyString(), any(), anyLong(), any());
+    }
+
+    private Long action() {
+        executeCount.incrementAndGet();
+        return 1L;
+    }
+
+    /**
+     * 실제 실행 경로로 저장되는 완료 레코드 획득
+     */
+    private String storedRecord(final Object request) {
+        RedisRepository  repository = mock(RedisRepository.class);
+        IdempotencyStore store      = new IdempotencyStore(repository, new ObjectMapper(), 30, 24, 100);
+        when(repository.saveIfAbsent(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+        when(repository.replaceIfEquals(anyString(), any(), any(), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+        store.execute("key", request, Long.class, () -> 1L);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(repository).replaceIfEquals(anyString(), any(), captor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        return (String) captor.getValue();
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String fingerprintOf(final Object request) {
+        String stored = storedRecord(request);
+        int    start  = stored.indexOf("\"fingerprint\":\"") + 15;
+        return stored.substring(start, stored.indexOf('"', start));
+    }
+
+}
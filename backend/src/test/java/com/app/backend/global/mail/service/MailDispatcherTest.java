@@ -0,0 +1,96 @@
+package com.app.backend.global.mail.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.app.backend.global.mail.entity.MailOutbox;
+import com.app.backend.global.mail.entity.MailOutboxStatus;
+import com.app.backend.global.mail.repository.MailOutboxRepository;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class MailDispatcherTest {
+
+    @RegisterExtension
+    private static GreenMailExtension greenMailExtension = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withUser("greenmail", "greenmail"))
+            .withPerMethodLifecycle(true);
+
+    @Autowired
+    private MailDispatcher             mailDispatcher;
+    @Autowired
+    private MailOutboxService          mailOutboxService;
+    @Autowired
+    private MailOutboxRepository       mailOutboxRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void afterEach() {
+        mailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("dispatch")
+    void dispatch() throws Exception {
+        //Given
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            mailOutboxService.enqueue("test1@test.com", "subject1", "text1");
+            mailOutboxService.enqueue("test2@test.com", "subject2", "text2");
+        });
+
+        //When
+        mailDispatcher.dispatch();
+
+        //Then
+        assertThat(greenMailExtension.waitForIncomingEmail(5000, 2)).isTrue();
+        MimeMessage[] receivedMessages = greenMailExtension.getReceivedMessages();
+        assertThat(receivedMessages).extracting(MimeMessage::getSubject)
+                                    .containsExactlyInAnyOrder("subject1", "subject2");
+
+        List<MailOutbox> mails = awaitStatus(MailOutboxStatus.SENT);
+        assertThat(mails).hasSize(2).allMatch(mail -> mail.getAttempts() == 1);
+    }
+
+    @Test
+    @DisplayName("dispatch, rolled back transaction")
+    void dispatch_rollback() {
+        //Given
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            mailOutboxService.enqueue("test1@test.com", "subject1", "text1");
+            status.setRollbackOnly();
+        });
+
+        //When
+        mailDispatcher.dispatch();
+
+        //Then
+        assertThat(greenMailExtension.waitForIncomingEmail(1000, 1)).isFalse();
+        assertThat(mailOutboxRepository.count()).isZero();
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    private List<MailOutbox> awaitStatus(final MailOutboxStatus status) throws InterruptedException {
+        List<MailOutbox> mails = mailOutboxRepository.findAll();
+        for (int i = 0; i < 50 && !mails.stream().allMatch(mail -> mail.getStatus() == status); i++) {
+            Thread.sleep(100);
+            mails = mailOutboxRepository.findAll();
+        }
+        return mails;
+    }
+
+}
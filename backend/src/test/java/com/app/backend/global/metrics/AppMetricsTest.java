@@ -0,0 +1,118 @@
+package com.app.backend.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AppMetricsTest {
+
+    @Test
+    @DisplayName("stop, detail tag sampled")
+    void stop_detail() {
+        //Given
+        MeterRegistry registry   = new SimpleMeterRegistry();
+        AppMetrics    appMetrics = new AppMetrics(registry, 1.0);
+
+        //When
+        for (int i = 0; i < 3; i++)
+            appMetrics.stop(appMetrics.start(), "redis.command", "keyPrefix", () -> "orderSummary", "command", "get");
+
+        //Then
+        Timer timer       = registry.find("redis.command").tag("command", "get").timer();
+        Timer detailTimer = registry.find("redis.command.detail")
+                                    .tag("command", "get")
+                                    .tag("keyPrefix", "orderSummary")
+                                    .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(3);
+        assertThat(detailTimer).isNotNull();
+        assertThat(detailTimer.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("stop, detail tag disabled")
+    void stop_detailDisabled() {
+        //Given
+        MeterRegistry registry   = new SimpleMeterRegistry();
+        AppMetrics    appMetrics = new AppMetrics(registry, 0);
+
+        //When
+        appMetrics.stop(appMetrics.start(), "product.stock.check", "productId", () -> "1", "result", "held");
+
+        //Then
+        assertThat(registry.find("product.stock.check").timer().count()).isEqualTo(1);
+        assertThat(registry.find("product.stock.check.detail").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("disableDetailHistograms, prefix histogram setting not applied to detail timer")
+    void disableDetailHistograms() {
+        //Given: percentiles-histogram 설정처럼 이름 접두어로 히스토그램 활성화
+        MeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(final Meter.Id id, final DistributionStatisticConfig config) {
+                return id.getName().startsWith("redis.command")
+                       ? DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config)
+                       : config;
+            }
+        });
+        registry.config().meterFilter(AppMetrics.disableDetailHistograms());
+        AppMetrics appMetrics = new AppMetrics(registry, 1.0);
+
+        //When
+        appMetrics.stop(appMetrics.start(), "redis.command", "keyPrefix", () -> "orderSummary", "command", "get");
+
+        //Then
+        assertThat(registry.find("redis.command").timer().takeSnapshot().histogramCounts()).isNotEmpty();
+        assertThat(registry.find("redis.command.detail").timer().takeSnapshot().histogramCounts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("limitDetailTag, new tag values beyond limit not recorded")
+    void limitDetailTag() {
+        //Given
+        MeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(AppMetrics.limitDetailTag("product.stock.check", "productId", 2));
+        AppMetrics appMetrics = new AppMetrics(registry, 1.0);
+
+        //When
+        for (long productId = 1; productId <= 5; productId++) {
+            String value = String.valueOf(productId);
+            appMetrics.stop(appMetrics.start(), "product.stock.check", "productId", () -> value, "result", "held");
+        }
+
+        //Then
+        assertThat(registry.find("product.stock.check").timer().count()).isEqualTo(5);
+        assertThat(registry.find("product.stock.check.detail").timers())
+                .extracting(timer -> timer.getId().getTag("productId"))
+                .containsExactlyInAnyOrder("1", "2");
+    }
+
+    @Test
+    @DisplayName("lap, recordSize")
+    void lap() {
+        //Given
+        MeterRegistry registry   = new SimpleMeterRegistry();
+        AppMetrics    appMetrics = new AppMetrics(registry, 1.0);
+
+        //When
+        Timer.Sample sample = appMetrics.start();
+        sample = appMetrics.lap(sample, "order.save", "phase", "lookup");
+        appMetrics.stop(sample, "order.save", "phase", "pricing");
+        appMetrics.recordSize("scheduler.batch.size", 500, "job", "order.shipment");
+
+        //Then
+        assertThat(registry.find("order.save").timers()).hasSize(2);
+        assertThat(registry.find("scheduler.batch.size").tag("job", "order.shipment").summary().totalAmount())
+                .isEqualTo(500);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.app.backend.global.profiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequestProfileTest {
+
+    @Test
+    @DisplayName("fingerprint")
+    void fingerprint() {
+        //Given
+        String sql = """
+                     /* <criteria> */ select p1_0.product_id, p1_0.product_name
+                     from products p1_0
+                     where p1_0.product_id in (?, ?, ?) and p1_0.product_name = 'a''b' limit 10
+                     """;
+
+        //When
+        String fingerprint = RequestProfile.fingerprint(sql);
+
+        //Then
+        assertThat(fingerprint).isEqualTo("select p1_0.product_id, p1_0.product_name from products p1_0 "
+                                          + "where p1_0.product_id in (?...) and p1_0.product_name = ? limit ?");
+    }
+
+    @Test
+    @DisplayName("getTopFingerprints, N+1")
+    void getTopFingerprints() {
+        //Given
+        RequestProfile profile = new RequestProfile();
+        profile.recordStatement("select o1_0.order_id from orders o1_0 where o1_0.user_id=?");
+        for (int i = 0; i < 10; i++)
+            profile.recordStatement("select u1_0.user_id from users u1_0 where u1_0.user_id=?");
+        profile.recordStatement("select p1_0.product_id from products p1_0 where p1_0.product_id in (?,?)");
+        profile.recordStatement("select p1_0.product_id from products p1_0 where p1_0.product_id in (?,?,?)");
+        profile.recordRedis(1000);
+
+        //When
+        Map<String, Integer> fingerprints = profile.getTopFingerprints(2);
+
+        //Then
+        assertThat(profile.getSqlCount()).isEqualTo(13);
+        assertThat(profile.getRedisCount()).isEqualTo(1);
+        assertThat(fingerprints).containsExactly(
+                Map.entry("select u1_0.user_id from users u1_0 where u1_0.user_id=?", 10),
+                Map.entry("select p1_0.product_id from products p1_0 where p1_0.product_id in (?...)", 2)
+        );
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.app.backend.global.profiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.global.redis.repository.RedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class RequestProfilerTest {
+
+    private RedisRepository redisRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        redisRepository = mock(RedisRepository.class);
+        when(redisRepository.deserialize(any())).thenAnswer(invocation -> new String(invocation.<byte[]>getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("update, settings stored and broadcast")
+    void update() {
+        //Given
+        RequestProfiler requestProfiler = requestProfiler(true);
+
+        //When
+        ProfilerSettings result = requestProfiler.update(new ProfilerSettings(true, true, 300L, null));
+
+        //Then
+        assertThat(result).isEqualTo(new ProfilerSettings(true, true, 300L, 50));
+        verify(redisRepository).save(RequestProfiler.SETTINGS_KEY, "true|true|300|50");
+        verify(redisRepository).publish(RequestProfiler.CHANNEL, "true|true|300|50");
+    }
+
+    @Test
+    @DisplayName("update, onMessage, init, headers kept off when not allowed")
+    void headersNotAllowed() {
+        //Given
+        when(redisRepository.get(RequestProfiler.SETTINGS_KEY)).thenReturn("true|true|300|50");
+        RequestProfiler requestProfiler = requestProfiler(false);
+
+        //When
+        requestProfiler.init();
+        ProfilerSettings loaded  = requestProfiler.getSettings();
+        ProfilerSettings updated = requestProfiler.update(new ProfilerSettings(null, true, null, null));
+        requestProfiler.onMessage(new DefaultMessage(RequestProfiler.CHANNEL.getBytes(),
+                                                     "true|true|300|50".getBytes()), null);
+
+        //Then
+        assertThat(loaded).isEqualTo(new ProfilerSettings(true, false, 300L, 50));
+        assertThat(updated.headersEnabled()).isFalse();
+        assertThat(requestProfiler.getSettings().headersEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("init, stored settings take precedence over configuration")
+    void init() {
+        //Given
+        when(redisRepository.get(RequestProfiler.SETTINGS_KEY)).thenReturn("true|true|300|10");
+        RequestProfiler requestProfiler = requestProfiler(true);
+
+        //When
+        requestProfiler.init();
+
+        //Then
+        assertThat(requestProfiler.getSettings()).isEqualTo(new ProfilerSettings(true, true, 300L, 10));
+    }
+
+    @Test
+    @DisplayName("init, update, Redis failure keeps local settings")
+    void redisFailure() {
+        //Given
+        when(redisRepository.get(anyString())).thenThrow(new IllegalStateException("down"));
+        doThrow(new IllegalStateException("down")).when(redisRepository).save(anyString(), any());
+        RequestProfiler requestProfiler = requestProfiler(true);
+
+        //When
+        requestProfiler.init();
+        ProfilerSettings result = requestProfiler.update(new ProfilerSettings(true, null, null, null));
+
+        //Then
+        assertThat(result).isEqualTo(new ProfilerSettings(true, false, 1000L, 50));
+        assertThat(requestProfiler.getSettings()).isEqualTo(result);
+    }
+
+    private RequestProfiler requestProfiler(final boolean headersAllowed) {
+        return new RequestProfiler(redisRepository, mock(RedisMessageListenerContainer.class),
+                                   false, headersAllowed, false, 1000, 50);
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.app.backend.global.redis.config;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.app.backend.global.config.RedisConfig;
+import com.app.backend.global.metrics.AppMetrics;
+import com.app.backend.global.redis.repository.RedisRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 실제 Redis(Testcontainers) 대상 테스트 기반 클래스
+ * Lua 스크립트 동작과 값 직렬화기(JSON)로 직렬화된 인자/결과를 운영과 같은 RedisTemplate 설정으로 검증
+ * Docker를 사용할 수 없는 환경에서는 테스트 생략, 컨테이너는 JVM당 한 번만 기동
+ */
+public abstract class RedisContainerTest {
+
+    private static GenericContainer<?> redis;
+
+    protected static RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeAll
+    static void startRedis() {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is not available");
+        synchronized (RedisContainerTest.class) {
+            if (redis != null)
+                return;
+            redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+            redis.start();
+
+            LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                    new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379))
+            );
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+            redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+            redisTemplate.afterPropertiesSet();
+        }
+    }
+
+    @BeforeEach
+    void flushRedis() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    protected static RedisRepository newRedisRepository() {
+        return new RedisRepository(redisTemplate, new AppMetrics(new SimpleMeterRegistry(), 1.0));
+    }
+
+}
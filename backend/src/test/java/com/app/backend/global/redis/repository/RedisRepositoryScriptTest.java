@@ -0,0 +1,109 @@
+package com.app.backend.global.redis.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.app.backend.global.redis.config.RedisContainerTest;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 조건부 교체, 삭제 Lua 스크립트 검증(실제 Redis)
+ * 스크립트 인자는 값 직렬화기(JSON)로 직렬화되므로, 저장된 값과 같은 바이트로 비교되는지와 PX에 정수가 전달되는지 확인
+ */
+class RedisRepositoryScriptTest extends RedisContainerTest {
+
+    private static final String KEY = "idempotency-test";
+
+    //IdempotencyStore 선점 표시처럼 따옴표가 든 JSON 문자열(직렬화 시 이스케이프됨)
+    private static final String MARKER    = "{\"status\":\"IN_PROGRESS\",\"fingerprint\":\"abc\",\"owner\":\"owner-1\"}";
+    private static final String COMPLETED = "{\"status\":\"COMPLETED\",\"fingerprint\":\"abc\",\"response\":\"{}\"}";
+
+    private RedisRepository redisRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        redisRepository = newRedisRepository();
+    }
+
+    @Test
+    @DisplayName("replaceIfEquals, serialized argument matches stored value and PX applied")
+    void replaceIfEquals() {
+        //Given
+        redisRepository.save(KEY, MARKER, 30, TimeUnit.SECONDS);
+
+        //When
+        boolean result = redisRepository.replaceIfEquals(KEY, MARKER, COMPLETED, 1500, TimeUnit.MILLISECONDS);
+
+        //Then
+        assertThat(result).isTrue();
+        assertThat(rawGet(KEY)).isEqualTo(serialize(COMPLETED));
+        assertThat(redisRepository.get(KEY)).isEqualTo(COMPLETED);
+        assertThat(redisTemplate.getExpire(KEY, TimeUnit.MILLISECONDS)).isBetween(1L, 1500L);
+    }
+
+    @Test
+    @DisplayName("replaceIfEquals, same value renews TTL")
+    void replaceIfEquals_renew() {
+        //Given
+        redisRepository.save(KEY, MARKER, 1, TimeUnit.SECONDS);
+
+        //When
+        boolean result = redisRepository.replaceIfEquals(KEY, MARKER, MARKER, 30, TimeUnit.SECONDS);
+
+        //Then
+        assertThat(result).isTrue();
+        assertThat(rawGet(KEY)).isEqualTo(serialize(MARKER));
+        assertThat(redisTemplate.getExpire(KEY, TimeUnit.MILLISECONDS)).isBetween(1001L, 30_000L);
+    }
+
+    @Test
+    @DisplayName("replaceIfEquals, different or missing value not replaced")
+    void replaceIfEquals_mismatch() {
+        //Given
+        redisRepository.save(KEY, COMPLETED, 30, TimeUnit.SECONDS);
+
+        //When
+        boolean mismatch = redisRepository.replaceIfEquals(KEY, MARKER, MARKER, 30, TimeUnit.SECONDS);
+        boolean missing  = redisRepository.replaceIfEquals("missing", MARKER, MARKER, 30, TimeUnit.SECONDS);
+
+        //Then
+        assertThat(mismatch).isFalse();
+        assertThat(missing).isFalse();
+        assertThat(redisRepository.get(KEY)).isEqualTo(COMPLETED);
+        assertThat(redisRepository.isKeyExists("missing")).isFalse();
+    }
+
+    @Test
+    @DisplayName("deleteIfEquals, deleted only when value matches")
+    void deleteIfEquals() {
+        //Given
+        redisRepository.save(KEY, MARKER, 30, TimeUnit.SECONDS);
+        redisRepository.save("other", COMPLETED, 30, TimeUnit.SECONDS);
+
+        //When
+        boolean deleted    = redisRepository.deleteIfEquals(KEY, MARKER);
+        boolean notDeleted = redisRepository.deleteIfEquals("other", MARKER);
+
+        //Then
+        assertThat(deleted).isTrue();
+        assertThat(notDeleted).isFalse();
+        assertThat(redisRepository.isKeyExists(KEY)).isFalse();
+        assertThat(redisRepository.get("other")).isEqualTo(COMPLETED);
+    }
+
+    private static byte[] rawGet(final String key) {
+        return redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static byte[] serialize(final Object value) {
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(value);
+    }
+
+}
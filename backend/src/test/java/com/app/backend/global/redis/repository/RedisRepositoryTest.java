@@ -0,0 +1,122 @@
+package com.app.backend.global.redis.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.global.metrics.AppMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+class RedisRepositoryTest {
+
+    private RedisTemplate<String, Object>   redisTemplate;
+    private RedisOperations<String, Object> operations;
+    private MeterRegistry                   registry;
+    private RedisRepository                 redisRepository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void beforeEach() {
+        redisTemplate = mock(RedisTemplate.class);
+        operations = mock(RedisOperations.class, RETURNS_DEEP_STUBS);
+        registry = new SimpleMeterRegistry();
+        redisRepository = new RedisRepository(redisTemplate, new AppMetrics(registry, 1.0));
+    }
+
+    @Test
+    @DisplayName("saveAll, all SETs sent in one pipeline")
+    void saveAll() {
+        //Given
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("productCache-detail-1", "a");
+        values.put("productCache-detail-2", "b");
+
+        //When
+        redisRepository.saveAll(values, 10, TimeUnit.SECONDS);
+
+        //Then
+        runPipeline();
+        verify(operations.opsForValue()).set("productCache-detail-1", "a", 10, TimeUnit.SECONDS);
+        verify(operations.opsForValue()).set("productCache-detail-2", "b", 10, TimeUnit.SECONDS);
+        assertThat(registry.find("redis.command").tag("command", "pipeline").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getExpires, TTLs read in one pipeline")
+    void getExpires() {
+        //Given
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(1000L, -2L));
+
+        //When
+        List<Long> result = redisRepository.getExpires(List.of("blacklist:a", "blacklist:b"), TimeUnit.MILLISECONDS);
+
+        //Then
+        assertThat(result).containsExactly(1000L, -2L);
+        runPipeline();
+        verify(operations).getExpire("blacklist:a", TimeUnit.MILLISECONDS);
+        verify(operations).getExpire("blacklist:b", TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("multiGet and deleteAll, empty keys skip Redis")
+    void emptyKeys() {
+        //When
+        List<Object> values  = redisRepository.multiGet(List.of());
+        long         deleted = redisRepository.deleteAll(List.of());
+
+        //Then
+        assertThat(values).isEmpty();
+        assertThat(deleted).isZero();
+        verify(redisTemplate, never()).delete(anyList());
+        assertThat(registry.find("redis.command").timers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("replaceIfEquals, expected value, new value and TTL passed to one script call")
+    void replaceIfEquals() {
+        //Given
+        when(redisTemplate.execute(any(), eq(List.of("user@mail.com")), eq("old"), eq("new"), eq(60_000L)))
+                .thenReturn(1L);
+
+        //When
+        boolean replaced = redisRepository.replaceIfEquals("user@mail.com", "old", "new", 1, TimeUnit.MINUTES);
+        boolean deleted  = redisRepository.deleteIfEquals("user@mail.com", "old");
+
+        //Then
+        assertThat(replaced).isTrue();
+        assertThat(deleted).isFalse();
+        assertThat(registry.find("redis.command").tag("command", "eval").timer().count()).isEqualTo(2);
+    }
+
+    //==================== 내부 메서드 ====================//
+
+    /**
+     * executePipelined에 전달된 콜백을 모의 RedisOperations로 실행
+     */
+    @SuppressWarnings("unchecked")
+    private void runPipeline() {
+        ArgumentCaptor<SessionCallback<Object>> captor = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate, times(1)).executePipelined(captor.capture());
+        captor.getValue().execute(operations);
+    }
+
+}
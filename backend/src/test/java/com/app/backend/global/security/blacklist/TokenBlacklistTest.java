@@ -0,0 +1,190 @@
+package com.app.backend.global.security.blacklist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.global.redis.repository.RedisRepository;
+import com.app.backend.global.security.util.JwtUtil;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class TokenBlacklistTest {
+
+    private RedisRepository redisRepository;
+    private TokenBlacklist  tokenBlacklist;
+
+    @BeforeEach
+    void beforeEach() {
+        redisRepository = mock(RedisRepository.class);
+        tokenBlacklist = new TokenBlacklist(redisRepository, mock(RedisMessageListenerContainer.class),
+                                            30, 1000, 0.001);
+    }
+
+    @Test
+    @DisplayName("isBlacklisted, not ready falls back to Redis with legacy raw token key")
+    void isBlacklisted_notReady() {
+        //Given
+        when(redisRepository.multiGet(List.of("blacklist:" + JwtUtil.hashToken("token"), "token")))
+                .thenReturn(Arrays.asList(null, "Logout"));
+
+        //When
+        boolean result = tokenBlacklist.isBlacklisted("token");
+
+        //Then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("isBlacklisted, Bloom filter miss skips Redis")
+    void isBlacklisted_filterMiss() {
+        //Given
+        when(redisRepository.scanKeys("blacklist:*", 1000)).thenReturn(List.of());
+        tokenBlacklist.rebuild();
+
+        //When
+        boolean result = tokenBlacklist.isBlacklisted("token");
+
+        //Then
+        assertThat(result).isFalse();
+        verify(redisRepository, never()).isKeyExists(anyString());
+    }
+
+    @Test
+    @DisplayName("add, saved to Redis and published")
+    void add() {
+        //Given
+        when(redisRepository.scanKeys("blacklist:*", 1000)).thenReturn(List.of());
+        tokenBlacklist.rebuild();
+        String key = "blacklist:" + JwtUtil.hashToken("token");
+        when(redisRepository.isKeyExists(key)).thenReturn(true);
+
+        //When
+        tokenBlacklist.add("token", new Date(System.currentTimeMillis() + 60_000));
+
+        //Then
+        assertThat(tokenBlacklist.isBlacklisted("token")).isTrue();
+        ArgumentCaptor<Consumer<RedisOperations<String, Object>>> captor     = ArgumentCaptor.forClass(Consumer.class);
+        RedisOperations<String, Object>                            operations = mock(RedisOperations.class, RETURNS_DEEP_STUBS);
+        verify(redisRepository).executePipelined(captor.capture());
+        captor.getValue().accept(operations);
+        verify(operations.opsForValue()).set(eq(key), eq("Logout"), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(operations).convertAndSend(eq(TokenBlacklist.CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("rebuild, existing Redis entries loaded into filter")
+    void rebuild() {
+        //Given
+        String hash = JwtUtil.hashToken("token");
+        when(redisRepository.scanKeys("blacklist:*", 1000)).thenReturn(List.of("blacklist:" + hash));
+        when(redisRepository.getExpires(List.of("blacklist:" + hash), TimeUnit.MILLISECONDS)).thenReturn(List.of(60_000L));
+        when(redisRepository.isKeyExists("blacklist:" + hash)).thenReturn(true);
+
+        //When
+        tokenBlacklist.rebuild();
+
+        //Then
+        assertThat(tokenBlacklist.isBlacklisted("token")).isTrue();
+        assertThat(tokenBlacklist.isBlacklisted("other")).isFalse();
+    }
+
+    @Test
+    @DisplayName("onMessage, token added by another node")
+    void onMessage() {
+        //Given
+        when(redisRepository.scanKeys("blacklist:*", 1000)).thenReturn(List.of());
+        tokenBlacklist.rebuild();
+        String hash    = JwtUtil.hashToken("token");
+        String payload = hash + "|" + (System.currentTimeMillis() + 60_000);
+        when(redisRepository.deserialize(payload.getBytes())).thenReturn(payload);
+        when(redisRepository.isKeyExists("blacklist:" + hash)).thenReturn(true);
+
+        //When
+        tokenBlacklist.onMessage(new DefaultMessage(TokenBlacklist.CHANNEL.getBytes(), payload.getBytes()), null);
+
+        //Then
+        assertThat(tokenBlacklist.isBlacklisted("token")).isTrue();
+    }
+
+    @Test
+    @DisplayName("rebuild, legacy raw token keys migrated to hashed keys")
+    void rebuild_legacyKeys() {
+        //Given
+        List<String> legacyKeys = List.of("eyJlegacy", "eyJother");
+        when(redisRepository.scanKeys("eyJ*", 1000)).thenReturn(legacyKeys);
+        when(redisRepository.multiGet(legacyKeys)).thenReturn(List.of("Logout", "refresh"));
+        when(redisRepository.getExpires(legacyKeys, TimeUnit.MILLISECONDS)).thenReturn(List.of(60_000L, 60_000L));
+        when(redisRepository.scanKeys("blacklist:*", 1000)).thenReturn(List.of());
+        String key = "blacklist:" + JwtUtil.hashToken("eyJlegacy");
+        when(redisRepository.isKeyExists(key)).thenReturn(true);
+
+        //When
+        tokenBlacklist.rebuild();
+
+        //Then
+        assertThat(tokenBlacklist.isBlacklisted("eyJlegacy")).isTrue();
+        assertThat(tokenBlacklist.isBlacklisted("eyJother")).isFalse();
+        ArgumentCaptor<Consumer<RedisOperations<String, Object>>> captor     = ArgumentCaptor.forClass(Consumer.class);
+        RedisOperations<String, Object>                            operations = mock(RedisOperations.class, RETURNS_DEEP_STUBS);
+        verify(redisRepository).executePipelined(captor.capture());
+        captor.getValue().accept(operations);
+        verify(operations.opsForValue()).set(key, "Logout", 60_000L, TimeUnit.MILLISECONDS);
+        verify(operations).delete("eyJlegacy");
+        verify(operations, never()).delete("eyJother");
+    }
+
+    @Test
+    @DisplayName("onMessage, invalid message falls back to Redis until reconciled")
+    void onMessage_invalid() {
+        //Given
+        when(redisRepository.scanKeys("blacklist:*", 1000)).thenReturn(List.of());
+        tokenBlacklist.rebuild();
+        when(redisRepository.deserialize(any())).thenReturn("broken");
+        String key = "blacklist:" + JwtUtil.hashToken("token");
+
+        //When
+        tokenBlacklist.onMessage(new DefaultMessage(TokenBlacklist.CHANNEL.getBytes(), "broken".getBytes()), null);
+        tokenBlacklist.isBlacklisted("token");
+        tokenBlacklist.reconcile();
+        tokenBlacklist.isBlacklisted("token");
+
+        //Then
+        verify(redisRepository, times(1)).isKeyExists(key);
+    }
+
+    @Test
+    @DisplayName("onChannelSubscribed, resubscription falls back to Redis and rebuilds")
+    void onChannelSubscribed_resubscribe() {
+        //Given
+        when(redisRepository.scanKeys("blacklist:*", 1000)).thenReturn(List.of());
+        tokenBlacklist.onChannelSubscribed(TokenBlacklist.CHANNEL.getBytes(), 1);
+        tokenBlacklist.rebuild();
+
+        //When
+        tokenBlacklist.onChannelSubscribed(TokenBlacklist.CHANNEL.getBytes(), 1);
+
+        //Then
+        verify(redisRepository, timeout(1000).times(2)).scanKeys("blacklist:*", 1000);
+    }
+
+}
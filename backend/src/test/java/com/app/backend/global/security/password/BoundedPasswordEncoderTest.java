@@ -0,0 +1,87 @@
+package com.app.backend.global.security.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void afterEach() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("encode, matches on hash thread")
+    void encode() {
+        //Given
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, 5000);
+
+        //When
+        String encoded = passwordEncoder.encode("password");
+
+        //Then
+        assertThat(passwordEncoder.matches("password", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("wrong", encoded)).isFalse();
+        assertThat(passwordEncoder.getStats().get("completed")).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("upgradeEncoding, weaker cost upgraded")
+    void upgradeEncoding() {
+        //Given
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1, 5000);
+        String weak = new BCryptPasswordEncoder(4).encode("password");
+
+        //When, Then
+        assertThat(passwordEncoder.upgradeEncoding(weak)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode("password"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("encode, rejected when queue is full")
+    void encode_queueFull() throws Exception {
+        //Given
+        CountDownLatch  started = new CountDownLatch(1);
+        CountDownLatch  release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        passwordEncoder = new BoundedPasswordEncoder(blocking, 1, 1, 5000);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        callers.submit(() -> passwordEncoder.encode("running"));
+        started.await();
+        callers.submit(() -> passwordEncoder.encode("queued"));
+        while (passwordEncoder.getStats().get("queued") < 1)
+            Thread.onSpinWait();
+
+        //When, Then
+        assertThatThrownBy(() -> passwordEncoder.encode("rejected")).isInstanceOf(PasswordHashRejectedException.class);
+        assertThat(passwordEncoder.getStats().get("rejected")).isEqualTo(1L);
+
+        release.countDown();
+        callers.shutdown();
+        assertThat(callers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+}
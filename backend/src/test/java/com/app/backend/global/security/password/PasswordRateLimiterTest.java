@@ -0,0 +1,102 @@
+package com.app.backend.global.security.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.global.redis.repository.RedisRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PasswordRateLimiterTest {
+
+    private RedisRepository     redisRepository;
+    private PasswordRateLimiter passwordRateLimiter;
+
+    @BeforeEach
+    void beforeEach() {
+        redisRepository = mock(RedisRepository.class);
+        passwordRateLimiter = new PasswordRateLimiter(redisRepository, 60, 30, 10, 10, 5);
+    }
+
+    @Test
+    @DisplayName("tryLogin, within IP and account limits")
+    void tryLogin() {
+        //Given
+        when(redisRepository.execute(any(), eq(List.of("rateLimit:login:ip:10.0.0.1")), eq(60_000L))).thenReturn(30L);
+        when(redisRepository.execute(any(), eq(List.of("rateLimit:login:account:user@mail.com")), eq(60_000L)))
+                .thenReturn(10L);
+
+        //When
+        boolean result = passwordRateLimiter.tryLogin("10.0.0.1", "user@mail.com");
+
+        //Then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("tryLogin, IP limit exceeded skips account counter")
+    void tryLogin_ipLimitExceeded() {
+        //Given
+        when(redisRepository.execute(any(), eq(List.of("rateLimit:login:ip:10.0.0.1")), eq(60_000L))).thenReturn(31L);
+
+        //When
+        boolean result = passwordRateLimiter.tryLogin("10.0.0.1", "user@mail.com");
+
+        //Then
+        assertThat(result).isFalse();
+        verify(redisRepository, never()).execute(any(), eq(List.of("rateLimit:login:account:user@mail.com")), any());
+    }
+
+    @Test
+    @DisplayName("tryLogin, account limit exceeded")
+    void tryLogin_accountLimitExceeded() {
+        //Given
+        when(redisRepository.execute(any(), eq(List.of("rateLimit:login:ip:10.0.0.1")), eq(60_000L))).thenReturn(1L);
+        when(redisRepository.execute(any(), eq(List.of("rateLimit:login:account:user@mail.com")), eq(60_000L)))
+                .thenReturn(11L);
+
+        //When
+        boolean result = passwordRateLimiter.tryLogin("10.0.0.1", "user@mail.com");
+
+        //Then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("trySignup, tryChangePassword, limits per IP and per account")
+    void trySignupAndChangePassword() {
+        //Given
+        when(redisRepository.execute(any(), eq(List.of("rateLimit:signup:ip:10.0.0.1")), eq(60_000L))).thenReturn(11L);
+        when(redisRepository.execute(any(), eq(List.of("rateLimit:password:account:1")), eq(60_000L))).thenReturn(5L);
+
+        //When
+        boolean signup         = passwordRateLimiter.trySignup("10.0.0.1");
+        boolean changePassword = passwordRateLimiter.tryChangePassword(1L);
+
+        //Then
+        assertThat(signup).isFalse();
+        assertThat(changePassword).isTrue();
+    }
+
+    @Test
+    @DisplayName("tryLogin, Redis failure allows request")
+    void tryLogin_redisFailure() {
+        //Given
+        when(redisRepository.execute(any(), anyList(), any())).thenThrow(new IllegalStateException("down"));
+
+        //When
+        boolean result = passwordRateLimiter.tryLogin("10.0.0.1", "user@mail.com");
+
+        //Then
+        assertThat(result).isTrue();
+    }
+
+}
@@ -2,7 +2,9 @@ package com.app.backend.global.security.util;
 
 import com.app.backend.domain.user.entity.User;
 import com.app.backend.global.security.user.CustomUserDetails;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +14,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
@@ -68,4 +71,36 @@ public class JwtUtilTest {
         String expiredToken = jwtUtil.createAccessToken(userDetails, -1000).substring(7);
         assertThrows(ExpiredJwtException.class, () -> jwtUtil.isExpired(expiredToken));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("검증된 클레임 캐시")
+    void testGetVerifiedClaims() {
+        CustomUserDetails userDetails = new CustomUserDetails(
+                User.builder().id(1L).email("test@example.com").role("USER").build());
+
+        String accessToken = jwtUtil.createAccessToken(userDetails, 60000).substring(7);
+
+        Claims claims = jwtUtil.getVerifiedClaims(accessToken);
+        assertEquals("test@example.com", jwtUtil.getUsername(claims));
+        assertEquals("USER", jwtUtil.getRole(claims));
+        assertEquals(1L, jwtUtil.getUserId(claims));
+
+        assertSame(claims, jwtUtil.getVerifiedClaims(accessToken));
+    }
+
+    @Test
+    @DisplayName("변조된 AccessToken 은 캐시하지 않음")
+    void testGetVerifiedClaimsTampered() {
+        CustomUserDetails userDetails = new CustomUserDetails(
+                User.builder().id(1L).email("test@example.com").role("USER").build());
+
+        String accessToken = jwtUtil.createAccessToken(userDetails, 60000).substring(7);
+        String tampered    = accessToken.substring(0, accessToken.length() - 2)
+                             + (accessToken.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtUtil.getVerifiedClaims(tampered));
+        assertThrows(JwtException.class, () -> jwtUtil.getVerifiedClaims(tampered));
+        assertThrows(ExpiredJwtException.class,
+                     () -> jwtUtil.getVerifiedClaims(jwtUtil.createAccessToken(userDetails, -1000).substring(7)));
+    }
+}
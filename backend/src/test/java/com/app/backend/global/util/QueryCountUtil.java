@@ -0,0 +1,48 @@
+package com.app.backend.global.util;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * 쿼리 실행 횟수 측정(hibernate.generate_statistics 활성화 필요)
+ * N+1 회귀 방지용 테스트 도구
+ */
+public class QueryCountUtil {
+
+    /**
+     * 작업 수행 중 실행된 JDBC 문장 수 측정
+     *
+     * @param entityManagerFactory - 엔티티 매니저 팩토리
+     * @param action               - 측정할 작업
+     * @return 실행된 문장 수
+     */
+    public static long count(final EntityManagerFactory entityManagerFactory, final Runnable action) {
+        return count(entityManagerFactory, () -> {
+            action.run();
+            return null;
+        }).count();
+    }
+
+    /**
+     * 작업 수행 결과와 실행된 JDBC 문장 수 측정
+     *
+     * @param entityManagerFactory - 엔티티 매니저 팩토리
+     * @param action               - 측정할 작업
+     * @return 작업 결과 및 실행된 문장 수
+     */
+    public static <T> Result<T> count(final EntityManagerFactory entityManagerFactory, final Supplier<T> action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled())
+            throw new IllegalStateException("hibernate.generate_statistics is disabled");
+
+        statistics.clear();
+        T value = action.get();
+        return new Result<>(value, statistics.getPrepareStatementCount());
+    }
+
+    public record Result<T>(T value, long count) {
+    }
+
+}
@@ -15,6 +15,7 @@ import com.app.backend.domain.product.entity.Product;
 import com.app.backend.domain.product.repository.ProductRepository;
 import com.app.backend.domain.product.service.ProductService;
 import com.app.backend.global.annotation.CustomWithMockAdmin;
+import com.jayway.jsonpath.JsonPath;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.BeforeAll;
@@ -376,6 +377,73 @@ public class ApiV1ProductControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("상품 커서 페이지 조회 (price 오름차순)")
+    void itemsByCursorTest1() throws Exception {
+        ResultActions firstActions = mockMvc
+                .perform(
+                        get("/api/v1/products/slice?size=4&sort=price&direction=asc")
+                                .contentType(
+                                        new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8)
+                                )
+                )
+                .andDo(print());
+
+        firstActions
+                .andExpect(handler().handlerType(ApiV1ProductController.class))
+                .andExpect(handler().methodName("itemsByCursor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.data.pageSize").value(4))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").exists())
+                .andExpect(jsonPath("$.data.totalItems").doesNotExist())
+                .andExpect(jsonPath("$.data.product_info.length()").value(4))
+                .andExpect(jsonPath("$.data.product_info[0].product_id").value(10))
+                .andExpect(jsonPath("$.data.product_info[3].product_id").value(7))
+        ;
+
+        String nextCursor = JsonPath.read(firstActions.andReturn().getResponse()
+                                                      .getContentAsString(StandardCharsets.UTF_8),
+                                          "$.data.nextCursor");
+
+        mockMvc
+                .perform(
+                        get("/api/v1/products/slice?size=4&sort=price&direction=asc&cursor=" + nextCursor)
+                                .contentType(
+                                        new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8)
+                                )
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.product_info[0].product_id").value(6))
+                .andExpect(jsonPath("$.data.product_info[3].product_id").value(3))
+        ;
+    }
+
+    @Test
+    @DisplayName("상품 커서 페이지 조회 예외 (cursor 값 이상)")
+    void itemsByCursorExceptionTest1() throws Exception {
+        ResultActions resultActions = mockMvc
+                .perform(
+                        get("/api/v1/products/slice?cursor=invalid")
+                                .contentType(
+                                        new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8)
+                                )
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1ProductController.class))
+                .andExpect(handler().methodName("itemsByCursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.isSuccess").value(false))
+                .andExpect(jsonPath("$.code").value("P006"))
+                .andExpect(jsonPath("$.message").value("잘못된 페이지 커서"))
+        ;
+    }
+
     @Test
     @DisplayName("상품 상세 조회 예외 (존재하지 않는 상품 Id)")
     void itemExceptionTest1() throws Exception {
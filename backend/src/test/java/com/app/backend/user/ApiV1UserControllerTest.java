@@ -1,6 +1,7 @@
 package com.app.backend.user;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -13,7 +14,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.app.backend.domain.order.dto.response.OrderResponse;
+import com.app.backend.domain.order.dto.response.UserOrderSummaryResponse;
+import com.app.backend.domain.order.dto.response.UserOrderSummaryResponse.RecentOrder;
 import com.app.backend.domain.order.entity.Order;
+import com.app.backend.domain.order.entity.OrderStatus;
 import com.app.backend.domain.order.service.OrderService;
 import com.app.backend.domain.user.controller.ApiV1UserController;
 import com.app.backend.domain.user.entity.User;
@@ -25,12 +29,17 @@ import com.app.backend.standard.util.Ut;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
@@ -1217,4 +1226,79 @@ public class ApiV1UserControllerTest {
                                         .value(Ut.Str.localDateTimeToString(order.getCreatedDate())));
     }
 
+    @Test
+    @CustomWithMockAdmin(role = "ROLE_USER")
+    @DisplayName("회원 주문 요약 조회")
+    void getOrderSummaryByUser() throws Exception {
+        //Given
+        User customer = User.builder()
+                            .name("user")
+                            .build();
+        Order order = Order.of(customer, "orderNumber", 1, BigDecimal.valueOf(10000.00), "address");
+        ReflectionUtil.setPrivateFieldValue(Order.class, order, "id", 1L);
+        ReflectionUtil.setPrivateFieldValue(Order.class, order, "createdDate", LocalDateTime.now());
+
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        for (OrderStatus status : OrderStatus.values())
+            statusCounts.put(status.name(), status == OrderStatus.ORDERED ? 1L : 0L);
+        UserOrderSummaryResponse summary = new UserOrderSummaryResponse(List.of(RecentOrder.of(order)),
+                                                                        statusCounts,
+                                                                        1,
+                                                                        order.getTotalPrice());
+
+        when(orderService.getOrderSummaryByUserId(anyLong())).thenReturn(summary);
+
+        //When
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/users/orders/summary"))
+                                             .andDo(print());
+
+        //Then
+        resultActions.andExpect(handler().handlerType(ApiV1UserController.class))
+                     .andExpect(handler().methodName("getOrderSummaryByUser"))
+                     .andExpect(status().isOk())
+                     .andExpect(jsonPath("$.isSuccess").value(true))
+                     .andExpect(jsonPath("$.data.orderCount").value(1))
+                     .andExpect(jsonPath("$.data.totalSpend").value(order.getTotalPrice()))
+                     .andExpect(jsonPath("$.data.statusCounts.ORDERED").value(1))
+                     .andExpect(jsonPath("$.data.statusCounts.CANCELLED").value(0))
+                     .andExpect(jsonPath("$.data.recentOrders[0].orderId").value(1))
+                     .andExpect(jsonPath("$.data.recentOrders[0].orderNumber").value(order.getOrderNumber()))
+                     .andExpect(jsonPath("$.data.recentOrders[0].totalAmount").value(order.getTotalAmount()))
+                     .andExpect(jsonPath("$.data.recentOrders[0].orderStatus").value(order.getStatus().name()))
+                     .andExpect(jsonPath("$.data.recentOrders[0].createdDate")
+                                        .value(Ut.Str.localDateTimeToString(order.getCreatedDate())));
+    }
+
+    @Test
+    @CustomWithMockAdmin(role = "ROLE_USER")
+    @DisplayName("회원 주문 내역 페이지 조회")
+    void getOrderHistoryByUser() throws Exception {
+        //Given
+        User customer = User.builder()
+                            .name("user")
+                            .build();
+        Order order = Order.of(customer, "orderNumber", 1, BigDecimal.valueOf(10000.00), "address");
+        ReflectionUtil.setPrivateFieldValue(Order.class, order, "createdDate", LocalDateTime.now());
+
+        when(orderService.getOrderHistoryByUserId(anyLong(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(OrderResponse.of(order)), PageRequest.of(1, 1), 2));
+
+        //When
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/users/orders/history")
+                                                              .param("page", "2")
+                                                              .param("size", "1"))
+                                             .andDo(print());
+
+        //Then
+        resultActions.andExpect(handler().handlerType(ApiV1UserController.class))
+                     .andExpect(handler().methodName("getOrderHistoryByUser"))
+                     .andExpect(status().isOk())
+                     .andExpect(jsonPath("$.isSuccess").value(true))
+                     .andExpect(jsonPath("$.data.items[0].orderNumber").value(order.getOrderNumber()))
+                     .andExpect(jsonPath("$.data.items[0].orderList").isEmpty())
+                     .andExpect(jsonPath("$.data.totalItems").value(2))
+                     .andExpect(jsonPath("$.data.currentPage").value(2))
+                     .andExpect(jsonPath("$.data.pageSize").value(1));
+    }
+
 }